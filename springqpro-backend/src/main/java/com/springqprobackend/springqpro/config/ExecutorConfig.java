@@ -1,8 +1,20 @@
 package com.springqprobackend.springqpro.config;
 
+import com.springqprobackend.springqpro.enums.ExecutorMode;
+import com.springqprobackend.springqpro.enums.TaskType;
+import com.springqprobackend.springqpro.redis.OverflowSpillList;
+import com.springqprobackend.springqpro.runtime.OverflowRejectionHandler;
+import com.springqprobackend.springqpro.runtime.PriorityTaskQueue;
+import com.springqprobackend.springqpro.runtime.TaskTypeBulkheads;
+import com.springqprobackend.springqpro.runtime.VirtualThreadTaskExecutor;
+import com.springqprobackend.springqpro.service.OverflowShedder;
+import io.micrometer.core.instrument.Counter;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.concurrent.*;
 
 /* ExecutorConfig.java
@@ -15,10 +27,15 @@ ExecutorConfig externalized thread pool creation and tuning.
 
 [CURRENT ROLE]:
 Provides:
-  - primary ExecutorService (fixed thread pool)
+  - primary ExecutorService (fixed platform thread pool, or VirtualThreadTaskExecutor when
+    "queue.executor-mode: VIRTUAL"), both with OverflowRejectionHandler applying
+    "queue.overflow-policy" when the bounded queue is full. The queue is a PriorityTaskQueue, so
+    higher-priority Tasks are served first (with aging)
+  - TaskTypeBulkheads: one extra pool (same executor mode, same overflow policy) per TaskType listed
+    under "queue.pools", with its own concurrency limit and queue bound
   - ScheduledExecutorService for retry/backoff scheduling
 Used by:
-  - QueueService (submit tasks)
+  - QueueService (submit tasks, routed by TaskType)
   - ProcessingService (delayed retries)
 
 [FUTURE WORK]:
@@ -49,24 +66,47 @@ public class ExecutorConfig {
     public ExecutorConfig(QueueProperties props) { this.props = props; }
 
     @Bean("execService")
-    public ExecutorService taskExecutor() {
+    public ExecutorService taskExecutor(OverflowSpillList spillList, OverflowShedder shedder, Counter tasksSpilledCounter, Counter tasksShedCounter) {
+        // Replaces the default AbortPolicy -- see OverflowRejectionHandler for SPILL / CALLER_BLOCKS / SHED:
+        OverflowRejectionHandler overflowHandler = new OverflowRejectionHandler(props.getOverflowPolicy(), props.getOverflowBlockTimeoutMs(), spillList, tasksSpilledCounter, tasksShedCounter, shedder::shed);
+        // Handlers mostly block on sleep/I/O, so VIRTUAL mode lifts the "N platform threads = N Tasks in flight" ceiling:
+        int concurrency = props.getExecutorMode() == ExecutorMode.VIRTUAL ? props.getVirtualMaxConcurrency() : props.getMainExecWorkerCount();
         /*return Executors.newFixedThreadPool(props.getMainExecWorkerCount(), r -> {
                Thread t = new Thread(r);
                t.setName("QS-Worker-" + t.getId());
                return t;
         });*/
+        return newWorkerPool(concurrency, props.getMainExecQueueCapacity(), "QS-", overflowHandler);
+    }
+
+    // Bulkheads: TaskTypes listed under "queue.pools" get their own pool; everything else keeps using "execService".
+    @Bean
+    public TaskTypeBulkheads taskTypeBulkheads(@Qualifier("execService") ExecutorService execService, OverflowSpillList spillList, OverflowShedder shedder, Counter tasksSpilledCounter, Counter tasksShedCounter) {
+        Map<TaskType, ExecutorService> pools = new EnumMap<>(TaskType.class);
+        props.getPools().forEach((type, pool) -> {
+            OverflowRejectionHandler overflowHandler = new OverflowRejectionHandler(props.getOverflowPolicy(), props.getOverflowBlockTimeoutMs(), spillList, type.name(), tasksSpilledCounter, tasksShedCounter, shedder::shed);
+            pools.put(type, newWorkerPool(pool.getConcurrency(), pool.getQueueCapacity(), "QS-" + type.name() + "-", overflowHandler));
+        });
+        return new TaskTypeBulkheads(execService, pools);
+    }
+
+    private ExecutorService newWorkerPool(int concurrency, int queueCapacity, String namePrefix, OverflowRejectionHandler overflowHandler) {
+        if (props.getExecutorMode() == ExecutorMode.VIRTUAL) {
+            return new VirtualThreadTaskExecutor(concurrency, new PriorityTaskQueue(queueCapacity, props.getPriorityAgingMs()), namePrefix + "VWorker-", overflowHandler);
+        }
         return new ThreadPoolExecutor(
-                props.getMainExecWorkerCount(),
-                props.getMainExecWorkerCount(),
+                concurrency,
+                concurrency,
                 0L,
                 TimeUnit.MILLISECONDS,
-                new LinkedBlockingQueue<>(1000),
+                new PriorityTaskQueue(queueCapacity, props.getPriorityAgingMs()),
                 r -> {
                     Thread t = new Thread(r);
-                    t.setName("QS-Worker-" + t.getId());
+                    t.setName(namePrefix + "Worker-" + t.getId());
                     t.setDaemon(true);
                     return t;
-                }
+                },
+                overflowHandler
         );
     }
 
@@ -1,6 +1,8 @@
 package com.springqprobackend.springqpro.config;
 
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.springqprobackend.springqpro.domain.exception.BatchTooLargeException;
+import com.springqprobackend.springqpro.domain.exception.QueueSaturatedException;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import org.apache.catalina.connector.Response;
@@ -30,6 +32,7 @@ Handles:
   - invalid credentials
   - parsing errors
   - unexpected exceptions
+  - queue saturation (429 + Retry-After)
 Ensures clients receive predictable HTTP responses instead of raw stack traces.
 
 [FUTURE WORK]:
@@ -111,6 +114,22 @@ public class GlobalExceptionHandler {
         body.put("details", ex.getMessage());
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(body);
     }
+    // BACKPRESSURE: BackpressureMonitor refused a new Task -- tell the client when to come back.
+    @ExceptionHandler(QueueSaturatedException.class)
+    public ResponseEntity<Map<String, Object>> handleQueueSaturated(QueueSaturatedException ex) {
+        Map<String, Object> body = baseBody("Task queue is saturated");
+        body.put("retryAfterMs", ex.getRetryAfterMs());
+        long retryAfterSeconds = Math.max(1, (ex.getRetryAfterMs() + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header("Retry-After", String.valueOf(retryAfterSeconds))
+                .body(body);
+    }
+    @ExceptionHandler(BatchTooLargeException.class)
+    public ResponseEntity<Map<String, Object>> handleBatchTooLarge(BatchTooLargeException ex) {
+        Map<String, Object> body = baseBody(ex.getMessage());
+        body.put("maxBatchSize", ex.getMaxBatchSize());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(body);
+    }
     @ExceptionHandler(ResponseStatusException.class)
     public ResponseEntity<Map<String, Object>> handleResponseStatus(ResponseStatusException ex) {
         Map<String, Object> body = baseBody(ex.getReason() != null ? ex.getReason() : "Request failed");
@@ -0,0 +1,81 @@
+package com.springqprobackend.springqpro.config;
+
+import com.springqprobackend.springqpro.domain.exception.BatchTooLargeException;
+import com.springqprobackend.springqpro.domain.exception.InvalidPageRequestException;
+import com.springqprobackend.springqpro.domain.exception.QueueSaturatedException;
+import com.springqprobackend.springqpro.domain.exception.TaskNotFoundException;
+import graphql.ErrorClassification;
+import graphql.GraphQLError;
+import graphql.GraphqlErrorBuilder;
+import graphql.schema.DataFetchingEnvironment;
+import org.springframework.graphql.execution.DataFetcherExceptionResolverAdapter;
+import org.springframework.graphql.execution.ErrorType;
+import org.springframework.graphql.execution.SubscriptionExceptionResolver;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+/* GraphQLExceptionResolver.java
+--------------------------------------------------------------------------------------------------
+[CURRENT ROLE]:
+GlobalExceptionHandler only sees REST controllers. GraphQL resolver exceptions come through here.
+  - QueueSaturatedException -> error classified SATURATED with extensions { retryAfterMs }, so
+    clients of createTask can back off for the suggested time instead of hammering a full queue
+  - BatchTooLargeException -> BAD_REQUEST with extensions { maxBatchSize }
+  - InvalidPageRequestException (bad tasksConnection cursor / createdAfter) -> BAD_REQUEST
+  - TaskNotFoundException (e.g. taskUpdated on someone else's Task) -> NOT_FOUND
+Subscriptions (taskUpdated / myTasksUpdated) report errors through SubscriptionExceptionResolver
+instead, so that's implemented here too, for the exceptions a subscription can actually raise.
+Everything else falls through to Spring GraphQL's default handling (returning null = "not mine").
+--------------------------------------------------------------------------------------------------
+*/
+@Component
+public class GraphQLExceptionResolver extends DataFetcherExceptionResolverAdapter implements SubscriptionExceptionResolver {
+    // Spring GraphQL's ErrorType has no "unavailable / try later" member, so this gets its own classification:
+    private static final ErrorClassification SATURATED = ErrorClassification.errorClassification("SATURATED");
+
+    @Override
+    protected GraphQLError resolveToSingleError(Throwable ex, DataFetchingEnvironment env) {
+        if (ex instanceof QueueSaturatedException saturated) {
+            return GraphqlErrorBuilder.newError(env)
+                    .errorType(SATURATED)
+                    .message(saturated.getMessage())
+                    .extensions(Map.of("retryAfterMs", saturated.getRetryAfterMs()))
+                    .build();
+        }
+        if (ex instanceof BatchTooLargeException tooLarge) {
+            return GraphqlErrorBuilder.newError(env)
+                    .errorType(ErrorType.BAD_REQUEST)
+                    .message(tooLarge.getMessage())
+                    .extensions(Map.of("maxBatchSize", tooLarge.getMaxBatchSize()))
+                    .build();
+        }
+        if (ex instanceof InvalidPageRequestException invalidPage) {
+            return GraphqlErrorBuilder.newError(env)
+                    .errorType(ErrorType.BAD_REQUEST)
+                    .message(invalidPage.getMessage())
+                    .build();
+        }
+        if (ex instanceof TaskNotFoundException notFound) {
+            return GraphqlErrorBuilder.newError(env)
+                    .errorType(ErrorType.NOT_FOUND)
+                    .message(notFound.getMessage())
+                    .build();
+        }
+        return null;
+    }
+
+    // Subscriptions: empty = not handled here (Spring GraphQL then reports a generic "Subscription error").
+    @Override
+    public Mono<List<GraphQLError>> resolveException(Throwable ex) {
+        if (ex instanceof TaskNotFoundException notFound) {
+            return Mono.just(List.of(GraphqlErrorBuilder.newError()
+                    .errorType(ErrorType.NOT_FOUND)
+                    .message(notFound.getMessage())
+                    .build()));
+        }
+        return Mono.empty();
+    }
+}
@@ -1,5 +1,12 @@
 package com.springqprobackend.springqpro.config;
 
+import com.springqprobackend.springqpro.redis.TaskNearCache;
+import com.springqprobackend.springqpro.redis.TaskRedisRepository;
+import com.springqprobackend.springqpro.runtime.TaskPhaseTimers;
+import com.springqprobackend.springqpro.runtime.TaskTypeBulkheads;
+import com.springqprobackend.springqpro.service.BackpressureMonitor;
+import com.springqprobackend.springqpro.service.ConnectionPoolMonitor;
+import com.springqprobackend.springqpro.service.OutcomeWriteBehind;
 import com.springqprobackend.springqpro.service.QueueService;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -9,6 +16,11 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 @Configuration
 public class ProcessingMetricsConfig {
@@ -43,6 +55,42 @@ public class ProcessingMetricsConfig {
                 .register(registry);
     }
     @Bean
+    public Counter tasksLeaseExpiredCounter(MeterRegistry registry) {
+        return Counter.builder("springqpro_tasks_lease_expired_total")
+                .description("INPROGRESS tasks recovered by LeaseReaper after their claim lease ran out")
+                .register(registry);
+    }
+    @Bean
+    public Counter tasksSpilledCounter(MeterRegistry registry) {
+        return Counter.builder("springqpro_tasks_spilled_total")
+                .description("Task hand-offs pushed to the durable overflow list because execService was full")
+                .register(registry);
+    }
+    @Bean
+    public Counter tasksShedCounter(MeterRegistry registry) {
+        return Counter.builder("springqpro_tasks_shed_total")
+                .description("Task hand-offs dropped (and marked FAILED) because execService was full (overflow-policy SHED)")
+                .register(registry);
+    }
+    @Bean
+    public Counter cacheHitCounter(MeterRegistry registry) {
+        return Counter.builder("springqpro_cache_hits_total")
+                .description("Task lookups that missed the near cache but were found in Redis")
+                .register(registry);
+    }
+    @Bean
+    public Counter cacheMissCounter(MeterRegistry registry) {
+        return Counter.builder("springqpro_cache_misses_total")
+                .description("Task lookups found in neither the near cache nor Redis (loaded from Postgres instead)")
+                .register(registry);
+    }
+    @Bean
+    public Counter outcomeFlushCounter(MeterRegistry registry) {
+        return Counter.builder("springqpro_outcome_flushes_total")
+                .description("JDBC batches written by OutcomeWriteBehind (compare with springqpro_tasks_completed_total for the batching factor)")
+                .register(registry);
+    }
+    @Bean
     public Timer processingTimer(MeterRegistry registry) {
         return Timer.builder("springqpro_task_processing_duration")
                 .description("Time spent executing task handlers")
@@ -51,6 +99,11 @@ public class ProcessingMetricsConfig {
                 .sla(Duration.ofMillis(100), Duration.ofMillis(500), Duration.ofSeconds(1))
                 .register(registry);
     }
+    // Per-phase (queue wait, claim, lock, handler, persist, end-to-end) x per-TaskType timers; see TaskPhaseTimers.
+    @Bean
+    public TaskPhaseTimers taskPhaseTimers(MeterRegistry registry) {
+        return new TaskPhaseTimers(registry);
+    }
     // The one below is for the number of tasks made by users sending GraphQL queries:
     @Bean
     public Counter apiTaskCreateCounter(MeterRegistry registry) {
@@ -71,6 +124,68 @@ public class ProcessingMetricsConfig {
                 .description("enqueueById() calls feeding into ProcessingService")
                 .register(registry);
     }
+    // Backpressure: how much work is waiting, in the executors' bounded queues (every pool) vs. spilled to Redis.
+    @Bean
+    public Gauge executorQueueDepthGauge(MeterRegistry registry, BackpressureMonitor backpressure) {
+        return Gauge.builder("springqpro_queue_depth", backpressure, BackpressureMonitor::executorDepth)
+                .description("Tasks waiting for a worker")
+                .tag("tier", "executor")
+                .register(registry);
+    }
+    @Bean
+    public Gauge overflowQueueDepthGauge(MeterRegistry registry, BackpressureMonitor backpressure) {
+        return Gauge.builder("springqpro_queue_depth", backpressure, BackpressureMonitor::overflowDepth)
+                .description("Tasks waiting for a worker")
+                .tag("tier", "overflow")
+                .register(registry);
+    }
+    // Bulkheads: queue depth + utilisation (active / concurrency limit) per pool, tagged pool=shared|<TYPE>.
+    @Bean
+    public List<Gauge> taskTypePoolGauges(MeterRegistry registry, TaskTypeBulkheads bulkheads) {
+        Map<String, ExecutorService> pools = new LinkedHashMap<>();
+        pools.put(TaskTypeBulkheads.SHARED, bulkheads.getShared());
+        bulkheads.getPools().forEach((type, exec) -> pools.put(type.name(), exec));
+        List<Gauge> gauges = new ArrayList<>();
+        pools.forEach((name, exec) -> {
+            gauges.add(Gauge.builder("springqpro_pool_queue_depth", exec, e -> TaskTypeBulkheads.status(e).get("queued"))
+                    .description("Tasks waiting for a worker in this pool")
+                    .tag("pool", name)
+                    .register(registry));
+            gauges.add(Gauge.builder("springqpro_pool_utilization", exec, TaskTypeBulkheads::utilization)
+                    .description("Busy workers / concurrency limit for this pool")
+                    .tag("pool", name)
+                    .register(registry));
+        });
+        return gauges;
+    }
+    // Hikari: with handlers running outside any transaction this should stay low even while every worker is busy.
+    @Bean
+    public Gauge dbPoolUtilizationGauge(MeterRegistry registry, ConnectionPoolMonitor connectionPool) {
+        return Gauge.builder("springqpro_db_pool_utilization", connectionPool, ConnectionPoolMonitor::utilization)
+                .description("Active DB connections / maximum-pool-size")
+                .register(registry);
+    }
+    @Bean
+    public Gauge outcomeBufferDepthGauge(MeterRegistry registry, OutcomeWriteBehind writeBehind) {
+        return Gauge.builder("springqpro_outcome_buffer_depth", writeBehind, OutcomeWriteBehind::depth)
+                .description("Task outcomes waiting for OutcomeWriteBehind's next flush")
+                .register(registry);
+    }
+    // Two-tier Task cache: lifetime hit ratio of the in-process near cache (l1) and of Redis for what got past it (l2).
+    @Bean
+    public Gauge nearCacheHitRatioGauge(MeterRegistry registry, TaskNearCache nearCache) {
+        return Gauge.builder("springqpro_cache_hit_ratio", nearCache, TaskNearCache::hitRatio)
+                .description("Task cache hits / lookups")
+                .tag("tier", "l1")
+                .register(registry);
+    }
+    @Bean
+    public Gauge redisCacheHitRatioGauge(MeterRegistry registry, TaskRedisRepository cache) {
+        return Gauge.builder("springqpro_cache_hit_ratio", cache, TaskRedisRepository::redisHitRatio)
+                .description("Task cache hits / lookups")
+                .tag("tier", "l2")
+                .register(registry);
+    }
     /*@Bean
     public Gauge inMemoryQueueSizeGauge(MeterRegistry registry, QueueService queueService) {
         return Gauge.builder("springqpro_queue_memory_size", queueService, q -> q.getJobMapCount())
@@ -1,8 +1,16 @@
 package com.springqprobackend.springqpro.config;
 
+import com.springqprobackend.springqpro.enums.DispatchMode;
+import com.springqprobackend.springqpro.enums.ExecutorMode;
+import com.springqprobackend.springqpro.enums.OverflowPolicy;
+import com.springqprobackend.springqpro.enums.RetrySchedulerMode;
+import com.springqprobackend.springqpro.enums.TaskType;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /* QueueProperties.java
 --------------------------------------------------------------------------------------------------
 [HISTORY]:
@@ -12,10 +20,24 @@ could be configured externally.
 
 [CURRENT ROLE]:
 Maps application.yml values for:
-  - executor thread counts
+  - executor thread counts, executor mode (platform pool vs. virtual threads) and backlog capacity
   - scheduled executor workers
   - default delays
   - retry policies
+  - dispatch mode (event-driven enqueueById vs. batch-claim polling vs. Redis Stream) and its batch/poll tuning
+  - Redis Stream names and consumer-group tuning (STREAM mode)
+  - where retries wait out their backoff (durable Redis ZSET vs. in-memory ScheduledFuture), and how long
+    a popped-but-unacknowledged retry stays claimed
+  - claim lease length and the LeaseReaper sweep that recovers expired leases
+  - optional write-behind batching of COMPLETED/FAILED outcome writes (OutcomeWriteBehind)
+  - the StartupRecovery sweep (page size, dispatch rate, executor backlog headroom; EVENT mode only)
+  - backpressure: what a full executor does (overflow policy) and when to tell clients to retry later
+  - the size cap on one createTasks batch
+  - this instance's Snowflake node ID for Task IDs (explicit, or leased from Redis)
+  - priority aging: how much waiting time one priority level is worth
+  - the pushed processing-event stream (push interval, per-client buffer, stream lifetime)
+  - the per-subscriber buffer of the taskUpdated / myTasksUpdated GraphQL subscriptions
+  - per-TaskType bulkheads ("queue.pools.<TYPE>.concurrency / queue-capacity"); unlisted types share execService
 These values directly affect ProcessingService + QueueService behavior.
 
 [FUTURE WORK]:
@@ -30,6 +52,74 @@ CloudQueue might:
 public class QueueProperties {
     private int mainExecWorkerCount;
     private int schedExecWorkerCount;
+    // Worker pool selection (PLATFORM keeps the original fixed ThreadPoolExecutor):
+    private ExecutorMode executorMode = ExecutorMode.PLATFORM;
+    private int virtualMaxConcurrency = 200;    // concurrent Tasks allowed in VIRTUAL mode (semaphore permits).
+    private int mainExecQueueCapacity = 1000;   // backlog bound for either mode.
+    // Dispatch path selection (EVENT keeps the original TaskCreatedListener -> enqueueById handoff):
+    private DispatchMode dispatchMode = DispatchMode.EVENT;
+    private int claimBatchSize = 10;    // max rows claimed per poll / entries read per XREADGROUP (POLLING + STREAM).
+    private long pollIntervalMs = 500;  // delay between polls, or back-off while every worker is busy (POLLING + STREAM).
+    // Redis Stream dispatch (STREAM mode only):
+    private String streamKey = "springqpro:tasks:stream";     // shared pool; each "queue.pools" TaskType gets "<key>:<TYPE>".
+    private String streamGroup = "springqpro-workers";
+    private String streamConsumer;              // unique per instance; blank -> "<hostname>-<pid>".
+    private long streamBlockMs = 2000;          // XREADGROUP BLOCK timeout.
+    private long streamReclaimIdleMs = 60000;   // pending entries idle this long are XCLAIMed from dead consumers.
+    private long streamMaxLength = 100000;      // approximate MAXLEN trim applied on XADD.
+    private long streamRepublishAfterMs = 300000;   // QUEUED this long with its pool's stream fully delivered -> XADD again (StreamRepublisher); 0 = off.
+    // Retry backoff scheduling:
+    private RetrySchedulerMode retryScheduler = RetrySchedulerMode.REDIS;
+    private String retryZsetKey = "springqpro:tasks:retry";
+    private long retryPollIntervalMs = 1000;
+    private int retryBatchSize = 100;
+    private long retryClaimTimeoutMs = 30000;   // a popped retry that isn't acked within this is due again (release failed / JVM died).
+    // Claim leases (LeaseReaper):
+    private long leaseDurationMs = 300000;      // must comfortably exceed the slowest handler (TakesLongHandler is ~10s).
+    private boolean leaseReaperEnabled = true;
+    private long leaseReapIntervalMs = 5000;
+    private int leaseReapBatchSize = 500;
+    // Outcome write-behind (OutcomeWriteBehind): off -> one UPDATE per finished Task, as before.
+    private boolean outcomeWriteBehindEnabled = false;
+    private long outcomeFlushIntervalMs = 20;   // flush at least this often...
+    private int outcomeFlushBatchSize = 500;    // ...or as soon as this many outcomes are waiting (also the JDBC batch size).
+    private int outcomeBufferCapacity = 10000;  // past this, outcomes are written synchronously instead of buffered.
+    // Startup recovery of the QUEUED backlog (StartupRecovery):
+    private boolean recoveryEnabled = true;
+    private int recoveryPageSize = 500;
+    private int recoveryRatePerSecond = 200;    // max Task IDs re-dispatched per second.
+    private int recoveryMaxBacklog = 500;       // pause while the worker pools (all of them together) already have this many Tasks waiting.
+    // Backpressure (OverflowRejectionHandler / BackpressureMonitor):
+    private OverflowPolicy overflowPolicy = OverflowPolicy.SPILL;
+    private long overflowBlockTimeoutMs = 5000; // CALLER_BLOCKS: max wait for queue space before spilling.
+    private String overflowListKey = "springqpro:tasks:overflow";  // shared pool; each "queue.pools" TaskType spills to "<key>:<TYPE>".
+    private double saturationThreshold = 0.9;   // fraction of the combined queue capacity (main + every pool) at which createTask answers retry-after.
+    // Bulk creation (createTasks): inputs allowed in one batch / transaction.
+    private int maxCreateBatchSize = 1000;
+    // Task IDs (TaskIdConfig / SnowflakeTaskIdGenerator):
+    private int nodeId = -1;                    // 0-1023; -1 -> lease a free one from Redis ("<node-id-key>:<n>", SET NX PX).
+    private String nodeIdKey = "springqpro:ids:node";
+    private long nodeIdLeaseTtlMs = 30000;      // renewed every third of this; a dead instance's node ID frees up after it.
+    // Priority dispatch (PriorityTaskQueue, and PriorityAger for claimQueuedBatch): one priority level = this much head start.
+    private long priorityAgingMs = 5000;
+    // Streamed processing events (ProcessingEventStream, GET /api/processing/events/stream):
+    private long eventStreamIntervalMs = 250;   // how often new events are read from the ring and pushed.
+    private int eventStreamClientBuffer = 500;  // per-client backlog; past this the oldest unsent events are dropped.
+    private long eventStreamTimeoutMs = 1800000;    // a stream is closed after this long (clients reconnect with Last-Event-ID).
+    // GraphQL subscriptions (TaskUpdateBus -> TaskService.taskUpdatesForUser / ownerUpdates):
+    private int taskSubscriptionBuffer = 256;   // per-subscriber backlog of unsent updates; past this the oldest are dropped.
+    // Per-TaskType bulkheads (TaskTypeBulkheads), e.g. "queue.pools.SMS.concurrency=20":
+    private Map<TaskType, Pool> pools = new LinkedHashMap<>();
+
+    // One isolated worker pool. Follows "queue.executor-mode" (platform threads vs. virtual threads + semaphore).
+    public static class Pool {
+        private int concurrency = 4;
+        private int queueCapacity = 200;
+        public int getConcurrency() { return concurrency; }
+        public int getQueueCapacity() { return queueCapacity; }
+        public void setConcurrency(int concurrency) { this.concurrency = concurrency; }
+        public void setQueueCapacity(int queueCapacity) { this.queueCapacity = queueCapacity; }
+    }
 
     // getters:
     public int getMainExecWorkerCount() {
@@ -38,6 +128,50 @@ public class QueueProperties {
     public int getSchedExecWorkerCount() {
         return schedExecWorkerCount;
     }
+    public ExecutorMode getExecutorMode() { return executorMode; }
+    public int getVirtualMaxConcurrency() { return virtualMaxConcurrency; }
+    public int getMainExecQueueCapacity() { return mainExecQueueCapacity; }
+    public DispatchMode getDispatchMode() { return dispatchMode; }
+    public int getClaimBatchSize() { return claimBatchSize; }
+    public long getPollIntervalMs() { return pollIntervalMs; }
+    public String getStreamKey() { return streamKey; }
+    public String getStreamGroup() { return streamGroup; }
+    public String getStreamConsumer() { return streamConsumer; }
+    public long getStreamBlockMs() { return streamBlockMs; }
+    public long getStreamReclaimIdleMs() { return streamReclaimIdleMs; }
+    public long getStreamMaxLength() { return streamMaxLength; }
+    public long getStreamRepublishAfterMs() { return streamRepublishAfterMs; }
+    public RetrySchedulerMode getRetryScheduler() { return retryScheduler; }
+    public String getRetryZsetKey() { return retryZsetKey; }
+    public long getRetryPollIntervalMs() { return retryPollIntervalMs; }
+    public int getRetryBatchSize() { return retryBatchSize; }
+    public long getRetryClaimTimeoutMs() { return retryClaimTimeoutMs; }
+    public long getLeaseDurationMs() { return leaseDurationMs; }
+    public boolean isLeaseReaperEnabled() { return leaseReaperEnabled; }
+    public long getLeaseReapIntervalMs() { return leaseReapIntervalMs; }
+    public int getLeaseReapBatchSize() { return leaseReapBatchSize; }
+    public boolean isOutcomeWriteBehindEnabled() { return outcomeWriteBehindEnabled; }
+    public long getOutcomeFlushIntervalMs() { return outcomeFlushIntervalMs; }
+    public int getOutcomeFlushBatchSize() { return outcomeFlushBatchSize; }
+    public int getOutcomeBufferCapacity() { return outcomeBufferCapacity; }
+    public boolean isRecoveryEnabled() { return recoveryEnabled; }
+    public int getRecoveryPageSize() { return recoveryPageSize; }
+    public int getRecoveryRatePerSecond() { return recoveryRatePerSecond; }
+    public int getRecoveryMaxBacklog() { return recoveryMaxBacklog; }
+    public OverflowPolicy getOverflowPolicy() { return overflowPolicy; }
+    public long getOverflowBlockTimeoutMs() { return overflowBlockTimeoutMs; }
+    public String getOverflowListKey() { return overflowListKey; }
+    public double getSaturationThreshold() { return saturationThreshold; }
+    public int getMaxCreateBatchSize() { return maxCreateBatchSize; }
+    public int getNodeId() { return nodeId; }
+    public String getNodeIdKey() { return nodeIdKey; }
+    public long getNodeIdLeaseTtlMs() { return nodeIdLeaseTtlMs; }
+    public long getPriorityAgingMs() { return priorityAgingMs; }
+    public long getEventStreamIntervalMs() { return eventStreamIntervalMs; }
+    public int getEventStreamClientBuffer() { return eventStreamClientBuffer; }
+    public long getEventStreamTimeoutMs() { return eventStreamTimeoutMs; }
+    public int getTaskSubscriptionBuffer() { return taskSubscriptionBuffer; }
+    public Map<TaskType, Pool> getPools() { return pools; }
     // setters:
     public void setMainExecWorkerCount(int mainExecWorkerCount) {
         this.mainExecWorkerCount = mainExecWorkerCount;
@@ -45,4 +179,48 @@ public class QueueProperties {
     public void setSchedExecWorkerCount(int schedExecWorkerCount) {
         this.schedExecWorkerCount = schedExecWorkerCount;
     }
+    public void setExecutorMode(ExecutorMode executorMode) { this.executorMode = executorMode; }
+    public void setVirtualMaxConcurrency(int virtualMaxConcurrency) { this.virtualMaxConcurrency = virtualMaxConcurrency; }
+    public void setMainExecQueueCapacity(int mainExecQueueCapacity) { this.mainExecQueueCapacity = mainExecQueueCapacity; }
+    public void setDispatchMode(DispatchMode dispatchMode) { this.dispatchMode = dispatchMode; }
+    public void setClaimBatchSize(int claimBatchSize) { this.claimBatchSize = claimBatchSize; }
+    public void setPollIntervalMs(long pollIntervalMs) { this.pollIntervalMs = pollIntervalMs; }
+    public void setStreamKey(String streamKey) { this.streamKey = streamKey; }
+    public void setStreamGroup(String streamGroup) { this.streamGroup = streamGroup; }
+    public void setStreamConsumer(String streamConsumer) { this.streamConsumer = streamConsumer; }
+    public void setStreamBlockMs(long streamBlockMs) { this.streamBlockMs = streamBlockMs; }
+    public void setStreamReclaimIdleMs(long streamReclaimIdleMs) { this.streamReclaimIdleMs = streamReclaimIdleMs; }
+    public void setStreamMaxLength(long streamMaxLength) { this.streamMaxLength = streamMaxLength; }
+    public void setStreamRepublishAfterMs(long streamRepublishAfterMs) { this.streamRepublishAfterMs = streamRepublishAfterMs; }
+    public void setRetryScheduler(RetrySchedulerMode retryScheduler) { this.retryScheduler = retryScheduler; }
+    public void setRetryZsetKey(String retryZsetKey) { this.retryZsetKey = retryZsetKey; }
+    public void setRetryPollIntervalMs(long retryPollIntervalMs) { this.retryPollIntervalMs = retryPollIntervalMs; }
+    public void setRetryBatchSize(int retryBatchSize) { this.retryBatchSize = retryBatchSize; }
+    public void setRetryClaimTimeoutMs(long retryClaimTimeoutMs) { this.retryClaimTimeoutMs = retryClaimTimeoutMs; }
+    public void setLeaseDurationMs(long leaseDurationMs) { this.leaseDurationMs = leaseDurationMs; }
+    public void setLeaseReaperEnabled(boolean leaseReaperEnabled) { this.leaseReaperEnabled = leaseReaperEnabled; }
+    public void setLeaseReapIntervalMs(long leaseReapIntervalMs) { this.leaseReapIntervalMs = leaseReapIntervalMs; }
+    public void setLeaseReapBatchSize(int leaseReapBatchSize) { this.leaseReapBatchSize = leaseReapBatchSize; }
+    public void setOutcomeWriteBehindEnabled(boolean outcomeWriteBehindEnabled) { this.outcomeWriteBehindEnabled = outcomeWriteBehindEnabled; }
+    public void setOutcomeFlushIntervalMs(long outcomeFlushIntervalMs) { this.outcomeFlushIntervalMs = outcomeFlushIntervalMs; }
+    public void setOutcomeFlushBatchSize(int outcomeFlushBatchSize) { this.outcomeFlushBatchSize = outcomeFlushBatchSize; }
+    public void setOutcomeBufferCapacity(int outcomeBufferCapacity) { this.outcomeBufferCapacity = outcomeBufferCapacity; }
+    public void setRecoveryEnabled(boolean recoveryEnabled) { this.recoveryEnabled = recoveryEnabled; }
+    public void setRecoveryPageSize(int recoveryPageSize) { this.recoveryPageSize = recoveryPageSize; }
+    public void setRecoveryRatePerSecond(int recoveryRatePerSecond) { this.recoveryRatePerSecond = recoveryRatePerSecond; }
+    public void setRecoveryMaxBacklog(int recoveryMaxBacklog) { this.recoveryMaxBacklog = recoveryMaxBacklog; }
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) { this.overflowPolicy = overflowPolicy; }
+    public void setOverflowBlockTimeoutMs(long overflowBlockTimeoutMs) { this.overflowBlockTimeoutMs = overflowBlockTimeoutMs; }
+    public void setOverflowListKey(String overflowListKey) { this.overflowListKey = overflowListKey; }
+    public void setSaturationThreshold(double saturationThreshold) { this.saturationThreshold = saturationThreshold; }
+    public void setMaxCreateBatchSize(int maxCreateBatchSize) { this.maxCreateBatchSize = maxCreateBatchSize; }
+    public void setNodeId(int nodeId) { this.nodeId = nodeId; }
+    public void setNodeIdKey(String nodeIdKey) { this.nodeIdKey = nodeIdKey; }
+    public void setNodeIdLeaseTtlMs(long nodeIdLeaseTtlMs) { this.nodeIdLeaseTtlMs = nodeIdLeaseTtlMs; }
+    public void setPriorityAgingMs(long priorityAgingMs) { this.priorityAgingMs = priorityAgingMs; }
+    public void setEventStreamIntervalMs(long eventStreamIntervalMs) { this.eventStreamIntervalMs = eventStreamIntervalMs; }
+    public void setEventStreamClientBuffer(int eventStreamClientBuffer) { this.eventStreamClientBuffer = eventStreamClientBuffer; }
+    public void setEventStreamTimeoutMs(long eventStreamTimeoutMs) { this.eventStreamTimeoutMs = eventStreamTimeoutMs; }
+    public void setTaskSubscriptionBuffer(int taskSubscriptionBuffer) { this.taskSubscriptionBuffer = taskSubscriptionBuffer; }
+    public void setPools(Map<TaskType, Pool> pools) { this.pools = pools; }
 }
@@ -36,7 +36,7 @@ Defines:
 These beans are used for:
   - RedisTokenStore
   - RedisDistributedLock
-  - TaskRedisRepository
+(TaskRedisRepository has its own binary-valued template, see TaskCacheConfig.)
 [FUTURE WORK]:
 CloudQueue may:
   - adopt RedissonClient
@@ -79,14 +79,7 @@ public class RedisConfig {
     public RedisTemplate<String, Object> redisTemplate(LettuceConnectionFactory connectionFactory) {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
-        // Use Jackson JSON serializer for values -- keeps Task metadata readable and avoids Java native serialization pitfalls.
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
-        mapper.registerModule(new JavaTimeModule());
-        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-        mapper.activateDefaultTyping(LaissezFaireSubTypeValidator.instance, ObjectMapper.DefaultTyping.NON_FINAL);
-
-        GenericJackson2JsonRedisSerializer jackson = new GenericJackson2JsonRedisSerializer(mapper);
+        GenericJackson2JsonRedisSerializer jackson = jsonValueSerializer();
 
         template.setKeySerializer(new StringRedisSerializer());
         template.setValueSerializer(jackson);
@@ -96,6 +89,18 @@ public class RedisConfig {
         return template;
     }
 
+    /* Use Jackson JSON serializer for values -- keeps general-purpose values readable and avoids Java native serialization pitfalls.
+    (Cached Tasks no longer go through this: see TaskCacheConfig / TaskEntityCodec. Kept public + static so the benchmarks
+    module can compare the two.) */
+    public static GenericJackson2JsonRedisSerializer jsonValueSerializer() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
+        mapper.registerModule(new JavaTimeModule());
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        mapper.activateDefaultTyping(LaissezFaireSubTypeValidator.instance, ObjectMapper.DefaultTyping.NON_FINAL);
+        return new GenericJackson2JsonRedisSerializer(mapper);
+    }
+
     @Bean
     public StringRedisTemplate stringRedisTemplate(LettuceConnectionFactory factory) {
         return new StringRedisTemplate(factory);
@@ -1,6 +1,7 @@
 package com.springqprobackend.springqpro.config;
 
 import com.springqprobackend.springqpro.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -75,6 +76,10 @@ public class SecurityConfig {
         http.csrf(csrf -> csrf.disable())
                 .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        /* A streamed response (GraphQL subscriptions over SSE) ends with an ASYNC re-dispatch of the same request.
+                        The JWT filter doesn't run again for it and nothing is kept in a session, so it would be anonymous -- the
+                        original REQUEST dispatch was already authorized, so let it through. */
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/auth/**").permitAll()
                         .requestMatchers("/actuator/health").permitAll()
                         .requestMatchers("/auth/register").permitAll()
@@ -0,0 +1,65 @@
+package com.springqprobackend.springqpro.config;
+
+import com.springqprobackend.springqpro.domain.entity.TaskEntity;
+import com.springqprobackend.springqpro.redis.TaskEntityCodec;
+import com.springqprobackend.springqpro.redis.TaskNearCache;
+import com.springqprobackend.springqpro.redis.TaskUpdateBus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+/* TaskCacheConfig.java
+--------------------------------------------------------------------------------------------------
+[HISTORY]:
+The Task cache shared RedisTemplate<String, Object> with everything else, so cached Tasks were
+default-typed Jackson JSON (class name + field names + ISO date strings, ~400 bytes each).
+
+[CURRENT ROLE]:
+Defines the two cache tiers TaskRedisRepository reads through:
+  - taskRedisTemplate (L2): String keys ("task:<id>") and TaskEntityCodec values
+  - taskNearCache (L1): the in-process TaskNearCache ("cache.task.near.*"), plus the listener
+    container subscribing it to cross-node invalidations
+The same container subscribes TaskUpdateBus to the status-transition channel (GraphQL subscriptions).
+Not profile-restricted -- it sits on whichever RedisConnectionFactory is active (RedisConfig's
+outside tests, the Testcontainers-backed one in tests).
+
+[NOTES]:
+Values written by the old JSON serializer don't decode (TaskEntityCodec returns null), so right
+after a deploy they read as misses and get overwritten within one TTL. No flush needed.
+--------------------------------------------------------------------------------------------------
+*/
+@Configuration
+public class TaskCacheConfig {
+    @Bean
+    public RedisTemplate<String, TaskEntity> taskRedisTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, TaskEntity> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(new TaskEntityCodec());
+        template.afterPropertiesSet();
+        return template;
+    }
+
+    @Bean
+    public TaskNearCache taskNearCache(@Value("${cache.task.near.enabled:true}") boolean enabled,
+                                       @Value("${cache.task.near.max-entries:10000}") int maxEntries,
+                                       @Value("${cache.task.near.ttl-ms:5000}") long ttlMs) {
+        return new TaskNearCache(enabled, maxEntries, ttlMs);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer taskCacheInvalidationListener(RedisConnectionFactory connectionFactory, TaskNearCache taskNearCache, TaskUpdateBus taskUpdateBus) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        if (taskNearCache.isEnabled()) {
+            container.addMessageListener(taskNearCache, new ChannelTopic(TaskNearCache.INVALIDATION_CHANNEL));
+        }
+        container.addMessageListener(taskUpdateBus, new ChannelTopic(TaskUpdateBus.CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,64 @@
+package com.springqprobackend.springqpro.config;
+
+import com.springqprobackend.springqpro.domain.id.SnowflakeTaskIdGenerator;
+import com.springqprobackend.springqpro.domain.id.TaskIdGenerator;
+import com.springqprobackend.springqpro.redis.NodeIdLease;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/* TaskIdConfig.java
+--------------------------------------------------------------------------------------------------
+[CURRENT ROLE]:
+Provides the TaskIdGenerator bean (SnowflakeTaskIdGenerator unless another TaskIdGenerator bean is
+declared) and decides this instance's node ID:
+  1. "queue.node-id" if set (0-1023) -- the safe choice for a fixed set of instances
+  2. otherwise a NodeIdLease on a free slot in Redis, renewed by a heartbeat and released on
+     shutdown. No free slot, or no Redis at boot, fails startup instead of guessing a node ID
+     that another live instance might already be using
+While a leased node ID isn't held (lost to another instance, or not renewed for a whole TTL),
+nextId() throws instead of minting IDs that could collide.
+--------------------------------------------------------------------------------------------------
+*/
+@Configuration
+public class TaskIdConfig {
+    private static final Logger logger = LoggerFactory.getLogger(TaskIdConfig.class);
+
+    @Bean
+    @ConditionalOnMissingBean(TaskIdGenerator.class)
+    public TaskIdGenerator taskIdGenerator(QueueProperties props, StringRedisTemplate redis) {
+        if (props.getNodeId() >= 0) {
+            logger.info("[TaskIdConfig] task IDs minted as Snowflake node {} (queue.node-id)", props.getNodeId());
+            return new SnowflakeTaskIdGenerator(props.getNodeId());
+        }
+        NodeIdLease lease = new NodeIdLease(redis, props.getNodeIdKey(), props.getNodeIdLeaseTtlMs());
+        SnowflakeTaskIdGenerator snowflake = new SnowflakeTaskIdGenerator(lease.acquire());
+        logger.info("[TaskIdConfig] task IDs minted as Snowflake node {} (leased)", snowflake.getNodeId());
+        return new LeasedTaskIdGenerator(snowflake, lease);
+    }
+
+    // Spring infers release() from AutoCloseable.close() when the bean is destroyed.
+    static final class LeasedTaskIdGenerator implements TaskIdGenerator, AutoCloseable {
+        private final SnowflakeTaskIdGenerator delegate;
+        private final NodeIdLease lease;
+
+        LeasedTaskIdGenerator(SnowflakeTaskIdGenerator delegate, NodeIdLease lease) {
+            this.delegate = delegate;
+            this.lease = lease;
+        }
+
+        @Override
+        public String nextId() {
+            if (!lease.isHeld()) throw new IllegalStateException("Snowflake node ID " + lease.getNodeId() + " is not leased right now");
+            return delegate.nextId();
+        }
+
+        @Override
+        public void close() {
+            lease.release();
+        }
+    }
+}
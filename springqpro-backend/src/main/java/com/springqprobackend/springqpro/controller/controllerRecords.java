@@ -29,6 +29,6 @@ These records may eventually be replaced by:
 
 public record controllerRecords() {
     // public record types (mirroring the "input" types seen in my schema.graphqls):
-    public record CreateTaskInput(String payload, TaskType type) {}
+    public record CreateTaskInput(String payload, TaskType type, Integer priority) {}
     public record UpdateTaskInput(String id, TaskStatus status, Integer attempts) {}
 }
@@ -0,0 +1,24 @@
+package com.springqprobackend.springqpro.controller.graphql;
+
+import com.springqprobackend.springqpro.domain.entity.TaskEntity;
+import com.springqprobackend.springqpro.service.TaskPage;
+
+import java.util.List;
+
+/* TaskConnection.java
+--------------------------------------------------------------------------------------------------
+[CURRENT ROLE]:
+Relay-style connection shape returned by the tasksConnection query (TaskConnection / TaskEdge /
+PageInfo in schema.graphqls). Spring GraphQL resolves the schema fields from these record
+components by name. Forward pagination only: pass pageInfo.endCursor back as "after".
+--------------------------------------------------------------------------------------------------
+*/
+public record TaskConnection(List<Edge> edges, PageInfo pageInfo) {
+    public record Edge(String cursor, TaskEntity node) { }
+    public record PageInfo(boolean hasNextPage, String endCursor) { }
+
+    public static TaskConnection of(TaskPage page) {
+        List<Edge> edges = page.tasks().stream().map(t -> new Edge(TaskPage.cursorOf(t), t)).toList();
+        return new TaskConnection(edges, new PageInfo(page.hasNextPage(), page.endCursor()));
+    }
+}
@@ -15,7 +15,9 @@ import org.springframework.stereotype.Controller;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.method.annotation.SubscriptionMapping;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
 
 import java.util.Arrays;
 import java.util.List;
@@ -35,20 +37,28 @@ wanted a reason to use GraphQL and get some experience working with it since it
 for a job position I was interviewed for but ultimately bombed).
 
 [CURRENT ROLE]:
-Implements GraphQL Query + Mutation resolvers for:
+Implements GraphQL Query + Mutation + Subscription resolvers for:
   - task(id)
   - tasks(status)
+  - tasksConnection(first, after, status, type, createdAfter)  (keyset pages, Relay-style connection)
   - createTask(input)
+  - createTasks(inputs)  (bulk: one transaction, one batched insert)
   - updateTask(input)
   - deleteTask(id)
+  - taskUpdated(id) / myTasksUpdated(status)  (subscriptions, pushed over SSE -- see TaskUpdateBus)
 All operations flow through TaskService -> QueueService/ProcessingService -> PostgreSQL.
+Reads are cache-first: task(id) (and the ownership check in front of each mutation) checks createdBy
+on the cached copy, and tasks(status) takes its IDs from the caller's TaskStatusBuckets, so a warm
+dashboard poll doesn't reach Postgres.
 
 AUTH:
 Each resolver enforces JWT authentication before performing any operation.
 
+Subscriptions replace polling: Spring GraphQL serves them over SSE on the same /graphql endpoint
+(POST with "Accept: text/event-stream"), so they go through the same JWT filter as everything else.
+
 [FUTURE WORK]:
 CloudQueue could add:
-   • subscriptions for real-time task progress
    • federated schemas
    • dedicated analytics schema for metrics
 --------------------------------------------------------------------------------------------------
@@ -88,6 +98,15 @@ public class TaskGraphQLController {
         logger.info("INFO: GraphQL 'tasks' (by type) Query sent by user:{}", owner);
         return taskService.getAllTasksForUserByType(type, owner);
     }
+    // Keyset-paginated + filtered (use this instead of tasks/tasksType for owners with many Tasks):
+    @QueryMapping
+    @PreAuthorize("isAuthenticated()")
+    public TaskConnection tasksConnection(@Argument Integer first, @Argument String after, @Argument TaskStatus status, @Argument TaskType type,
+                                          @Argument String createdAfter, Authentication auth) {
+        String owner = auth.getName();
+        logger.info("INFO: GraphQL 'tasksConnection' (first={}, after={}) Query sent by user:{}", first, after, owner);
+        return TaskConnection.of(taskService.getTaskPageForUser(owner, first, after, status, type, createdAfter));
+    }
     @QueryMapping
     @PreAuthorize("isAuthenticated()")  // 2025-11-24-DEBUG: Securing my GraphQL resolvers for JWT.
     public TaskEntity task(@Argument String id, Authentication auth) {
@@ -102,7 +121,13 @@ public class TaskGraphQLController {
     public TaskEntity createTask(@Argument("input") CreateTaskInput input, Authentication auth) {
         String owner = auth.getName();
         logger.info("INFO: GraphQL 'createTask' Query sent by user:{}", owner);
-        return taskService.createTaskForUser(input.payload(), input.type(), owner);
+        return taskService.createTaskForUser(input.payload(), input.type(), input.priority(), owner);
+    }
+    @MutationMapping
+    public List<TaskEntity> createTasks(@Argument("inputs") List<CreateTaskInput> inputs, Authentication auth) {
+        String owner = auth.getName();
+        logger.info("INFO: GraphQL 'createTasks' ({} inputs) sent by user:{}", inputs.size(), owner);
+        return taskService.createTasksForUser(inputs, owner);
     }
     @MutationMapping
     @Transactional
@@ -137,6 +162,22 @@ public class TaskGraphQLController {
         return processingService.manuallyRequeue(id);
     }
 
+    // SUBSCRIPTIONS:
+    @SubscriptionMapping
+    @PreAuthorize("isAuthenticated()")
+    public Flux<TaskEntity> taskUpdated(@Argument String id, Authentication auth) {
+        String owner = auth.getName();
+        logger.info("INFO: GraphQL 'taskUpdated' (id={}) Subscription opened by user:{}", id, owner);
+        return taskService.taskUpdatesForUser(id, owner);
+    }
+    @SubscriptionMapping
+    @PreAuthorize("isAuthenticated()")
+    public Flux<TaskEntity> myTasksUpdated(@Argument TaskStatus status, Authentication auth) {
+        String owner = auth.getName();
+        logger.info("INFO: GraphQL 'myTasksUpdated' (status={}) Subscription opened by user:{}", status, owner);
+        return taskService.ownerUpdates(status, owner);
+    }
+
     /* 2025-12-04-NOTE: Adding a new method in the GraphQL Controller that exposes enums (useful for frontends
     so they can parse the acceptable enums defined in schema.graphqls and avoid hardcoding values). */
     @QueryMapping
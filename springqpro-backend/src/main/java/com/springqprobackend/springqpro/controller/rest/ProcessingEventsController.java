@@ -1,15 +1,21 @@
 package com.springqprobackend.springqpro.controller.rest;
 
+import com.springqprobackend.springqpro.enums.ProcessingEventType;
+import com.springqprobackend.springqpro.service.ConnectionPoolMonitor;
+import com.springqprobackend.springqpro.service.ProcessingEventStream;
 import com.springqprobackend.springqpro.service.ProcessingService;
 import com.springqprobackend.springqpro.service.QueueService;
+import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ThreadPoolExecutor;
 
 @RestController
 @RequestMapping("/api/processing")
@@ -18,30 +24,41 @@ public class ProcessingEventsController {
     // Field(s):
     private final ProcessingService processing;
     private final QueueService queueService;
+    private final ConnectionPoolMonitor connectionPool;
+    private final ProcessingEventStream eventStream;
     // Constructor(s):
-    public ProcessingEventsController(ProcessingService processing, QueueService queueService) {
+    public ProcessingEventsController(ProcessingService processing, QueueService queueService, ConnectionPoolMonitor connectionPool, ProcessingEventStream eventStream) {
         this.processing = processing;
         this.queueService = queueService;
+        this.connectionPool = connectionPool;
+        this.eventStream = eventStream;
     }
     // Endpoints:
+    // Newest first. ?taskId=... and/or ?type=CLAIM_SUCCESS (a ProcessingEventType) narrow the list.
     @GetMapping("/events")
-    public List<String> getEvents() {
-        return processing.getRecentLogEvents();
+    public List<String> getEvents(@RequestParam(required = false) String taskId, @RequestParam(required = false) ProcessingEventType type) {
+        return processing.getRecentLogEvents(taskId, type);
+    }
+
+    // Same events pushed as they happen (Server-Sent Events, see ProcessingEventStream); same optional filters.
+    @GetMapping(path = "/events/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents(@RequestParam(required = false) String taskId, @RequestParam(required = false) ProcessingEventType type,
+                                   @RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+        return eventStream.subscribe(taskId, type, lastEventId);
     }
 
     @GetMapping("/workers")
     public Map<String, Integer> getWorkerStatus() {
-        ThreadPoolExecutor exec = queueService.getExecutor();
+        return queueService.getWorkerStatus();
+    }
 
-        int active = exec.getActiveCount();
-        int pool = exec.getPoolSize();
-        int idle = pool - active;
-        int queue = exec.getQueue().size();
+    @GetMapping("/workers/pools")
+    public Map<String, Map<String, Integer>> getPoolStatus() {
+        return queueService.getPoolStatus();
+    }
 
-        return Map.of(
-                "active", active,
-                "idle", idle,
-                "inFlight", queue
-        );
+    @GetMapping("/db-pool")
+    public Map<String, Integer> getDbPoolStatus() {
+        return connectionPool.snapshot();
     }
 }
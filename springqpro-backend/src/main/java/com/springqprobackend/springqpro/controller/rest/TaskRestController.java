@@ -10,6 +10,7 @@ import com.springqprobackend.springqpro.service.TaskService;
 import com.springqprobackend.springqpro.controller.controllerRecords.CreateTaskInput;
 import com.springqprobackend.springqpro.controller.controllerRecords.UpdateTaskInput;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -56,7 +57,12 @@ public class TaskRestController {
 
     @PostMapping("/create")
     public TaskEntity createTask(@RequestBody CreateTaskInput input) {
-        return taskService.createTask(input.payload(), input.type());
+        return taskService.createTask(input.payload(), input.type(), input.priority());
+    }
+
+    @PostMapping("/create/batch")
+    public List<TaskEntity> createTasks(@RequestBody List<CreateTaskInput> inputs, Authentication auth) {
+        return taskService.createTasksForUser(inputs, auth.getName());
     }
 
     @PatchMapping("/update/{id}")
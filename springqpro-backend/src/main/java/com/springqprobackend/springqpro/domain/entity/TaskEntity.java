@@ -3,6 +3,7 @@ package com.springqprobackend.springqpro.domain.entity;
 import com.springqprobackend.springqpro.enums.TaskStatus;
 import com.springqprobackend.springqpro.enums.TaskType;
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.Instant;
 
@@ -21,6 +22,7 @@ TaskEntity is the storage-level representation of a queued job. It is used for:
    • Durable task state in PostgreSQL
    • Optimistic locking (via @Version)
    • Claims and transitions (QUEUED → INPROGRESS → COMPLETED/FAILED)
+   • Claim leases (claimed_at / lease_until) so LeaseReaper can recover rows a dead worker left INPROGRESS
    • Integration with Redis locks
    • Dashboard + GraphQL queries
 
@@ -77,7 +79,21 @@ Persistence race conditions can still happen in the event of:
 Handling this with @Version etc is the way that real Job Queue systems like SideKiq, Celery, and so on do it -- so I will too!!!
 */
 @Entity
-@Table(name="tasks")
+@Table(name="tasks", indexes = {
+        // LeaseReaper sweeps "status = 'INPROGRESS' AND lease_until < now()" every few seconds -- this keeps that a range scan.
+        @Index(name = "idx_tasks_status_lease_until", columnList = "status, lease_until"),
+        // StartupRecovery and StreamRepublisher walk QUEUED rows with keyset pagination (status = ? AND id > ? ORDER BY id).
+        @Index(name = "idx_tasks_status_id", columnList = "status, id"),
+        // Priority dispatch: claimQueuedBatch reads QUEUED rows in (effective_priority DESC, created_at) order straight off
+        // this index; PriorityAger's promoteAged seeks (status, effective_priority, created_at < cutoff) on it too.
+        @Index(name = "idx_tasks_status_effective_priority_created_at", columnList = "status, effective_priority DESC, created_at"),
+        // The same order per TaskType, for a dedicated pool's claim (claimQueuedBatchOfType: status = ? AND type = ?).
+        @Index(name = "idx_tasks_status_type_effective_priority_created_at", columnList = "status, type, effective_priority DESC, created_at"),
+        // tasksConnection keyset pages (TaskPageRepositoryImpl): one per filter shape, each ending in the (created_at, id) order.
+        @Index(name = "idx_tasks_owner_created_at_id", columnList = "created_by, created_at DESC, id DESC"),
+        @Index(name = "idx_tasks_owner_status_created_at_id", columnList = "created_by, status, created_at DESC, id DESC"),
+        @Index(name = "idx_tasks_owner_type_created_at_id", columnList = "created_by, type, created_at DESC, id DESC")
+})
 public class TaskEntity {
     @Id
     @Column(nullable = false, updatable = false)
@@ -102,10 +118,28 @@ public class TaskEntity {
     @Column(name="created_at")  // custom DataBase column name.
     private Instant createdAt;
 
+    // Dispatch priority, 0 (default) to 9 -- higher is served first, with aging (see PriorityTaskQueue).
+    @ColumnDefault("0")     // so ddl-auto can add the NOT NULL column to a table that already has rows.
+    @Column(nullable = false)
+    private int priority;
+    // POLLING-mode claim order: starts out as priority and is raised by PriorityAger while the row waits. Scheduling state
+    // only -- never exposed, and JPA only writes it on insert (the native aging/claim queries own it from then on), so the
+    // priority the client asked for is never touched.
+    @ColumnDefault("0")
+    @Column(name = "effective_priority", nullable = false, updatable = false)
+    private int effectivePriority;
+
     // 2025-11-25-NOTE: Enforcing JWT User Ownership - this implementation is key!
     @Column(name = "created_by", nullable=false, length = 255)
     private String createdBy;
 
+    // Claim lease: set when a worker claims the row, cleared when it persists the outcome. An INPROGRESS row whose
+    // lease_until has passed belongs to a worker that died (see LeaseReaper).
+    @Column(name = "claimed_at")
+    private Instant claimedAt;
+    @Column(name = "lease_until")
+    private Instant leaseUntil;
+
     // Optimistic locking field (protects against lost updates):
     // 2025-11-25-NOTE: This is probably outdated at this point but I'll leave it for the future cleanup down the line.
     @Version
@@ -129,6 +163,11 @@ public class TaskEntity {
         this.createdBy = createdBy;
     }
 
+    @PrePersist
+    void initEffectivePriority() {
+        effectivePriority = priority;     // every row starts its wait at the priority it was created with.
+    }
+
     // JPA will use the getter and setter methods to map to the table columns:
     // getters:
     public String getId() { return id; }
@@ -138,8 +177,12 @@ public class TaskEntity {
     public int getAttempts() { return attempts; }
     public int getMaxRetries() { return maxRetries; }
     public Instant getCreatedAt() { return createdAt; }
+    public int getPriority() { return priority; }
+    public int getEffectivePriority() { return effectivePriority; }
     public Long getVersion() { return version; }
     public String getCreatedBy() { return createdBy; }
+    public Instant getClaimedAt() { return claimedAt; }
+    public Instant getLeaseUntil() { return leaseUntil; }
     // setters:
     public void setId(String id) { this.id = id; }
     public void setPayload(String payload) { this.payload = payload; }
@@ -148,5 +191,9 @@ public class TaskEntity {
     public void setAttempts(int attempts) { this.attempts = attempts; }
     public void setMaxRetries(int maxRetries) { this.maxRetries = maxRetries; }
     public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
+    public void setPriority(int priority) { this.priority = priority; }
     public void setCreatedBy(String createdBy) { this.createdBy = createdBy; }
+    public void setClaimedAt(Instant claimedAt) { this.claimedAt = claimedAt; }
+    public void setLeaseUntil(Instant leaseUntil) { this.leaseUntil = leaseUntil; }
+    public void setVersion(Long version) { this.version = version; }   // only for mirroring a version bump done by a bulk UPDATE (ProcessingService.recordOutcome).
 }
@@ -1,6 +1,9 @@
 package com.springqprobackend.springqpro.domain.event;
 
+import com.springqprobackend.springqpro.enums.TaskType;
+
 // DEBUG:+NOTE:+TO-DO: Maybe merge this and the other records file I have for the GraphQL stuff.
 
 // 2025-11-13-EDIT: This record will be "published" by Task after saving a new task.
-public record TaskCreatedEvent(Object source, String taskId) { }
+// type + priority ride along so QueueService can pick the bulkhead pool and queue position without re-reading the row.
+public record TaskCreatedEvent(Object source, String taskId, TaskType type, int priority) { }
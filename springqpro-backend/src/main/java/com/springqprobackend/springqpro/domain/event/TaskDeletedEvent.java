@@ -0,0 +1,4 @@
+package com.springqprobackend.springqpro.domain.event;
+
+// Published by TaskService.deleteTask; the cache and status buckets are only cleared once the delete has committed.
+public record TaskDeletedEvent(Object source, String taskId, String owner) { }
@@ -0,0 +1,8 @@
+package com.springqprobackend.springqpro.domain.event;
+
+import com.springqprobackend.springqpro.domain.entity.TaskEntity;
+
+import java.util.List;
+
+// Published once by TaskService.createTasksForUser for the whole batch (instead of one TaskCreatedEvent per Task).
+public record TasksCreatedEvent(Object source, List<TaskEntity> tasks) { }
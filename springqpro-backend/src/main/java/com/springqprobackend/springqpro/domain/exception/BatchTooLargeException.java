@@ -0,0 +1,21 @@
+package com.springqprobackend.springqpro.domain.exception;
+
+/* BatchTooLargeException.java
+--------------------------------------------------------------------------------------------------
+[CURRENT ROLE]:
+Thrown by TaskService.createTasksForUser when one createTasks call carries more inputs than
+"queue.max-create-batch-size". A batch is one transaction (one multi-row INSERT, one event),
+so an unbounded one would hold a DB connection and the executor hand-off hostage.
+  - REST: GlobalExceptionHandler turns it into 400 Bad Request
+  - GraphQL: GraphQLExceptionResolver turns it into a BAD_REQUEST error with extensions.maxBatchSize
+--------------------------------------------------------------------------------------------------
+*/
+public class BatchTooLargeException extends RuntimeException {
+    private final int maxBatchSize;
+
+    public BatchTooLargeException(int requested, int maxBatchSize) {
+        super("Batch of " + requested + " tasks exceeds the limit of " + maxBatchSize);
+        this.maxBatchSize = maxBatchSize;
+    }
+    public int getMaxBatchSize() { return maxBatchSize; }
+}
@@ -0,0 +1,15 @@
+package com.springqprobackend.springqpro.domain.exception;
+
+/* InvalidPageRequestException.java
+--------------------------------------------------------------------------------------------------
+[CURRENT ROLE]:
+Thrown by TaskService.getTaskPageForUser when tasksConnection gets an "after" cursor it didn't
+issue, or a "createdAfter" that isn't an ISO-8601 instant.
+  - GraphQL: GraphQLExceptionResolver turns it into a BAD_REQUEST error
+--------------------------------------------------------------------------------------------------
+*/
+public class InvalidPageRequestException extends RuntimeException {
+    public InvalidPageRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,20 @@
+package com.springqprobackend.springqpro.domain.exception;
+
+/* QueueSaturatedException.java
+--------------------------------------------------------------------------------------------------
+[CURRENT ROLE]:
+Thrown by BackpressureMonitor.checkAdmission() when the worker pool's backlog is past
+"queue.saturation-threshold" (or Tasks are already spilling). It carries a retry-after hint:
+  - REST: GlobalExceptionHandler turns it into 429 Too Many Requests + a Retry-After header
+  - GraphQL: GraphQLExceptionResolver turns it into an error with extensions.retryAfterMs
+--------------------------------------------------------------------------------------------------
+*/
+public class QueueSaturatedException extends RuntimeException {
+    private final long retryAfterMs;
+
+    public QueueSaturatedException(long retryAfterMs) {
+        super("Task queue is saturated, retry after " + retryAfterMs + " ms");
+        this.retryAfterMs = retryAfterMs;
+    }
+    public long getRetryAfterMs() { return retryAfterMs; }
+}
@@ -0,0 +1,15 @@
+package com.springqprobackend.springqpro.domain.exception;
+
+/* TaskNotFoundException.java
+--------------------------------------------------------------------------------------------------
+[CURRENT ROLE]:
+Thrown when a caller names a Task that doesn't exist or isn't theirs (the two are deliberately
+indistinguishable), e.g. by the taskUpdated(id) GraphQL subscription.
+  - GraphQL: GraphQLExceptionResolver turns it into a NOT_FOUND error
+--------------------------------------------------------------------------------------------------
+*/
+public class TaskNotFoundException extends RuntimeException {
+    public TaskNotFoundException(String id) {
+        super("Task not found or not owned by current user: " + id);
+    }
+}
@@ -0,0 +1,103 @@
+package com.springqprobackend.springqpro.domain.id;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/* SnowflakeTaskIdGenerator.java
+--------------------------------------------------------------------------------------------------
+[HISTORY]:
+Task IDs were "Task-" + System.nanoTime(). nanoTime() is only meaningful inside one JVM, so two
+instances could mint the same ID, and even within one JVM two threads could. The IDs were also
+~24 characters of variable length. Every tasks primary-key entry and every "task:<id>" Redis key
+paid for that.
+
+[CURRENT ROLE]:
+Snowflake-style 63-bit IDs, rendered as 13 characters of Crockford base32:
+    [ 41 bits: ms since 2025-01-01 | 10 bits: node ID | 12 bits: sequence ]
+  - node-unique: the node ID (0-1023) comes from TaskIdConfig ("queue.node-id", or leased from Redis)
+  - time-ordered + monotonic: fixed-width base32 sorts the same way as the number, so new rows land
+    at the right-hand edge of the primary-key B-tree instead of at random pages
+  - lock-free: one AtomicLong holds (timestamp, sequence), advanced with a CAS
+4096 IDs per millisecond per node. A 4097th (or a clock that steps backwards) borrows the next
+millisecond instead of blocking, so IDs never repeat or go backwards. The clock catches up on
+its own.
+--------------------------------------------------------------------------------------------------
+*/
+public class SnowflakeTaskIdGenerator implements TaskIdGenerator {
+    // Field(s):
+    public static final long EPOCH_MS = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+    public static final int NODE_BITS = 10;
+    public static final int SEQUENCE_BITS = 12;
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int ENCODED_LENGTH = 13;   // ceil(63 / 5)
+    private static final char[] CROCKFORD = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private final long nodeId;
+    private final LongSupplier clock;
+    private final AtomicLong state = new AtomicLong();  // (ms since EPOCH_MS << SEQUENCE_BITS) | sequence of the last ID.
+    // Constructor(s):
+    public SnowflakeTaskIdGenerator(int nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+    public SnowflakeTaskIdGenerator(int nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) throw new IllegalArgumentException("nodeId must be in [0, " + MAX_NODE_ID + "]");
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    // Method(s):
+    @Override
+    public String nextId() {
+        return encode(nextLong());
+    }
+
+    public long nextLong() {
+        while (true) {
+            long prev = state.get();
+            long now = clock.getAsLong() - EPOCH_MS;
+            // New millisecond -> sequence restarts at 0. Otherwise +1; a full sequence carries into the timestamp bits.
+            long next = (now > (prev >>> SEQUENCE_BITS)) ? now << SEQUENCE_BITS : prev + 1;
+            if (state.compareAndSet(prev, next)) {
+                return ((next >>> SEQUENCE_BITS) << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    public int getNodeId() {
+        return (int) nodeId;
+    }
+
+    public static String encode(long id) {
+        char[] out = new char[ENCODED_LENGTH];
+        for (int i = ENCODED_LENGTH - 1; i >= 0; i--) {
+            out[i] = CROCKFORD[(int) (id & 31)];
+            id >>>= 5;
+        }
+        return new String(out);
+    }
+
+    public static long decode(String id) {
+        if (id.length() != ENCODED_LENGTH) throw new IllegalArgumentException("not a " + ENCODED_LENGTH + "-char task ID: " + id);
+        long value = 0;
+        for (int i = 0; i < ENCODED_LENGTH; i++) {
+            int digit = indexOf(id.charAt(i));
+            if (digit < 0) throw new IllegalArgumentException("not a task ID: " + id);
+            value = (value << 5) | digit;
+        }
+        return value;
+    }
+
+    // When the ID was minted (ms precision) -- handy for debugging without a DB lookup.
+    public static Instant timestampOf(String id) {
+        return Instant.ofEpochMilli((decode(id) >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MS);
+    }
+
+    private static int indexOf(char c) {
+        char upper = Character.toUpperCase(c);
+        for (int i = 0; i < CROCKFORD.length; i++) {
+            if (CROCKFORD[i] == upper) return i;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,8 @@
+package com.springqprobackend.springqpro.domain.id;
+
+/* Where new Task IDs come from (TaskService create paths). The default is SnowflakeTaskIdGenerator (see TaskIdConfig);
+declaring another TaskIdGenerator bean replaces it. Implementations must be thread-safe, and unique across every instance
+sharing the "tasks" table. */
+public interface TaskIdGenerator {
+    String nextId();
+}
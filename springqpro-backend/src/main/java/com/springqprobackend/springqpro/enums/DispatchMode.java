@@ -0,0 +1,13 @@
+package com.springqprobackend.springqpro.enums;
+
+/* How QUEUED Tasks reach the worker pool (see QueueProperties "queue.dispatch-mode"):
+- EVENT: TaskCreatedListener hands each Task ID to QueueService.enqueueById after commit (original path).
+- POLLING: BatchClaimPoller claims batches of QUEUED rows straight from PostgreSQL (FOR UPDATE SKIP LOCKED).
+- STREAM: Task IDs are XADDed to a Redis Stream after commit and consumed by every node's StreamDispatchConsumer
+  through a consumer group (XREADGROUP / XACK), so any instance can process any Task.
+*/
+public enum DispatchMode {
+    EVENT,
+    POLLING,
+    STREAM
+}
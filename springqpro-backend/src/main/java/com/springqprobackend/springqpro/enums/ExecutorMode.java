@@ -0,0 +1,10 @@
+package com.springqprobackend.springqpro.enums;
+
+/* Which worker pool ExecutorConfig builds for "execService" (see QueueProperties "queue.executor-mode"):
+- PLATFORM: fixed ThreadPoolExecutor of "queue.main-exec-worker-count" platform threads (original setup).
+- VIRTUAL: VirtualThreadTaskExecutor -- one virtual thread per Task, capped by "queue.virtual-max-concurrency".
+*/
+public enum ExecutorMode {
+    PLATFORM,
+    VIRTUAL
+}
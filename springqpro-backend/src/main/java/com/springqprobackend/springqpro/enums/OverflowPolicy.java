@@ -0,0 +1,12 @@
+package com.springqprobackend.springqpro.enums;
+
+/* What happens when "execService" is full (see QueueProperties "queue.overflow-policy" and OverflowRejectionHandler):
+- SPILL: the Task ID goes onto a durable Redis list (OverflowSpillList); OverflowDrainer feeds it back as workers free up.
+- CALLER_BLOCKS: the submitting thread waits up to "queue.overflow-block-timeout-ms" for room, then spills.
+- SHED: the hand-off is dropped and counted, and the row goes QUEUED -> FAILED (OverflowShedder) so the owner sees it.
+*/
+public enum OverflowPolicy {
+    SPILL,
+    CALLER_BLOCKS,
+    SHED
+}
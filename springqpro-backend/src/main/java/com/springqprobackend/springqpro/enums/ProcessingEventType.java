@@ -0,0 +1,21 @@
+package com.springqprobackend.springqpro.enums;
+
+/* Event codes recorded by ProcessingService.logEvent (see ProcessingEventLog) and accepted by the "type" filter of
+GET /api/processing/events. The rendered line is "[time] CODE taskId <detail>" as before.
+*/
+public enum ProcessingEventType {
+    CLAIM_START,
+    CLAIM_SUCCESS,
+    LOCK_ACQUIRED,
+    LOCK_FAILED,
+    LOCK_RELEASE,
+    PROCESSING,
+    COMPLETED,
+    FAILED,
+    OUTCOME_DISCARDED,
+    RETRY_SCHEDULED,
+    FAILED_PERMANENTLY,
+    RETRY_RELEASED,
+    RETRY_SCHEDULED_MANUALLY,
+    LEASE_EXPIRED
+}
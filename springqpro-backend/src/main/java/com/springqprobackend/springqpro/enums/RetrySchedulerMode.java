@@ -0,0 +1,10 @@
+package com.springqprobackend.springqpro.enums;
+
+/* Where ProcessingService parks a failed Task until its backoff elapses (see QueueProperties "queue.retry-scheduler"):
+- REDIS: RetryDelayQueue -- a Redis sorted set scored by due-time, drained by RetryPoller. Survives restarts.
+- IN_MEMORY: a ScheduledFuture on "schedExec" (original setup). Lost if the JVM goes down during the backoff.
+*/
+public enum RetrySchedulerMode {
+    REDIS,
+    IN_MEMORY
+}
@@ -0,0 +1,37 @@
+package com.springqprobackend.springqpro.enums;
+
+import java.time.Duration;
+
+/* The lifecycle phases TaskPhaseTimers times, one springqpro_task_phase_duration{phase, type} timer per phase and TaskType:
+- QUEUE_WAIT: hand-off to a worker pool (QueueService) -> a worker picks it up. Time spent in the executor's queue.
+- CLAIM: the claim statement (claimById, or one claimQueuedBatch statement for every row it returned).
+- LOCK: RedisDistributedLock.tryLock, whether it gets the lock or not.
+- HANDLER: TaskHandler.handle.
+- PERSIST: writing COMPLETED/FAILED -- the UPDATE, or offer -> flushed when OutcomeWriteBehind is on.
+- END_TO_END: createdAt -> COMPLETED is durable (retries and backoff included).
+maxExpected bounds each timer's histogram buckets.
+*/
+public enum TaskPhase {
+    QUEUE_WAIT("queue_wait", Duration.ofMinutes(5)),
+    CLAIM("claim", Duration.ofSeconds(10)),
+    LOCK("lock", Duration.ofSeconds(10)),
+    HANDLER("handler", Duration.ofMinutes(5)),
+    PERSIST("persist", Duration.ofSeconds(30)),
+    END_TO_END("end_to_end", Duration.ofHours(1));
+
+    private final String tag;
+    private final Duration maxExpected;
+
+    TaskPhase(String tag, Duration maxExpected) {
+        this.tag = tag;
+        this.maxExpected = maxExpected;
+    }
+
+    public String tag() {
+        return tag;
+    }
+
+    public Duration maxExpected() {
+        return maxExpected;
+    }
+}
@@ -1,6 +1,7 @@
 package com.springqprobackend.springqpro.listeners;
 
 import com.springqprobackend.springqpro.domain.event.TaskCreatedEvent;
+import com.springqprobackend.springqpro.domain.event.TasksCreatedEvent;
 import com.springqprobackend.springqpro.service.QueueService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,7 +22,13 @@ public class TaskCreatedListener {
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void onTaskCreated(TaskCreatedEvent ev) {
         logger.info("[TaskCreatedListener] received event for {}", ev.taskId());
-        queueService.enqueueById(ev.taskId());
-        logger.info("[TaskCreatedListener] enqueuedById {}", ev.taskId());
+        queueService.dispatch(ev.taskId(), ev.type(), ev.priority());
+        logger.info("[TaskCreatedListener] dispatched {}", ev.taskId());
+    }
+    // Same, for a whole createTasks batch -- still only after its (single) transaction commits:
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTasksCreated(TasksCreatedEvent ev) {
+        logger.info("[TaskCreatedListener] received batch event for {} tasks", ev.tasks().size());
+        queueService.dispatchAll(ev.tasks());
     }
 }
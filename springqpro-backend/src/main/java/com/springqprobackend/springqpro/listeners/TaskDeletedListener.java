@@ -0,0 +1,36 @@
+package com.springqprobackend.springqpro.listeners;
+
+import com.springqprobackend.springqpro.domain.event.TaskDeletedEvent;
+import com.springqprobackend.springqpro.redis.TaskRedisRepository;
+import com.springqprobackend.springqpro.redis.TaskStatusBuckets;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class TaskDeletedListener {
+    // Field(s):
+    private static final Logger logger = LoggerFactory.getLogger(TaskDeletedListener.class);
+    private final TaskRedisRepository cache;
+    private final TaskStatusBuckets buckets;
+    // Constructor(s):
+    public TaskDeletedListener(TaskRedisRepository cache, TaskStatusBuckets buckets) {
+        this.cache = cache;
+        this.buckets = buckets;
+    }
+    /* Runs only after the deleting transaction commits. Evicting any earlier lets a concurrent getTask miss read the
+    still-visible row from Postgres and cache it again, where it would outlive the delete. The row is already gone by
+    now, so a Redis failure here is only logged: the cached copy expires on its own. */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTaskDeleted(TaskDeletedEvent ev) {
+        try {
+            cache.delete(ev.taskId());
+            buckets.removed(ev.owner(), ev.taskId());
+            logger.info("[TaskDeletedListener] Task (id:{}) has been deleted from TaskRedisRepository (Redis Cache).", ev.taskId());
+        } catch (Exception ex) {
+            logger.warn("[TaskDeletedListener] cache eviction for deleted {} failed: {}", ev.taskId(), ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.springqprobackend.springqpro.redis;
+
+import com.springqprobackend.springqpro.domain.id.SnowflakeTaskIdGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/* NodeIdLease.java
+--------------------------------------------------------------------------------------------------
+[HISTORY]:
+Snowflake node IDs used to come from INCR mod 1024. Counter values were never given back, so after
+1024 boots (rolling restarts, autoscaling) a new instance could land on the slot of one still
+running, and both would mint the same Task IDs.
+
+[CURRENT ROLE]:
+A real, expiring lease on one of the 1024 node IDs ("<queue.node-id-key>:<n>"):
+  - acquire(): SET key owner NX PX ttl over 0..1023 (from a random start, so booting instances
+    don't all race for slot 0); the first key that was free is ours. All 1024 taken, or Redis
+    unreachable, fails the boot -- there is no fallback that could collide
+  - a heartbeat (every ttl / 3) extends the lease with a compare-and-PEXPIRE, so a slot is only
+    ever extended by the instance holding it
+  - isHeld(): false once the lease may have lapsed (no successful renewal for a whole TTL) or
+    another owner took the slot. TaskIdConfig stops minting IDs until it is held again
+  - release(): deletes the key (only if still ours) on shutdown, so the slot is free right away
+A crashed instance's slot frees itself after "queue.node-id-lease-ttl-ms".
+--------------------------------------------------------------------------------------------------
+*/
+public class NodeIdLease {
+    // Field(s):
+    private static final Logger logger = LoggerFactory.getLogger(NodeIdLease.class);
+    private static final int SLOTS = SnowflakeTaskIdGenerator.MAX_NODE_ID + 1;
+    private final StringRedisTemplate redis;
+    private final String keyPrefix;
+    private final long ttlMs;
+    private final String owner;
+    private final DefaultRedisScript<Long> renewScript;
+    private final DefaultRedisScript<Long> releaseScript;
+    private ScheduledExecutorService heartbeat;
+    private volatile int nodeId = -1;
+    private volatile long heldUntilNanos;   // local deadline: last successful SET/renew + ttl.
+    private volatile boolean lost;
+    // Constructor(s):
+    public NodeIdLease(StringRedisTemplate redis, String keyPrefix, long ttlMs) {
+        this.redis = redis;
+        this.keyPrefix = keyPrefix;
+        this.ttlMs = ttlMs;
+        this.owner = instanceName() + "-" + UUID.randomUUID();
+        this.renewScript = script("if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end");
+        this.releaseScript = script("if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end");
+    }
+
+    // Method(s):
+    public synchronized int acquire() {
+        int start = ThreadLocalRandom.current().nextInt(SLOTS);
+        for (int i = 0; i < SLOTS; i++) {
+            int n = (start + i) % SLOTS;
+            long attemptAt = System.nanoTime();
+            if (Boolean.TRUE.equals(redis.opsForValue().setIfAbsent(key(n), owner, Duration.ofMillis(ttlMs)))) {
+                nodeId = n;
+                heldUntilNanos = attemptAt + TimeUnit.MILLISECONDS.toNanos(ttlMs);
+                startHeartbeat();
+                logger.info("[NodeIdLease] leased node ID {} as {}", n, owner);
+                return n;
+            }
+        }
+        throw new IllegalStateException("all " + SLOTS + " Snowflake node IDs are leased -- set queue.node-id or free a slot");
+    }
+
+    public boolean isHeld() {
+        return nodeId >= 0 && !lost && System.nanoTime() < heldUntilNanos;
+    }
+
+    public int getNodeId() {
+        return nodeId;
+    }
+
+    // Run by the heartbeat; public so tests can drive it directly.
+    public void renew() {
+        long attemptAt = System.nanoTime();
+        try {
+            Long ok = redis.execute(renewScript, List.of(key(nodeId)), owner, Long.toString(ttlMs));
+            if (ok == null || ok == 0) {
+                // The key expired (long pause, Redis restart): take it back if nobody else has.
+                if (!Boolean.TRUE.equals(redis.opsForValue().setIfAbsent(key(nodeId), owner, Duration.ofMillis(ttlMs)))) {
+                    if (!lost) logger.error("[NodeIdLease] node ID {} was taken by another instance -- Task ID minting stopped", nodeId);
+                    lost = true;
+                    return;
+                }
+                logger.warn("[NodeIdLease] node ID {} had lapsed and was leased again", nodeId);
+            }
+            lost = false;
+            heldUntilNanos = attemptAt + TimeUnit.MILLISECONDS.toNanos(ttlMs);
+        } catch (Exception ex) {
+            // Still held until heldUntilNanos; isHeld() turns false if Redis stays out of reach past it.
+            logger.warn("[NodeIdLease] renewing node ID {} failed: {}", nodeId, ex.getMessage());
+        }
+    }
+
+    public synchronized void release() {
+        if (heartbeat != null) heartbeat.shutdownNow();
+        if (nodeId < 0 || lost) return;
+        try {
+            redis.execute(releaseScript, List.of(key(nodeId)), owner);
+        } catch (Exception ex) {
+            logger.warn("[NodeIdLease] releasing node ID {} failed, it frees itself in {} ms: {}", nodeId, ttlMs, ex.getMessage());
+        }
+    }
+
+    private void startHeartbeat() {
+        heartbeat = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "QS-NodeIdLease");
+            t.setDaemon(true);
+            return t;
+        });
+        long period = Math.max(1, ttlMs / 3);
+        heartbeat.scheduleWithFixedDelay(this::renew, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    private String key(int n) {
+        return keyPrefix + ":" + n;
+    }
+
+    private static DefaultRedisScript<Long> script(String lua) {
+        DefaultRedisScript<Long> s = new DefaultRedisScript<>();
+        s.setScriptText(lua);
+        s.setResultType(Long.class);
+        return s;
+    }
+
+    private static String instanceName() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "springqpro";
+        }
+        return host + "-" + ManagementFactory.getRuntimeMXBean().getPid();
+    }
+}
@@ -0,0 +1,76 @@
+package com.springqprobackend.springqpro.redis;
+
+import com.springqprobackend.springqpro.config.QueueProperties;
+import com.springqprobackend.springqpro.enums.TaskType;
+import com.springqprobackend.springqpro.runtime.TaskTypeBulkheads;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/* OverflowSpillList.java
+--------------------------------------------------------------------------------------------------
+[CURRENT ROLE]:
+Durable FIFO of Task IDs that arrived while their worker pool was full ("queue.overflow-policy: SPILL").
+One list per pool, like the dispatch streams: "queue.overflow-list-key" for the shared pool and
+"<queue.overflow-list-key>:<TYPE>" for each "queue.pools" TaskType, so OverflowDrainer can take exactly
+as many IDs as that pool has free workers. LPUSH on the way in (OverflowRejectionHandler), RPOP COUNT
+on the way out (OverflowDrainer), so the oldest spilled Task is re-dispatched first. Because it lives
+in Redis, a spilled Task survives the instance that spilled it, and any instance with free workers
+can drain it.
+--------------------------------------------------------------------------------------------------
+*/
+@Component
+public class OverflowSpillList {
+    // Field(s):
+    private final StringRedisTemplate redis;
+    private final QueueProperties props;
+    // Constructor(s):
+    public OverflowSpillList(StringRedisTemplate redis, QueueProperties props) {
+        this.redis = redis;
+        this.props = props;
+    }
+
+    // Method(s):
+    // List of one worker pool ("shared" or a TaskType name, as in TaskTypeBulkheads.statusByPool):
+    public String keyFor(String pool) {
+        return TaskTypeBulkheads.SHARED.equals(pool) ? props.getOverflowListKey() : props.getOverflowListKey() + ":" + pool;
+    }
+
+    public void push(String taskId) {
+        push(TaskTypeBulkheads.SHARED, taskId);
+    }
+
+    public void push(String pool, String taskId) {
+        redis.opsForList().leftPush(keyFor(pool), taskId);
+    }
+
+    // Oldest first.
+    public List<String> pop(String pool, int count) {
+        List<String> ids = redis.opsForList().rightPop(keyFor(pool), count);
+        return ids == null ? List.of() : ids;
+    }
+
+    // Puts popped IDs (oldest first, as pop returned them) back at the old end, so they're the next ones popped again.
+    public void restore(String pool, List<String> ids) {
+        if (ids.isEmpty()) return;
+        List<String> newestFirst = new ArrayList<>(ids);
+        Collections.reverse(newestFirst);
+        redis.opsForList().rightPushAll(keyFor(pool), newestFirst);
+    }
+
+    // Summed over every pool's list.
+    public long size() {
+        long total = 0;
+        total += size(TaskTypeBulkheads.SHARED);
+        for (TaskType type : props.getPools().keySet()) total += size(type.name());
+        return total;
+    }
+
+    public long size(String pool) {
+        Long n = redis.opsForList().size(keyFor(pool));
+        return n == null ? 0 : n;
+    }
+}
@@ -0,0 +1,92 @@
+package com.springqprobackend.springqpro.redis;
+
+import com.springqprobackend.springqpro.config.QueueProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+
+/* RetryDelayQueue.java
+--------------------------------------------------------------------------------------------------
+[HISTORY]:
+Retries used to be a scheduler.schedule(() -> enqueueById(id), backoff) on the in-memory "schedExec"
+pool. A restart during the backoff dropped the ScheduledFuture, and the Task was never run again.
+Every pending retry also held a ScheduledFuture on the heap.
+
+[CURRENT ROLE]:
+Durable delay queue for "queue.retry-scheduler: REDIS":
+  - schedule(): ZADD taskId with score = due-time (epoch ms)
+  - claimDue(): Lua script that reads up to N members with score <= now and, in the same call, pushes
+                their score out to now + "queue.retry-claim-timeout-ms" (claimedUntil). Each due Task
+                is handed to exactly one instance even when several are polling, but it stays in the
+                ZSET until it's acked
+  - ack():      ZREM, but only if the score is still that claim's claimedUntil
+RetryPoller drains it and ProcessingService.releaseRetry re-dispatches each claimed ID, then acks it.
+A release that throws, or a JVM that dies mid-release, leaves the member claimed: it comes due again
+once the claim times out and is released again (releaseRetry is a no-op for a row that's no longer
+FAILED). The score check in ack() keeps it from removing a newer schedule() of the same Task (the
+released run failed again) or a claim another instance has taken over since.
+ZADD on an existing member just moves its due-time, so scheduling the same Task twice can't duplicate it.
+--------------------------------------------------------------------------------------------------
+*/
+@Component
+public class RetryDelayQueue {
+    // Field(s):
+    private static final Logger logger = LoggerFactory.getLogger(RetryDelayQueue.class);
+    private final StringRedisTemplate redis;
+    private final QueueProperties props;
+    private final DefaultRedisScript<List> claimDueScript;
+    private final DefaultRedisScript<Long> ackScript;
+
+    public record Claim(List<String> ids, long claimedUntil) { }
+    // Constructor(s):
+    public RetryDelayQueue(StringRedisTemplate redis, QueueProperties props) {
+        this.redis = redis;
+        this.props = props;
+        // KEYS[1] = zset, ARGV[1] = now (ms), ARGV[2] = max batch, ARGV[3] = claimedUntil -> returns the claimed members.
+        String claimLua =
+                "local ids = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2])) " +
+                "for _, id in ipairs(ids) do redis.call('ZADD', KEYS[1], 'XX', ARGV[3], id) end " +
+                "return ids";
+        claimDueScript = new DefaultRedisScript<>();
+        claimDueScript.setScriptText(claimLua);
+        claimDueScript.setResultType(List.class);
+        // KEYS[1] = zset, ARGV[1] = taskId, ARGV[2] = claimedUntil -> 1 if removed.
+        String ackLua =
+                "local score = redis.call('ZSCORE', KEYS[1], ARGV[1]) " +
+                "if score and tonumber(score) == tonumber(ARGV[2]) then return redis.call('ZREM', KEYS[1], ARGV[1]) end " +
+                "return 0";
+        ackScript = new DefaultRedisScript<>();
+        ackScript.setScriptText(ackLua);
+        ackScript.setResultType(Long.class);
+    }
+
+    // Method(s):
+    public void schedule(String taskId, long dueAtEpochMs) {
+        redis.opsForZSet().add(props.getRetryZsetKey(), taskId, dueAtEpochMs);
+        logger.info("[RetryDelayQueue] ZADD {} due={}", taskId, dueAtEpochMs);
+    }
+
+    @SuppressWarnings("unchecked")
+    public Claim claimDue(long nowEpochMs, int limit) {
+        long claimedUntil = nowEpochMs + props.getRetryClaimTimeoutMs();
+        List<String> ids = redis.execute(claimDueScript, Collections.singletonList(props.getRetryZsetKey()),
+                String.valueOf(nowEpochMs), String.valueOf(limit), String.valueOf(claimedUntil));
+        return new Claim(ids == null ? List.of() : ids, claimedUntil);
+    }
+
+    // Once the release went through. false: re-scheduled or re-claimed in the meantime, so that entry is left alone.
+    public boolean ack(String taskId, long claimedUntil) {
+        Long removed = redis.execute(ackScript, Collections.singletonList(props.getRetryZsetKey()), taskId, String.valueOf(claimedUntil));
+        return removed != null && removed > 0;
+    }
+
+    public long size() {
+        Long n = redis.opsForZSet().zCard(props.getRetryZsetKey());
+        return n == null ? 0 : n;
+    }
+}
@@ -0,0 +1,258 @@
+package com.springqprobackend.springqpro.redis;
+
+import com.springqprobackend.springqpro.config.QueueProperties;
+import com.springqprobackend.springqpro.domain.entity.TaskEntity;
+import com.springqprobackend.springqpro.enums.TaskType;
+import com.springqprobackend.springqpro.runtime.TaskTypeBulkheads;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.*;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/* TaskDispatchStream.java
+--------------------------------------------------------------------------------------------------
+[HISTORY]:
+In EVENT mode, TaskCreatedListener hands Task IDs straight to the local ExecutorService. Anything
+sitting in that executor's queue is lost if the node dies, and only the node that created a Task
+can ever run it.
+
+[CURRENT ROLE]:
+Thin wrapper around the Redis Streams used by DispatchMode.STREAM. There is one stream per worker pool:
+"queue.stream-key" for the shared pool, "<queue.stream-key>:<TYPE>" for each "queue.pools" TaskType, so a
+consumer can read exactly as many entries as that pool has free workers (see TaskTypeBulkheads).
+  - publish(): XADD taskId (+ its TaskType and priority, so the consumer can route it without a DB read)
+    onto its pool's stream, called from QueueService.dispatch after the creating transaction commits
+  - publishAll(): the same XADDs for a whole createTasks batch, pipelined
+  - read():    XREADGROUP on one pool's stream for this instance's consumer in "queue.stream-group"
+  - ack():     XACK once ProcessingService.claimAndProcess has run to completion
+  - reclaimStale(): XPENDING + XCLAIM of entries whose consumer went quiet for "queue.stream-reclaim-idle-ms"
+  - isDrained(): whether the group has been handed every entry of a stream (StreamRepublisher's guard)
+An entry stays in the group's Pending Entries List until it is acked, so a crashed node's work is picked
+up by whichever instance reclaims it next. Entries published without a type land on the shared stream.
+
+[NOTES]:
+Spring Data Redis has no XAUTOCLAIM API, so reclaimStale() does the XPENDING + XCLAIM pair instead, paging
+through the PEL from the last ID it saw (like XAUTOCLAIM's cursor) until it has its count or the PEL runs
+out, so stale entries behind a page of live ones are still found. XCLAIM re-checks the min-idle-time on the
+server, so two instances reclaiming at once can't both win an entry.
+--------------------------------------------------------------------------------------------------
+*/
+@Component
+public class TaskDispatchStream {
+    // Field(s):
+    private static final Logger logger = LoggerFactory.getLogger(TaskDispatchStream.class);
+    private static final int PENDING_PAGE = 100;    // XPENDING entries looked at per round trip in reclaimStale.
+    public static final String TASK_ID_FIELD = "taskId";
+    public static final String TASK_TYPE_FIELD = "type";
+    public static final String TASK_PRIORITY_FIELD = "priority";
+    private final StringRedisTemplate redis;
+    private final QueueProperties props;
+    private final String consumerName;
+    // Constructor(s):
+    public TaskDispatchStream(StringRedisTemplate redis, QueueProperties props) {
+        this.redis = redis;
+        this.props = props;
+        String configured = props.getStreamConsumer();
+        this.consumerName = (configured == null || configured.isBlank()) ? defaultConsumerName() : configured;
+    }
+
+    // Method(s):
+    // Stream of one worker pool ("shared" or a TaskType name, as in TaskTypeBulkheads.statusByPool):
+    public String keyFor(String pool) {
+        return TaskTypeBulkheads.SHARED.equals(pool) ? props.getStreamKey() : props.getStreamKey() + ":" + pool;
+    }
+
+    // Stream a Task of this type is published to; null (unknown type) goes to the shared stream.
+    public String keyFor(TaskType type) {
+        return (type != null && props.getPools().containsKey(type)) ? keyFor(type.name()) : props.getStreamKey();
+    }
+
+    // Every pool's stream, shared first.
+    public List<String> keys() {
+        List<String> keys = new ArrayList<>();
+        keys.add(props.getStreamKey());
+        props.getPools().keySet().forEach(type -> keys.add(keyFor(type.name())));
+        return keys;
+    }
+
+    // XGROUP CREATE ... MKSTREAM from the beginning of each stream; BUSYGROUP just means another instance got there first.
+    public void ensureGroup() {
+        for (String key : keys()) {
+            try {
+                redis.opsForStream().createGroup(key, ReadOffset.from("0"), props.getStreamGroup());
+                logger.info("[TaskDispatchStream] created consumer group {} on {}", props.getStreamGroup(), key);
+            } catch (RedisSystemException ex) {
+                if (!rootMessage(ex).contains("BUSYGROUP")) throw ex;
+            }
+        }
+    }
+
+    public RecordId publish(String taskId) {
+        return publish(taskId, null, 0);
+    }
+
+    public RecordId publish(String taskId, TaskType type, int priority) {
+        RecordId id = redis.opsForStream().add(record(taskId, type, priority), xaddOptions());
+        logger.info("[TaskDispatchStream] XADD {} -> {}", taskId, id);
+        return id;
+    }
+
+    public void publishAll(List<TaskEntity> tasks) {
+        if (tasks.isEmpty()) return;
+        redis.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                StreamOperations<String, Object, Object> ops = (StreamOperations<String, Object, Object>) operations.opsForStream();
+                for (TaskEntity t : tasks) ops.add(record(t.getId(), t.getType(), t.getPriority()), xaddOptions());
+                return null;
+            }
+        });
+        logger.info("[TaskDispatchStream] XADD x{} (pipelined)", tasks.size());
+    }
+
+    private MapRecord<String, String, String> record(String taskId, TaskType type, int priority) {
+        Map<String, String> fields = (type == null) ? Map.of(TASK_ID_FIELD, taskId)
+                : Map.of(TASK_ID_FIELD, taskId, TASK_TYPE_FIELD, type.name(), TASK_PRIORITY_FIELD, Integer.toString(priority));
+        return StreamRecords.newRecord()
+                .in(keyFor(type))
+                .ofMap(fields);
+    }
+
+    private XAddOptions xaddOptions() {
+        return XAddOptions.maxlen(props.getStreamMaxLength()).approximateTrimming(true);
+    }
+
+    // Up to count new entries from one pool's stream, without blocking.
+    // StreamOperations.read takes StreamOffset<K>... and can't be @SafeVarargs (interface method); the one-element array it builds is only read.
+    @SuppressWarnings("unchecked")
+    public List<MapRecord<String, Object, Object>> read(String key, int count) {
+        return redis.opsForStream().read(
+                Consumer.from(props.getStreamGroup(), consumerName),
+                StreamReadOptions.empty().count(count),
+                StreamOffset.create(key, ReadOffset.lastConsumed()));
+    }
+
+    /* Blocks up to "queue.stream-block-ms" until any of these streams has something, then returns at most ONE entry per
+    stream (COUNT applies per stream) -- so it never hands a pool more than the one free slot it was known to have.
+    Generic arrays can't be created, so the offsets array is raw; it's only read. */
+    @SuppressWarnings("unchecked")
+    public List<MapRecord<String, Object, Object>> awaitAny(List<String> keys) {
+        StreamOffset<String>[] offsets = keys.stream()
+                .map(key -> StreamOffset.create(key, ReadOffset.lastConsumed()))
+                .toArray(StreamOffset[]::new);
+        return redis.opsForStream().read(
+                Consumer.from(props.getStreamGroup(), consumerName),
+                StreamReadOptions.empty().count(1).block(Duration.ofMillis(props.getStreamBlockMs())),
+                offsets);
+    }
+
+    public void ack(String key, RecordId recordId) {
+        redis.opsForStream().acknowledge(key, props.getStreamGroup(), recordId);
+    }
+
+    /* Takes over up to count entries of one pool's stream that have been pending (delivered, never acked) for at least minIdle.
+    Pages through the whole PEL if it has to: a dead node's entries can sit behind any number of live, in-flight ones. */
+    public List<MapRecord<String, Object, Object>> reclaimStale(String key, int count, Duration minIdle) {
+        List<MapRecord<String, Object, Object>> claimed = new ArrayList<>();
+        StreamOperations<String, Object, Object> ops = redis.opsForStream();
+        Range<String> range = Range.unbounded();
+        while (claimed.size() < count) {
+            PendingMessages page = ops.pending(key, props.getStreamGroup(), range, PENDING_PAGE);
+            RecordId[] stale = page.stream()
+                    .filter(p -> p.getElapsedTimeSinceLastDelivery().compareTo(minIdle) >= 0)
+                    .map(PendingMessage::getId)
+                    .limit(count - claimed.size())
+                    .toArray(RecordId[]::new);
+            if (stale.length > 0) claimed.addAll(ops.claim(key, props.getStreamGroup(), consumerName, minIdle, stale));
+            if (page.size() < PENDING_PAGE) break;
+            RecordId last = page.get(page.size() - 1).getId();
+            range = Range.rightUnbounded(Range.Bound.inclusive(RecordId.of(last.getTimestamp(), last.getSequence() + 1).getValue()));
+        }
+        if (!claimed.isEmpty()) logger.warn("[TaskDispatchStream] reclaimed {} stale entries of {} for {}", claimed.size(), key, consumerName);
+        return claimed;
+    }
+
+    // true once the group's last-delivered ID has caught up with the newest entry: nothing on this stream is still waiting to be read.
+    public boolean isDrained(String key) {
+        String lastGenerated = redis.opsForStream().info(key).lastGeneratedId();
+        return redis.opsForStream().groups(key).stream()
+                .filter(g -> props.getStreamGroup().equals(g.groupName()))
+                .anyMatch(g -> compare(RecordId.of(g.lastDeliveredId()), RecordId.of(lastGenerated)) >= 0);
+    }
+
+    private static int compare(RecordId a, RecordId b) {
+        int byTime = Long.compare(a.getTimestamp(), b.getTimestamp());
+        return byTime != 0 ? byTime : Long.compare(a.getSequence(), b.getSequence());
+    }
+
+    // Summed over every pool's stream.
+    public long pendingCount() {
+        long total = 0;
+        for (String key : keys()) {
+            PendingMessagesSummary summary = redis.opsForStream().pending(key, props.getStreamGroup());
+            if (summary != null) total += summary.getTotalPendingMessages();
+        }
+        return total;
+    }
+
+    public String getConsumerName() {
+        return consumerName;
+    }
+
+    public static String taskIdOf(MapRecord<String, Object, Object> record) {
+        Object v = record.getValue().get(TASK_ID_FIELD);
+        return v == null ? null : v.toString();
+    }
+
+    // null for entries published without a type (or an unknown one) -- QueueService then looks it up.
+    public static TaskType typeOf(MapRecord<String, Object, Object> record) {
+        Object v = record.getValue().get(TASK_TYPE_FIELD);
+        if (v == null) return null;
+        try {
+            return TaskType.valueOf(v.toString());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    public static int priorityOf(MapRecord<String, Object, Object> record) {
+        Object v = record.getValue().get(TASK_PRIORITY_FIELD);
+        if (v == null) return 0;
+        try {
+            return Integer.parseInt(v.toString());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static String defaultConsumerName() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "springqpro";
+        }
+        return host + "-" + ManagementFactory.getRuntimeMXBean().getPid();
+    }
+
+    private static String rootMessage(Throwable t) {
+        Throwable root = t;
+        while (root.getCause() != null) root = root.getCause();
+        return String.valueOf(root.getMessage()) + " " + t.getMessage();
+    }
+}
@@ -0,0 +1,179 @@
+package com.springqprobackend.springqpro.redis;
+
+import com.springqprobackend.springqpro.domain.entity.TaskEntity;
+import com.springqprobackend.springqpro.enums.TaskStatus;
+import com.springqprobackend.springqpro.enums.TaskType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+
+/* TaskEntityCodec.java
+--------------------------------------------------------------------------------------------------
+[HISTORY]:
+Cached Tasks used to go through GenericJackson2JsonRedisSerializer with default typing. That wrote
+the class name into every value, plus field names and ISO-8601 date strings. Every GET allocated a
+JSON tree's worth of garbage, and TaskRedisRepository had to instanceof-check whatever came back.
+
+[CURRENT ROLE]:
+Value serializer for the "task:<id>" keys (taskRedisTemplate in TaskCacheConfig). Compact,
+versioned binary layout:
+    [format version: 1 byte][presence flags: 1 byte]
+    id                      varint length + UTF-8
+    type, status            1 byte each: enum ordinal
+    attempts, maxRetries,
+    priority                zig-zag varints
+    then only the fields whose presence flag is set, in flag order:
+    payload, createdBy      varint length + UTF-8
+    createdAt, claimedAt,
+    leaseUntil              zig-zag varlong epoch millis
+    version                 zig-zag varlong
+Instants keep millisecond precision; the sub-millisecond part Postgres stores isn't cached.
+A value that isn't this format (unknown version, leftover JSON from before this codec, or
+truncated) decodes to null. TaskRedisRepository treats that as a miss and re-caches the row.
+
+[NOTES]:
+Enums are written as ordinals, so new TaskType/TaskStatus constants must be APPENDED. Reordering
+or removing one needs a FORMAT_VERSION bump.
+--------------------------------------------------------------------------------------------------
+*/
+public class TaskEntityCodec implements RedisSerializer<TaskEntity> {
+    // Field(s):
+    private static final Logger logger = LoggerFactory.getLogger(TaskEntityCodec.class);
+    public static final byte FORMAT_VERSION = 1;
+    private static final int HAS_PAYLOAD = 1, HAS_CREATED_BY = 1 << 1, HAS_CREATED_AT = 1 << 2, HAS_CLAIMED_AT = 1 << 3,
+            HAS_LEASE_UNTIL = 1 << 4, HAS_VERSION = 1 << 5;
+    private static final byte NULL_ENUM = (byte) 0xFF;
+    private static final TaskType[] TYPES = TaskType.values();
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    // Method(s):
+    @Override
+    public byte[] serialize(TaskEntity t) {
+        if (t == null) return null;
+        byte[] id = t.getId().getBytes(StandardCharsets.UTF_8);
+        byte[] payload = t.getPayload() == null ? null : t.getPayload().getBytes(StandardCharsets.UTF_8);
+        byte[] createdBy = t.getCreatedBy() == null ? null : t.getCreatedBy().getBytes(StandardCharsets.UTF_8);
+        int flags = (payload != null ? HAS_PAYLOAD : 0) | (createdBy != null ? HAS_CREATED_BY : 0)
+                | (t.getCreatedAt() != null ? HAS_CREATED_AT : 0) | (t.getClaimedAt() != null ? HAS_CLAIMED_AT : 0)
+                | (t.getLeaseUntil() != null ? HAS_LEASE_UNTIL : 0) | (t.getVersion() != null ? HAS_VERSION : 0);
+
+        Writer w = new Writer(32 + id.length + (payload == null ? 0 : payload.length) + (createdBy == null ? 0 : createdBy.length));
+        w.put(FORMAT_VERSION);
+        w.put((byte) flags);
+        w.bytes(id);
+        w.put(t.getType() == null ? NULL_ENUM : (byte) t.getType().ordinal());
+        w.put(t.getStatus() == null ? NULL_ENUM : (byte) t.getStatus().ordinal());
+        w.varlong(zigzag(t.getAttempts()));
+        w.varlong(zigzag(t.getMaxRetries()));
+        w.varlong(zigzag(t.getPriority()));
+        if (payload != null) w.bytes(payload);
+        if (createdBy != null) w.bytes(createdBy);
+        if (t.getCreatedAt() != null) w.varlong(zigzag(t.getCreatedAt().toEpochMilli()));
+        if (t.getClaimedAt() != null) w.varlong(zigzag(t.getClaimedAt().toEpochMilli()));
+        if (t.getLeaseUntil() != null) w.varlong(zigzag(t.getLeaseUntil().toEpochMilli()));
+        if (t.getVersion() != null) w.varlong(zigzag(t.getVersion()));
+        return w.toByteArray();
+    }
+
+    @Override
+    public TaskEntity deserialize(byte[] bytes) {
+        if (bytes == null || bytes.length < 2 || bytes[0] != FORMAT_VERSION) return null;
+        try {
+            Reader r = new Reader(bytes);
+            r.pos = 1;
+            int flags = r.get();
+            String id = r.string();
+            TaskType type = enumAt(TYPES, r.get());
+            TaskStatus status = enumAt(STATUSES, r.get());
+            int attempts = (int) unzigzag(r.varlong());
+            int maxRetries = (int) unzigzag(r.varlong());
+            int priority = (int) unzigzag(r.varlong());
+            String payload = (flags & HAS_PAYLOAD) != 0 ? r.string() : null;
+            String createdBy = (flags & HAS_CREATED_BY) != 0 ? r.string() : null;
+            Instant createdAt = (flags & HAS_CREATED_AT) != 0 ? Instant.ofEpochMilli(unzigzag(r.varlong())) : null;
+
+            TaskEntity t = new TaskEntity(id, payload, type, status, attempts, maxRetries, createdAt, createdBy);
+            t.setPriority(priority);
+            if ((flags & HAS_CLAIMED_AT) != 0) t.setClaimedAt(Instant.ofEpochMilli(unzigzag(r.varlong())));
+            if ((flags & HAS_LEASE_UNTIL) != 0) t.setLeaseUntil(Instant.ofEpochMilli(unzigzag(r.varlong())));
+            if ((flags & HAS_VERSION) != 0) t.setVersion(unzigzag(r.varlong()));
+            return t;
+        } catch (RuntimeException ex) {
+            logger.warn("[TaskEntityCodec] unreadable cached Task ({} bytes) -- treating as a miss: {}", bytes.length, ex.toString());
+            return null;
+        }
+    }
+
+    private static <E> E enumAt(E[] values, int ordinal) {
+        if (ordinal == (NULL_ENUM & 0xFF)) return null;
+        if (ordinal >= values.length) throw new IllegalStateException("unknown enum ordinal " + ordinal);
+        return values[ordinal];
+    }
+
+    private static long zigzag(long v) {
+        return (v << 1) ^ (v >> 63);
+    }
+    private static long unzigzag(long v) {
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    // Minimal growable buffer -- ByteArrayOutputStream is synchronized and DataOutputStream can't do varints.
+    private static final class Writer {
+        private byte[] buf;
+        private int pos;
+        Writer(int initialCapacity) {
+            buf = new byte[initialCapacity];
+        }
+        void put(byte b) {
+            if (pos == buf.length) buf = Arrays.copyOf(buf, buf.length * 2);
+            buf[pos++] = b;
+        }
+        void varlong(long v) {
+            while ((v & ~0x7FL) != 0) {
+                put((byte) ((v & 0x7F) | 0x80));
+                v >>>= 7;
+            }
+            put((byte) v);
+        }
+        void bytes(byte[] b) {
+            varlong(b.length);
+            if (pos + b.length > buf.length) buf = Arrays.copyOf(buf, Math.max(buf.length * 2, pos + b.length));
+            System.arraycopy(b, 0, buf, pos, b.length);
+            pos += b.length;
+        }
+        byte[] toByteArray() {
+            return pos == buf.length ? buf : Arrays.copyOf(buf, pos);
+        }
+    }
+
+    private static final class Reader {
+        private final byte[] buf;
+        private int pos;
+        Reader(byte[] buf) {
+            this.buf = buf;
+        }
+        int get() {
+            return buf[pos++] & 0xFF;
+        }
+        long varlong() {
+            long v = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = get();
+                v |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) return v;
+            }
+            throw new IllegalStateException("malformed varint");
+        }
+        String string() {
+            int len = (int) varlong();
+            if (len < 0 || pos + len > buf.length) throw new IllegalStateException("string runs past the end");
+            String s = new String(buf, pos, len, StandardCharsets.UTF_8);
+            pos += len;
+            return s;
+        }
+    }
+}
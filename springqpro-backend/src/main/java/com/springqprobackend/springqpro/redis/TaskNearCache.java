@@ -0,0 +1,162 @@
+package com.springqprobackend.springqpro.redis;
+
+import com.springqprobackend.springqpro.domain.entity.TaskEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/* TaskNearCache.java
+--------------------------------------------------------------------------------------------------
+[HISTORY]:
+Every TaskService.getTask went to Redis, even when the dashboard polled the same hot Task a few
+times a second.
+
+[CURRENT ROLE]:
+L1 in front of Redis (L2), used only by TaskRedisRepository:
+  - size-bounded ("cache.task.near.max-entries", LRU eviction) and TTL-bounded
+    ("cache.task.near.ttl-ms", expire-after-write)
+  - filled on reads only (an L2 hit). Writes just invalidate, so write-heavy paths (claims, outcome
+    flushes) don't churn hot entries out or pay for an extra encode
+  - holds TaskEntityCodec bytes, not the entity. Every get() hands out a fresh TaskEntity, so a caller
+    mutating its copy can't corrupt the cached one
+Cross-node invalidation: TaskRedisRepository pipelines a PUBLISH on INVALIDATION_CHANNEL together
+with every SET/DEL, carrying "<origin instance>|id,id,...". Every instance subscribes (listener
+container in TaskCacheConfig) and drops those IDs. An instance ignores its own messages because it
+already invalidated locally.
+
+[NOTES]:
+A read that fetched the old L2 value just before a write must not fill L1 after that write's
+invalidation. Every invalidate() bumps a generation for the ID; readers sample it (generation()) before
+going to L2 and hand it to fill(), which drops the value if it moved in between. Generations are striped
+(GENERATION_STRIPES slots keyed by ID hash) so they stay bounded -- two IDs sharing a slot only cost a
+skipped fill, never a stale one.
+Pub/sub is still fire-and-forget: a message missed during a reconnect can leave an entry stale. The TTL
+caps how long that lasts, so keep it short (seconds, not minutes).
+The hit ratio is lifetime-cumulative: hits / (hits + misses) since startup.
+Caffeine isn't a dependency here, so this is a synchronized access-ordered LinkedHashMap. At
+dashboard read rates the single lock is not a bottleneck.
+--------------------------------------------------------------------------------------------------
+*/
+public class TaskNearCache implements MessageListener {
+    // Field(s):
+    private static final Logger logger = LoggerFactory.getLogger(TaskNearCache.class);
+    public static final String INVALIDATION_CHANNEL = "springqpro:cache:task:invalidate";
+    private static final int GENERATION_STRIPES = 1024;
+    private final TaskEntityCodec codec = new TaskEntityCodec();
+    private final String instanceId = UUID.randomUUID().toString();
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private final Map<String, Entry> entries;   // guarded by itself
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);   // bumped under the entries lock
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    private record Entry(byte[] value, long expiresAtNanos) { }
+
+    // Constructor(s):
+    public TaskNearCache(boolean enabled, int maxEntries, long ttlMs) {
+        this(enabled, maxEntries, ttlMs, System::nanoTime);
+    }
+    public TaskNearCache(boolean enabled, int maxEntries, long ttlMs, LongSupplier nanoClock) {
+        this.enabled = enabled && maxEntries > 0 && ttlMs > 0;
+        this.ttlNanos = ttlMs * 1_000_000L;
+        this.nanoClock = nanoClock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    // Method(s):
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public TaskEntity get(String id) {
+        if (!enabled) return null;
+        Entry e;
+        synchronized (entries) {
+            e = entries.get(id);
+            if (e != null && nanoClock.getAsLong() - e.expiresAtNanos() >= 0) {
+                entries.remove(id);
+                e = null;
+            }
+        }
+        if (e == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return codec.deserialize(e.value());
+    }
+
+    private static int stripe(String id) {
+        return Math.floorMod(id.hashCode(), GENERATION_STRIPES);
+    }
+
+    // Sample BEFORE the L2 read, then pass it to fill().
+    public long generation(String id) {
+        return enabled ? generations.get(stripe(id)) : 0L;
+    }
+
+    // Called with what L2 just returned, and the generation sampled before asking for it.
+    public void fill(TaskEntity entity, long generation) {
+        if (!enabled || entity == null || entity.getId() == null) return;
+        Entry e = new Entry(codec.serialize(entity), nanoClock.getAsLong() + ttlNanos);
+        synchronized (entries) {
+            if (generations.get(stripe(entity.getId())) != generation) return;     // invalidated since the read: the value may predate that write.
+            entries.put(entity.getId(), e);
+        }
+    }
+
+    public void invalidate(Collection<String> ids) {
+        if (!enabled || ids.isEmpty()) return;
+        synchronized (entries) {
+            for (String id : ids) {
+                generations.incrementAndGet(stripe(id));
+                entries.remove(id);
+            }
+        }
+    }
+
+    // Payload for the PUBLISH that TaskRedisRepository pipelines alongside its SET/DEL.
+    public byte[] invalidationMessage(Collection<String> ids) {
+        return (instanceId + "|" + String.join(",", ids)).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int sep = body.indexOf('|');
+        if (sep < 0 || body.substring(0, sep).equals(instanceId)) return;
+        String ids = body.substring(sep + 1);
+        if (ids.isEmpty()) return;
+        invalidate(Arrays.asList(ids.split(",")));
+        logger.debug("[TaskNearCache] remote invalidation of {} Task(s)", ids.split(",").length);
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public double hitRatio() {
+        long h = hits.get(), total = h + misses.get();
+        return total == 0 ? 0.0 : (double) h / total;
+    }
+}
@@ -1,12 +1,23 @@
 package com.springqprobackend.springqpro.redis;
 
 import com.springqprobackend.springqpro.domain.entity.TaskEntity;
+import io.micrometer.core.instrument.Counter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Repository;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /* TaskRedisRepository.java
 --------------------------------------------------------------------------------------------------
@@ -15,6 +26,21 @@ objects used to accelerate the retrieval of recently processed tasks and offload
 It's not really part of the core processing pipeline and more of an overall system performance enhancer.
 (Caching TaskEntity, the DataBase representation of our Tasks, rather than the domain in-memory Task is
 appropriate too fitting DDD: "cache the authoritative persisted shape").
+Values are TaskEntityCodec's compact binary encoding (taskRedisTemplate in TaskCacheConfig), not JSON.
+
+Multi-key operations (so list reads can go through the cache too, see TaskService.readThrough):
+- getAll(): one MGET for any number of IDs; reports hits + misses per call (and to the
+  springqpro_cache_hits_total / springqpro_cache_misses_total counters)
+- putAll(): pipelined SET ... EX (one round trip)
+- deleteAll(): one multi-key DEL
+
+Two tiers: TaskNearCache (in-process L1) answers first; Redis (L2) only sees L1 misses, and L2 hits
+fill L1. Every write (put/putAll/delete/deleteAll) drops the IDs from L1 and PUBLISHes an
+invalidation for the other instances in the same pipeline as its SET/DEL, so no extra round trip.
+put/putAll also re-file each Task in its owner's TaskStatusBuckets in that same pipeline, and announce
+it as a transition on TaskUpdateBus. refill() is the read-through variant: it caches and re-files rows
+that were just LOADED, which changes nothing, so it doesn't announce.
+springqpro_cache_hits_total / springqpro_cache_misses_total count L2 lookups only.
 
 [FUTURE WORK]:
 - Redis Streams for Task Event logs in preparation for CloudQueue, probably.
@@ -25,12 +51,29 @@ public class TaskRedisRepository {
     // Field(s):
     private static final Logger logger = LoggerFactory.getLogger(TaskRedisRepository.class);
     private static final String TASK_KEY_PREFIX = "task:";
-    private final RedisTemplate<String, Object> redis;
+    private static final byte[] INVALIDATION_CHANNEL = TaskNearCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8);
+    private final RedisTemplate<String, TaskEntity> redis;
+    private final TaskNearCache nearCache;
+    private final TaskStatusBuckets buckets;
     private final Duration ttl;
+    private final Counter cacheHitCounter;
+    private final Counter cacheMissCounter;
+
+    // Result of one getAll(): hits keyed by ID (in request order) + the IDs that weren't cached.
+    public record Lookup(Map<String, TaskEntity> hits, List<String> misses) {
+        public int hitCount() { return hits.size(); }
+        public int missCount() { return misses.size(); }
+    }
+
     // Constructor(s):
-    public TaskRedisRepository(RedisTemplate<String, Object> redis, @Value("${cache.task.ttl-seconds:600}") long ttlSeconds) {
+    public TaskRedisRepository(RedisTemplate<String, TaskEntity> redis, TaskNearCache nearCache, TaskStatusBuckets buckets, @Value("${cache.task.ttl-seconds:600}") long ttlSeconds,
+                               Counter cacheHitCounter, Counter cacheMissCounter) {
         this.redis = redis;
+        this.nearCache = nearCache;
+        this.buckets = buckets;
         this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.cacheHitCounter = cacheHitCounter;
+        this.cacheMissCounter = cacheMissCounter;
     }
     // Method(s):
     private String key(String id) {
@@ -40,20 +83,131 @@ public class TaskRedisRepository {
     public void put(TaskEntity entity) {
         if(entity == null || entity.getId() == null) return;
         logger.info("[TaskRedisRepository](aka RedisCache) PUT {}", entity.getId());
-        redis.opsForValue().set(key(entity.getId()), entity, ttl);
+        write(List.of(entity), true);
+    }
+
+    // Bulk creation / list read-through / write-behind flushes: every SET goes out in one pipeline (one round trip instead of one per Task).
+    public void putAll(Collection<TaskEntity> entities) {
+        if (entities.isEmpty()) return;
+        logger.info("[TaskRedisRepository](aka RedisCache) PUT x{} (pipelined)", entities.size());
+        write(entities, true);
+    }
+
+    // Read-through: rows just loaded from Postgres (a cache miss), not a state change.
+    public void refill(TaskEntity entity) {
+        if(entity == null || entity.getId() == null) return;
+        refill(List.of(entity));
+    }
+    public void refill(Collection<TaskEntity> entities) {
+        if (entities.isEmpty()) return;
+        logger.info("[TaskRedisRepository](aka RedisCache) REFILL x{}", entities.size());
+        write(entities, false);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void write(Collection<TaskEntity> entities, boolean announce) {
+        RedisSerializer<String> keys = (RedisSerializer<String>) redis.getKeySerializer();
+        RedisSerializer<TaskEntity> values = (RedisSerializer<TaskEntity>) redis.getValueSerializer();
+        List<String> ids = new ArrayList<>(entities.size());
+        for (TaskEntity entity : entities) {
+            if (entity != null && entity.getId() != null) ids.add(entity.getId());
+        }
+        try {
+            redis.executePipelined((RedisCallback<Object>) connection -> {
+                for (TaskEntity entity : entities) {
+                    if (entity == null || entity.getId() == null) continue;
+                    connection.stringCommands().set(keys.serialize(key(entity.getId())), values.serialize(entity), Expiration.from(ttl), RedisStringCommands.SetOption.upsert());
+                }
+                buckets.appendMoves(connection, entities, announce);
+                if (nearCache.isEnabled() && !ids.isEmpty()) connection.publish(INVALIDATION_CHANNEL, nearCache.invalidationMessage(ids));
+                return null;
+            });
+        } finally {
+            nearCache.invalidate(ids);  // even if Redis failed: this node's L1 must not keep serving the old copy.
+        }
     }
 
     public TaskEntity get(String id) {
-        Object o = redis.opsForValue().get(key(id));
-        if(o == null || !(o instanceof TaskEntity)) return null;    // DEBUG: Maybe add logs too or something.
-        if(o instanceof TaskEntity) return (TaskEntity) o;
-        logger.info("[TaskRedisRepository](aka RedisCache) GET {}", id);
-        return null;
+        TaskEntity near = nearCache.get(id);
+        if (near != null) return near;
+        long generation = nearCache.generation(id);
+        // null on a miss -- and on a value TaskEntityCodec can't read (e.g. old JSON-era entries), which the next put() overwrites.
+        TaskEntity cached = redis.opsForValue().get(key(id));
+        (cached != null ? cacheHitCounter : cacheMissCounter).increment();
+        nearCache.fill(cached, generation);
+        return cached;
+    }
+
+    /* L1 first, then one MGET for the rest. If Redis is unreachable every L1 miss counts as a miss -- list reads then
+    simply fall back to Postgres instead of failing (the single-key get() has never had that problem: nothing lists
+    through it). */
+    public Lookup getAll(Collection<String> ids) {
+        Map<String, TaskEntity> hits = new LinkedHashMap<>();
+        List<String> misses = new ArrayList<>();
+        if (ids.isEmpty()) return new Lookup(hits, misses);
+        List<String> idList = new ArrayList<>(ids);
+        Map<String, TaskEntity> near = new LinkedHashMap<>();
+        List<String> remote = new ArrayList<>();
+        for (String id : idList) {
+            TaskEntity t = nearCache.get(id);
+            if (t != null) near.put(id, t);
+            else remote.add(id);
+        }
+        long[] generations = new long[remote.size()];
+        for (int i = 0; i < remote.size(); i++) generations[i] = nearCache.generation(remote.get(i));
+        List<TaskEntity> values = null;
+        if (!remote.isEmpty()) {
+            try {
+                values = redis.opsForValue().multiGet(remote.stream().map(this::key).toList());
+            } catch (Exception ex) {
+                logger.warn("[TaskRedisRepository](aka RedisCache) MGET x{} failed, treating as misses: {}", remote.size(), ex.getMessage());
+            }
+        }
+        Map<String, TaskEntity> fromRedis = new LinkedHashMap<>();
+        for (int i = 0; i < remote.size(); i++) {
+            TaskEntity t = values == null ? null : values.get(i);
+            if (t != null) {
+                fromRedis.put(remote.get(i), t);
+                nearCache.fill(t, generations[i]);
+            }
+        }
+        for (String id : idList) {
+            TaskEntity t = near.containsKey(id) ? near.get(id) : fromRedis.get(id);
+            if (t != null) hits.put(id, t);
+            else misses.add(id);
+        }
+        cacheHitCounter.increment(fromRedis.size());
+        cacheMissCounter.increment(misses.size());
+        logger.info("[TaskRedisRepository](aka RedisCache) GET x{} -> {} L1 hit(s), {} L2 hit(s), {} miss(es)", idList.size(), near.size(), fromRedis.size(), misses.size());
+        return new Lookup(hits, misses);
     }
 
     public void delete(String id) {
         logger.info("[TaskRedisRepository](aka RedisCache) DELETE {}", id);
-        redis.delete(key(id));
+        evict(List.of(id));
+    }
+
+    public void deleteAll(Collection<String> ids) {
+        if (ids.isEmpty()) return;
+        logger.info("[TaskRedisRepository](aka RedisCache) DELETE x{}", ids.size());
+        evict(ids);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void evict(Collection<String> ids) {
+        RedisSerializer<String> keys = (RedisSerializer<String>) redis.getKeySerializer();
+        redis.executePipelined((RedisCallback<Object>) connection -> {
+            connection.keyCommands().del(ids.stream().map(id -> keys.serialize(key(id))).toArray(byte[][]::new));
+            if (nearCache.isEnabled()) connection.publish(INVALIDATION_CHANNEL, nearCache.invalidationMessage(ids));
+            return null;
+        });
+        nearCache.invalidate(ids);
+    }
+
+    // Lifetime L2 hit ratio (lookups that got past L1), for the springqpro_cache_hit_ratio{tier="l2"} gauge.
+    public double redisHitRatio() {
+        double h = cacheHitCounter.count(), total = h + cacheMissCounter.count();
+        return total == 0 ? 0.0 : h / total;
     }
     // DEBUG:+NOTE:+TO-DO: I can add other methods like exists(), setIfAbsent() and so on...
 }
@@ -0,0 +1,197 @@
+package com.springqprobackend.springqpro.redis;
+
+import com.springqprobackend.springqpro.domain.entity.TaskEntity;
+import com.springqprobackend.springqpro.enums.TaskStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/* TaskStatusBuckets.java
+--------------------------------------------------------------------------------------------------
+[HISTORY]:
+The dashboard polls tasks(status) every few seconds per user, and each poll ran the owner's ID query
+against Postgres (TaskService.readThrough only moved the ROWS onto the cache).
+
+[CURRENT ROLE]:
+Per-user, per-status Redis SETs of Task IDs, so the list read never touches Postgres once warm:
+    tasks:owner:<email>:<STATUS>  -> IDs of that owner's Tasks currently in STATUS
+    tasks:owner:<email>:ready     -> marker: the SETs above are complete (TTL "cache.task.buckets.ttl-seconds")
+Kept current incrementally. Every transition moves the ID (SREM from the other statuses, SADD to the new
+one):
+  - TaskRedisRepository.put/putAll append the move to their own pipeline (create, claim, outcome,
+    manual requeue, updateStatus)
+  - transitions that evict the cached row instead call moved() themselves (the lock-failure requeue,
+    retry release, LeaseReaper)
+ids() without the marker (cold start, expiry, or a Redis flush) rebuilds the owner's buckets from one
+ID + status query and sets the marker again.
+The same pipelines PUBLISH each transition on TaskUpdateBus (GraphQL subscriptions). Read-through
+re-caching re-files rows too, but that isn't a transition, so TaskRedisRepository.refill doesn't announce.
+
+[NOTES]:
+A transition that lands between a rebuild's DB read and its Redis write can be undone by that write.
+The marker TTL caps how long that lasts, and TaskService drops (and re-files) any listed row whose real
+status doesn't match. The SETs get the same TTL on every move, so they always outlive the marker.
+--------------------------------------------------------------------------------------------------
+*/
+@Component
+public class TaskStatusBuckets {
+    // Field(s):
+    private static final Logger logger = LoggerFactory.getLogger(TaskStatusBuckets.class);
+    private static final String KEY_PREFIX = "tasks:owner:";
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+    private final StringRedisTemplate redis;
+    private final TaskUpdateBus updates;
+    private final long ttlSeconds;
+
+    // attempts: the count after the transition, or -1 when the transition leaves it alone.
+    public record Move(String id, String owner, TaskStatus status, int attempts) {
+        public Move(String id, String owner, TaskStatus status) {
+            this(id, owner, status, -1);
+        }
+    }
+
+    // Constructor(s):
+    public TaskStatusBuckets(StringRedisTemplate redis, TaskUpdateBus updates, @Value("${cache.task.buckets.ttl-seconds:60}") long ttlSeconds) {
+        this.redis = redis;
+        this.updates = updates;
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    // Method(s):
+    private static String bucketKey(String owner, TaskStatus status) {
+        return KEY_PREFIX + owner + ":" + status.name();
+    }
+    private static String readyKey(String owner) {
+        return KEY_PREFIX + owner + ":ready";
+    }
+    private static byte[] raw(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+
+    // Best-effort: a failed move only leaves a bucket stale until the marker expires (see NOTES).
+    public void moved(Collection<Move> moves) {
+        if (moves.isEmpty()) return;
+        try {
+            redis.executePipelined((RedisCallback<Object>) connection -> {
+                for (Move m : moves) appendMove(connection, m.id(), m.owner(), m.status());
+                updates.appendPublish(connection, moves);
+                return null;
+            });
+        } catch (Exception ex) {
+            logger.warn("[TaskStatusBuckets] couldn't move {} Task(s): {}", moves.size(), ex.getMessage());
+        }
+    }
+
+    public void removed(String owner, String id) {
+        if (owner == null) return;
+        try {
+            redis.executePipelined((RedisCallback<Object>) connection -> {
+                for (TaskStatus s : STATUSES) connection.setCommands().sRem(raw(bucketKey(owner, s)), raw(id));
+                return null;
+            });
+        } catch (Exception ex) {
+            logger.warn("[TaskStatusBuckets] couldn't remove {}: {}", id, ex.getMessage());
+        }
+    }
+
+    // For TaskRedisRepository: the moves ride along in the pipeline that writes the rows. announce: it's a transition.
+    void appendMoves(RedisConnection connection, Collection<TaskEntity> entities, boolean announce) {
+        List<Move> moves = new ArrayList<>(entities.size());
+        for (TaskEntity t : entities) {
+            if (t == null) continue;
+            appendMove(connection, t.getId(), t.getCreatedBy(), t.getStatus());
+            moves.add(new Move(t.getId(), t.getCreatedBy(), t.getStatus(), t.getAttempts()));
+        }
+        if (announce) updates.appendPublish(connection, moves);
+    }
+
+    private void appendMove(RedisConnection connection, String id, String owner, TaskStatus status) {
+        if (id == null || owner == null || status == null) return;
+        byte[] member = raw(id);
+        for (TaskStatus s : STATUSES) {
+            if (s != status) connection.setCommands().sRem(raw(bucketKey(owner, s)), member);
+        }
+        byte[] target = raw(bucketKey(owner, status));
+        connection.setCommands().sAdd(target, member);
+        connection.keyCommands().expire(target, ttlSeconds);
+    }
+
+    /* The owner's Task IDs in status (null = every status), sorted (time-ordered IDs -> creation order). One pipelined
+    round trip when the buckets are warm. Otherwise loader supplies id -> status for ALL the owner's Tasks, which
+    rebuilds every bucket at once. Falls back to the loader alone if Redis is unavailable. */
+    public List<String> ids(String owner, TaskStatus status, Supplier<Map<String, TaskStatus>> loader) {
+        try {
+            List<Object> warm = redis.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection c = (StringRedisConnection) connection;
+                c.exists(readyKey(owner));
+                if (status != null) c.sMembers(bucketKey(owner, status));
+                else c.sUnion(allBucketKeys(owner));
+                return null;
+            });
+            if (Boolean.TRUE.equals(warm.get(0))) {
+                @SuppressWarnings("unchecked")
+                Set<String> members = (Set<String>) warm.get(1);
+                return sorted(members);
+            }
+        } catch (Exception ex) {
+            logger.warn("[TaskStatusBuckets] bucket read for {} failed, using the database: {}", owner, ex.getMessage());
+            return filter(loader.get(), status);
+        }
+        Map<String, TaskStatus> all = loader.get();
+        rebuild(owner, all);
+        return filter(all, status);
+    }
+
+    private void rebuild(String owner, Map<String, TaskStatus> all) {
+        Map<TaskStatus, List<String>> byStatus = new EnumMap<>(TaskStatus.class);
+        all.forEach((id, s) -> { if (s != null) byStatus.computeIfAbsent(s, k -> new ArrayList<>()).add(id); });
+        try {
+            redis.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection c = (StringRedisConnection) connection;
+                c.del(allBucketKeys(owner));
+                byStatus.forEach((s, ids) -> {
+                    c.sAdd(bucketKey(owner, s), ids.toArray(String[]::new));
+                    c.expire(bucketKey(owner, s), ttlSeconds);
+                });
+                c.setEx(readyKey(owner), ttlSeconds, "1");
+                return null;
+            });
+            logger.info("[TaskStatusBuckets] rebuilt buckets for {} ({} Task(s))", owner, all.size());
+        } catch (Exception ex) {
+            logger.warn("[TaskStatusBuckets] rebuild for {} failed: {}", owner, ex.getMessage());
+        }
+    }
+
+    private static String[] allBucketKeys(String owner) {
+        String[] keys = new String[STATUSES.length];
+        for (int i = 0; i < STATUSES.length; i++) keys[i] = bucketKey(owner, STATUSES[i]);
+        return keys;
+    }
+
+    private static List<String> filter(Map<String, TaskStatus> all, TaskStatus status) {
+        Set<String> ids = new HashSet<>();
+        all.forEach((id, s) -> { if (status == null || s == status) ids.add(id); });
+        return sorted(ids);
+    }
+
+    private static List<String> sorted(Collection<String> ids) {
+        List<String> list = new ArrayList<>(ids == null ? List.of() : ids);
+        list.sort(null);
+        return list;
+    }
+}
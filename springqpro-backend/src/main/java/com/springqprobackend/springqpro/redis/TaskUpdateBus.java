@@ -0,0 +1,89 @@
+package com.springqprobackend.springqpro.redis;
+
+import com.springqprobackend.springqpro.enums.TaskStatus;
+import com.springqprobackend.springqpro.redis.TaskStatusBuckets.Move;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/* TaskUpdateBus.java
+--------------------------------------------------------------------------------------------------
+[HISTORY]:
+The dashboard learned about status changes by polling tasks(status) / task(id) every few seconds,
+whether anything had changed or not.
+
+[CURRENT ROLE]:
+Cross-node fan-out of Task status transitions, feeding the taskUpdated / myTasksUpdated GraphQL
+subscriptions (TaskService.taskUpdatesForUser / ownerUpdates):
+  - publishing: every transition already re-files the Task in TaskStatusBuckets, so the PUBLISH on
+    CHANNEL rides in that same pipeline (no extra round trip). One message per pipeline, one line
+    per Task: "<id>|<STATUS>|<attempts>|<owner>" (owner last: it's the only free-form part)
+  - receiving: every instance subscribes (listener container in TaskCacheConfig), including the
+    one that published, and pushes each Move into a multicast sink. Subscribers filter the Flux
+    down to what they asked for
+The sink is directBestEffort: a subscriber that isn't keeping up misses moves instead of slowing
+the listener thread down for everybody (subscribers add their own bounded buffer in front).
+
+[NOTES]:
+Pub/sub is fire-and-forget, like the near-cache invalidations: a move published while an instance
+is reconnecting never reaches its subscribers. Clients that can't afford a gap re-read the Task
+(task(id) / tasksConnection) when their subscription (re)starts.
+attempts is -1 when the transition doesn't change it (releases, requeues, reaps).
+--------------------------------------------------------------------------------------------------
+*/
+@Component
+public class TaskUpdateBus implements MessageListener {
+    // Field(s):
+    private static final Logger logger = LoggerFactory.getLogger(TaskUpdateBus.class);
+    public static final String CHANNEL = "springqpro:task:updates";
+    private static final byte[] RAW_CHANNEL = CHANNEL.getBytes(StandardCharsets.UTF_8);
+    private final Sinks.Many<Move> sink = Sinks.many().multicast().directBestEffort();   // emits guarded by itself
+
+    // Method(s):
+    public Flux<Move> updates() {
+        return sink.asFlux();
+    }
+
+    // For TaskStatusBuckets: appended to the pipeline that re-files the same Tasks.
+    void appendPublish(RedisConnection connection, Collection<Move> moves) {
+        StringBuilder body = new StringBuilder();
+        for (Move m : moves) {
+            if (m.id() == null || m.owner() == null || m.status() == null) continue;
+            if (!body.isEmpty()) body.append('\n');
+            body.append(m.id()).append('|').append(m.status().name()).append('|').append(m.attempts()).append('|').append(m.owner());
+        }
+        if (!body.isEmpty()) connection.publish(RAW_CHANNEL, body.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        List<Move> moves = parse(new String(message.getBody(), StandardCharsets.UTF_8));
+        synchronized (sink) {   // the container may dispatch on several threads; a sink takes one emitter at a time.
+            for (Move m : moves) sink.tryEmitNext(m);
+        }
+    }
+
+    static List<Move> parse(String body) {
+        List<Move> moves = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            String[] parts = line.split("\\|", 4);
+            if (parts.length < 4) continue;
+            try {
+                moves.add(new Move(parts[0], parts[3], TaskStatus.valueOf(parts[1]), Integer.parseInt(parts[2])));
+            } catch (IllegalArgumentException ex) {
+                logger.warn("[TaskUpdateBus] ignoring malformed update '{}'", line);
+            }
+        }
+        return moves;
+    }
+}
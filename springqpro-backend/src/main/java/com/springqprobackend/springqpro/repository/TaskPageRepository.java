@@ -0,0 +1,25 @@
+package com.springqprobackend.springqpro.repository;
+
+import com.springqprobackend.springqpro.domain.entity.TaskEntity;
+import com.springqprobackend.springqpro.enums.TaskStatus;
+import com.springqprobackend.springqpro.enums.TaskType;
+
+import java.time.Instant;
+import java.util.List;
+
+/* TaskPageRepository.java
+--------------------------------------------------------------------------------------------------
+[CURRENT ROLE]:
+Spring Data fragment (TaskRepository extends it; TaskPageRepositoryImpl implements it) for the
+keyset-paginated tasksConnection query. It's hand-built SQL rather than an @Query, so each filter
+combination gets its own WHERE clause -- a single "(:status IS NULL OR status = :status)" statement
+would be planned once for every combination and couldn't pick the matching index.
+--------------------------------------------------------------------------------------------------
+*/
+public interface TaskPageRepository {
+    /* One page of an owner's Tasks, newest first: ORDER BY created_at DESC, id DESC LIMIT limit.
+    status / type / createdAfter are optional filters (null = any). afterCreatedAt + afterId (both or neither) are the
+    keyset cursor: only rows strictly after that position in the ordering are returned. */
+    List<TaskEntity> findPageForOwner(String createdBy, TaskStatus status, TaskType type, Instant createdAfter,
+                                      Instant afterCreatedAt, String afterId, int limit);
+}
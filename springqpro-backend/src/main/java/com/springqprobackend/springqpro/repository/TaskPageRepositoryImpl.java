@@ -0,0 +1,65 @@
+package com.springqprobackend.springqpro.repository;
+
+import com.springqprobackend.springqpro.domain.entity.TaskEntity;
+import com.springqprobackend.springqpro.enums.TaskStatus;
+import com.springqprobackend.springqpro.enums.TaskType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/* TaskPageRepositoryImpl.java
+--------------------------------------------------------------------------------------------------
+[CURRENT ROLE]:
+Builds the tasksConnection page query. Every variant is "created_by = ? [AND status = ?] [AND type = ?]"
+followed by a (created_at, id) range, which is exactly the prefix + order of one of the composite
+indexes on TaskEntity (idx_tasks_owner_created_at_id / _owner_status_ / _owner_type_). Postgres
+seeks to the cursor and reads "limit" index entries, so page N costs the same as page 1 however
+many Tasks the owner has (no OFFSET, no count).
+The cursor comparison is a row-value comparison -- (created_at, id) < (?, ?) -- which Postgres
+matches against the index directly. The equivalent "a < ? OR (a = ? AND b < ?)" is correct too, but
+the planner doesn't always turn it into an index range.
+--------------------------------------------------------------------------------------------------
+*/
+public class TaskPageRepositoryImpl implements TaskPageRepository {
+    // Field(s):
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Method(s):
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<TaskEntity> findPageForOwner(String createdBy, TaskStatus status, TaskType type, Instant createdAfter,
+                                             Instant afterCreatedAt, String afterId, int limit) {
+        StringBuilder sql = new StringBuilder("SELECT * FROM tasks t WHERE t.created_by = :createdBy");
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("createdBy", createdBy);
+        if (status != null) {
+            sql.append(" AND t.status = :status");
+            params.put("status", status.name());
+        }
+        if (type != null) {
+            sql.append(" AND t.type = :type");
+            params.put("type", type.name());
+        }
+        if (createdAfter != null) {
+            sql.append(" AND t.created_at > :createdAfter");
+            params.put("createdAfter", createdAfter);
+        }
+        if (afterCreatedAt != null && afterId != null) {
+            sql.append(" AND (t.created_at, t.id) < (:afterCreatedAt, :afterId)");
+            params.put("afterCreatedAt", afterCreatedAt);
+            params.put("afterId", afterId);
+        }
+        sql.append(" ORDER BY t.created_at DESC, t.id DESC LIMIT :limit");
+        params.put("limit", limit);
+
+        Query query = entityManager.createNativeQuery(sql.toString(), TaskEntity.class);
+        params.forEach(query::setParameter);
+        return query.getResultList();
+    }
+}
@@ -3,6 +3,7 @@ package com.springqprobackend.springqpro.repository;
 import com.springqprobackend.springqpro.domain.entity.TaskEntity;
 import com.springqprobackend.springqpro.enums.TaskStatus;
 import com.springqprobackend.springqpro.enums.TaskType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -10,6 +11,8 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -45,7 +48,7 @@ in service/TaskService.java almost as a sort of "rollback" mechanism, but it als
 */
 
 @Repository
-public interface TaskRepository extends JpaRepository<TaskEntity, String> {
+public interface TaskRepository extends JpaRepository<TaskEntity, String>, TaskPageRepository {
     // NOTE: ^ In JpaRepository<TaskEntity, String>, the generic parameters mean entity type and primary key type.
 
     /* Expanding on "You can also define query methods using naming conventions."
@@ -77,12 +80,205 @@ public interface TaskRepository extends JpaRepository<TaskEntity, String> {
     @Query("UPDATE TaskEntity t SET t.status = :to, t.attempts = :attempts WHERE t.id = :id AND t.status = :from")
     int transitionStatus(@Param("id") String id, @Param("from") TaskStatus from, @Param("to") TaskStatus to, @Param("attempts") int attempts);
 
+    /* Single-Task claim (ProcessingService.claimAndProcess): QUEUED -> INPROGRESS, attempts + 1, @Version + 1 and the
+    claim lease LeaseReaper checks, all in one statement that hands back the claimed row. Empty means the Task doesn't
+    exist or isn't QUEUED (someone else claimed it first) -- no separate existence check or re-read needed.
+    Like claimQueuedBatch, no @Modifying: UPDATE ... RETURNING produces a result set. */
+    @Transactional
+    @Query(value = """
+            UPDATE tasks t
+            SET status = 'INPROGRESS', attempts = t.attempts + 1, version = COALESCE(t.version, 0) + 1,
+                claimed_at = now(), lease_until = now() + :leaseMs * INTERVAL '1 millisecond'
+            WHERE t.id = :id AND t.status = 'QUEUED'
+            RETURNING t.*
+            """, nativeQuery = true)
+    Optional<TaskEntity> claimById(@Param("id") String id, @Param("leaseMs") long leaseMs);
+
+    /* Outcome write for a claimed Task (COMPLETED/FAILED), run after the handler in its own short transaction. Guarded by
+    status AND @Version: if the lease ran out mid-handler, LeaseReaper has already moved the row on (and bumped version),
+    so this matches nothing (returns 0) instead of overwriting whatever happened since. */
+    @Modifying
+    @Transactional
+    @Query("""
+            UPDATE TaskEntity t
+            SET t.status = :outcome, t.leaseUntil = NULL, t.version = t.version + 1
+            WHERE t.id = :id AND t.version = :version AND t.status = com.springqprobackend.springqpro.enums.TaskStatus.INPROGRESS
+            """)
+    int recordOutcome(@Param("id") String id, @Param("version") Long version, @Param("outcome") TaskStatus outcome);
+
     // 2025-11-17-DEBUG: ADDING ANOTHER ONE TO SET A RE-ENQUEUED TASK'S STATUS BACK TO QUEUED!!!
     @Modifying
     @Transactional
     @Query("UPDATE TaskEntity t SET t.status = :to WHERE t.id = :id AND t.status = :from")
     int transitionStatusSimple(@Param("id") String id, @Param("from") TaskStatus from, @Param("to") TaskStatus to);
 
+    /* Batch claim for DispatchMode.POLLING (BatchClaimPoller): grabs up to :batchSize QUEUED rows, flips them to
+    INPROGRESS and bumps attempts (+ the @Version column) in ONE statement, returning the claimed rows.
+    - FOR UPDATE SKIP LOCKED means concurrent pollers (other threads or other instances) never block on or double-claim
+    the same rows -- each poller just skips whatever another one has already locked.
+    - No @Modifying here on purpose: UPDATE ... RETURNING produces a result set, so it runs like a SELECT.
+    - Only rows whose type is in :types (TaskType names) -- the TaskTypes of the shared worker pool. A dedicated
+    (single-type) pool uses claimQueuedBatchOfType below instead.
+    - Served by priority, oldest first within a priority: ORDER BY effective_priority DESC, created_at walks
+    idx_tasks_status_effective_priority_created_at in order instead of sorting the whole QUEUED backlog. That index has
+    no type column, so the shared pool's poll also steps over QUEUED rows of the dedicated pools' types ahead of its own.
+    Aging is stored in the rows: PriorityAger raises effective_priority of
+    rows that have waited too long (promoteAged below), so an old priority-0 row still gets its turn. The client's own
+    priority column is never changed.
+    */
+    @Transactional
+    @Query(value = """
+            UPDATE tasks t
+            SET status = 'INPROGRESS', attempts = t.attempts + 1, version = COALESCE(t.version, 0) + 1,
+                claimed_at = now(), lease_until = now() + :leaseMs * INTERVAL '1 millisecond'
+            WHERE t.id IN (
+                SELECT q.id
+                FROM tasks q
+                WHERE q.status = 'QUEUED' AND q.type IN (:types)
+                ORDER BY q.effective_priority DESC, q.created_at
+                LIMIT :batchSize
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING t.*
+            """, nativeQuery = true)
+    List<TaskEntity> claimQueuedBatch(@Param("batchSize") int batchSize, @Param("leaseMs") long leaseMs, @Param("types") Collection<String> types);
+
+    /* claimQueuedBatch for a pool that runs exactly one TaskType ("queue.pools"): type = :type is an equality on the second
+    column of idx_tasks_status_type_effective_priority_created_at, so the poll seeks straight to that type's QUEUED rows
+    in claim order and reads only the rows it claims (plus any it skips) -- never the other pools' backlog. */
+    @Transactional
+    @Query(value = """
+            UPDATE tasks t
+            SET status = 'INPROGRESS', attempts = t.attempts + 1, version = COALESCE(t.version, 0) + 1,
+                claimed_at = now(), lease_until = now() + :leaseMs * INTERVAL '1 millisecond'
+            WHERE t.id IN (
+                SELECT q.id
+                FROM tasks q
+                WHERE q.status = 'QUEUED' AND q.type = :type
+                ORDER BY q.effective_priority DESC, q.created_at
+                LIMIT :batchSize
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING t.*
+            """, nativeQuery = true)
+    List<TaskEntity> claimQueuedBatchOfType(@Param("batchSize") int batchSize, @Param("leaseMs") long leaseMs, @Param("type") String type);
+
+    /* Priority aging for claimQueuedBatch (PriorityAger): QUEUED rows whose effective_priority is :level and that have
+    waited longer than (:level + 1) aging steps jump straight to the level they have earned -- max(priority, aging steps
+    waited), capped at :maxPriority -- so a row is rewritten at most once per pass however far it climbs. Each call is a
+    range scan of idx_tasks_status_effective_priority_created_at (status, effective_priority, created_at < cutoff) that
+    only touches rows it promotes. priority itself (what the client asked for, and what the API returns) stays as it was. */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE tasks
+            SET effective_priority = LEAST(:maxPriority, GREATEST(priority,
+                    FLOOR(EXTRACT(EPOCH FROM (now() - created_at)) * 1000 / :agingMs)::int))
+            WHERE status = 'QUEUED' AND effective_priority = :level
+              AND created_at < now() - (:level + 1) * :agingMs * INTERVAL '1 millisecond'
+            """, nativeQuery = true)
+    int promoteAged(@Param("level") int level, @Param("agingMs") long agingMs, @Param("maxPriority") int maxPriority);
+
+    /* Stale-claim sweep (LeaseReaper): INPROGRESS rows whose lease ran out were claimed by a worker that never came back.
+    Up to :batchSize of them go back to QUEUED -- or straight to FAILED if they already used up every attempt, so a Task
+    that keeps taking its worker down with it can't loop forever. Returns (id, new status, owner) rows so the caller knows what
+    to re-dispatch (and where to re-file it in TaskStatusBuckets). Served by idx_tasks_status_lease_until; SKIP LOCKED keeps reapers on several instances out of each
+    other's way (and away from rows a live worker is in the middle of updating). */
+    @Transactional
+    @Query(value = """
+            UPDATE tasks t
+            SET status = CASE WHEN t.attempts >= t.max_retries THEN 'FAILED' ELSE 'QUEUED' END,
+                lease_until = NULL, version = COALESCE(t.version, 0) + 1
+            WHERE t.id IN (
+                SELECT q.id
+                FROM tasks q
+                WHERE q.status = 'INPROGRESS' AND q.lease_until < now()
+                ORDER BY q.lease_until
+                LIMIT :batchSize
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING t.id, t.status, t.created_by
+            """, nativeQuery = true)
+    List<Object[]> reapExpiredLeases(@Param("batchSize") int batchSize);
+
+    /* LeaseReaper, when re-dispatching a reaped row failed: QUEUED -> INPROGRESS with a lease that has already run out,
+    so the next sweep reaps it (and dispatches it) again. Attempts are untouched. 0 if the row moved on in the meantime. */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE tasks SET status = 'INPROGRESS', lease_until = now(), version = COALESCE(version, 0) + 1
+            WHERE id = :id AND status = 'QUEUED'
+            """, nativeQuery = true)
+    int restoreLapsedLease(@Param("id") String id);
+
+    /* Claim hand-back (ProcessingService, when the Redis lock is taken): INPROGRESS -> QUEUED with the lease cleared and
+    attempts put back to what they were before the claim, since the handler never ran. 1 if the row was still ours to give back. */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE tasks SET status = 'QUEUED', attempts = :attempts, claimed_at = NULL, lease_until = NULL,
+                version = COALESCE(version, 0) + 1
+            WHERE id = :id AND status = 'INPROGRESS'
+            """, nativeQuery = true)
+    int releaseClaim(@Param("id") String id, @Param("attempts") int attempts);
+
+    /* Retry release: FAILED -> QUEUED once the backoff has elapsed. One element -- the owner, possibly null -- if the row
+    was requeued, none if it wasn't FAILED any more (manually requeued, deleted...). */
+    @Transactional
+    @Query(value = """
+            UPDATE tasks SET status = 'QUEUED', version = COALESCE(version, 0) + 1
+            WHERE id = :id AND status = 'FAILED'
+            RETURNING created_by
+            """, nativeQuery = true)
+    List<String> requeueFailed(@Param("id") String id);
+
+    /* Overflow SHED: QUEUED -> FAILED for a hand-off the full executor dropped, so the Task ends up somewhere visible
+    instead of sitting QUEUED with nothing to run it. Same return shape as requeueFailed. */
+    @Transactional
+    @Query(value = """
+            UPDATE tasks SET status = 'FAILED', version = COALESCE(version, 0) + 1
+            WHERE id = :id AND status = 'QUEUED'
+            RETURNING created_by
+            """, nativeQuery = true)
+    List<String> shedQueued(@Param("id") String id);
+
+    /* Routing for hand-offs that only carry a Task ID (retries, reaped leases, recovery, spill drain): just the columns
+    QueueService needs to pick a bulkhead pool and a place in its PriorityTaskQueue. */
+    interface TaskRoute {
+        TaskType getType();
+        int getPriority();
+    }
+    @Query("SELECT t.type AS type, t.priority AS priority FROM TaskEntity t WHERE t.id = :id")
+    Optional<TaskRoute> findRouteById(@Param("id") String id);
+
+    /* Keyset page for StartupRecovery and StreamRepublisher: "the next :limit rows with this status after :afterId", created
+    before :createdBefore (or with no created_at at all). Only (id, type, priority) are loaded -- no entities, and no
+    findRouteById per ID -- and each page seeks straight into idx_tasks_status_id instead of OFFSET-scanning everything
+    before it, so walking a 500k-row backlog costs the same per page from the first page to the last. */
+    interface TaskIdRoute extends TaskRoute {
+        String getId();
+    }
+    @Query("SELECT t.id AS id, t.type AS type, t.priority AS priority FROM TaskEntity t WHERE t.status = :status AND (t.createdAt IS NULL OR t.createdAt < :createdBefore) AND t.id > :afterId ORDER BY t.id")
+    List<TaskIdRoute> findRoutesByStatusAfter(@Param("status") TaskStatus status, @Param("createdBefore") Instant createdBefore, @Param("afterId") String afterId, Limit limit);
+
+    /* ID-only versions of the list queries below (TaskService reads the rows themselves through the Redis cache and
+    only loads the misses). NULL filters mean "any", like findByStatusAndType. */
+    @Query("SELECT t.id FROM TaskEntity t WHERE (:status IS NULL OR t.status = :status) AND (:type IS NULL OR t.type = :type)")
+    List<String> findIds(@Param("status") TaskStatus status, @Param("type") TaskType type);
+    @Query("""
+            SELECT t.id FROM TaskEntity t
+            WHERE t.createdBy = :createdBy AND (:status IS NULL OR t.status = :status) AND (:type IS NULL OR t.type = :type)
+            """)
+    List<String> findIdsForOwner(@Param("createdBy") String createdBy, @Param("status") TaskStatus status, @Param("type") TaskType type);
+
+    /* Every Task of one owner with its status: what TaskStatusBuckets rebuilds a cold owner's buckets from. */
+    interface TaskIdStatus {
+        String getId();
+        TaskStatus getStatus();
+    }
+    @Query("SELECT t.id AS id, t.status AS status FROM TaskEntity t WHERE t.createdBy = :createdBy")
+    List<TaskIdStatus> findIdStatusByOwner(@Param("createdBy") String createdBy);
+
     // 2025-11-25-DEBUG: NEW METHODS BELOW HELP ENFORCE JWT USER OWNERSHIP OF TASKS!!! (IN THE SERVICE/CONTROLLER LAYER).
     List<TaskEntity> findAllByCreatedBy(String createdBy);
     List<TaskEntity> findByStatusAndCreatedBy(TaskStatus status, String createdBy);
@@ -0,0 +1,15 @@
+package com.springqprobackend.springqpro.runtime;
+
+/* The Runnable QueueService.enqueueById hands to "execService". It carries the Task ID so that, if the executor is
+full, OverflowRejectionHandler knows what to spill. (executor.submit() would wrap it in a FutureTask and hide the ID,
+which is why enqueueById uses execute()). It also carries the Task's priority for PriorityTaskQueue. */
+public record DispatchedTask(String taskId, int priority, Runnable body) implements Runnable, Prioritized {
+    public DispatchedTask(String taskId, Runnable body) {
+        this(taskId, 0, body);
+    }
+
+    @Override
+    public void run() {
+        body.run();
+    }
+}
@@ -0,0 +1,103 @@
+package com.springqprobackend.springqpro.runtime;
+
+import com.springqprobackend.springqpro.enums.OverflowPolicy;
+import com.springqprobackend.springqpro.redis.OverflowSpillList;
+import io.micrometer.core.instrument.Counter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/* OverflowRejectionHandler.java
+--------------------------------------------------------------------------------------------------
+[HISTORY]:
+"execService" used the default AbortPolicy. Under a burst, submit #1001 threw a
+RejectedExecutionException inside the AFTER_COMMIT TaskCreatedListener. The Task was already
+committed as QUEUED, so it just sat in PostgreSQL with nothing left to pick it up.
+
+[CURRENT ROLE]:
+Installed on both executor flavours by ExecutorConfig (ThreadPoolExecutor via the standard
+RejectedExecutionHandler hook, VirtualThreadTaskExecutor via reject()). Applies "queue.overflow-policy":
+  - SPILL: push the Task ID onto this pool's OverflowSpillList (durable, drained by OverflowDrainer)
+  - CALLER_BLOCKS: wait up to "queue.overflow-block-timeout-ms" for queue space (backpressure onto
+    the submitting thread), then fall back to SPILL
+  - SHED: drop the hand-off, count it (springqpro_tasks_shed_total) and hand the Task ID to onShed
+    (OverflowShedder: the row goes QUEUED -> FAILED, so it isn't left QUEUED with nothing to run it)
+Only DispatchedTask (QueueService.enqueueById) carries a Task ID. Anything else that can't be queued
+is rejected AbortPolicy-style under every policy (SHED included), so its caller keeps its own
+recovery path. Examples are stream entries (left pending) and batch-claimed rows (handed back to
+QUEUED by BatchClaimPoller).
+--------------------------------------------------------------------------------------------------
+*/
+public class OverflowRejectionHandler implements RejectedExecutionHandler {
+    // Field(s):
+    private static final Logger logger = LoggerFactory.getLogger(OverflowRejectionHandler.class);
+    private final OverflowPolicy policy;
+    private final long blockTimeoutMs;
+    private final OverflowSpillList spillList;
+    private final String pool;      // "shared" or the bulkhead's TaskType name -- picks the spill list.
+    private final Counter tasksSpilledCounter;
+    private final Counter tasksShedCounter;
+    private final Consumer<String> onShed;
+    // Constructor(s):
+    public OverflowRejectionHandler(OverflowPolicy policy, long blockTimeoutMs, OverflowSpillList spillList, Counter tasksSpilledCounter, Counter tasksShedCounter, Consumer<String> onShed) {
+        this(policy, blockTimeoutMs, spillList, TaskTypeBulkheads.SHARED, tasksSpilledCounter, tasksShedCounter, onShed);
+    }
+    public OverflowRejectionHandler(OverflowPolicy policy, long blockTimeoutMs, OverflowSpillList spillList, String pool, Counter tasksSpilledCounter, Counter tasksShedCounter, Consumer<String> onShed) {
+        this.policy = policy;
+        this.blockTimeoutMs = blockTimeoutMs;
+        this.spillList = spillList;
+        this.pool = pool;
+        this.tasksSpilledCounter = tasksSpilledCounter;
+        this.tasksShedCounter = tasksShedCounter;
+        this.onShed = onShed;
+    }
+
+    // Method(s):
+    @Override
+    public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) throw new RejectedExecutionException("execService has been shut down");
+        reject(r, executor.getQueue());
+    }
+
+    // Shared by both executors: queue is the executor's bounded work queue / backlog that just refused r.
+    public void reject(Runnable r, BlockingQueue<Runnable> queue) {
+        switch (policy) {
+            case CALLER_BLOCKS -> {
+                try {
+                    if (queue.offer(r, blockTimeoutMs, TimeUnit.MILLISECONDS)) return;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                spill(r);
+            }
+            case SHED -> {
+                if (!(r instanceof DispatchedTask task)) {
+                    throw new RejectedExecutionException("execService is full and " + describe(r) + " has no Task ID to shed");
+                }
+                tasksShedCounter.increment();
+                logger.warn("[OverflowRejectionHandler] executor full -- shedding {}", task.taskId());
+                onShed.accept(task.taskId());
+            }
+            default -> spill(r);
+        }
+    }
+
+    private void spill(Runnable r) {
+        if (!(r instanceof DispatchedTask task)) {
+            throw new RejectedExecutionException("execService is full and " + describe(r) + " has no Task ID to spill");
+        }
+        spillList.push(pool, task.taskId());
+        tasksSpilledCounter.increment();
+        logger.warn("[OverflowRejectionHandler] executor full -- spilled {} to the overflow list", task.taskId());
+    }
+
+    private static String describe(Runnable r) {
+        return (r instanceof DispatchedTask task) ? task.taskId() : r.getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,7 @@
+package com.springqprobackend.springqpro.runtime;
+
+/* Implemented by the Runnables QueueService hands to the worker pools, so PriorityTaskQueue can order them by the
+Task's priority (higher first). Anything that doesn't implement it (e.g. a FutureTask from submit()) counts as 0. */
+public interface Prioritized {
+    int priority();
+}
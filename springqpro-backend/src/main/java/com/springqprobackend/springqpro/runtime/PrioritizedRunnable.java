@@ -0,0 +1,10 @@
+package com.springqprobackend.springqpro.runtime;
+
+/* Same idea as DispatchedTask, for hand-offs that must NOT be spilled when the pool is full (batch-claimed rows,
+stream entries): it carries the priority but no Task ID, so OverflowRejectionHandler rejects it AbortPolicy-style. */
+public record PrioritizedRunnable(int priority, Runnable body) implements Runnable, Prioritized {
+    @Override
+    public void run() {
+        body.run();
+    }
+}
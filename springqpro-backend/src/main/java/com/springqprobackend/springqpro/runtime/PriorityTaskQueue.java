@@ -0,0 +1,223 @@
+package com.springqprobackend.springqpro.runtime;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/* PriorityTaskQueue.java
+--------------------------------------------------------------------------------------------------
+[HISTORY]:
+Both worker pools queued on a LinkedBlockingQueue, so work ran strictly in arrival order. A
+priority-9 Task that arrived behind 900 priority-0 Tasks waited for all of them.
+
+[CURRENT ROLE]:
+Bounded BlockingQueue used as the work queue of every worker pool (ThreadPoolExecutor and
+VirtualThreadTaskExecutor alike). Entries are served by smallest "virtual deadline":
+    key = offeredAtMs - priority * agingMs   ("queue.priority-aging-ms")
+so a higher priority jumps ahead, but only by priority x agingMs. Anything that has waited
+longer than that beats a newer high-priority Task, so low-priority work can't starve. Equal
+keys keep FIFO order. POLLING mode gets the same effect in PostgreSQL from PriorityAger, which
+raises the stored effective_priority of rows that have waited, so claimQueuedBatch can order by an index.
+
+Unlike java.util.concurrent.PriorityBlockingQueue it is bounded: offer() refuses once
+capacity is reached, so OverflowRejectionHandler still sees a full pool, and the timed
+offer() really waits (CALLER_BLOCKS).
+--------------------------------------------------------------------------------------------------
+*/
+public class PriorityTaskQueue extends AbstractQueue<Runnable> implements BlockingQueue<Runnable> {
+    // Field(s):
+    private record Entry(Runnable task, long key, long seq) { }
+    private final PriorityQueue<Entry> heap;
+    private final int capacity;
+    private final long agingMs;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private long seq;
+    // Constructor(s):
+    public PriorityTaskQueue(int capacity, long agingMs) {
+        if (capacity <= 0) throw new IllegalArgumentException("capacity must be positive");
+        this.capacity = capacity;
+        this.agingMs = agingMs;
+        this.heap = new PriorityQueue<>(Math.min(capacity, 64), (a, b) -> a.key != b.key ? Long.compare(a.key, b.key) : Long.compare(a.seq, b.seq));
+    }
+
+    // Method(s):
+    private Entry entryFor(Runnable r) {
+        int priority = (r instanceof Prioritized p) ? p.priority() : 0;
+        return new Entry(r, System.currentTimeMillis() - priority * agingMs, seq++);
+    }
+
+    private Runnable dequeue() {
+        Runnable r = heap.poll().task();
+        notFull.signal();
+        return r;
+    }
+
+    @Override
+    public boolean offer(Runnable r) {
+        if (r == null) throw new NullPointerException();
+        lock.lock();
+        try {
+            if (heap.size() >= capacity) return false;
+            heap.add(entryFor(r));
+            notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean offer(Runnable r, long timeout, TimeUnit unit) throws InterruptedException {
+        if (r == null) throw new NullPointerException();
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (heap.size() >= capacity) {
+                if (nanos <= 0) return false;
+                nanos = notFull.awaitNanos(nanos);
+            }
+            heap.add(entryFor(r));
+            notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void put(Runnable r) throws InterruptedException {
+        if (r == null) throw new NullPointerException();
+        lock.lockInterruptibly();
+        try {
+            while (heap.size() >= capacity) notFull.await();
+            heap.add(entryFor(r));
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable poll() {
+        lock.lock();
+        try {
+            return heap.isEmpty() ? null : dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (heap.isEmpty()) {
+                if (nanos <= 0) return null;
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (heap.isEmpty()) notEmpty.await();
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable peek() {
+        lock.lock();
+        try {
+            Entry head = heap.peek();
+            return head == null ? null : head.task();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return heap.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int remainingCapacity() {
+        lock.lock();
+        try {
+            return capacity - heap.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ThreadPoolExecutor.remove()/purge() go through here.
+    @Override
+    public boolean remove(Object o) {
+        lock.lock();
+        try {
+            boolean removed = heap.removeIf(e -> e.task().equals(o));
+            if (removed) notFull.signalAll();
+            return removed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int drainTo(Collection<? super Runnable> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super Runnable> c, int maxElements) {
+        if (c == this) throw new IllegalArgumentException();
+        lock.lock();
+        try {
+            int n = 0;
+            while (n < maxElements && !heap.isEmpty()) {
+                c.add(heap.poll().task());
+                n++;
+            }
+            if (n > 0) notFull.signalAll();
+            return n;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Weakly consistent snapshot (in no particular order), which is all ThreadPoolExecutor needs it for.
+    @Override
+    public Iterator<Runnable> iterator() {
+        lock.lock();
+        try {
+            List<Runnable> snapshot = new ArrayList<>(heap.size());
+            for (Entry e : heap) snapshot.add(e.task());
+            return snapshot.iterator();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.springqprobackend.springqpro.runtime;
+
+import com.springqprobackend.springqpro.enums.ProcessingEventType;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/* ProcessingEventLog.java
+--------------------------------------------------------------------------------------------------
+[HISTORY]:
+ProcessingService kept its recent events in an ArrayDeque<String> behind synchronized, and built
+"[" + Instant.now() + "] CODE id ..." on every transition. That was 6-8 contended monitor
+acquisitions and string builds per Task, for text only the dashboard ever reads.
+
+[CURRENT ROLE]:
+Fixed-size ring of the last CAPACITY events, written without locks:
+  - record(): one getAndIncrement on the sequence picks the slot, then one small Event (epoch
+    millis, code, the caller's taskId reference, attempt, detail) is published into it. No
+    Instant, no string building, no monitor
+  - recent(): walks back from the newest sequence and renders only what it returns (newest
+    first), optionally filtered by taskId and/or event type
+  - eventsSince(): everything from a given sequence on, oldest first, for ProcessingEventStream
+Each Event carries its sequence number. A slot that a writer has claimed but not yet filled, or
+that has already been overwritten by a newer event, doesn't match the sequence the reader
+expects, so a reader racing the writers gets a possibly-shorter but never a mixed-up list.
+events() just skips such slots. eventsSince() skips the overwritten ones but STOPS at the first
+one not filled yet: its caller resumes from there, and that event still gets read once its writer
+publishes it. A slot never filled only stops the reader until the ring laps it.
+
+[NOTES]:
+"detail" holds whatever the event needs beyond the attempt: the TaskType for PROCESSING, the
+TaskStatus for OUTCOME_DISCARDED / LEASE_EXPIRED, the delay for RETRY_SCHEDULED (only these box a
+long, and retries are rare), BATCH for a batch claim. Enum constants cost no allocation.
+--------------------------------------------------------------------------------------------------
+*/
+public class ProcessingEventLog {
+    // Field(s):
+    public static final int CAPACITY = 256;     // power of two, so the slot is seq & MASK.
+    private static final int MASK = CAPACITY - 1;
+    public static final String BATCH = "batch";
+    private final AtomicReferenceArray<Event> slots = new AtomicReferenceArray<>(CAPACITY);
+    private final AtomicLong nextSeq = new AtomicLong();
+
+    public record Event(long seq, long epochMillis, ProcessingEventType type, String taskId, int attempt, Object detail) {
+        public String render() {
+            StringBuilder sb = new StringBuilder(64).append('[').append(Instant.ofEpochMilli(epochMillis)).append("] ")
+                    .append(type.name()).append(' ').append(taskId);
+            switch (type) {
+                case CLAIM_SUCCESS -> sb.append(" attempt=").append(attempt).append(detail == null ? "" : " (batch)");
+                case FAILED -> sb.append(" attempt=").append(attempt);
+                case LOCK_FAILED -> sb.append(" returning task to QUEUED");
+                case PROCESSING -> sb.append(" type=").append(detail);
+                case OUTCOME_DISCARDED -> sb.append(' ').append(detail);
+                case RETRY_SCHEDULED -> sb.append(" delayMs=").append(detail);
+                case LEASE_EXPIRED -> sb.append(" -> ").append(detail);
+                default -> { }
+            }
+            return sb.toString();
+        }
+    }
+
+    // Method(s):
+    public void record(ProcessingEventType type, String taskId) {
+        record(type, taskId, 0, null);
+    }
+
+    public void record(ProcessingEventType type, String taskId, int attempt, Object detail) {
+        long seq = nextSeq.getAndIncrement();
+        slots.lazySet((int) (seq & MASK), new Event(seq, System.currentTimeMillis(), type, taskId, attempt, detail));
+    }
+
+    // Newest first; null filters match everything.
+    public List<Event> events(String taskId, ProcessingEventType type) {
+        long newest = nextSeq.get() - 1;
+        long oldest = Math.max(0, newest - MASK);
+        List<Event> out = new ArrayList<>();
+        for (long seq = newest; seq >= oldest; seq--) {
+            Event e = slots.get((int) (seq & MASK));
+            if (e == null || e.seq() != seq) continue;  // not published yet, or already overwritten
+            if (type != null && e.type() != type) continue;
+            if (taskId != null && !taskId.equals(e.taskId())) continue;
+            out.add(e);
+        }
+        return out;
+    }
+
+    // Sequence number the next record() will get.
+    public long nextSequence() {
+        return nextSeq.get();
+    }
+
+    /* Oldest first: the events with seq >= fromSeq that are still in the ring, up to (not including) the first sequence a
+    writer has taken but not published yet (ProcessingEventStream's incremental read). Resuming from the last returned
+    seq + 1 therefore never steps over an event that is still on its way. Sequences the ring has already lapped are skipped. */
+    public List<Event> eventsSince(long fromSeq) {
+        long end = nextSeq.get();
+        long start = Math.max(fromSeq, end - CAPACITY);
+        List<Event> out = new ArrayList<>((int) Math.max(0, end - start));
+        for (long seq = start; seq < end; seq++) {
+            Event e = slots.get((int) (seq & MASK));
+            if (e != null && e.seq() == seq) out.add(e);
+            else if (e == null || e.seq() < seq) break;     // claimed, not published yet: stop here and read it next time.
+            // else: e.seq() > seq, overwritten by a writer one lap ahead -- that event is gone.
+        }
+        return out;
+    }
+
+    public List<String> recent(String taskId, ProcessingEventType type) {
+        List<Event> events = events(taskId, type);
+        List<String> lines = new ArrayList<>(events.size());
+        for (Event e : events) lines.add(e.render());
+        return lines;
+    }
+}
@@ -0,0 +1,71 @@
+package com.springqprobackend.springqpro.runtime;
+
+import com.springqprobackend.springqpro.enums.TaskPhase;
+import com.springqprobackend.springqpro.enums.TaskType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/* TaskPhaseTimers.java
+--------------------------------------------------------------------------------------------------
+[HISTORY]:
+The only timer was processingTimer around handler.handle, with no TaskType tag. How long a Task
+sat in an executor queue, how long the claim and the Redis lock took, how long the outcome write
+took, and the total created -> completed time were all invisible.
+
+[CURRENT ROLE]:
+One springqpro_task_phase_duration timer per (TaskPhase, TaskType), every one registered up front
+and kept in an EnumMap, so recording is two array lookups -- no registry lookup or Tags building
+on the hot path. Both tags come from enums, so the series count is fixed (phases x types) no
+matter what Tasks arrive. Each timer publishes a percentile histogram (bounded by
+TaskPhase.maxExpected) only; p50/p95/p99 come from histogram_quantile on the server. Client-side
+percentiles would be per instance, can't be aggregated across instances or types, and cost a
+decaying sketch per timer on every record.
+
+[NOTES]:
+A null type (a dispatch for a Task ID that no longer exists) records nothing.
+processingTimer is kept as it was: BackpressureMonitor reads its mean.
+--------------------------------------------------------------------------------------------------
+*/
+public class TaskPhaseTimers {
+    // Field(s):
+    public static final String METRIC = "springqpro_task_phase_duration";
+    private final Map<TaskPhase, Map<TaskType, Timer>> timers = new EnumMap<>(TaskPhase.class);
+
+    // Constructor(s):
+    public TaskPhaseTimers(MeterRegistry registry) {
+        for (TaskPhase phase : TaskPhase.values()) {
+            Map<TaskType, Timer> byType = new EnumMap<>(TaskType.class);
+            for (TaskType type : TaskType.values()) {
+                byType.put(type, Timer.builder(METRIC)
+                        .description("Time a Task spends in one phase of its lifecycle")
+                        .tag("phase", phase.tag())
+                        .tag("type", type.name())
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(Duration.ofMillis(1))
+                        .maximumExpectedValue(phase.maxExpected())
+                        .register(registry));
+            }
+            timers.put(phase, byType);
+        }
+    }
+
+    // Method(s):
+    public void record(TaskPhase phase, TaskType type, long nanos) {
+        if (type == null) return;
+        timers.get(phase).get(type).record(Math.max(0, nanos), TimeUnit.NANOSECONDS);
+    }
+
+    // startNanos from System.nanoTime().
+    public void recordSince(TaskPhase phase, TaskType type, long startNanos) {
+        record(phase, type, System.nanoTime() - startNanos);
+    }
+
+    public Timer timer(TaskPhase phase, TaskType type) {
+        return timers.get(phase).get(type);
+    }
+}
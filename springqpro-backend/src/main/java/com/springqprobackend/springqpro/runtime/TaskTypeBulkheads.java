@@ -0,0 +1,123 @@
+package com.springqprobackend.springqpro.runtime;
+
+import com.springqprobackend.springqpro.enums.TaskType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/* TaskTypeBulkheads.java
+--------------------------------------------------------------------------------------------------
+[HISTORY]:
+Every TaskType ran on the one "execService". A flood of TAKESLONG or REPORT Tasks filled every
+worker and the whole backlog, so SMS and EMAIL Tasks sat behind them even though they finish in
+a fraction of the time.
+
+[CURRENT ROLE]:
+Routing table from TaskType to worker pool, built by ExecutorConfig from "queue.pools.<TYPE>":
+  - executorFor(type): the type's own pool, or the shared "execService" for unlisted types (and null)
+  - status(...): the active/idle/queued/capacity snapshot for any pool (both executor flavours)
+  - queueHeadroom(...): how many more Tasks a pool's bounded queue takes before its overflow policy kicks in
+  - typesByPool(): which TaskTypes each pool runs, so claims can be sized per pool (BatchClaimPoller,
+    StreamDispatchConsumer) instead of letting one pool's idle workers pull in another pool's Tasks
+Each pool has its own concurrency limit and bounded queue. A saturated pool only spills or sheds
+its own Tasks, so one noisy type can't starve the others.
+--------------------------------------------------------------------------------------------------
+*/
+public class TaskTypeBulkheads {
+    // Field(s):
+    public static final String SHARED = "shared";
+    private final ExecutorService shared;
+    private final Map<TaskType, ExecutorService> pools;
+    // Constructor(s):
+    public TaskTypeBulkheads(ExecutorService shared, Map<TaskType, ExecutorService> pools) {
+        this.shared = shared;
+        this.pools = pools.isEmpty() ? Map.of() : Collections.unmodifiableMap(new EnumMap<>(pools));
+    }
+
+    // Method(s):
+    public ExecutorService executorFor(TaskType type) {
+        if (type == null) return shared;
+        return pools.getOrDefault(type, shared);
+    }
+
+    public boolean hasDedicatedPools() {
+        return !pools.isEmpty();
+    }
+
+    public ExecutorService getShared() {
+        return shared;
+    }
+
+    public Map<TaskType, ExecutorService> getPools() {
+        return pools;
+    }
+
+    // Same keys as statusByPool(). "shared" runs every TaskType without a pool of its own (possibly none of them).
+    public Map<String, List<TaskType>> typesByPool() {
+        Map<String, List<TaskType>> out = new LinkedHashMap<>();
+        List<TaskType> sharedTypes = new ArrayList<>();
+        for (TaskType type : TaskType.values()) {
+            if (!pools.containsKey(type)) sharedTypes.add(type);
+        }
+        out.put(SHARED, sharedTypes);
+        pools.keySet().forEach(type -> out.put(type.name(), List.of(type)));
+        return out;
+    }
+
+    // "shared" first, then one entry per dedicated pool (keyed by TaskType name):
+    public Map<String, Map<String, Integer>> statusByPool() {
+        Map<String, Map<String, Integer>> out = new LinkedHashMap<>();
+        out.put(SHARED, status(shared));
+        pools.forEach((type, exec) -> out.put(type.name(), status(exec)));
+        return out;
+    }
+
+    /* - active: Tasks running right now / capacity: max concurrent Tasks (pool size or semaphore permits)
+    - idle: capacity - active / queued: submitted but waiting for a worker / inFlight: active + queued */
+    public static Map<String, Integer> status(ExecutorService executor) {
+        int active;
+        int capacity;
+        int queued;
+        if (executor instanceof VirtualThreadTaskExecutor vexec) {
+            active = vexec.getActiveCount();
+            capacity = vexec.getMaxConcurrency();
+            queued = vexec.getQueuedCount();
+        } else if (executor instanceof ThreadPoolExecutor exec) {
+            active = exec.getActiveCount();
+            capacity = exec.getMaximumPoolSize();
+            queued = exec.getQueue().size();
+        } else {
+            return Map.of("active", 0, "idle", 0, "inFlight", 0, "queued", 0, "capacity", 0);
+        }
+        return Map.of(
+                "active", active,
+                "idle", Math.max(0, capacity - active),
+                "inFlight", active + queued,
+                "queued", queued,
+                "capacity", capacity
+        );
+    }
+
+    public static int queueHeadroom(ExecutorService executor) {
+        if (executor instanceof VirtualThreadTaskExecutor vexec) return vexec.getRemainingQueueCapacity();
+        if (executor instanceof ThreadPoolExecutor exec) return exec.getQueue().remainingCapacity();
+        return 0;
+    }
+
+    public static double utilization(ExecutorService executor) {
+        Map<String, Integer> s = status(executor);
+        int capacity = s.get("capacity");
+        return capacity == 0 ? 0.0 : s.get("active") / (double) capacity;
+    }
+
+    // Spring infers this as the destroy method for the @Bean; "execService" itself is shut down separately.
+    public void shutdown() {
+        pools.values().forEach(ExecutorService::shutdown);
+    }
+}
@@ -0,0 +1,174 @@
+package com.springqprobackend.springqpro.runtime;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/* VirtualThreadTaskExecutor.java
+--------------------------------------------------------------------------------------------------
+[HISTORY]:
+The "execService" pool was always a fixed ThreadPoolExecutor of "queue.main-exec-worker-count"
+platform threads (5 in prod). Almost every handler (EmailHandler, TakesLongHandler, ReportHandler...)
+spends its time blocked on a sleep or I/O, so 5 platform threads meant ~5 Tasks in flight, period.
+
+[CURRENT ROLE]:
+Selected with "queue.executor-mode: VIRTUAL" (see ExecutorConfig). Each Task runs on its own virtual
+thread, and a Semaphore caps how many run at once ("queue.virtual-max-concurrency"). Work that
+arrives while every permit is taken waits in a bounded backlog ("queue.main-exec-queue-capacity",
+same meaning as the LinkedBlockingQueue bound of the platform pool) and is picked up by whichever
+virtual thread finishes next. A full backlog goes to the OverflowRejectionHandler if one was given
+(same policy as the platform pool), otherwise it rejects with RejectedExecutionException, exactly
+like the ThreadPoolExecutor's default AbortPolicy.
+
+getActiveCount()/getQueuedCount()/getMaxConcurrency() mirror the ThreadPoolExecutor getters that
+QueueService.getWorkerStatus() reports on.
+--------------------------------------------------------------------------------------------------
+*/
+public class VirtualThreadTaskExecutor extends AbstractExecutorService {
+    // Field(s):
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadTaskExecutor.class);
+    private final int maxConcurrency;
+    private final Semaphore permits;
+    private final BlockingQueue<Runnable> backlog;
+    private final ThreadFactory threadFactory;
+    private final OverflowRejectionHandler rejectionHandler;    // null -> AbortPolicy behaviour.
+    private final AtomicInteger active = new AtomicInteger();
+    private final Set<Thread> runningThreads = ConcurrentHashMap.newKeySet();  // only needed so shutdownNow() can interrupt.
+    private final Object terminationMonitor = new Object();
+    private volatile boolean shutdown;
+
+    // Constructor(s):
+    public VirtualThreadTaskExecutor(int maxConcurrency, int backlogCapacity, String threadNamePrefix) {
+        this(maxConcurrency, new LinkedBlockingQueue<>(backlogCapacity), threadNamePrefix);
+    }
+    public VirtualThreadTaskExecutor(int maxConcurrency, BlockingQueue<Runnable> backlog, String threadNamePrefix) {
+        this(maxConcurrency, backlog, threadNamePrefix, null);
+    }
+    public VirtualThreadTaskExecutor(int maxConcurrency, BlockingQueue<Runnable> backlog, String threadNamePrefix, OverflowRejectionHandler rejectionHandler) {
+        if (maxConcurrency <= 0) throw new IllegalArgumentException("maxConcurrency must be positive");
+        this.maxConcurrency = maxConcurrency;
+        this.permits = new Semaphore(maxConcurrency);
+        this.backlog = backlog;
+        this.threadFactory = Thread.ofVirtual().name(threadNamePrefix, 0).factory();
+        this.rejectionHandler = rejectionHandler;
+    }
+
+    // Method(s):
+    @Override
+    public void execute(Runnable command) {
+        if (command == null) throw new NullPointerException();
+        if (shutdown) throw new RejectedExecutionException("VirtualThreadTaskExecutor has been shut down");
+        if (permits.tryAcquire()) {
+            startWorker(command);
+            return;
+        }
+        if (!backlog.offer(command)) {
+            if (rejectionHandler == null) {
+                throw new RejectedExecutionException("VirtualThreadTaskExecutor backlog is full (" + backlog.size() + " waiting)");
+            }
+            rejectionHandler.reject(command, backlog);  // may block (CALLER_BLOCKS), spill, shed, or throw.
+        }
+        // A worker may have finished between the failed tryAcquire() and the offer() -- make sure the backlog isn't stranded:
+        drainBacklogIfIdle();
+    }
+
+    private void startWorker(Runnable first) {
+        active.incrementAndGet();
+        try {
+            threadFactory.newThread(() -> runWorker(first)).start();
+        } catch (Throwable t) {
+            active.decrementAndGet();
+            permits.release();
+            throw t;
+        }
+    }
+
+    // Runs the first Task, then keeps pulling from the backlog so a permit is handed over without a release/acquire round trip.
+    private void runWorker(Runnable first) {
+        Thread self = Thread.currentThread();
+        runningThreads.add(self);
+        try {
+            Runnable task = first;
+            while (task != null) {
+                try {
+                    task.run();
+                } catch (Throwable t) {
+                    logger.error("[VirtualThreadTaskExecutor] task threw: {}", t.getMessage(), t);
+                }
+                task = backlog.poll();
+            }
+        } finally {
+            runningThreads.remove(self);
+            active.decrementAndGet();
+            permits.release();
+            drainBacklogIfIdle();
+            signalIfTerminated();
+        }
+    }
+
+    private void drainBacklogIfIdle() {
+        while (!backlog.isEmpty() && permits.tryAcquire()) {
+            Runnable next = backlog.poll();
+            if (next == null) {
+                permits.release();
+                return;
+            }
+            startWorker(next);
+        }
+    }
+
+    private void signalIfTerminated() {
+        if (isTerminated()) {
+            synchronized (terminationMonitor) {
+                terminationMonitor.notifyAll();
+            }
+        }
+    }
+
+    // Stats (mirrors the ThreadPoolExecutor getters used for /api/processing/workers):
+    public int getActiveCount() { return active.get(); }
+    public int getQueuedCount() { return backlog.size(); }
+    public int getMaxConcurrency() { return maxConcurrency; }
+    public int getRemainingQueueCapacity() { return backlog.remainingCapacity(); }
+
+    // ExecutorService lifecycle:
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        signalIfTerminated();
+    }
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown = true;
+        List<Runnable> never = new ArrayList<>();
+        backlog.drainTo(never);
+        runningThreads.forEach(Thread::interrupt);
+        signalIfTerminated();
+        return never;
+    }
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+    @Override
+    public boolean isTerminated() {
+        return shutdown && active.get() == 0 && backlog.isEmpty();
+    }
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (terminationMonitor) {
+            while (!isTerminated()) {
+                long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMs <= 0) return false;
+                terminationMonitor.wait(remainingMs);
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.springqprobackend.springqpro.service;
+
+import com.springqprobackend.springqpro.config.QueueProperties;
+import com.springqprobackend.springqpro.domain.exception.QueueSaturatedException;
+import com.springqprobackend.springqpro.enums.OverflowPolicy;
+import com.springqprobackend.springqpro.redis.OverflowSpillList;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/* BackpressureMonitor.java
+--------------------------------------------------------------------------------------------------
+[CURRENT ROLE]:
+Single place that answers "how backed up are we?":
+  - executorDepth(): Tasks waiting in "execService" and every TaskTypeBulkheads pool
+    (springqpro_queue_depth{tier="executor"})
+  - overflowDepth(): Task IDs spilled to OverflowSpillList (springqpro_queue_depth{tier="overflow"})
+  - retryAfterMs(): 0 while healthy. Once the executor backlog passes "queue.saturation-threshold"
+    of the combined queue capacity ("queue.main-exec-queue-capacity" plus each "queue.pools.<TYPE>.
+    queue-capacity"), or anything has spilled, it estimates how long the backlog takes to drain
+    (depth / workers in every pool x mean handler time from processingTimer), clamped to [1s, 60s]
+  - checkAdmission(): what TaskService calls before creating a Task; throws QueueSaturatedException
+    carrying that retry-after hint instead of accepting more work than the workers can absorb
+--------------------------------------------------------------------------------------------------
+*/
+@Service
+public class BackpressureMonitor {
+    // Field(s):
+    private static final long MIN_RETRY_AFTER_MS = 1000;
+    private static final long MAX_RETRY_AFTER_MS = 60000;
+    private final QueueService queueService;
+    private final OverflowSpillList spillList;
+    private final QueueProperties props;
+    private final Timer processingTimer;
+    // Constructor(s):
+    public BackpressureMonitor(QueueService queueService, OverflowSpillList spillList, QueueProperties props, Timer processingTimer) {
+        this.queueService = queueService;
+        this.spillList = spillList;
+        this.props = props;
+        this.processingTimer = processingTimer;
+    }
+
+    // Method(s):
+    public int executorDepth() {
+        return queueService.getTotalWorkerStatus().get("queued");
+    }
+
+    public int queueCapacity() {
+        int capacity = props.getMainExecQueueCapacity();
+        for (QueueProperties.Pool pool : props.getPools().values()) capacity += pool.getQueueCapacity();
+        return capacity;
+    }
+
+    public long overflowDepth() {
+        // Nothing is ever spilled under SHED, so skip the Redis round trip there.
+        return props.getOverflowPolicy() == OverflowPolicy.SHED ? 0 : spillList.size();
+    }
+
+    public long retryAfterMs() {
+        Map<String, Integer> status = queueService.getTotalWorkerStatus();
+        int depth = status.get("queued");
+        long overflow = overflowDepth();
+        if (depth < queueCapacity() * props.getSaturationThreshold() && overflow == 0) return 0;
+        int workers = Math.max(1, status.get("capacity"));
+        double meanMs = processingTimer.count() > 0 ? processingTimer.mean(TimeUnit.MILLISECONDS) : MIN_RETRY_AFTER_MS;
+        long estimate = (long) ((depth + overflow) / (double) workers * meanMs);
+        return Math.min(MAX_RETRY_AFTER_MS, Math.max(MIN_RETRY_AFTER_MS, estimate));
+    }
+
+    public void checkAdmission() {
+        long retryAfter = retryAfterMs();
+        if (retryAfter > 0) throw new QueueSaturatedException(retryAfter);
+    }
+}
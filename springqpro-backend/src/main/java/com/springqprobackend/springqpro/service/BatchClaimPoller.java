@@ -0,0 +1,109 @@
+package com.springqprobackend.springqpro.service;
+
+import com.springqprobackend.springqpro.config.QueueProperties;
+import com.springqprobackend.springqpro.domain.entity.TaskEntity;
+import com.springqprobackend.springqpro.enums.DispatchMode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/* BatchClaimPoller.java
+--------------------------------------------------------------------------------------------------
+[HISTORY]:
+The event-driven path (TaskCreatedListener -> QueueService.enqueueById -> ProcessingService.claimAndProcess)
+costs five-plus round trips to PostgreSQL per Task before a handler even runs. With a small Hikari pool
+(max 5 in prod), the pool saturates well before the worker threads do.
+
+[CURRENT ROLE]:
+Active only when "queue.dispatch-mode: POLLING". Every "queue.poll-interval-ms" it:
+  - asks QueueService how many workers are free right now in each pool (shared + bulkheads)
+  - for each pool with free workers, claims up to min(free, "queue.claim-batch-size") QUEUED rows
+    of that pool's TaskTypes in ONE statement
+    (ProcessingService.claimBatch -> UPDATE ... FOR UPDATE SKIP LOCKED ... RETURNING)
+  - hands the claimed rows to the worker pool (QueueService.submitClaimed); a row the pool refuses
+    is handed back to QUEUED (ProcessingService.releaseClaim) and picked up by a later poll
+SKIP LOCKED makes it safe to run this on every instance at once.
+
+[FUTURE WORK]:
+  - adaptive poll interval (back off when the table is empty, speed up when batches come back full)
+--------------------------------------------------------------------------------------------------
+*/
+@Component
+public class BatchClaimPoller implements SmartLifecycle {
+    // Field(s):
+    private static final Logger logger = LoggerFactory.getLogger(BatchClaimPoller.class);
+    private final ProcessingService processingService;
+    private final QueueService queueService;
+    private final ScheduledExecutorService scheduler;
+    private final QueueProperties props;
+    private volatile ScheduledFuture<?> pollFuture;
+    // Constructor(s):
+    public BatchClaimPoller(ProcessingService processingService, QueueService queueService, @Qualifier("schedExec") ScheduledExecutorService scheduler, QueueProperties props) {
+        this.processingService = processingService;
+        this.queueService = queueService;
+        this.scheduler = scheduler;
+        this.props = props;
+    }
+
+    // Method(s):
+    public void pollOnce() {
+        for (QueueService.PoolSlots pool : queueService.availableSlotsByPool()) {
+            int slots = Math.min(pool.slots(), props.getClaimBatchSize());
+            List<TaskEntity> claimed = processingService.claimBatch(slots, pool.types());
+            for (TaskEntity task : claimed) {
+                submitOrRelease(task);
+            }
+        }
+    }
+
+    /* Every claimed row is already INPROGRESS with an attempt used, so one the pool refuses (it filled up since the slot
+    count was taken) is handed straight back to QUEUED for the next poll -- not left for the lease reaper, and not
+    allowed to abort the rest of the batch. */
+    private void submitOrRelease(TaskEntity task) {
+        try {
+            queueService.submitClaimed(task);
+        } catch (RejectedExecutionException ex) {
+            logger.warn("[BatchClaimPoller] worker pool rejected {} -- handing the claim back", task.getId());
+            try {
+                processingService.releaseClaim(task);
+            } catch (Exception releaseEx) {
+                logger.error("[BatchClaimPoller] hand-back of {} failed, the lease reaper will recover it: {}", task.getId(), releaseEx.getMessage(), releaseEx);
+            }
+        }
+    }
+
+    private void safePoll() {
+        // NOTE: An exception escaping a scheduleWithFixedDelay task cancels every future run, so it must never leak out.
+        try {
+            pollOnce();
+        } catch (Exception ex) {
+            logger.error("[BatchClaimPoller] poll failed: {}", ex.getMessage(), ex);
+        }
+    }
+
+    // SmartLifecycle:
+    @Override
+    public void start() {
+        if (props.getDispatchMode() != DispatchMode.POLLING) return;
+        logger.info("[BatchClaimPoller] starting (batchSize={}, intervalMs={})", props.getClaimBatchSize(), props.getPollIntervalMs());
+        pollFuture = scheduler.scheduleWithFixedDelay(this::safePoll, props.getPollIntervalMs(), props.getPollIntervalMs(), TimeUnit.MILLISECONDS);
+    }
+    @Override
+    public void stop() {
+        ScheduledFuture<?> f = pollFuture;
+        if (f != null) f.cancel(false);
+        pollFuture = null;
+    }
+    @Override
+    public boolean isRunning() {
+        return pollFuture != null;
+    }
+}
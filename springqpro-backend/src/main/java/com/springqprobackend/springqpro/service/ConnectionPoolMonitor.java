@@ -0,0 +1,57 @@
+package com.springqprobackend.springqpro.service;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/* ConnectionPoolMonitor.java
+--------------------------------------------------------------------------------------------------
+[CURRENT ROLE]:
+Read-only view of the Hikari connection pool -- active / idle / pending (threads waiting for a
+connection) / total / max -- for GET /api/processing/db-pool and springqpro_db_pool_utilization.
+Since ProcessingService stopped running handlers inside a transaction, "active" should track the
+number of claims and outcome writes in flight, not the number of busy workers; "pending" above 0
+for any length of time means the pool (maximum-pool-size) is the bottleneck again.
+(Spring Boot's own hikaricp_connections_* meters carry the same numbers for Prometheus.)
+--------------------------------------------------------------------------------------------------
+*/
+@Service
+public class ConnectionPoolMonitor {
+    // Field(s):
+    private final DataSource dataSource;
+    // Constructor(s):
+    public ConnectionPoolMonitor(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    // Method(s):
+    public Map<String, Integer> snapshot() {
+        Map<String, Integer> status = new LinkedHashMap<>();
+        HikariDataSource hikari = hikari();
+        HikariPoolMXBean pool = hikari == null ? null : hikari.getHikariPoolMXBean();
+        status.put("active", pool == null ? 0 : pool.getActiveConnections());
+        status.put("idle", pool == null ? 0 : pool.getIdleConnections());
+        status.put("pending", pool == null ? 0 : pool.getThreadsAwaitingConnection());
+        status.put("total", pool == null ? 0 : pool.getTotalConnections());
+        status.put("max", hikari == null ? 0 : hikari.getMaximumPoolSize());
+        return status;
+    }
+
+    // Active connections / maximum-pool-size.
+    public double utilization() {
+        Map<String, Integer> status = snapshot();
+        return status.get("max") == 0 ? 0.0 : (double) status.get("active") / status.get("max");
+    }
+
+    private HikariDataSource hikari() {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
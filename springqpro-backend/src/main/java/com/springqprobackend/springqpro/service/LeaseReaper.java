@@ -0,0 +1,145 @@
+package com.springqprobackend.springqpro.service;
+
+import com.springqprobackend.springqpro.config.QueueProperties;
+import com.springqprobackend.springqpro.enums.ProcessingEventType;
+import com.springqprobackend.springqpro.enums.TaskStatus;
+import com.springqprobackend.springqpro.redis.TaskRedisRepository;
+import com.springqprobackend.springqpro.redis.TaskStatusBuckets;
+import com.springqprobackend.springqpro.repository.TaskRepository;
+import io.micrometer.core.instrument.Counter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/* LeaseReaper.java
+--------------------------------------------------------------------------------------------------
+[HISTORY]:
+If a JVM died after the QUEUED -> INPROGRESS claim committed, the row stayed INPROGRESS forever.
+The Redis lock ("task:lock:<id>") expires on its own, but nothing ever looked at the row again.
+
+[CURRENT ROLE]:
+Every claim now stamps claimed_at / lease_until ("queue.lease-duration-ms" ahead). Every
+"queue.lease-reap-interval-ms" this component runs TaskRepository.reapExpiredLeases, a single
+UPDATE ... RETURNING that flips up to "queue.lease-reap-batch-size" expired INPROGRESS rows back
+to QUEUED (or FAILED once attempts are used up), then re-dispatches the QUEUED ones. Full batches
+are swept again right away. A re-dispatch that fails (Redis down for the XADD, DB down for the route
+lookup) doesn't stop the rest of the batch: that row gets its lapsed lease back
+(TaskRepository.restoreLapsedLease), so the next sweep reaps and dispatches it again. The (status, lease_until) index keeps each sweep proportional to the
+number of expired rows, not the size of the table. Disabled with "queue.lease-reaper-enabled: false".
+
+[FUTURE WORK]:
+  - lease heartbeats for handlers that can legitimately run longer than the lease
+--------------------------------------------------------------------------------------------------
+*/
+@Component
+public class LeaseReaper implements SmartLifecycle {
+    // Field(s):
+    private static final Logger logger = LoggerFactory.getLogger(LeaseReaper.class);
+    private final TaskRepository taskRepository;
+    private final QueueService queueService;
+    private final ProcessingService processingService;
+    private final TaskRedisRepository cache;
+    private final TaskStatusBuckets buckets;
+    private final ScheduledExecutorService scheduler;
+    private final QueueProperties props;
+    private final Counter tasksLeaseExpiredCounter;
+    private volatile ScheduledFuture<?> sweepFuture;
+    // Constructor(s):
+    public LeaseReaper(TaskRepository taskRepository, QueueService queueService, ProcessingService processingService, TaskRedisRepository cache, TaskStatusBuckets buckets, @Qualifier("schedExec") ScheduledExecutorService scheduler,
+                       QueueProperties props, Counter tasksLeaseExpiredCounter) {
+        this.taskRepository = taskRepository;
+        this.queueService = queueService;
+        this.processingService = processingService;
+        this.cache = cache;
+        this.buckets = buckets;
+        this.scheduler = scheduler;
+        this.props = props;
+        this.tasksLeaseExpiredCounter = tasksLeaseExpiredCounter;
+    }
+
+    // Method(s):
+    public int reapOnce() {
+        int reaped = 0;
+        List<Object[]> batch;
+        boolean dispatchFailed = false;
+        do {
+            batch = taskRepository.reapExpiredLeases(props.getLeaseReapBatchSize());
+            List<String> ids = new ArrayList<>(batch.size());
+            List<TaskStatusBuckets.Move> moves = new ArrayList<>(batch.size());
+            for (Object[] row : batch) {
+                ids.add((String) row[0]);
+                moves.add(new TaskStatusBuckets.Move((String) row[0], (String) row[2], TaskStatus.valueOf(String.valueOf(row[1]))));
+            }
+            cache.deleteAll(ids);   // one DEL for the whole sweep -- the cached copies predate the reap.
+            buckets.moved(moves);
+            for (Object[] row : batch) {
+                String taskId = (String) row[0];
+                String status = String.valueOf(row[1]);
+                reaped++;
+                tasksLeaseExpiredCounter.increment();
+                processingService.logEvent(ProcessingEventType.LEASE_EXPIRED, taskId, 0, status);
+                if ("QUEUED".equals(status) && !dispatch(taskId, (String) row[2])) dispatchFailed = true;
+            }
+            // Rows whose dispatch failed are due again right away -- leave them for the next sweep instead of spinning on them.
+        } while (batch.size() >= props.getLeaseReapBatchSize() && !dispatchFailed);
+        if (reaped > 0) logger.warn("[LeaseReaper] recovered {} task(s) with expired claim leases", reaped);
+        return reaped;
+    }
+
+    private boolean dispatch(String taskId, String owner) {
+        try {
+            queueService.dispatch(taskId);
+            return true;
+        } catch (Exception ex) {
+            logger.warn("[LeaseReaper] re-dispatch of {} failed, keeping it for the next sweep: {}", taskId, ex.getMessage());
+        }
+        try {
+            if (taskRepository.restoreLapsedLease(taskId) == 0) return false;
+        } catch (Exception ex) {
+            // The row stays QUEUED, with nothing left to dispatch it but StartupRecovery on the next boot (EVENT mode) or StreamRepublisher (STREAM mode).
+            logger.error("[LeaseReaper] could not restore the lease of {}: {}", taskId, ex.getMessage(), ex);
+            return false;
+        }
+        try {
+            buckets.moved(List.of(new TaskStatusBuckets.Move(taskId, owner, TaskStatus.INPROGRESS)));
+        } catch (Exception ex) {
+            logger.warn("[LeaseReaper] bucket update for {} failed: {}", taskId, ex.getMessage());
+        }
+        return false;
+    }
+
+    private void safeReap() {
+        // NOTE: An exception escaping a scheduleWithFixedDelay task cancels every future run, so it must never leak out.
+        try {
+            reapOnce();
+        } catch (Exception ex) {
+            logger.error("[LeaseReaper] sweep failed: {}", ex.getMessage(), ex);
+        }
+    }
+
+    // SmartLifecycle:
+    @Override
+    public void start() {
+        if (!props.isLeaseReaperEnabled()) return;
+        logger.info("[LeaseReaper] starting (leaseMs={}, intervalMs={}, batchSize={})", props.getLeaseDurationMs(), props.getLeaseReapIntervalMs(), props.getLeaseReapBatchSize());
+        sweepFuture = scheduler.scheduleWithFixedDelay(this::safeReap, props.getLeaseReapIntervalMs(), props.getLeaseReapIntervalMs(), TimeUnit.MILLISECONDS);
+    }
+    @Override
+    public void stop() {
+        ScheduledFuture<?> f = sweepFuture;
+        if (f != null) f.cancel(false);
+        sweepFuture = null;
+    }
+    @Override
+    public boolean isRunning() {
+        return sweepFuture != null;
+    }
+}
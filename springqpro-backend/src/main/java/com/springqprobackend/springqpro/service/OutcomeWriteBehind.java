@@ -0,0 +1,230 @@
+package com.springqprobackend.springqpro.service;
+
+import com.springqprobackend.springqpro.config.QueueProperties;
+import com.springqprobackend.springqpro.domain.entity.TaskEntity;
+import com.springqprobackend.springqpro.enums.TaskStatus;
+import com.springqprobackend.springqpro.redis.TaskRedisRepository;
+import io.micrometer.core.instrument.Counter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/* OutcomeWriteBehind.java
+--------------------------------------------------------------------------------------------------
+[HISTORY]:
+Every finished Task cost its own UPDATE (ProcessingService.recordOutcome) plus its own Redis SET.
+At high completion rates those per-row round trips were most of the DB load.
+
+[CURRENT ROLE]:
+Optional ("queue.outcome-write-behind-enabled") write-behind stage for COMPLETED/FAILED outcomes:
+  - offer(): a worker drops (id, status, attempts, version) into a bounded lock-free buffer
+    (ConcurrentLinkedQueue + an AtomicInteger bound) and moves on to its next Task
+  - flush(): every "queue.outcome-flush-interval-ms", or as soon as "queue.outcome-flush-batch-size"
+    outcomes are waiting, what's waiting is written (whole batches only past the first, so outcomes
+    still trickling in wait for the next tick) as one JDBC batch of status + @Version guarded
+    UPDATEs in a single transaction, followed by one pipelined cache putAll (best-effort)
+  - only then does each outcome's callback run (metrics, retry scheduling, and the Redis Stream
+    XACK in STREAM mode), so nothing is acknowledged before its outcome is durable. Once the
+    transaction has committed the callbacks always run, even if the cache write fails: a FAILED
+    row whose callback never ran would never be retried (LeaseReaper only looks at INPROGRESS)
+  - the callbacks run on this stage's own thread ("QS-OutcomeCallbacks"), not the flushing one.
+    Flushes run on the shared "schedExec" pool, next to the pollers, LeaseReaper, OverflowDrainer
+    and the event pump, and a large batch's worth of Redis round trips (ZADD, XACK per outcome)
+    there would hold all of them up
+Ordering per Task ID: only one flush runs at a time and it drains the buffer FIFO. A Task can't be
+re-claimed until its outcome is flushed (the row stays INPROGRESS until then), so each Task has at
+most one outcome in flight anyway, and the @Version guard rejects anything stale.
+A full buffer (or a stopped stage) makes offer() return false; the caller then writes that outcome
+synchronously. Outcomes never block and are never dropped.
+
+[NOTES]:
+Outcomes sitting in the buffer when the JVM dies are lost with it. Their rows are still INPROGRESS,
+so LeaseReaper re-queues them once the lease runs out and the Task runs again (at-least-once). Stream
+entries stay pending until then too.
+--------------------------------------------------------------------------------------------------
+*/
+@Component
+public class OutcomeWriteBehind implements SmartLifecycle {
+    // Field(s):
+    private static final Logger logger = LoggerFactory.getLogger(OutcomeWriteBehind.class);
+    private static final String OUTCOME_SQL = """
+            UPDATE tasks SET status = ?, attempts = ?, lease_until = NULL, version = version + 1
+            WHERE id = ? AND version = ? AND status = 'INPROGRESS'
+            """;
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+    private final TaskRedisRepository cache;
+    private final ScheduledExecutorService scheduler;
+    private final QueueProperties props;
+    private final Counter outcomeFlushCounter;
+    private final Queue<PendingOutcome> buffer = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final ReentrantLock flushLock = new ReentrantLock();   // one flusher at a time keeps the FIFO order.
+    private final ExecutorService callbacks = Executors.newSingleThreadExecutor(r -> Thread.ofPlatform().name("QS-OutcomeCallbacks").daemon(true).unstarted(r));
+    private volatile ScheduledFuture<?> flushFuture;
+
+    /* One buffered outcome. onFlushed gets true once the row was updated, false if the guard rejected it (claim lost:
+    the lease ran out and LeaseReaper moved the row on). */
+    public record PendingOutcome(TaskEntity task, TaskStatus status, Consumer<Boolean> onFlushed) { }
+
+    // Constructor(s):
+    public OutcomeWriteBehind(JdbcTemplate jdbc, PlatformTransactionManager transactionManager, TaskRedisRepository cache,
+                              @Qualifier("schedExec") ScheduledExecutorService scheduler, QueueProperties props, Counter outcomeFlushCounter) {
+        this.jdbc = jdbc;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.cache = cache;
+        this.scheduler = scheduler;
+        this.props = props;
+        this.outcomeFlushCounter = outcomeFlushCounter;
+    }
+
+    // Method(s):
+    // false -> not buffered (stage off/stopped or buffer full); the caller writes the outcome itself.
+    public boolean offer(PendingOutcome outcome) {
+        if (flushFuture == null) return false;
+        int waiting = size.incrementAndGet();
+        if (waiting > props.getOutcomeBufferCapacity()) {
+            size.decrementAndGet();
+            return false;
+        }
+        buffer.add(outcome);
+        if (waiting % props.getOutcomeFlushBatchSize() == 0) scheduler.execute(() -> safeFlush(false));   // a full batch is waiting -- don't wait for the tick.
+        return true;
+    }
+
+    public int depth() {
+        return size.get();
+    }
+
+    // Drains the whole buffer in batches of "queue.outcome-flush-batch-size". Returns how many outcomes were written.
+    public int flush() {
+        return flush(true);
+    }
+
+    /* all == false (the tick / a full batch): writes what's waiting, then carries on only while a full batch is waiting.
+    Draining "until empty" would chase outcomes as they trickle in and write them in lots of tiny batches. */
+    private int flush(boolean all) {
+        if (!flushLock.tryLock()) return 0;     // another flush is already draining; it'll pick these up.
+        try {
+            int flushed = 0;
+            int batchSize = props.getOutcomeFlushBatchSize();
+            List<PendingOutcome> batch;
+            while (!(batch = drain(batchSize)).isEmpty()) {
+                flushBatch(batch);
+                flushed += batch.size();
+                if (!all && size.get() < batchSize) break;
+            }
+            return flushed;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private List<PendingOutcome> drain(int max) {
+        List<PendingOutcome> batch = new ArrayList<>(Math.min(max, size.get()));
+        PendingOutcome next;
+        while (batch.size() < max && (next = buffer.poll()) != null) {
+            size.decrementAndGet();
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private void flushBatch(List<PendingOutcome> batch) {
+        List<Object[]> args = new ArrayList<>(batch.size());
+        for (PendingOutcome o : batch) {
+            TaskEntity t = o.task();
+            args.add(new Object[] { o.status().name(), t.getAttempts(), t.getId(), t.getVersion() });
+        }
+        int[] counts = tx.execute(status -> jdbc.batchUpdate(OUTCOME_SQL, args));
+        outcomeFlushCounter.increment();
+
+        List<TaskEntity> applied = new ArrayList<>(batch.size());
+        boolean[] ok = new boolean[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            ok[i] = counts != null && (counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO);
+            if (!ok[i]) continue;
+            TaskEntity t = batch.get(i).task();
+            t.setStatus(batch.get(i).status());
+            t.setLeaseUntil(null);
+            t.setVersion(t.getVersion() + 1);
+            applied.add(t);
+        }
+        // The batch is committed: a Redis failure here must not stop the callbacks below. The old cached copies expire on their TTL.
+        if (!applied.isEmpty()) {
+            try {
+                cache.putAll(applied);
+            } catch (Exception ex) {
+                logger.warn("[OutcomeWriteBehind] cache write for {} flushed outcome(s) failed: {}", applied.size(), ex.getMessage());
+            }
+        }
+        callbacks.execute(() -> runCallbacks(batch, ok));
+        logger.debug("[OutcomeWriteBehind] flushed {} outcome(s), {} applied", batch.size(), applied.size());
+    }
+
+    private static void runCallbacks(List<PendingOutcome> batch, boolean[] ok) {
+        for (int i = 0; i < batch.size(); i++) {
+            try {
+                batch.get(i).onFlushed().accept(ok[i]);
+            } catch (Exception ex) {
+                logger.error("[OutcomeWriteBehind] post-flush callback for {} failed: {}", batch.get(i).task().getId(), ex.getMessage(), ex);
+            }
+        }
+    }
+
+    private void safeFlush(boolean all) {
+        // NOTE: An exception escaping a scheduleWithFixedDelay task cancels every future run, so it must never leak out.
+        try {
+            flush(all);
+        } catch (Exception ex) {
+            // Only the JDBC batch can get here (the cache write and callbacks are guarded). Its transaction rolled back, so
+            // the rows are still INPROGRESS: LeaseReaper re-queues them and their stream entries stay pending until then.
+            logger.error("[OutcomeWriteBehind] flush failed: {}", ex.getMessage(), ex);
+        }
+    }
+
+    // SmartLifecycle:
+    @Override
+    public void start() {
+        if (!props.isOutcomeWriteBehindEnabled()) return;
+        logger.info("[OutcomeWriteBehind] starting (intervalMs={}, batchSize={}, capacity={})", props.getOutcomeFlushIntervalMs(), props.getOutcomeFlushBatchSize(), props.getOutcomeBufferCapacity());
+        flushFuture = scheduler.scheduleWithFixedDelay(() -> safeFlush(false), props.getOutcomeFlushIntervalMs(), props.getOutcomeFlushIntervalMs(), TimeUnit.MILLISECONDS);
+    }
+    @Override
+    public void stop() {
+        ScheduledFuture<?> f = flushFuture;
+        flushFuture = null;     // new outcomes go synchronous from here on...
+        if (f != null) f.cancel(false);
+        flushLock.lock();       // ...and whatever is already buffered is written before shutdown carries on.
+        flushLock.unlock();
+        safeFlush(true);
+        try {
+            callbacks.submit(() -> { }).get(10, TimeUnit.SECONDS);     // single thread, FIFO: every earlier callback has run.
+        } catch (Exception ex) {
+            logger.warn("[OutcomeWriteBehind] post-flush callbacks still running at shutdown: {}", ex.getMessage());
+        }
+    }
+    @Override
+    public boolean isRunning() {
+        return flushFuture != null;
+    }
+}
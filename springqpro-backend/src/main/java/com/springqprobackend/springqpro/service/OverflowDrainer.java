@@ -0,0 +1,102 @@
+package com.springqprobackend.springqpro.service;
+
+import com.springqprobackend.springqpro.config.QueueProperties;
+import com.springqprobackend.springqpro.enums.OverflowPolicy;
+import com.springqprobackend.springqpro.redis.OverflowSpillList;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/* OverflowDrainer.java
+--------------------------------------------------------------------------------------------------
+[CURRENT ROLE]:
+Feeds spilled Task IDs (OverflowSpillList) back into the worker pools. Every "queue.poll-interval-ms",
+for each pool with free workers, it pops up to min(that pool's free slots, "queue.claim-batch-size")
+IDs from that pool's spill list, oldest first, and calls QueueService.enqueueById on each. It only
+takes as many as the pool has idle workers, so it never re-fills the executor queue it is relieving.
+If a burst refills the pool anyway, the rejection handler just spills the ID again.
+If a hand-off throws (the route lookup hits a DB error), that ID and everything popped after it are
+put back at the old end of the list for the next pass, so nothing popped is lost.
+Runs on every instance unless "queue.overflow-policy: SHED" (nothing is ever spilled there).
+--------------------------------------------------------------------------------------------------
+*/
+@Component
+public class OverflowDrainer implements SmartLifecycle {
+    // Field(s):
+    private static final Logger logger = LoggerFactory.getLogger(OverflowDrainer.class);
+    private final OverflowSpillList spillList;
+    private final QueueService queueService;
+    private final ScheduledExecutorService scheduler;
+    private final QueueProperties props;
+    private volatile ScheduledFuture<?> drainFuture;
+    // Constructor(s):
+    public OverflowDrainer(OverflowSpillList spillList, QueueService queueService, @Qualifier("schedExec") ScheduledExecutorService scheduler, QueueProperties props) {
+        this.spillList = spillList;
+        this.queueService = queueService;
+        this.scheduler = scheduler;
+        this.props = props;
+    }
+
+    // Method(s):
+    public int drainOnce() {
+        int drained = 0;
+        for (QueueService.PoolSlots pool : queueService.availableSlotsByPool()) {
+            drained += drainPool(pool.pool(), Math.min(pool.slots(), props.getClaimBatchSize()));
+        }
+        if (drained > 0) logger.info("[OverflowDrainer] re-dispatched {} spilled task(s)", drained);
+        return drained;
+    }
+
+    private int drainPool(String pool, int slots) {
+        List<String> ids = spillList.pop(pool, slots);
+        for (int i = 0; i < ids.size(); i++) {
+            try {
+                queueService.enqueueById(ids.get(i));
+            } catch (Exception ex) {
+                List<String> rest = ids.subList(i, ids.size());
+                logger.warn("[OverflowDrainer] re-dispatch of {} failed, putting {} ID(s) back: {}", ids.get(i), rest.size(), ex.getMessage());
+                try {
+                    spillList.restore(pool, rest);
+                } catch (Exception restoreEx) {
+                    // Still QUEUED in PostgreSQL: StartupRecovery picks them up on the next boot.
+                    logger.error("[OverflowDrainer] could not put back spilled IDs {}: {}", rest, restoreEx.getMessage(), restoreEx);
+                }
+                return i;
+            }
+        }
+        return ids.size();
+    }
+
+    private void safeDrain() {
+        // NOTE: An exception escaping a scheduleWithFixedDelay task cancels every future run, so it must never leak out.
+        try {
+            drainOnce();
+        } catch (Exception ex) {
+            logger.error("[OverflowDrainer] drain failed: {}", ex.getMessage(), ex);
+        }
+    }
+
+    // SmartLifecycle:
+    @Override
+    public void start() {
+        if (props.getOverflowPolicy() == OverflowPolicy.SHED) return;
+        drainFuture = scheduler.scheduleWithFixedDelay(this::safeDrain, props.getPollIntervalMs(), props.getPollIntervalMs(), TimeUnit.MILLISECONDS);
+    }
+    @Override
+    public void stop() {
+        ScheduledFuture<?> f = drainFuture;
+        if (f != null) f.cancel(false);
+        drainFuture = null;
+    }
+    @Override
+    public boolean isRunning() {
+        return drainFuture != null;
+    }
+}
@@ -0,0 +1,55 @@
+package com.springqprobackend.springqpro.service;
+
+import com.springqprobackend.springqpro.enums.TaskStatus;
+import com.springqprobackend.springqpro.redis.TaskRedisRepository;
+import com.springqprobackend.springqpro.redis.TaskStatusBuckets;
+import com.springqprobackend.springqpro.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/* OverflowShedder.java
+--------------------------------------------------------------------------------------------------
+[CURRENT ROLE]:
+What "queue.overflow-policy: SHED" does with a Task ID the full executor refused (called by
+OverflowRejectionHandler on the submitting thread): the row goes QUEUED -> FAILED, and the cache and
+status buckets follow. A dropped hand-off used to leave the row QUEUED, and in EVENT mode nothing
+looks at QUEUED rows again until the next StartupRecovery. FAILED is a state the owner already sees
+and can re-submit from.
+If the UPDATE itself fails the row stays QUEUED (logged); the shed is still counted.
+--------------------------------------------------------------------------------------------------
+*/
+@Component
+public class OverflowShedder {
+    // Field(s):
+    private static final Logger logger = LoggerFactory.getLogger(OverflowShedder.class);
+    private final TaskRepository taskRepository;
+    private final TaskRedisRepository cache;
+    private final TaskStatusBuckets buckets;
+    // Constructor(s):
+    public OverflowShedder(TaskRepository taskRepository, TaskRedisRepository cache, TaskStatusBuckets buckets) {
+        this.taskRepository = taskRepository;
+        this.cache = cache;
+        this.buckets = buckets;
+    }
+
+    // Method(s):
+    public void shed(String taskId) {
+        List<String> shed;
+        try {
+            shed = taskRepository.shedQueued(taskId);
+        } catch (Exception ex) {
+            logger.error("[OverflowShedder] could not mark shed {} FAILED, it stays QUEUED: {}", taskId, ex.getMessage(), ex);
+            return;
+        }
+        if (shed.isEmpty()) return;     // not QUEUED any more (claimed elsewhere, deleted...)
+        try {
+            cache.delete(taskId);
+            buckets.moved(List.of(new TaskStatusBuckets.Move(taskId, shed.get(0), TaskStatus.FAILED)));
+        } catch (Exception ex) {
+            logger.warn("[OverflowShedder] cache update for shed {} failed: {}", taskId, ex.getMessage());
+        }
+    }
+}
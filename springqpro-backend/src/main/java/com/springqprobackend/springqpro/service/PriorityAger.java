@@ -0,0 +1,89 @@
+package com.springqprobackend.springqpro.service;
+
+import com.springqprobackend.springqpro.config.QueueProperties;
+import com.springqprobackend.springqpro.enums.DispatchMode;
+import com.springqprobackend.springqpro.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/* PriorityAger.java
+--------------------------------------------------------------------------------------------------
+[HISTORY]:
+claimQueuedBatch used to age priorities inside its ORDER BY (created_at - priority x aging). No index
+can serve a computed, parameterised key like that, so every poll sorted the whole QUEUED backlog
+under FOR UPDATE SKIP LOCKED.
+
+[CURRENT ROLE]:
+Active only when "queue.dispatch-mode: POLLING". claimQueuedBatch now orders by (effective_priority
+DESC, created_at), straight off idx_tasks_status_effective_priority_created_at, and aging is stored in
+the rows instead: every "queue.priority-aging-ms" this component runs TaskRepository.promoteAged once
+per level, from MIN_PRIORITY up, and each due row jumps straight to the level its wait has earned.
+A row that has waited k aging steps ends up at effective_priority >= k, so old low-priority work
+catches up with (and, by created_at, beats) newer high-priority work. The condition only depends on
+the row's age and current effective_priority, so running it twice, or on every instance, promotes
+nothing extra.
+
+[NOTES]:
+Only effective_priority (scheduling state, never returned by the API) is raised. priority stays what
+the client asked for, including across retries.
+--------------------------------------------------------------------------------------------------
+*/
+@Component
+public class PriorityAger implements SmartLifecycle {
+    // Field(s):
+    private static final Logger logger = LoggerFactory.getLogger(PriorityAger.class);
+    private final TaskRepository taskRepository;
+    private final ScheduledExecutorService scheduler;
+    private final QueueProperties props;
+    private volatile ScheduledFuture<?> ageFuture;
+    // Constructor(s):
+    public PriorityAger(TaskRepository taskRepository, @Qualifier("schedExec") ScheduledExecutorService scheduler, QueueProperties props) {
+        this.taskRepository = taskRepository;
+        this.scheduler = scheduler;
+        this.props = props;
+    }
+
+    // Method(s):
+    // Returns how many rows moved up a level.
+    public int ageOnce() {
+        int promoted = 0;
+        for (int priority = TaskService.MIN_PRIORITY; priority < TaskService.MAX_PRIORITY; priority++) {
+            promoted += taskRepository.promoteAged(priority, props.getPriorityAgingMs(), TaskService.MAX_PRIORITY);
+        }
+        if (promoted > 0) logger.debug("[PriorityAger] promoted {} waiting task(s)", promoted);
+        return promoted;
+    }
+
+    private void safeAge() {
+        // NOTE: An exception escaping a scheduleWithFixedDelay task cancels every future run, so it must never leak out.
+        try {
+            ageOnce();
+        } catch (Exception ex) {
+            logger.error("[PriorityAger] aging pass failed: {}", ex.getMessage(), ex);
+        }
+    }
+
+    // SmartLifecycle:
+    @Override
+    public void start() {
+        if (props.getDispatchMode() != DispatchMode.POLLING) return;
+        ageFuture = scheduler.scheduleWithFixedDelay(this::safeAge, props.getPriorityAgingMs(), props.getPriorityAgingMs(), TimeUnit.MILLISECONDS);
+    }
+    @Override
+    public void stop() {
+        ScheduledFuture<?> f = ageFuture;
+        if (f != null) f.cancel(false);
+        ageFuture = null;
+    }
+    @Override
+    public boolean isRunning() {
+        return ageFuture != null;
+    }
+}
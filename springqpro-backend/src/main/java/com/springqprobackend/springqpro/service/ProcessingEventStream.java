@@ -0,0 +1,196 @@
+package com.springqprobackend.springqpro.service;
+
+import com.springqprobackend.springqpro.config.QueueProperties;
+import com.springqprobackend.springqpro.enums.ProcessingEventType;
+import com.springqprobackend.springqpro.runtime.ProcessingEventLog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/* ProcessingEventStream.java
+--------------------------------------------------------------------------------------------------
+[HISTORY]:
+The Processing Monitor polled GET /api/processing/events every 3 seconds, and every poll from every
+open dashboard rendered and returned the whole event log, changed or not.
+
+[CURRENT ROLE]:
+Server-Sent Events behind GET /api/processing/events/stream (optional taskId / type filters, so a
+client can follow a single Task). Every "queue.event-stream-interval-ms" one pump read takes only
+the events recorded since the last pump from ProcessingService's ProcessingEventLog
+(eventsSince), and hands each client the ones matching its filters:
+  - each client has its own buffer of "queue.event-stream-client-buffer" events. When a client
+    can't keep up, its OLDEST unsent events are dropped and it is told how many ("dropped" event),
+    so one slow dashboard never holds memory or delays anyone else
+  - the socket writes happen on a virtual thread per client, and only while that client has
+    something to send. Workers never touch this class: they keep writing to the lock-free ring
+  - every event carries its ring sequence as the SSE id. A client reconnecting with
+    Last-Event-ID gets what it missed (if it's still in the ring), a new client gets the current
+    ring as a backlog, and then both get live events
+Streams end after "queue.event-stream-timeout-ms" and on any write error (client gone).
+--------------------------------------------------------------------------------------------------
+*/
+@Component
+public class ProcessingEventStream implements SmartLifecycle {
+    // Field(s):
+    private static final Logger logger = LoggerFactory.getLogger(ProcessingEventStream.class);
+    private final ProcessingEventLog eventLog;
+    private final ScheduledExecutorService scheduler;
+    private final QueueProperties props;
+    private final List<Client> clients = new CopyOnWriteArrayList<>();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private long cursor;    // next sequence the pump will read; guarded by "this"
+    private volatile ScheduledFuture<?> pumpFuture;
+
+    // Constructor(s):
+    public ProcessingEventStream(ProcessingService processingService, @Qualifier("schedExec") ScheduledExecutorService scheduler, QueueProperties props) {
+        this.eventLog = processingService.getEventLog();
+        this.scheduler = scheduler;
+        this.props = props;
+        this.cursor = eventLog.nextSequence();
+    }
+
+    // Method(s):
+    /* lastEventId: the SSE Last-Event-ID of a reconnecting client (null for a new one). Registering under the pump's lock
+    means the backlog stops exactly where the pump's next read starts, so nothing is sent twice or skipped. */
+    public SseEmitter subscribe(String taskId, ProcessingEventType type, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(props.getEventStreamTimeoutMs());
+        Client client = new Client(emitter, taskId, type, props.getEventStreamClientBuffer());
+        emitter.onCompletion(() -> clients.remove(client));
+        emitter.onTimeout(() -> clients.remove(client));
+        emitter.onError(ex -> clients.remove(client));
+        synchronized (this) {
+            long from = 0;
+            if (lastEventId != null) {
+                try {
+                    from = Long.parseLong(lastEventId) + 1;
+                } catch (NumberFormatException ignored) { }
+            }
+            List<ProcessingEventLog.Event> backlog = new ArrayList<>();
+            for (ProcessingEventLog.Event e : eventLog.eventsSince(from)) {
+                if (e.seq() < cursor) backlog.add(e);
+            }
+            client.offer(backlog);
+            clients.add(client);
+        }
+        return emitter;
+    }
+
+    public int clientCount() {
+        return clients.size();
+    }
+
+    /* One read of the ring per interval, however many clients are connected. eventsSince stops short of a slot whose writer
+    hasn't published yet, so the cursor only ever moves up to the first missing sequence and that event goes out on a
+    later pump; if it never gets published, eventsSince steps past it once the ring has lapped it. */
+    synchronized void pump() {
+        List<ProcessingEventLog.Event> fresh = eventLog.eventsSince(cursor);
+        if (fresh.isEmpty()) return;
+        cursor = fresh.get(fresh.size() - 1).seq() + 1;
+        for (Client c : clients) c.offer(fresh);
+    }
+
+    private void safePump() {
+        // NOTE: An exception escaping a scheduleWithFixedDelay task cancels every future run, so it must never leak out.
+        try {
+            pump();
+        } catch (Exception ex) {
+            logger.error("[ProcessingEventStream] pump failed: {}", ex.getMessage(), ex);
+        }
+    }
+
+    private final class Client {
+        private final SseEmitter emitter;
+        private final String taskId;
+        private final ProcessingEventType type;
+        private final int capacity;
+        private final ArrayDeque<ProcessingEventLog.Event> buffer = new ArrayDeque<>();    // guarded by itself
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private long dropped;   // guarded by buffer
+
+        Client(SseEmitter emitter, String taskId, ProcessingEventType type, int capacity) {
+            this.emitter = emitter;
+            this.taskId = taskId;
+            this.type = type;
+            this.capacity = capacity;
+        }
+
+        void offer(List<ProcessingEventLog.Event> events) {
+            boolean added = false;
+            synchronized (buffer) {
+                for (ProcessingEventLog.Event e : events) {
+                    if (type != null && e.type() != type) continue;
+                    if (taskId != null && !taskId.equals(e.taskId())) continue;
+                    if (buffer.size() >= capacity) {
+                        buffer.pollFirst();     // drop-oldest
+                        dropped++;
+                    }
+                    buffer.addLast(e);
+                    added = true;
+                }
+            }
+            if (added && draining.compareAndSet(false, true)) senders.execute(this::drain);
+        }
+
+        // At most one drain per client at a time (the "draining" flag); it runs until the buffer is empty.
+        private void drain() {
+            try {
+                while (true) {
+                    List<ProcessingEventLog.Event> batch;
+                    long droppedNow;
+                    synchronized (buffer) {
+                        if (buffer.isEmpty()) {
+                            draining.set(false);
+                            return;
+                        }
+                        batch = new ArrayList<>(buffer);
+                        buffer.clear();
+                        droppedNow = dropped;
+                        dropped = 0;
+                    }
+                    if (droppedNow > 0) emitter.send(SseEmitter.event().name("dropped").data(droppedNow));
+                    for (ProcessingEventLog.Event e : batch) {
+                        emitter.send(SseEmitter.event().id(Long.toString(e.seq())).name("processing").data(e.render(), MediaType.TEXT_PLAIN));
+                    }
+                }
+            } catch (Exception ex) {
+                // Client went away (or the emitter already completed): stop feeding it.
+                clients.remove(this);
+                draining.set(false);
+                emitter.completeWithError(ex);
+            }
+        }
+    }
+
+    // SmartLifecycle:
+    @Override
+    public void start() {
+        pumpFuture = scheduler.scheduleWithFixedDelay(this::safePump, props.getEventStreamIntervalMs(), props.getEventStreamIntervalMs(), TimeUnit.MILLISECONDS);
+    }
+    @Override
+    public void stop() {
+        ScheduledFuture<?> f = pumpFuture;
+        if (f != null) f.cancel(false);
+        pumpFuture = null;
+        for (Client c : clients) c.emitter.complete();
+        clients.clear();
+    }
+    @Override
+    public boolean isRunning() {
+        return pumpFuture != null;
+    }
+}
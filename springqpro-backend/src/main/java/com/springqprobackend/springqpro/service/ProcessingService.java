@@ -1,7 +1,11 @@
 package com.springqprobackend.springqpro.service;
 
+import com.springqprobackend.springqpro.config.QueueProperties;
 import com.springqprobackend.springqpro.domain.entity.TaskEntity;
 import com.springqprobackend.springqpro.domain.event.TaskCreatedEvent;
+import com.springqprobackend.springqpro.enums.ProcessingEventType;
+import com.springqprobackend.springqpro.enums.RetrySchedulerMode;
+import com.springqprobackend.springqpro.enums.TaskPhase;
 import com.springqprobackend.springqpro.enums.TaskStatus;
 import com.springqprobackend.springqpro.enums.TaskType;
 import com.springqprobackend.springqpro.handlers.TaskHandler;
@@ -9,10 +13,12 @@ import com.springqprobackend.springqpro.mapper.TaskMapper;
 import com.springqprobackend.springqpro.models.Task;
 import com.springqprobackend.springqpro.models.TaskHandlerRegistry;
 import com.springqprobackend.springqpro.redis.RedisDistributedLock;
+import com.springqprobackend.springqpro.redis.RetryDelayQueue;
 import com.springqprobackend.springqpro.redis.TaskRedisRepository;
+import com.springqprobackend.springqpro.redis.TaskStatusBuckets;
 import com.springqprobackend.springqpro.repository.TaskRepository;
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
+import com.springqprobackend.springqpro.runtime.ProcessingEventLog;
+import com.springqprobackend.springqpro.runtime.TaskPhaseTimers;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -24,11 +30,11 @@ import org.springframework.transaction.annotation.Transactional;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Timer;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 /* ProcessingService.java
@@ -46,12 +52,19 @@ to replace Worker threads entirely and become the “single source of truth” f
 
 [CURRENT ROLE]:
 This class now performs the entire persisted lifecycle of a Task:
- - Atomically claim a TaskEntity via DB transition (QUEUED → INPROGRESS)
+ - Atomically claim a TaskEntity via DB transition (QUEUED → INPROGRESS), either one at a time
+   (claimAndProcess) or in SKIP LOCKED batches (claimBatch, used by BatchClaimPoller)
+ - Keep transactions short: claim (one transaction) -> handler (NO transaction, no pooled DB
+   connection held) -> outcome write (one transaction). A slow handler no longer pins a Hikari
+   connection, so in-flight Tasks are capped by worker count, not by maximum-pool-size
+ - Optionally hand outcome writes to OutcomeWriteBehind, which batches them; everything that has
+   to wait for the outcome to be durable (retry scheduling, the stream XACK) runs in settle()
  - Convert TaskEntity → Task (domain object) using TaskMapper
  - Invoke the appropriate TaskHandler
  - Persist COMPLETED or FAILED back to PostgreSQL
- - Schedule retries using exponential backoff
- - Emit metrics for observability
+ - Schedule retries using exponential backoff (durably in RetryDelayQueue, released by RetryPoller)
+ - Emit metrics for observability, including per-TaskType phase timers (TaskPhaseTimers): claim,
+   lock, handler, persist and created -> completed
  - Enforce Redis-backed distributed lock safety
 
 [NOTES]:
@@ -126,6 +139,7 @@ THAT'S WHAT YOU FIND IN PROFESSIONAL-GRADE ARCHITECTURE MODELS LIKE Spring Batch
 public class ProcessingService {
     // Field(s):
     private static final Logger logger = LoggerFactory.getLogger(ProcessingService.class);
+    private static final long LOCK_TTL_MS = 2000;   // "task:lock:<id>" TTL; also how long a lock miss waits before re-dispatching.
     private final TaskRepository taskRepository;
     private final TaskHandlerRegistry handlerRegistry;
     private final TaskMapper taskMapper;
@@ -133,7 +147,11 @@ public class ProcessingService {
     private final QueueService queueService; // to re-enqueue by id when scheduling retries
     private final RedisDistributedLock redisLock;   // 2025-11-23-DEBUG: REDIS INTEGRATION PHASE!
     private final TaskRedisRepository cache;    // 2025-11-23-DEBUG: Refactoring for TaskRedisRepository.java
-    private final Deque<String> eventLog = new ArrayDeque<>();
+    private final TaskStatusBuckets buckets;    // per-owner status lists; transitions that don't rewrite the cached row re-file it here.
+    private final RetryDelayQueue retryQueue;   // Durable backoff parking ("queue.retry-scheduler: REDIS").
+    private final OutcomeWriteBehind writeBehind;   // batches outcome UPDATEs when "queue.outcome-write-behind-enabled".
+    private final QueueProperties props;
+    private final ProcessingEventLog eventLog = new ProcessingEventLog();   // lock-free ring; rendered only when /api/processing/events reads it.
 
     @Autowired
     private ApplicationEventPublisher publisher;
@@ -145,14 +163,12 @@ public class ProcessingService {
     private final Counter tasksFailedCounter;
     private final Counter tasksRetriedCounter;
     private final Timer processingTimer;
-
-    @PersistenceContext
-    private EntityManager em;   // 2025-11-17-DEBUG: Need this for flush() and refresh(), which is professionally commonplace when working with Spring to enforce ordering.
+    private final TaskPhaseTimers phaseTimers;
 
     // Constructor(s):
     @Lazy
-    public ProcessingService(TaskRepository taskRepository, TaskHandlerRegistry handlerRegistry, TaskMapper taskMapper, @Qualifier("schedExec") ScheduledExecutorService scheduler, QueueService queueService, RedisDistributedLock redisLock, TaskRedisRepository cache,
-                             Counter tasksSubmittedCounter, Counter tasksClaimedCounter, Counter tasksCompletedCounter, Counter tasksFailedCounter, Counter tasksRetriedCounter, Timer processingTimer) {
+    public ProcessingService(TaskRepository taskRepository, TaskHandlerRegistry handlerRegistry, TaskMapper taskMapper, @Qualifier("schedExec") ScheduledExecutorService scheduler, QueueService queueService, RedisDistributedLock redisLock, TaskRedisRepository cache, TaskStatusBuckets buckets,
+                             RetryDelayQueue retryQueue, OutcomeWriteBehind writeBehind, QueueProperties props, Counter tasksSubmittedCounter, Counter tasksClaimedCounter, Counter tasksCompletedCounter, Counter tasksFailedCounter, Counter tasksRetriedCounter, Timer processingTimer, TaskPhaseTimers phaseTimers) {
         this.taskRepository = taskRepository;
         this.handlerRegistry = handlerRegistry;
         this.taskMapper = taskMapper;
@@ -160,6 +176,10 @@ public class ProcessingService {
         this.queueService = queueService;
         this.redisLock = redisLock;
         this.cache = cache;
+        this.buckets = buckets;
+        this.retryQueue = retryQueue;
+        this.writeBehind = writeBehind;
+        this.props = props;
         // 2025-11-17-DEBUG:+NOTE: METRICS PHASE ADDITIONS:
         this.tasksSubmittedCounter = tasksSubmittedCounter;
         this.tasksClaimedCounter = tasksClaimedCounter;
@@ -167,56 +187,110 @@ public class ProcessingService {
         this.tasksFailedCounter = tasksFailedCounter;
         this.tasksRetriedCounter = tasksRetriedCounter;
         this.processingTimer = processingTimer;
+        this.phaseTimers = phaseTimers;
     }
 
     // 2025-11-23-DEBUG: OVERHAULING MY claimAndProcess METHOD LOGIC [BELOW]:
     // Method for attempting to claim a Task and process it. This method coordinates DB-level claim and handler execution.
     // The retry doesn’t live inside the handler anymore — it’s a post-processing policy in ProcessingService. If it throws, the failure is caught in the ProcessingService try/catch block.
-    @Transactional  // <-- forgot this, it should 100% be here.
+    /* Deliberately NOT @Transactional (it used to be): a transaction here would stay open -- holding a Hikari connection --
+    for the whole handler run. claimById and recordOutcome each commit their own short transaction instead, and the
+    lost-update protection comes from their status/@Version guards rather than from one long transaction. */
     public void claimAndProcess(String taskId) {
-        logEvent("CLAIM_START " + taskId);
-        /* 2025-11-24-DEBUG: ADDING STRONG VALIDATION TO THIS METHOD AS PART OF JWT INTEGRATION!!!
-        ProcessingService MUST NOT trust or execute invalid Ids!!! */
-        if (!taskRepository.existsById(taskId)) {
-            logger.warn("WARNING: Processing request ignored — task does not exist.");
-            return;
-        }
-        logger.info("[ProcessingService] starting claimAndProcess for {}", taskId);
+        claimAndProcess(taskId, () -> {});
+    }
 
+    /* onSettled runs once there is nothing left to do for this claim attempt: the outcome is durable (after the
+    write-behind flush when that's on), or the claim didn't happen at all. STREAM mode XACKs from it. It does NOT run
+    if anything throws, so the stream entry stays pending. */
+    public void claimAndProcess(String taskId, Runnable onSettled) {
+        logEvent(ProcessingEventType.CLAIM_START, taskId);
+        logger.info("[ProcessingService] starting claimAndProcess for {}", taskId);
         tasksSubmittedCounter.increment();  // DEBUG: METRICS ADDITION.
 
-        // Load current in-DB Task snapshot (it'll be "frozen" as QUEUED until this method "claims" it):
-        // NOTE: As alluded to, this is basically replacing the "Thread dequeues as processes a Task" functionality of QueueService.
-        Optional<TaskEntity> snapshot = taskRepository.findById(taskId);    // NOTE: Remember this is a built-in function when you extend JPA.
-        if(snapshot.isEmpty()) return;
-        TaskEntity current = snapshot.get();
-        // Attempt to claim: change QUEUED -> INPROGRESS (atomically w/ TaskRepository), increment attempts:
-        logger.info("[ProcessingService] attempting transition for {} attempts {}", taskId, current.getAttempts() + 1);
-        int updated = taskRepository.transitionStatus(taskId, TaskStatus.QUEUED, TaskStatus.INPROGRESS, current.getAttempts() + 1);
-        logger.info("[ProcessingService] transition returned count={}", updated);
-        if (updated == 0) {
-            logger.warn("[ProcessingService] claim for {} failed (transition returned 0) — likely status mismatch", taskId);
-            return; // Claim failed: already claimed or status has been changed.
+        /* One UPDATE ... WHERE status = 'QUEUED' RETURNING * does the claim (QUEUED -> INPROGRESS, attempts + 1, lease)
+        and hands back the claimed row. It replaces existsById + findById + the claim UPDATE + flush/refresh + findById.
+        An unknown ID (2025-11-24: ProcessingService MUST NOT trust or execute invalid Ids) and a Task somebody else
+        already claimed both come back empty, so validation and the double-claim guard are the same WHERE clause. */
+        long claimStart = System.nanoTime();
+        Optional<TaskEntity> claim = taskRepository.claimById(taskId, props.getLeaseDurationMs());
+        if (claim.isEmpty()) {
+            logger.warn("[ProcessingService] claim for {} ignored — task does not exist or is no longer QUEUED", taskId);
+            onSettled.run();
+            return;
         }
+        TaskEntity claimed = claim.get();
+        phaseTimers.recordSince(TaskPhase.CLAIM, claimed.getType(), claimStart);
+        putQuietly(claimed);    // the claimed row (INPROGRESS, attempts, lease) replaces the QUEUED copy and re-files it, same pipeline.
 
         tasksClaimedCounter.increment();    // DEBUG: METRICS ADDITION.
-        logEvent("CLAIM_SUCCESS " + taskId + " attempt=" + (current.getAttempts()));
+        logEvent(ProcessingEventType.CLAIM_SUCCESS, taskId, claimed.getAttempts(), null);
+        processClaimed(claimed, onSettled);
+    }
+    // 2025-11-23-DEBUG: OVERHAULING MY claimAndProcess METHOD LOGIC [ABOVE].
 
-        em.flush();
-        em.refresh(current);
+    /* Batch claim (DispatchMode.POLLING): one UPDATE ... FOR UPDATE SKIP LOCKED ... RETURNING statement claims up to
+    batchSize QUEUED rows (status -> INPROGRESS, attempts + 1) instead of the existsById/findById/transitionStatus/
+    flush/refresh/findById sequence claimAndProcess used to run for every single Task (it's down to claimById now). BatchClaimPoller hands the returned
+    rows to QueueService.submitClaimed, which ends up in processClaimedTask below.
+    types limits the claim to the TaskTypes of one worker pool (BatchClaimPoller claims once per pool with free slots). */
+    @Transactional
+    public List<TaskEntity> claimBatch(int batchSize, Collection<TaskType> types) {
+        if (types.isEmpty()) return List.of();
+        long claimStart = System.nanoTime();
+        // A dedicated pool's single type gets the equality query, which its own index serves without touching other types' rows.
+        List<TaskEntity> claimed = types.size() == 1
+                ? taskRepository.claimQueuedBatchOfType(batchSize, props.getLeaseDurationMs(), types.iterator().next().name())
+                : taskRepository.claimQueuedBatch(batchSize, props.getLeaseDurationMs(), types.stream().map(TaskType::name).toList());
+        long claimNanos = System.nanoTime() - claimStart;   // one statement for the whole batch: every row waited for all of it.
+        cache.putAll(claimed);
+        for (TaskEntity t : claimed) {
+            tasksSubmittedCounter.increment();
+            tasksClaimedCounter.increment();
+            phaseTimers.record(TaskPhase.CLAIM, t.getType(), claimNanos);
+            logEvent(ProcessingEventType.CLAIM_SUCCESS, t.getId(), t.getAttempts(), ProcessingEventLog.BATCH);
+        }
+        if (!claimed.isEmpty()) logger.info("[ProcessingService] batch-claimed {} task(s)", claimed.size());
+        return claimed;
+    }
 
-        // Re-fetch the fresh TaskEntity now that we claimed it
-        TaskEntity claimed = taskRepository.findById(taskId).orElse(null);
-        if (claimed == null) return;
+    // Any TaskType (tests, and callers that don't route by pool):
+    public List<TaskEntity> claimBatch(int batchSize) {
+        return claimBatch(batchSize, List.of(TaskType.values()));
+    }
 
+    // Entry point for Tasks that were already claimed by claimBatch (the entity arrives detached; no transaction here either):
+    public void processClaimedTask(TaskEntity claimed) {
+        processClaimed(claimed, () -> {});
+    }
+
+    // Everything after a successful claim: Redis lock -> handler -> persist COMPLETED/FAILED -> retry scheduling.
+    private void processClaimed(TaskEntity claimed, Runnable onSettled) {
+        String taskId = claimed.getId();
         // 2025-11-23-DEBUG: OVERHAULING MY claimAndProcess METHOD LOGIC [1 - BELOW]:
         String lockKey = "task:lock:" + taskId;
-        String token = redisLock.tryLock(lockKey, 2000);    // 2025-11-23-DEBUG:+TO-DO: Going to use 2000 for the processing time (that's what's in application.yml I think).
-        logEvent("LOCK_ACQUIRED " + taskId);
+        long lockStart = System.nanoTime();
+        String token = redisLock.tryLock(lockKey, LOCK_TTL_MS);    // 2025-11-23-DEBUG:+TO-DO: Going to use 2000 for the processing time (that's what's in application.yml I think).
+        phaseTimers.recordSince(TaskPhase.LOCK, claimed.getType(), lockStart);
+        logEvent(ProcessingEventType.LOCK_ACQUIRED, taskId);
         if(token == null) {
             // NOTE: REDIS LOCK NOT WORKING MEANS, FOR SAFETY, I SHOULD SET STATUS OF TASK BACK TO QUEUED SO OTHER CONSUMERS CAN GET IT:
-            logEvent("LOCK_FAILED " + taskId + " returning task to QUEUED");
-            taskRepository.transitionStatus(taskId, TaskStatus.INPROGRESS, TaskStatus.QUEUED, claimed.getAttempts());
+            logEvent(ProcessingEventType.LOCK_FAILED, taskId);
+            if (!releaseClaim(claimed)) {
+                onSettled.run();    // somebody else moved the row on (reaped, deleted...); nothing of ours to hand back.
+                return;
+            }
+            /* The row is QUEUED with no lease, and this hand-off is done (in STREAM mode the entry is acked), so dispatch
+            it again -- after the lock TTL, so whoever holds the lock has finished or let it lapse by then. If that
+            dispatch fails the row stays QUEUED (for StartupRecovery in EVENT mode, StreamRepublisher in STREAM mode). */
+            onSettled.run();
+            scheduler.schedule(() -> {
+                try {
+                    queueService.dispatch(taskId);
+                } catch (Exception ex) {
+                    logger.error("[ProcessingService] re-dispatch of {} after a lock miss failed: {}", taskId, ex.getMessage(), ex);
+                }
+            }, LOCK_TTL_MS, TimeUnit.MILLISECONDS);
             return;
         }
         // 2025-11-23-DEBUG: OVERHAULING MY claimAndProcess METHOD LOGIC [1 - ABOVE].
@@ -225,66 +299,184 @@ public class ProcessingService {
         // NOTE: Considered proper DDD Principle to NOT have Persistence Objects mix with my Handlers!
         Task model = taskMapper.toDomain(claimed);
 
-        // try-catch-block to do the processing:
         try {
-            /* 2025-11-26-NOTE: [METRICS RELATED]:
-            Need to use recordCallable to wrap the stuff when exceptions are possible. standard "callable"
-            won't propogate the exception to the outer try-catch block (it'll swallow the damn thing!). */
+            // No transaction is open and no DB connection is held while the handler runs:
+            TaskStatus outcome = runHandler(model) ? TaskStatus.COMPLETED : TaskStatus.FAILED;
+            // Write-behind: the flusher calls settle() once the batch holding this outcome has committed.
+            long persistStart = System.nanoTime();
+            if (props.isOutcomeWriteBehindEnabled()
+                    && writeBehind.offer(new OutcomeWriteBehind.PendingOutcome(claimed, outcome, applied -> {
+                        phaseTimers.recordSince(TaskPhase.PERSIST, claimed.getType(), persistStart);
+                        settle(claimed, outcome, applied, onSettled);
+                    }))) {
+                return;
+            }
+            boolean applied = recordOutcome(claimed, outcome);
+            phaseTimers.recordSince(TaskPhase.PERSIST, claimed.getType(), persistStart);
+            settle(claimed, outcome, applied, onSettled);
+        } finally {
+            redisLock.unlock(lockKey, token); // 2025-11-23-DEBUG: LAST ADDITION FOR TaskRedisRepository.java REFACTORING PHASE.
+            logEvent(ProcessingEventType.LOCK_RELEASE, taskId);
+        }
+    }
+
+    /* Hands a claim back without running the handler (lock miss, or a worker pool that refused the batch-claimed row):
+    INPROGRESS -> QUEUED, lease cleared, attempts put back. false if the row wasn't ours any more (reaped, deleted...). */
+    public boolean releaseClaim(TaskEntity claimed) {
+        String taskId = claimed.getId();
+        int attempts = Math.max(0, claimed.getAttempts() - 1);     // the handler never ran, so the claim doesn't count.
+        if (taskRepository.releaseClaim(taskId, attempts) == 0) return false;
+        try {
+            cache.delete(taskId);   // the cached copy says INPROGRESS; the next read re-caches the QUEUED row.
+            buckets.moved(List.of(new TaskStatusBuckets.Move(taskId, claimed.getCreatedBy(), TaskStatus.QUEUED, attempts)));
+        } catch (Exception ex) {
+            logger.warn("[ProcessingService] cache update for released claim {} failed: {}", taskId, ex.getMessage());
+        }
+        return true;
+    }
+
+    /* Cache writes after a committed claim or outcome are best-effort: the row in Postgres is the truth, and a Redis error
+    escaping here would strand the claim (handler never run, STREAM entry never acked) over a stale cached copy. */
+    private void putQuietly(TaskEntity task) {
+        try {
+            cache.put(task);
+        } catch (Exception ex) {
+            logger.warn("[ProcessingService] couldn't cache {}: {}", task.getId(), ex.getMessage());
+        }
+    }
+
+    // Whatever has to wait until the outcome is durable. applied == false: the claim was lost, so there's nothing to follow up.
+    private void settle(TaskEntity claimed, TaskStatus outcome, boolean applied, Runnable onSettled) {
+        String taskId = claimed.getId();
+        if (applied && outcome == TaskStatus.COMPLETED) {
+            tasksCompletedCounter.increment();  // 2025-11-26-NOTE: METRICS ADDITION!
+            if (claimed.getCreatedAt() != null) {
+                phaseTimers.record(TaskPhase.END_TO_END, claimed.getType(), Duration.between(claimed.getCreatedAt(), Instant.now()).toNanos());
+            }
+            logEvent(ProcessingEventType.COMPLETED, taskId);
+            logger.info("[ProcessingService] after save - id: {}, status: {}, attempts: {}, version: {}", taskId, claimed.getStatus(), claimed.getAttempts(), claimed.getVersion());
+        } else if (applied) {
+            // ProcessingService catches Task FAILs gracefully - marking it as FAILED, persisting it, and re-enqueuing it with backoff.
+            tasksFailedCounter.increment(); // 2025-11-26-NOTE: METRICS ADDITION!
+            logEvent(ProcessingEventType.FAILED, taskId, claimed.getAttempts(), null);
+            scheduleRetryOrGiveUp(claimed);
+        }
+        onSettled.run();
+        logger.info("[ProcessingService] finishing claimAndProcess for {} -> status now {}", taskId, claimed.getStatus());
+    }
+
+    /* Runs the handler and reports success/failure; an exception is the failure signal. Called with no transaction open.
+    2025-11-26-NOTE: [METRICS RELATED]: Need to use recordCallable to wrap the stuff when exceptions are possible. standard
+    "callable" won't propogate the exception to the outer try-catch block (it'll swallow the damn thing!). */
+    private boolean runHandler(Task model) {
+        long handlerStart = System.nanoTime();
+        try {
             processingTimer.recordCallable(() -> {
-                logEvent("PROCESSING " + taskId + " type=" + model.getType());
+                logEvent(ProcessingEventType.PROCESSING, model.getId(), model.getAttempts(), model.getType());
                 TaskHandler handler = handlerRegistry.getHandler(model.getType().name());
                 if (handler == null) handler = handlerRegistry.getHandler("DEFAULT");
                 handler.handle(model);
                 return null;    // something needs to be returned for recordCallable.
             });
-            model.setStatus(TaskStatus.COMPLETED);
-            taskMapper.updateEntity(model, claimed);    // 2025-11-15-EDIT: ADDED THIS!
-            TaskEntity persisted = taskRepository.save(claimed);
-            cache.put(claimed); // 2025-11-23-DEBUG: REFACTORING FOR TaskRedisRepository.java
-            tasksCompletedCounter.increment();  // 2025-11-26-NOTE: METRICS ADDITION!
-            logEvent("COMPLETED " + taskId);
-            logger.info("[ProcessingService] after save - id: {}, status: {}, attempts: {}, version: {}", persisted.getId(), persisted.getStatus(), persisted.getAttempts(), persisted.getVersion());
-        } catch(Exception ex) {
-            // ProcessingService catches Task FAILs gracefully - marking it as FAILED, persisting it, and re-enqueuing it with backoff.
-            // 2025-11-17-DEBUG: Actually have no idea what I was doing here.
-            model.setStatus(TaskStatus.FAILED);
-            taskMapper.updateEntity(model, claimed);
-            taskRepository.save(claimed);
-            cache.put(claimed); // 2025-11-23-DEBUG: REFACTORING FOR TaskRedisRepository.java
-            tasksFailedCounter.increment(); // 2025-11-26-NOTE: METRICS ADDITION!
-            logEvent("FAILED " + taskId + " attempt=" + claimed.getAttempts());
-
-            em.flush();
-            em.refresh(claimed);
-
-            if (claimed.getAttempts() < claimed.getMaxRetries()) {
-                long delayMs = computeBackoffMs(claimed.getAttempts());
-                /* 2025-11-17-DEBUG: OKAY, it looks like I spotted a massive architectural flaw inside my processAndClaim() logic.
-                When a Thread tries to claim a Task, it does this: int updated = taskRepository.transitionStatus(taskId, TaskStatus.QUEUED, TaskStatus.INPROGRESS, current.getAttempts() + 1);,
-                but that's the thing -- it expects the persisted Task to be of type QUEUED, but the problem, when I re-enqueue a Task, I never
-                set the Status back to QUEUED; it remains FAILED so this method simply cannot run properly. That's why my Integration Test re-enqueing keeps messing up. */
-                int requeued = taskRepository.transitionStatusSimple(taskId, TaskStatus.FAILED, TaskStatus.QUEUED);
-                logger.info("[ProcessingService] requeue DB update for {} returned {}", taskId, requeued);
-                tasksRetriedCounter.increment();    // 2025-11-26-NOTE: METRICS ADDITION!
-                scheduler.schedule(() -> queueService.enqueueById(taskId), delayMs, TimeUnit.MILLISECONDS);
-                logEvent("RETRY_SCHEDULED " + taskId + " delayMs=" + delayMs);
+            return true;
+        } catch (Exception ex) {
+            logger.warn("[ProcessingService] handler failed for {}: {}", model.getId(), ex.toString());
+            return false;
+        } finally {
+            phaseTimers.recordSince(TaskPhase.HANDLER, model.getType(), handlerStart);
+        }
+    }
+
+    /* Persists COMPLETED/FAILED in one short transaction (TaskRepository.recordOutcome -- status + @Version guarded), then
+    mirrors it onto the detached entity and the cache. false means the claim was lost while the handler ran (lease
+    expired and LeaseReaper re-queued the row): the result is dropped, since another worker owns the Task now. */
+    private boolean recordOutcome(TaskEntity claimed, TaskStatus outcome) {
+        int updated = taskRepository.recordOutcome(claimed.getId(), claimed.getVersion(), outcome);
+        if (updated == 0) {
+            logger.warn("[ProcessingService] {} outcome for {} discarded — claim lost (lease expired or row changed)", outcome, claimed.getId());
+            logEvent(ProcessingEventType.OUTCOME_DISCARDED, claimed.getId(), claimed.getAttempts(), outcome);
+            return false;
+        }
+        claimed.setStatus(outcome);
+        claimed.setLeaseUntil(null);
+        claimed.setVersion(claimed.getVersion() + 1);
+        putQuietly(claimed); // 2025-11-23-DEBUG: REFACTORING FOR TaskRedisRepository.java
+        return true;
+    }
+
+    private void scheduleRetryOrGiveUp(TaskEntity claimed) {
+        String taskId = claimed.getId();
+        if (claimed.getAttempts() < claimed.getMaxRetries()) {
+            long delayMs = computeBackoffMs(claimed.getAttempts());
+            /* 2025-11-17-DEBUG: OKAY, it looks like I spotted a massive architectural flaw inside my processAndClaim() logic.
+            When a Thread tries to claim a Task, it does this: int updated = taskRepository.transitionStatus(taskId, TaskStatus.QUEUED, TaskStatus.INPROGRESS, current.getAttempts() + 1);,
+            but that's the thing -- it expects the persisted Task to be of type QUEUED, but the problem, when I re-enqueue a Task, I never
+            set the Status back to QUEUED; it remains FAILED so this method simply cannot run properly. That's why my Integration Test re-enqueing keeps messing up. */
+            tasksRetriedCounter.increment();    // 2025-11-26-NOTE: METRICS ADDITION!
+            /* The Task stays FAILED while it waits out the backoff; releaseRetry flips it back to QUEUED and dispatches it.
+            (In POLLING mode a QUEUED row would be claimed by the very next poll, so the flip can't happen any earlier.) */
+            if (props.getRetryScheduler() == RetrySchedulerMode.REDIS) {
+                retryQueue.schedule(taskId, System.currentTimeMillis() + delayMs);
             } else {
-                // permanent failure:
-                logger.error("Task failed permanently. DEBUG: Come and write a more detailed case here later I barely slept.");
-                logEvent("FAILED_PERMANENTLY " + taskId);
+                scheduleInMemoryRelease(taskId, delayMs);
             }
-        } finally {
-            redisLock.unlock(lockKey, token); // 2025-11-23-DEBUG: LAST ADDITION FOR TaskRedisRepository.java REFACTORING PHASE.
-            logEvent("LOCK_RELEASE " + taskId);
+            logEvent(ProcessingEventType.RETRY_SCHEDULED, taskId, claimed.getAttempts(), delayMs);
+        } else {
+            // permanent failure:
+            logger.error("Task failed permanently. DEBUG: Come and write a more detailed case here later I barely slept.");
+            logEvent(ProcessingEventType.FAILED_PERMANENTLY, taskId, claimed.getAttempts(), null);
+        }
+    }
+
+    /* IN_MEMORY retries: a ScheduledFuture swallows whatever its task throws, and nothing else ever sweeps FAILED rows, so a
+    release whose dispatch failed (row put back to FAILED by releaseRetry) is scheduled again here instead of being lost.
+    Only a JVM restart loses these -- use "queue.retry-scheduler: REDIS" when that matters. */
+    private void scheduleInMemoryRelease(String taskId, long delayMs) {
+        scheduler.schedule(() -> {
+            try {
+                releaseRetry(taskId);
+            } catch (Exception ex) {
+                logger.warn("[ProcessingService] retry release for {} failed, trying again in {} ms: {}", taskId, delayMs, ex.getMessage());
+                scheduleInMemoryRelease(taskId, delayMs);
+            }
+        }, delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    /* Called once a failed Task's backoff has elapsed (RetryPoller, or the in-memory ScheduledFuture): FAILED -> QUEUED,
+    then hand it to whichever dispatch path is configured. If the row is no longer FAILED (manually requeued, deleted...)
+    the transition updates nothing and the retry is dropped, so releasing the same Task twice is harmless.
+    Once the row is QUEUED the cache updates are best-effort, and a dispatch that throws puts the row (and its status
+    bucket) back to FAILED before rethrowing, so the caller's retry of the release still finds it FAILED: RetryPoller's
+    unacked claim in REDIS mode, scheduleInMemoryRelease in IN_MEMORY mode. */
+    public void releaseRetry(String taskId) {
+        List<String> requeued = taskRepository.requeueFailed(taskId);   // [owner] if the row went FAILED -> QUEUED, [] otherwise.
+        logger.info("[ProcessingService] retry release for {} -> requeue DB update returned {}", taskId, requeued.size());
+        if (requeued.isEmpty()) return;
+        try {
+            cache.delete(taskId);   // the cached copy still says FAILED; the next read re-caches the QUEUED row.
+            buckets.moved(List.of(new TaskStatusBuckets.Move(taskId, requeued.get(0), TaskStatus.QUEUED)));
+        } catch (Exception ex) {
+            logger.warn("[ProcessingService] cache update for released {} failed: {}", taskId, ex.getMessage());
+        }
+        logEvent(ProcessingEventType.RETRY_RELEASED, taskId);
+        try {
+            queueService.dispatch(taskId);
+        } catch (RuntimeException ex) {
+            if (taskRepository.transitionStatusSimple(taskId, TaskStatus.QUEUED, TaskStatus.FAILED) == 1) {   // 0 if a poller already claimed it.
+                try {
+                    buckets.moved(List.of(new TaskStatusBuckets.Move(taskId, requeued.get(0), TaskStatus.FAILED)));
+                } catch (Exception bucketEx) {
+                    logger.warn("[ProcessingService] bucket update for re-failed {} failed: {}", taskId, bucketEx.getMessage());
+                }
+            }
+            throw ex;
         }
-        logger.info("[ProcessingService] finishing claimAndProcess for {} -> status now {}", taskId, claimed.getStatus());
     }
-    // 2025-11-23-DEBUG: OVERHAULING MY claimAndProcess METHOD LOGIC [ABOVE].
 
     // 2025-12-07-NOTE: Adding a manual "retry" method (this was in the QueueService-era model of the project, never added it to ProcessingService era):
     @Transactional
     public boolean manuallyRequeue(String taskId) {
-        logEvent("RETRY_SCHEDULED_MANUALLY " + taskId);
+        logEvent(ProcessingEventType.RETRY_SCHEDULED_MANUALLY, taskId);
         Optional<TaskEntity> opt = taskRepository.findById(taskId);
         if(opt.isEmpty()) {
             logger.warn("[ManualRequeue] Task {} not found.", taskId);
@@ -306,7 +498,7 @@ public class ProcessingService {
         TaskEntity refreshed = taskRepository.findById(taskId).orElseThrow();
         cache.put(refreshed);
         // Publish event - the listener will call enqueueById after the AFTER COMMIT (this is deliberate, can't directly call enqueueById, it's a bad idea):
-        publisher.publishEvent(new TaskCreatedEvent(this, taskId));
+        publisher.publishEvent(new TaskCreatedEvent(this, taskId, task.getType(), task.getPriority()));
         logger.info("[ManualRequeue] Task {} successfully re-enqueued manually (AFTER_COMMIT will enqueue worker).", taskId);
         return true;
     }
@@ -328,29 +520,24 @@ public class ProcessingService {
     }
 
     // 2025-12-07-NOTE:+DEBUG: Metrics-related utility methods mainly for quality-of-life frontend features:
-    public void logEvent(String msg) {
-        synchronized (eventLog) {
-            eventLog.addFirst("[" + Instant.now() + "] " + msg);
-            if (eventLog.size() > 200) eventLog.removeLast();  // size-bound buffer
-        }
+    public void logEvent(ProcessingEventType type, String taskId) {
+        eventLog.record(type, taskId);
+    }
+    public void logEvent(ProcessingEventType type, String taskId, int attempt, Object detail) {
+        eventLog.record(type, taskId, attempt, detail);
     }
     public List<String> getRecentLogEvents() {
-        synchronized (eventLog) {
-            return new ArrayList<>(eventLog);
-        }
+        return eventLog.recent(null, null);
+    }
+    public ProcessingEventLog getEventLog() {
+        return eventLog;
+    }
+    // Newest first, optionally narrowed to one Task and/or one event type (null = any).
+    public List<String> getRecentLogEvents(String taskId, ProcessingEventType type) {
+        return eventLog.recent(taskId, type);
     }
     public Map<String, Object> getWorkerStatus() {
-        ThreadPoolExecutor exec = queueService.getExecutor();
-        int active = exec.getActiveCount();
-        int pool = exec.getPoolSize();
-        int idle = pool - active;
-
-        // Optional: if QueueService tracks # tasks currently processing - I have no idea.
-        int inFlight = active;
-        return Map.of(
-                "active", active,
-                "idle", idle,
-                "inFlight", inFlight
-        );
+        // Delegates to QueueService so the numbers are right for both the platform pool and VirtualThreadTaskExecutor.
+        return new HashMap<>(queueService.getWorkerStatus());
     }
 }
@@ -1,22 +1,36 @@
 package com.springqprobackend.springqpro.service;
 
 import com.springqprobackend.springqpro.config.QueueProperties;
+import com.springqprobackend.springqpro.domain.entity.TaskEntity;
+import com.springqprobackend.springqpro.enums.DispatchMode;
+import com.springqprobackend.springqpro.enums.TaskPhase;
+import com.springqprobackend.springqpro.enums.TaskType;
 import com.springqprobackend.springqpro.models.Task;
 import com.springqprobackend.springqpro.enums.TaskStatus;
 import com.springqprobackend.springqpro.models.TaskHandlerRegistry;
+import com.springqprobackend.springqpro.redis.TaskDispatchStream;
+import com.springqprobackend.springqpro.runtime.DispatchedTask;
+import com.springqprobackend.springqpro.runtime.PrioritizedRunnable;
 import com.springqprobackend.springqpro.repository.TaskRepository;
+import com.springqprobackend.springqpro.runtime.TaskPhaseTimers;
+import com.springqprobackend.springqpro.runtime.TaskTypeBulkheads;
 import com.springqprobackend.springqpro.runtime.Worker;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.stream.RecordId;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import jakarta.annotation.PreDestroy;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.*;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -38,6 +52,9 @@ Now, QueueService is basically an intermediary between TaskEntity's enqueueById(
 method and ProcessingService's claimAndProcess() method. The latter marks a DataBase-persisted
 Task for ProcessingService's processing by first submitting it to ExecutorService (where the latter
 is invoked). This makes sure that ProcessingService is the single source of processing truth.
+Hand-offs are routed by TaskType through TaskTypeBulkheads: types with a "queue.pools" entry run on
+their own pool, everything else on the shared "execService". Every hand-off stamps System.nanoTime()
+so the worker can record how long it waited in the pool's queue (TaskPhase.QUEUE_WAIT).
 --------------------------------------------------------------------------------------------------
 I've kept the legacy methods, in-memory maps, and so on as a historical artifact; they are not
 part of the modern production path.
@@ -106,10 +123,13 @@ public class QueueService {
     // DEBUG: 2025-11-26 EDIT: METRICS-RELATED ADDITIONS BELOW!
     //private final Counter queueEnqueueCounter;
     private final Counter queueEnqueueByIdCounter;
+    private final TaskDispatchStream dispatchStream;    // STREAM dispatch mode (Redis Stream + consumer group).
+    private final TaskTypeBulkheads bulkheads;          // per-TaskType pools; "executor" is its shared fallback.
+    private final TaskPhaseTimers phaseTimers;          // QUEUE_WAIT: hand-off -> a worker starts on it.
 
     // Constructor:
     @Autowired  // DEBUG: See if this fixes the issue!
-    public QueueService(TaskHandlerRegistry handlerRegistry, TaskRepository taskRepository, ProcessingService processingService, @Qualifier("execService") ExecutorService executor, @Qualifier("schedExec") ScheduledExecutorService scheduler, QueueProperties props, Counter queueEnqueueByIdCounter) {
+    public QueueService(TaskHandlerRegistry handlerRegistry, TaskRepository taskRepository, ProcessingService processingService, @Qualifier("execService") ExecutorService executor, @Qualifier("schedExec") ScheduledExecutorService scheduler, QueueProperties props, Counter queueEnqueueByIdCounter, TaskDispatchStream dispatchStream, TaskTypeBulkheads bulkheads, TaskPhaseTimers phaseTimers) {
         //this.jobs = new ConcurrentHashMap<>();
         this.taskRepository = taskRepository;
         this.processingService = processingService;
@@ -120,6 +140,9 @@ public class QueueService {
         // DEBUG: 2025-11-26 EDIT: METRICS-RELATED ADDITIONS BELOW:
         //this.queueEnqueueCounter = queueEnqueueCounter;
         this.queueEnqueueByIdCounter = queueEnqueueByIdCounter;
+        this.dispatchStream = dispatchStream;
+        this.bulkheads = bulkheads;
+        this.phaseTimers = phaseTimers;
     }
 
     // Constructor 2 (specifically for JUnit+Mockito testing purposes, maybe custom setups too I suppose):
@@ -134,6 +157,9 @@ public class QueueService {
         // DEBUG: 2025-11-26 EDIT: METRICS-RELATED ADDITIONS BELOW:
         //this.queueEnqueueCounter = queueEnqueueCounter;
         this.queueEnqueueByIdCounter = queueEnqueueByIdCounter;
+        this.dispatchStream = null;     // (no STREAM dispatch in unit tests)
+        this.bulkheads = new TaskTypeBulkheads(executor, Map.of());
+        this.phaseTimers = new TaskPhaseTimers(new SimpleMeterRegistry());
     }
 
     // DEBUG: 2025-11-13 EDIT: Method additions below. (Kind of replaces some but I'm going to keep my old legacy methods too).
@@ -141,17 +167,147 @@ public class QueueService {
     (prevents hypothetical attackers from submitting arbitrary tasks to worker threads). This is just a good practice addition brother. */
     //@PreAuthorize("denyAll()")
     public void enqueueById(String id) {
+        Optional<TaskRepository.TaskRoute> route = taskRepository.findRouteById(id);
+        enqueueById(id, route.map(TaskRepository.TaskRoute::getType).orElse(null), route.map(TaskRepository.TaskRoute::getPriority).orElse(0));
+    }
+
+    // Fast path when the caller already knows the Task's type + priority (TaskCreatedEvent) -- no DB read.
+    public void enqueueById(String id, TaskType type, int priority) {
         logger.info("[QueueService] enqueueById called for {}", id);
         queueEnqueueByIdCounter.increment();
-        executor.submit(() -> {
-                logger.info("[QueueService] submitting runnable for {}", id);
+        // execute() + DispatchedTask (not submit()) so a full executor's OverflowRejectionHandler can still see the Task ID:
+        long handedOff = System.nanoTime();
+        bulkheads.executorFor(type).execute(new DispatchedTask(id, priority, () -> {
+            phaseTimers.recordSince(TaskPhase.QUEUE_WAIT, type, handedOff);
+            logger.info("[QueueService] submitting runnable for {}", id);
+            try {
                 processingService.claimAndProcess(id);
+            } catch (Exception ex) {
+                logger.error("[QueueService] claimAndProcess({}) failed: {}", id, ex.getMessage(), ex);
+            }
+        }));
+    }
+
+    /* Dispatch entry point used by TaskCreatedListener (after commit) -- routes a persisted QUEUED Task ID according to
+    QueueProperties "queue.dispatch-mode". In POLLING mode there is nothing to hand off: BatchClaimPoller will find the
+    QUEUED row on its next poll. In STREAM mode the ID goes onto the Redis Stream and whichever instance's
+    StreamDispatchConsumer reads it runs it. */
+    public void dispatch(String id, TaskType type, int priority) {
+        switch (props.getDispatchMode()) {
+            case POLLING -> logger.info("[QueueService] dispatch({}) skipped -- POLLING mode, BatchClaimPoller will claim it", id);
+            case STREAM -> dispatchStream.publish(id, type, priority);
+            default -> enqueueById(id, type, priority);
+        }
+    }
+
+    // Bulk creation (TasksCreatedEvent): one call for the whole batch; STREAM mode pipelines the XADDs.
+    public void dispatchAll(List<TaskEntity> tasks) {
+        switch (props.getDispatchMode()) {
+            case POLLING -> logger.info("[QueueService] dispatchAll(x{}) skipped -- POLLING mode, BatchClaimPoller will claim them", tasks.size());
+            case STREAM -> dispatchStream.publishAll(tasks);
+            default -> tasks.forEach(t -> enqueueById(t.getId(), t.getType(), t.getPriority()));
+        }
+    }
+
+    /* Same, for callers that only have the Task ID (retry release, LeaseReaper, lock-miss hand-back): type/priority are looked up.
+    STREAM mode needs them too -- the type picks the pool's stream. */
+    public void dispatch(String id) {
+        switch (props.getDispatchMode()) {
+            case POLLING -> logger.info("[QueueService] dispatch({}) skipped -- POLLING mode, BatchClaimPoller will claim it", id);
+            case STREAM -> {
+                Optional<TaskRepository.TaskRoute> route = taskRepository.findRouteById(id);
+                dispatchStream.publish(id, route.map(TaskRepository.TaskRoute::getType).orElse(null), route.map(TaskRepository.TaskRoute::getPriority).orElse(0));
+            }
+            default -> enqueueById(id);
+        }
+    }
+
+    /* STREAM mode: same as enqueueById, but the stream entry is only XACKed once claimAndProcess has settled (outcome
+    durable -- after the OutcomeWriteBehind flush when that's on, so possibly on the flusher thread). If it throws
+    (DB/Redis trouble) or the node dies mid-way, the entry stays pending and another consumer reclaims it.
+    type == null means the entry was published without routing fields, so they're looked up. */
+    public void submitStreamEntry(String id, TaskType type, int priority, String streamKey, RecordId recordId) {
+        queueEnqueueByIdCounter.increment();
+        if (type == null) {
+            Optional<TaskRepository.TaskRoute> route = taskRepository.findRouteById(id);
+            type = route.map(TaskRepository.TaskRoute::getType).orElse(null);
+            priority = route.map(TaskRepository.TaskRoute::getPriority).orElse(0);
+        }
+        TaskType routed = type;
+        long handedOff = System.nanoTime();
+        bulkheads.executorFor(type).execute(new PrioritizedRunnable(priority, () -> {
+            phaseTimers.recordSince(TaskPhase.QUEUE_WAIT, routed, handedOff);
+            logger.info("[QueueService] submitting runnable for stream entry {} ({})", recordId, id);
+            try {
+                processingService.claimAndProcess(id, () -> dispatchStream.ack(streamKey, recordId));
+            } catch (Exception ex) {
+                logger.error("[QueueService] stream entry {} ({}) left pending: {}", recordId, id, ex.getMessage(), ex);
+            }
+        }));
+    }
+
+    // POLLING mode: the Task was already claimed by ProcessingService.claimBatch, so the worker skips straight to processing.
+    public void submitClaimed(TaskEntity claimed) {
+        long handedOff = System.nanoTime();
+        bulkheads.executorFor(claimed.getType()).execute(new PrioritizedRunnable(claimed.getPriority(), () -> {
+            phaseTimers.recordSince(TaskPhase.QUEUE_WAIT, claimed.getType(), handedOff);
+            logger.info("[QueueService] submitting runnable for batch-claimed {}", claimed.getId());
+            try {
+                processingService.processClaimedTask(claimed);
+            } catch (Exception ex) {
+                logger.error("[QueueService] processClaimedTask({}) failed: {}", claimed.getId(), ex.getMessage(), ex);
+            }
+        }));
+    }
+
+    /* Free workers in one pool (idle threads not already spoken for by queued work), with the TaskTypes that pool runs.
+    pool is "shared" or a TaskType name, as in getPoolStatus(). */
+    public record PoolSlots(String pool, List<TaskType> types, int slots) { }
+
+    /* How many more Tasks each worker pool can start right now. BatchClaimPoller and StreamDispatchConsumer claim per
+    pool -- only that pool's TaskTypes, never more than its free slots -- so claimed rows don't sit INPROGRESS in an
+    executor's queue, and idle SMS workers can't pull REPORT rows into an already-full REPORT pool. Pools with no free
+    slot are left out. */
+    public List<PoolSlots> availableSlotsByPool() {
+        Map<String, List<TaskType>> types = bulkheads.typesByPool();
+        List<PoolSlots> out = new ArrayList<>();
+        bulkheads.statusByPool().forEach((pool, status) -> {
+            int slots = Math.max(0, status.get("capacity") - status.get("active") - status.get("queued"));
+            if (slots > 0) out.add(new PoolSlots(pool, types.get(pool), slots));
         });
+        return out;
+    }
+
+    // Room left in the bounded queue of the pool this TaskType runs on (StartupRecovery waits for it before dispatching).
+    public int queueHeadroom(TaskType type) {
+        return TaskTypeBulkheads.queueHeadroom(bulkheads.executorFor(type));
+    }
+
+    // getWorkerStatus, summed over the shared pool and every bulkhead -- what backpressure and recovery gate on.
+    public Map<String, Integer> getTotalWorkerStatus() {
+        Map<String, Integer> total = new HashMap<>();
+        for (Map<String, Integer> status : bulkheads.statusByPool().values()) {
+            status.forEach((k, v) -> total.merge(k, v, Integer::sum));
+        }
+        return total;
+    }
+
+    public DispatchMode getDispatchMode() {
+        return props.getDispatchMode();
     }
 
     // 2025-12-07-NOTE: Some utility methods:
-    public ThreadPoolExecutor getExecutor() {
-        return (ThreadPoolExecutor) executor;
+    public ExecutorService getExecutor() {
+        return executor;
+    }
+    /* Snapshot of the shared "execService" for /api/processing/workers (and ProcessingService.getWorkerStatus).
+    Works for both "queue.executor-mode"s -- see TaskTypeBulkheads.status for what each key means. */
+    public Map<String, Integer> getWorkerStatus() {
+        return TaskTypeBulkheads.status(executor);
+    }
+    // Same snapshot per pool ("shared" + one per "queue.pools" TaskType) for /api/processing/workers/pools.
+    public Map<String, Map<String, Integer>> getPoolStatus() {
+        return bulkheads.statusByPool();
     }
 
     // OLD Methods:
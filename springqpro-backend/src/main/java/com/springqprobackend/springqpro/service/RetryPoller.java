@@ -0,0 +1,98 @@
+package com.springqprobackend.springqpro.service;
+
+import com.springqprobackend.springqpro.config.QueueProperties;
+import com.springqprobackend.springqpro.enums.RetrySchedulerMode;
+import com.springqprobackend.springqpro.redis.RetryDelayQueue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/* RetryPoller.java
+--------------------------------------------------------------------------------------------------
+[CURRENT ROLE]:
+Active only when "queue.retry-scheduler: REDIS". Every "queue.retry-poll-interval-ms" it claims the
+Tasks whose backoff has elapsed from RetryDelayQueue ("queue.retry-batch-size" at a time, looping
+while batches come back full), hands each one to ProcessingService.releaseRetry, and acks it once
+that returns. Runs on every instance; the Lua claim guarantees a due Task is released by only one
+of them at a time.
+A release that throws is NOT acked, and neither is one cut short by the JVM dying: the ID stays in
+the ZSET and comes due again after "queue.retry-claim-timeout-ms", so a FAILED row is never left
+without a pending retry.
+--------------------------------------------------------------------------------------------------
+*/
+@Component
+public class RetryPoller implements SmartLifecycle {
+    // Field(s):
+    private static final Logger logger = LoggerFactory.getLogger(RetryPoller.class);
+    private final RetryDelayQueue retryQueue;
+    private final ProcessingService processingService;
+    private final ScheduledExecutorService scheduler;
+    private final QueueProperties props;
+    private volatile ScheduledFuture<?> pollFuture;
+    // Constructor(s):
+    public RetryPoller(RetryDelayQueue retryQueue, ProcessingService processingService, @Qualifier("schedExec") ScheduledExecutorService scheduler, QueueProperties props) {
+        this.retryQueue = retryQueue;
+        this.processingService = processingService;
+        this.scheduler = scheduler;
+        this.props = props;
+    }
+
+    // Method(s):
+    public int pollOnce() {
+        int released = 0;
+        RetryDelayQueue.Claim due;
+        do {
+            due = retryQueue.claimDue(System.currentTimeMillis(), props.getRetryBatchSize());
+            for (String taskId : due.ids()) {
+                try {
+                    processingService.releaseRetry(taskId);
+                } catch (Exception ex) {
+                    logger.error("[RetryPoller] release of {} failed, retrying after the claim timeout: {}", taskId, ex.getMessage(), ex);
+                    continue;
+                }
+                try {
+                    retryQueue.ack(taskId, due.claimedUntil());
+                } catch (Exception ex) {
+                    // Released but not acked: it comes due again and releaseRetry ignores it (the row isn't FAILED any more).
+                    logger.warn("[RetryPoller] ack of {} failed: {}", taskId, ex.getMessage());
+                }
+                released++;
+            }
+        } while (due.ids().size() >= props.getRetryBatchSize());
+        return released;
+    }
+
+    private void safePoll() {
+        // NOTE: An exception escaping a scheduleWithFixedDelay task cancels every future run, so it must never leak out.
+        try {
+            pollOnce();
+        } catch (Exception ex) {
+            logger.error("[RetryPoller] poll failed: {}", ex.getMessage(), ex);
+        }
+    }
+
+    // SmartLifecycle:
+    @Override
+    public void start() {
+        if (props.getRetryScheduler() != RetrySchedulerMode.REDIS) return;
+        logger.info("[RetryPoller] starting (batchSize={}, intervalMs={})", props.getRetryBatchSize(), props.getRetryPollIntervalMs());
+        pollFuture = scheduler.scheduleWithFixedDelay(this::safePoll, props.getRetryPollIntervalMs(), props.getRetryPollIntervalMs(), TimeUnit.MILLISECONDS);
+    }
+    @Override
+    public void stop() {
+        ScheduledFuture<?> f = pollFuture;
+        if (f != null) f.cancel(false);
+        pollFuture = null;
+    }
+    @Override
+    public boolean isRunning() {
+        return pollFuture != null;
+    }
+}
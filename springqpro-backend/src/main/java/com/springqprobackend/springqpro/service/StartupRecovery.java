@@ -0,0 +1,145 @@
+package com.springqprobackend.springqpro.service;
+
+import com.springqprobackend.springqpro.config.QueueProperties;
+import com.springqprobackend.springqpro.enums.DispatchMode;
+import com.springqprobackend.springqpro.enums.TaskStatus;
+import com.springqprobackend.springqpro.enums.TaskType;
+import com.springqprobackend.springqpro.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/* StartupRecovery.java
+--------------------------------------------------------------------------------------------------
+[HISTORY]:
+TaskCreatedListener only fires for new commits. Anything that was QUEUED in PostgreSQL when the
+previous JVM went down (sitting in its executor queue, or with a retry about to be dispatched) was
+never looked at again after a restart.
+
+[CURRENT ROLE]:
+Once the context is up, a background thread ("QS-StartupRecovery") walks every QUEUED Task ID and
+hands it to the worker pool for its TaskType (QueueService.enqueueById):
+  - keyset pagination ("queue.recovery-page-size" rows per page, id > lastSeen), so only one page
+    is ever in memory -- unlike findByStatus, which would load every entity at once. Each page
+    carries (id, type, priority), everything enqueueById needs, so there's no per-ID route lookup
+  - paced to "queue.recovery-rate-per-second"
+  - pauses while the worker pools (shared + bulkheads) already have "queue.recovery-max-backlog"
+    Tasks waiting between them, and until the Task's own pool has room in its bounded queue. A
+    full pool spills or sheds instead of throwing, so recovery has to wait for real headroom
+    rather than count on a rejection to tell it to back off
+EVENT mode only. POLLING mode is skipped (BatchClaimPoller already reads QUEUED rows straight from
+the table), and so is STREAM mode: a QUEUED row there normally has a stream entry already, either
+undelivered or pending and reclaimed by StreamDispatchConsumer, so re-XADDing the backlog on every
+boot would deliver each one twice.
+Dispatching an ID that something else also dispatched is harmless: only one claim can win.
+
+[NOTES]:
+In STREAM mode a row whose XADD never happened (the node died between the commit and the publish)
+isn't picked up by this sweep; StreamRepublisher re-publishes those periodically instead.
+--------------------------------------------------------------------------------------------------
+*/
+@Component
+public class StartupRecovery implements SmartLifecycle {
+    // Field(s):
+    private static final Logger logger = LoggerFactory.getLogger(StartupRecovery.class);
+    private final TaskRepository taskRepository;
+    private final QueueService queueService;
+    private final QueueProperties props;
+    private volatile boolean stopRequested;
+    private volatile Thread recoveryThread;
+    // Constructor(s):
+    public StartupRecovery(TaskRepository taskRepository, QueueService queueService, QueueProperties props) {
+        this.taskRepository = taskRepository;
+        this.queueService = queueService;
+        this.props = props;
+    }
+
+    // Method(s):
+    // Walks the whole QUEUED backlog once; returns how many IDs were dispatched.
+    public long recover() {
+        long dispatched = 0;
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, props.getRecoveryRatePerSecond());
+        long nextSlot = System.nanoTime();
+        String afterId = "";
+        // Rows created after this are dispatched by TaskCreatedListener; recovery only owes the backlog it booted with.
+        Instant bootedAt = Instant.now();
+        List<TaskRepository.TaskIdRoute> page;
+        do {
+            page = taskRepository.findRoutesByStatusAfter(TaskStatus.QUEUED, bootedAt, afterId, Limit.of(props.getRecoveryPageSize()));
+            for (TaskRepository.TaskIdRoute route : page) {
+                if (stopRequested) return dispatched;
+                // rate limit: one ID per interval.
+                long wait = nextSlot - System.nanoTime();
+                if (wait > 0) LockSupport.parkNanos(wait);
+                nextSlot = Math.max(nextSlot, System.nanoTime()) + intervalNanos;
+                String id = route.getId();
+                TaskType type = route.getType();
+                if (!awaitHeadroom(type)) return dispatched;
+                try {
+                    // A row claimed or deleted since the page was read just fails the claim -- dispatching it is harmless.
+                    queueService.enqueueById(id, type, route.getPriority());
+                } catch (RejectedExecutionException ex) {
+                    // Only a pool that has been shut down still throws; the rest of the backlog waits for the next boot.
+                    logger.warn("[StartupRecovery] worker pool shut down, stopping at {}", id);
+                    return dispatched;
+                }
+                dispatched++;
+            }
+            if (!page.isEmpty()) afterId = page.get(page.size() - 1).getId();
+        } while (page.size() >= props.getRecoveryPageSize() && !stopRequested);
+        return dispatched;
+    }
+
+    // false if recovery was stopped while waiting.
+    private boolean awaitHeadroom(TaskType type) {
+        while (!stopRequested) {
+            if (queueService.getTotalWorkerStatus().get("queued") < props.getRecoveryMaxBacklog() && queueService.queueHeadroom(type) > 0) return true;
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(props.getPollIntervalMs()));
+        }
+        return false;
+    }
+
+    private void runRecovery() {
+        long start = System.currentTimeMillis();
+        try {
+            long n = recover();
+            logger.info("[StartupRecovery] re-dispatched {} QUEUED task(s) in {} ms", n, System.currentTimeMillis() - start);
+        } catch (Exception ex) {
+            logger.error("[StartupRecovery] recovery sweep failed: {}", ex.getMessage(), ex);
+        }
+    }
+
+    // SmartLifecycle:
+    @Override
+    public void start() {
+        if (!props.isRecoveryEnabled() || props.getDispatchMode() != DispatchMode.EVENT) return;
+        stopRequested = false;
+        recoveryThread = Thread.ofPlatform().name("QS-StartupRecovery").daemon(true).start(this::runRecovery);
+    }
+    @Override
+    public void stop() {
+        stopRequested = true;
+        Thread t = recoveryThread;
+        recoveryThread = null;
+        if (t != null) {
+            t.interrupt();
+            try {
+                t.join(2000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+    @Override
+    public boolean isRunning() {
+        return recoveryThread != null;
+    }
+}
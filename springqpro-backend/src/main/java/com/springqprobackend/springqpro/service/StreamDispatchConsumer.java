@@ -0,0 +1,156 @@
+package com.springqprobackend.springqpro.service;
+
+import com.springqprobackend.springqpro.config.QueueProperties;
+import com.springqprobackend.springqpro.enums.DispatchMode;
+import com.springqprobackend.springqpro.redis.TaskDispatchStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+/* StreamDispatchConsumer.java
+--------------------------------------------------------------------------------------------------
+[HISTORY]:
+EVENT dispatch only ever runs a Task on the node that created it, and loses whatever was sitting
+in that node's executor queue when it goes down.
+
+[CURRENT ROLE]:
+Active only when "queue.dispatch-mode: STREAM". One background thread per instance loops over:
+  - for each worker pool with free workers, XREADGROUP up to min(its free slots, "queue.claim-batch-size")
+    new entries from that pool's stream (TaskDispatchStream.keyFor), so a pool only ever gets its own Tasks
+  - when none of them had anything, one blocking XREADGROUP (up to "queue.stream-block-ms") over the
+    same streams, one entry per stream at most
+  - hands each Task ID to QueueService.submitStreamEntry, which runs claimAndProcess and XACKs after
+  - every "queue.stream-reclaim-idle-ms", XCLAIMs entries another consumer read but never acked, up to
+    each pool's free slots; when a pool got all it could take, the next pass reclaims again instead of
+    waiting out the interval, so a dead node's whole PEL drains at worker speed
+Every instance joins the same consumer group, so workers scale horizontally and each entry goes to
+exactly one of them.
+
+[FUTURE WORK]:
+  - an entry reclaimed after its Task already flipped to INPROGRESS is acked without being run
+    (claimAndProcess sees the status mismatch); a lease/reaper on the row itself has to cover that case.
+--------------------------------------------------------------------------------------------------
+*/
+@Component
+public class StreamDispatchConsumer implements SmartLifecycle {
+    // Field(s):
+    private static final Logger logger = LoggerFactory.getLogger(StreamDispatchConsumer.class);
+    private final TaskDispatchStream stream;
+    private final QueueService queueService;
+    private final QueueProperties props;
+    private volatile boolean running;
+    private volatile Thread loopThread;
+    private long lastReclaimAt;
+    private boolean reclaimBacklog;     // the last reclaim filled some pool -- there may be more stale entries behind it.
+    // Constructor(s):
+    public StreamDispatchConsumer(TaskDispatchStream stream, QueueService queueService, QueueProperties props) {
+        this.stream = stream;
+        this.queueService = queueService;
+        this.props = props;
+    }
+
+    // Method(s):
+    // One pass of the loop (package-visible for tests): returns how many entries were handed to the worker pool.
+    int consumeOnce() {
+        int submitted = 0;
+        long now = System.currentTimeMillis();
+        if (reclaimBacklog || now - lastReclaimAt >= props.getStreamReclaimIdleMs()) {
+            lastReclaimAt = now;
+            reclaimBacklog = false;
+            for (QueueService.PoolSlots pool : queueService.availableSlotsByPool()) {
+                int slots = Math.min(pool.slots(), props.getClaimBatchSize());
+                List<MapRecord<String, Object, Object>> reclaimed = stream.reclaimStale(stream.keyFor(pool.pool()), slots, Duration.ofMillis(props.getStreamReclaimIdleMs()));
+                if (reclaimed.size() >= slots) reclaimBacklog = true;
+                submitted += submitAll(reclaimed);
+            }
+        }
+        List<String> open = new ArrayList<>();
+        for (QueueService.PoolSlots pool : queueService.availableSlotsByPool()) {
+            String key = stream.keyFor(pool.pool());
+            open.add(key);
+            submitted += submitAll(stream.read(key, Math.min(pool.slots(), props.getClaimBatchSize())));
+        }
+        if (open.isEmpty()) {
+            sleepQuietly(props.getPollIntervalMs());
+        } else if (submitted == 0) {
+            submitted += submitAll(stream.awaitAny(open));     // every pool in "open" had at least one free slot.
+        }
+        return submitted;
+    }
+
+    private int submitAll(List<MapRecord<String, Object, Object>> records) {
+        if (records == null) return 0;
+        int submitted = 0;
+        for (MapRecord<String, Object, Object> record : records) {
+            String taskId = TaskDispatchStream.taskIdOf(record);
+            if (taskId == null) {
+                stream.ack(record.getStream(), record.getId());     // malformed entry, nothing to run.
+                continue;
+            }
+            try {
+                queueService.submitStreamEntry(taskId, TaskDispatchStream.typeOf(record), TaskDispatchStream.priorityOf(record), record.getStream(), record.getId());
+                submitted++;
+            } catch (RejectedExecutionException ex) {
+                // Left un-acked on purpose: it stays pending and comes back through reclaimStale().
+                logger.warn("[StreamDispatchConsumer] worker pool rejected {} -- leaving entry {} pending", taskId, record.getId());
+            }
+        }
+        return submitted;
+    }
+
+    private void runLoop() {
+        logger.info("[StreamDispatchConsumer] consuming {} as {}/{}", stream.keys(), props.getStreamGroup(), stream.getConsumerName());
+        while (running) {
+            // NOTE: Same rule as BatchClaimPoller -- one bad iteration (Redis blip, DB down) must not kill the loop.
+            try {
+                consumeOnce();
+            } catch (Exception ex) {
+                if (!running) break;
+                logger.error("[StreamDispatchConsumer] consume failed: {}", ex.getMessage(), ex);
+                sleepQuietly(props.getPollIntervalMs());
+            }
+        }
+        logger.info("[StreamDispatchConsumer] stopped");
+    }
+
+    private static void sleepQuietly(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // SmartLifecycle:
+    @Override
+    public void start() {
+        if (props.getDispatchMode() != DispatchMode.STREAM) return;
+        stream.ensureGroup();
+        running = true;
+        loopThread = Thread.ofPlatform().name("QS-StreamConsumer").daemon(true).start(this::runLoop);
+    }
+    @Override
+    public void stop() {
+        running = false;
+        Thread t = loopThread;
+        loopThread = null;
+        if (t != null) {
+            try {
+                t.join(props.getStreamBlockMs() + 1000);    // let an in-flight XREADGROUP BLOCK time out.
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
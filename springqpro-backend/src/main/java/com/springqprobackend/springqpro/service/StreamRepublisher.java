@@ -0,0 +1,112 @@
+package com.springqprobackend.springqpro.service;
+
+import com.springqprobackend.springqpro.config.QueueProperties;
+import com.springqprobackend.springqpro.enums.DispatchMode;
+import com.springqprobackend.springqpro.enums.TaskStatus;
+import com.springqprobackend.springqpro.redis.TaskDispatchStream;
+import com.springqprobackend.springqpro.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/* StreamRepublisher.java
+--------------------------------------------------------------------------------------------------
+[HISTORY]:
+In STREAM mode a Task is only ever dispatched by its XADD, which runs after the creating transaction
+commits. If that XADD failed (Redis blip, node died in between) -- or MAXLEN trimming dropped an entry
+nobody had read yet -- the row stayed QUEUED with nothing left that would ever deliver it. StartupRecovery
+doesn't help: it skips STREAM mode, where re-XADDing the whole backlog on boot would double it.
+
+[CURRENT ROLE]:
+Active only when "queue.dispatch-mode: STREAM". Every "queue.stream-republish-after-ms" it pages through
+QUEUED rows created more than that long ago (TaskRepository.findRoutesByStatusAfter, keyset by id) and
+XADDs them again -- but only for pools whose stream the group has read to the end (TaskDispatchStream
+.isDrained). With nothing left undelivered, a row that is still QUEUED that late either never had an
+entry or is pending on a consumer that died before claiming it. In the second case the extra entry is
+harmless: only one claim can win, and the loser acks a no-op (claimAndProcess sees the status mismatch).
+"queue.stream-republish-after-ms: 0" turns it off.
+--------------------------------------------------------------------------------------------------
+*/
+@Component
+public class StreamRepublisher implements SmartLifecycle {
+    // Field(s):
+    private static final Logger logger = LoggerFactory.getLogger(StreamRepublisher.class);
+    private final TaskRepository taskRepository;
+    private final TaskDispatchStream stream;
+    private final ScheduledExecutorService scheduler;
+    private final QueueProperties props;
+    private volatile ScheduledFuture<?> sweepFuture;
+    // Constructor(s):
+    public StreamRepublisher(TaskRepository taskRepository, TaskDispatchStream stream, @Qualifier("schedExec") ScheduledExecutorService scheduler, QueueProperties props) {
+        this.taskRepository = taskRepository;
+        this.stream = stream;
+        this.scheduler = scheduler;
+        this.props = props;
+    }
+
+    // Method(s):
+    // Returns how many rows were published again.
+    public int republishOnce() {
+        Set<String> drained = new HashSet<>();
+        for (String key : stream.keys()) {
+            try {
+                if (stream.isDrained(key)) drained.add(key);
+            } catch (Exception ex) {
+                logger.warn("[StreamRepublisher] could not read the state of {}, skipping it: {}", key, ex.getMessage());
+            }
+        }
+        if (drained.isEmpty()) return 0;
+        Instant createdBefore = Instant.now().minusMillis(props.getStreamRepublishAfterMs());
+        int republished = 0;
+        String afterId = "";
+        List<TaskRepository.TaskIdRoute> page;
+        do {
+            page = taskRepository.findRoutesByStatusAfter(TaskStatus.QUEUED, createdBefore, afterId, Limit.of(props.getRecoveryPageSize()));
+            for (TaskRepository.TaskIdRoute route : page) {
+                if (!drained.contains(stream.keyFor(route.getType()))) continue;    // still has unread entries -- this row's may be one of them.
+                stream.publish(route.getId(), route.getType(), route.getPriority());
+                republished++;
+            }
+            if (!page.isEmpty()) afterId = page.get(page.size() - 1).getId();
+        } while (page.size() >= props.getRecoveryPageSize());
+        if (republished > 0) logger.warn("[StreamRepublisher] re-published {} QUEUED task(s) with no stream entry left to deliver them", republished);
+        return republished;
+    }
+
+    private void safeRepublish() {
+        // NOTE: An exception escaping a scheduleWithFixedDelay task cancels every future run, so it must never leak out.
+        try {
+            republishOnce();
+        } catch (Exception ex) {
+            logger.error("[StreamRepublisher] sweep failed: {}", ex.getMessage(), ex);
+        }
+    }
+
+    // SmartLifecycle:
+    @Override
+    public void start() {
+        if (props.getDispatchMode() != DispatchMode.STREAM || props.getStreamRepublishAfterMs() <= 0) return;
+        sweepFuture = scheduler.scheduleWithFixedDelay(this::safeRepublish, props.getStreamRepublishAfterMs(), props.getStreamRepublishAfterMs(), TimeUnit.MILLISECONDS);
+    }
+    @Override
+    public void stop() {
+        ScheduledFuture<?> f = sweepFuture;
+        if (f != null) f.cancel(false);
+        sweepFuture = null;
+    }
+    @Override
+    public boolean isRunning() {
+        return sweepFuture != null;
+    }
+}
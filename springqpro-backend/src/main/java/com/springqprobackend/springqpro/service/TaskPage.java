@@ -0,0 +1,43 @@
+package com.springqprobackend.springqpro.service;
+
+import com.springqprobackend.springqpro.domain.entity.TaskEntity;
+import com.springqprobackend.springqpro.domain.exception.InvalidPageRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+
+/* TaskPage.java
+--------------------------------------------------------------------------------------------------
+[CURRENT ROLE]:
+One keyset page from TaskService.getTaskPageForUser, plus the cursor format. A cursor is the
+(created_at, id) of a row -- the position in the page ordering -- encoded as opaque base64url:
+"<ISO-8601 created_at>|<id>". created_at keeps its full precision, so the next page starts exactly
+after that row even when many Tasks share a millisecond (the id breaks ties).
+--------------------------------------------------------------------------------------------------
+*/
+public record TaskPage(List<TaskEntity> tasks, boolean hasNextPage) {
+    public record Cursor(Instant createdAt, String id) { }
+
+    public static String cursorOf(TaskEntity t) {
+        String raw = t.getCreatedAt() + "|" + t.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Cursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.indexOf('|');
+            if (sep < 0 || sep == raw.length() - 1) throw new IllegalArgumentException("no id");
+            return new Cursor(Instant.parse(raw.substring(0, sep)), raw.substring(sep + 1));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new InvalidPageRequestException("Invalid cursor: " + cursor);
+        }
+    }
+
+    public String endCursor() {
+        return tasks.isEmpty() ? null : cursorOf(tasks.get(tasks.size() - 1));
+    }
+}
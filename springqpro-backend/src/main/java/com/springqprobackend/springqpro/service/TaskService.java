@@ -1,10 +1,20 @@
 package com.springqprobackend.springqpro.service;
 
+import com.springqprobackend.springqpro.config.QueueProperties;
+import com.springqprobackend.springqpro.controller.controllerRecords.CreateTaskInput;
 import com.springqprobackend.springqpro.domain.entity.TaskEntity;
+import com.springqprobackend.springqpro.domain.event.TasksCreatedEvent;
+import com.springqprobackend.springqpro.domain.exception.BatchTooLargeException;
+import com.springqprobackend.springqpro.domain.exception.InvalidPageRequestException;
+import com.springqprobackend.springqpro.domain.exception.TaskNotFoundException;
+import com.springqprobackend.springqpro.domain.id.TaskIdGenerator;
 import com.springqprobackend.springqpro.enums.TaskStatus;
 import com.springqprobackend.springqpro.enums.TaskType;
 import com.springqprobackend.springqpro.domain.event.TaskCreatedEvent;
+import com.springqprobackend.springqpro.domain.event.TaskDeletedEvent;
 import com.springqprobackend.springqpro.redis.TaskRedisRepository;
+import com.springqprobackend.springqpro.redis.TaskStatusBuckets;
+import com.springqprobackend.springqpro.redis.TaskUpdateBus;
 import com.springqprobackend.springqpro.repository.TaskRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -13,9 +23,20 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import io.micrometer.core.instrument.Counter;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
 import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /* NOTES-TO-SELF:
 - This a service layer for calling repositories (DataBase) or queues.
@@ -31,29 +52,49 @@ allowing for decoupling of application components through event-driven architect
 @Service
 public class TaskService {
     private static final Logger logger = LoggerFactory.getLogger(TaskService.class);
+    public static final int MIN_PRIORITY = 0;
+    public static final int MAX_PRIORITY = 9;
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
     private final TaskRepository repository;
     private final QueueService queueService;
     private final TaskRedisRepository cache;    // 2025-11-23-DEBUG: Refactoring for TaskRedisRepository.java
+    private final TaskStatusBuckets buckets;    // per-owner "which IDs are in which status" for tasks(status) polling.
+    private final TaskUpdateBus updates;        // cross-node status transitions, for the GraphQL subscriptions.
+    private final BackpressureMonitor backpressure; // admission control: refuse new Tasks (with retry-after) while saturated.
+    private final QueueProperties props;
+    private final TaskIdGenerator idGenerator;  // node-unique, time-ordered IDs (replaces "Task-" + System.nanoTime()).
 
     @Autowired
     private ApplicationEventPublisher publisher;
     // 2025-11-26-NOTE:+DEBUG: METRICS PHASE FIELD ADDITIONS:
     private final Counter apiTaskCreateCounter;
 
-    public TaskService(TaskRepository repository, QueueService queueService, TaskRedisRepository cache, Counter apiTaskCreateCounter) {
+    public TaskService(TaskRepository repository, QueueService queueService, TaskRedisRepository cache, TaskStatusBuckets buckets, TaskUpdateBus updates, BackpressureMonitor backpressure, QueueProperties props, TaskIdGenerator idGenerator, Counter apiTaskCreateCounter) {
         this.repository = repository;
         this.queueService = queueService;
         this.cache = cache; // 2025-11-23-DEBUG: Refactoring for TaskRedisRepository.java
+        this.buckets = buckets;
+        this.updates = updates;
+        this.backpressure = backpressure;
+        this.props = props;
+        this.idGenerator = idGenerator;
         this.apiTaskCreateCounter = apiTaskCreateCounter;
     }
 
     // 2025-11-25-NOTE: JWT USER OWNERSHIP REFACTORING METHOD BELOW (PROBABLY MAKES THE OTHER ONE OBSOLETE -- will be what GraphQL calls now):
     // NOTE: This is the new "entry point" used by GraphQL and I guess the JWT-protected REST stuff (but mainly GraphQL of course).
-    @Transactional
+    @Transactional  // (on both overloads: a self-call from one to the other skips the proxy)
     public TaskEntity createTaskForUser(String payload, TaskType type, String ownerEmail) {
+        return createTaskForUser(payload, type, null, ownerEmail);
+    }
+    // priority: null -> MIN_PRIORITY; anything outside [MIN_PRIORITY, MAX_PRIORITY] is clamped.
+    @Transactional
+    public TaskEntity createTaskForUser(String payload, TaskType type, Integer priority, String ownerEmail) {
+        backpressure.checkAdmission();  // throws QueueSaturatedException (-> retry-after) before anything is persisted.
         apiTaskCreateCounter.increment();   // 2025-11-26-NOTE: METRICS ADDITION!
         TaskEntity entity = new TaskEntity(
-                "Task-" + System.nanoTime(),
+                idGenerator.nextId(),
                 payload,
                 type,
                 TaskStatus.QUEUED,
@@ -62,6 +103,7 @@ public class TaskService {
                 Instant.now(),
                 ownerEmail
         );
+        entity.setPriority(clampPriority(priority));
         logger.info("[TaskService][createTaskForUser] About to save TaskEntity inside of TaskRepository.");
         repository.save(entity);
         logger.info("[TaskService][createTaskForUser] TaskEntity has been saved inside of TaskRepository.");
@@ -71,29 +113,158 @@ public class TaskService {
         logger.info("[TaskService][createTaskForUser] TaskEntity has been saved inside of TaskRedisRepository (Cache).");
 
         logger.info("[TaskService][createTaskForUser] About to publish TaskCreatedEvent.");
-        publisher.publishEvent(new TaskCreatedEvent(this, entity.getId()));
+        publisher.publishEvent(new TaskCreatedEvent(this, entity.getId(), entity.getType(), entity.getPriority()));
         logger.info("[TaskService][createTaskForUser] TaskCreatedEvent has been published.");
         return entity;
     }
 
+    /* Bulk version of createTaskForUser (createTasks mutation / POST /api/tasks/create/batch). One transaction for the whole
+    batch, instead of N of everything:
+    - saveAll + flush: the INSERTs go out as JDBC batches ("hibernate.jdbc.batch_size"), which the Postgres driver
+      rewrites into multi-row INSERTs ("reWriteBatchedInserts")
+    - cache.putAll: one pipelined Redis round trip
+    - one TasksCreatedEvent, so every ID is dispatched together after commit
+    Admission is checked once for the batch, like a single create. */
+    @Transactional
+    public List<TaskEntity> createTasksForUser(List<CreateTaskInput> inputs, String ownerEmail) {
+        if (inputs.isEmpty()) return List.of();
+        if (inputs.size() > props.getMaxCreateBatchSize()) throw new BatchTooLargeException(inputs.size(), props.getMaxCreateBatchSize());
+        backpressure.checkAdmission();
+        apiTaskCreateCounter.increment(inputs.size());
+        Instant now = Instant.now();
+        List<TaskEntity> entities = new ArrayList<>(inputs.size());
+        for (CreateTaskInput input : inputs) {
+            TaskEntity entity = new TaskEntity(idGenerator.nextId(), input.payload(), input.type(), TaskStatus.QUEUED, 0, 3, now, ownerEmail);
+            entity.setPriority(clampPriority(input.priority()));
+            entities.add(entity);
+        }
+        repository.saveAll(entities);
+        repository.flush();
+        cache.putAll(entities);
+        publisher.publishEvent(new TasksCreatedEvent(this, entities));
+        logger.info("[TaskService][createTasksForUser] saved {} tasks, published TasksCreatedEvent", entities.size());
+        return entities;
+    }
+
     // 2025-11-25-DEBUG: JWT USER OWNERSHIP-RELATED REFACTORING METHODS:
     // NOTE: Old global ones will remain -- I should probably add ADMIN status to them or something.
+    /* tasks(status) -- polled every few seconds per user by the dashboard. The IDs come from the owner's TaskStatusBuckets
+    (Postgres only when they're cold), the rows from the cache. Bucket membership can briefly lag a transition (see
+    TaskStatusBuckets), so rows whose real status doesn't match are left out; readThrough re-caching them also re-files
+    them in the right bucket, and IDs with no row left (deleted) are dropped from the buckets. */
     public List<TaskEntity> getAllTasksForUser(TaskStatus status, String ownerEmail) {
-        if (status == null) return repository.findAllByCreatedBy(ownerEmail);
-        return repository.findByStatusAndCreatedBy(status, ownerEmail);
+        List<String> ids = buckets.ids(ownerEmail, status, () -> {
+            Map<String, TaskStatus> all = new HashMap<>();
+            repository.findIdStatusByOwner(ownerEmail).forEach(r -> all.put(r.getId(), r.getStatus()));
+            return all;
+        });
+        List<TaskEntity> rows = readThrough(ids, status);
+        if (rows.size() < ids.size()) {
+            Set<String> found = rows.stream().map(TaskEntity::getId).collect(Collectors.toSet());
+            ids.stream().filter(id -> !found.contains(id)).forEach(id -> buckets.removed(ownerEmail, id));
+        }
+        return rows.stream().filter(t -> status == null || t.getStatus() == status).toList();
     }
     public List<TaskEntity> getAllTasksForUserByType(TaskType type, String ownerEmail) {
-        if (type == null) return repository.findAllByCreatedBy(ownerEmail);
-        return repository.findByTypeAndCreatedBy(type, ownerEmail);
+        return readThrough(repository.findIdsForOwner(ownerEmail, null, type), null);
     }
+    /* tasksConnection: one keyset page of the owner's Tasks, newest first (see TaskPageRepositoryImpl). Loads first + 1 rows
+    to learn whether another page exists without a COUNT. first: null -> DEFAULT_PAGE_SIZE, clamped into [1, MAX_PAGE_SIZE].
+    createdAfter is an ISO-8601 instant (the schema's createdAt format). */
+    public TaskPage getTaskPageForUser(String ownerEmail, Integer first, String after, TaskStatus status, TaskType type, String createdAfter) {
+        int size = first == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(MAX_PAGE_SIZE, first));
+        TaskPage.Cursor cursor = after == null ? null : TaskPage.decode(after);
+        Instant since = null;
+        if (createdAfter != null) {
+            try {
+                since = Instant.parse(createdAfter);
+            } catch (DateTimeParseException ex) {
+                throw new InvalidPageRequestException("createdAfter must be an ISO-8601 instant: " + createdAfter);
+            }
+        }
+        List<TaskEntity> rows = repository.findPageForOwner(ownerEmail, status, type, since,
+                cursor == null ? null : cursor.createdAt(), cursor == null ? null : cursor.id(), size + 1);
+        boolean hasNext = rows.size() > size;
+        return new TaskPage(hasNext ? rows.subList(0, size) : rows, hasNext);
+    }
+
+    /* task(id) and the ownership check in front of every GraphQL mutation. createdBy never changes, so the cached copy can
+    answer "is it yours?" as well as the DB can: someone else's Task is "not found" without a DB query either way. Every
+    status transition rewrites or evicts the cached row (claims included), so it's as current as the DB's. If Redis is
+    unreachable this answers from Postgres, as it did before the cache was in front of it. */
     public Optional<TaskEntity> getTaskForUser(String id, String ownerEmail) {
-        return repository.findByIdAndCreatedBy(id, ownerEmail);
+        TaskEntity cached = cachedOrNull(id);
+        if (cached != null) {
+            return ownerEmail.equals(cached.getCreatedBy()) ? Optional.of(cached) : Optional.empty();
+        }
+        Optional<TaskEntity> fromDB = repository.findByIdAndCreatedBy(id, ownerEmail);
+        fromDB.ifPresent(this::refillQuietly);
+        return fromDB;
     }
+
+    // Cache reads/fills for single-Task lookups are best-effort: a Redis failure is a miss, not an error.
+    private TaskEntity cachedOrNull(String id) {
+        try {
+            return cache.get(id);
+        } catch (Exception ex) {
+            logger.warn("[TaskService] cache read for {} failed, falling back to Postgres: {}", id, ex.getMessage());
+            return null;
+        }
+    }
+    private void refillQuietly(TaskEntity loaded) {
+        try {
+            cache.refill(loaded);
+        } catch (Exception ex) {
+            logger.warn("[TaskService] couldn't cache {}: {}", loaded.getId(), ex.getMessage());
+        }
+    }
+    /* taskUpdated(id) / myTasksUpdated(status): the transitions TaskUpdateBus reports, narrowed to what the caller may see.
+    Each move is turned into a row through the cache (getTask) with the move's status/attempts laid on top: a move can
+    arrive before the write that caused it is visible, and nothing else the schema exposes ever changes. That lookup can block (Redis, Postgres on a
+    miss), so it runs on boundedElastic instead of the bus listener thread, behind a per-subscriber buffer
+    ("queue.task-subscription-buffer") that drops the oldest moves when a subscriber falls behind. */
+    public Flux<TaskEntity> taskUpdatesForUser(String id, String ownerEmail) {
+        if (getTaskForUser(id, ownerEmail).isEmpty()) return Flux.error(new TaskNotFoundException(id));
+        return subscribe(m -> m.id().equals(id));
+    }
+    public Flux<TaskEntity> ownerUpdates(TaskStatus status, String ownerEmail) {
+        return subscribe(m -> ownerEmail.equals(m.owner()) && (status == null || m.status() == status));
+    }
+
+    private Flux<TaskEntity> subscribe(Predicate<TaskStatusBuckets.Move> filter) {
+        return updates.updates()
+                .filter(filter)
+                .onBackpressureBuffer(props.getTaskSubscriptionBuffer(),
+                        dropped -> logger.debug("[TaskService] subscriber behind, dropped update for {}", dropped.id()),
+                        BufferOverflowStrategy.DROP_OLDEST)
+                .publishOn(Schedulers.boundedElastic(), 32)
+                .mapNotNull(this::resolve);
+    }
+
+    private TaskEntity resolve(TaskStatusBuckets.Move move) {
+        try {
+            Optional<TaskEntity> row = getTask(move.id());
+            if (row.isEmpty()) return null;     // deleted since
+            TaskEntity task = row.get();
+            task.setStatus(move.status());
+            if (move.attempts() >= 0) task.setAttempts(move.attempts());
+            return task;
+        } catch (Exception ex) {
+            logger.warn("[TaskService] couldn't resolve update for {}: {}", move.id(), ex.getMessage());
+            return null;
+        }
+    }
+
     // 2025-11-25-DEBUG: Method below is probably legacy code now.
     @Transactional
     public TaskEntity createTask(String payload, TaskType type) {
+        return createTask(payload, type, null);
+    }
+    @Transactional
+    public TaskEntity createTask(String payload, TaskType type, Integer priority) {
+        backpressure.checkAdmission();
         TaskEntity entity = new TaskEntity(
-                "Task-" + System.nanoTime(),
+                idGenerator.nextId(),
                 payload,
                 type,
                 TaskStatus.QUEUED,
@@ -101,32 +272,64 @@ public class TaskService {
                 3,
                 Instant.now()
         );
+        entity.setPriority(clampPriority(priority));
         repository.save(entity);
         cache.put(entity);  // 2025-11-23-DEBUG: Refactoring for TaskRedisRepository.java (SAVE ENTITY IN CACHE AFTER DATABASE SAVE).
         logger.info("[TaskService] saved task {}, publishing event", entity.getId());
-        publisher.publishEvent(new TaskCreatedEvent(this, entity.getId()));
+        publisher.publishEvent(new TaskCreatedEvent(this, entity.getId(), entity.getType(), entity.getPriority()));
         logger.info("[TaskService] published TaskCreatedEvent for {}", entity.getId());
         return entity;
     }
     // 2025-11-25-DEBUG: Method above is 100% legacy code now...
 
+    private static int clampPriority(Integer priority) {
+        if (priority == null) return MIN_PRIORITY;
+        return Math.max(MIN_PRIORITY, Math.min(MAX_PRIORITY, priority));
+    }
+
     public List<TaskEntity> getAllTasks(TaskStatus status) {
-        // 2025-11-23-DEBUG: List queries should return DB-focused.
-        if (status == null) return repository.findAll();
-        return repository.findByStatus(status);
+        // 2025-11-23-DEBUG: List queries should return DB-focused. (The filter still is -- see readThrough.)
+        return readThrough(repository.findIds(status, null), status);
     }
     /* 2025-11-19-NOTE: I don't know why I didn't add this before, but I should definitely have the option
     to getAllTasks via TaskType type as well, so I'm going to overload the method above. */
     public List<TaskEntity> getAllTasks(TaskType type) {
-        // 2025-11-23-DEBUG: List queries should return DB-focused.
-        if(type == null) return repository.findAll();
-        return repository.findByType(type);
+        // 2025-11-23-DEBUG: List queries should return DB-focused. (The filter still is -- see readThrough.)
+        return readThrough(repository.findIds(null, type), null);
+    }
+
+    /* List reads: Postgres decides WHICH Tasks match (an ID-only query), the cache supplies the rows (one MGET), and only
+    the misses are loaded -- one findAllById -- and written back (one pipelined putAll). Result order follows ids.
+    A cached row whose status doesn't match the status filter is stale (not every transition rewrites the cache), so it
+    counts as a miss and gets re-read. */
+    private List<TaskEntity> readThrough(List<String> ids, TaskStatus expectedStatus) {
+        TaskRedisRepository.Lookup lookup = cache.getAll(ids);
+        Map<String, TaskEntity> rows = new HashMap<>(lookup.hits());
+        List<String> misses = new ArrayList<>(lookup.misses());
+        if (expectedStatus != null) {
+            lookup.hits().forEach((id, t) -> {
+                if (t.getStatus() != expectedStatus) {
+                    rows.remove(id);
+                    misses.add(id);
+                }
+            });
+        }
+        if (!misses.isEmpty()) {
+            List<TaskEntity> loaded = repository.findAllById(misses);
+            loaded.forEach(t -> rows.put(t.getId(), t));
+            try {
+                cache.refill(loaded);
+            } catch (Exception ex) {
+                logger.warn("[TaskService] couldn't cache {} listed Task(s): {}", loaded.size(), ex.getMessage());
+            }
+        }
+        return ids.stream().map(rows::get).filter(Objects::nonNull).toList();
     }
 
     public Optional<TaskEntity> getTask(String id) {
         // 2025-11-23-DEBUG: Refactoring for TaskRedisRepository.java (and Redis in general). Better to retrieve Task via ID from Cache!
         logger.info("[TaskService][getTask] About to look in TaskRedisRepository (Redis Cache) for Task by id:{}", id);
-        TaskEntity cached = cache.get(id);
+        TaskEntity cached = cachedOrNull(id);
         if(cached != null) {
             logger.info("[TaskService][getTask] Task (id:{}) WAS found in TaskRedisRepository (Redis Cache)", id);
             return Optional.of(cached);
@@ -134,7 +337,7 @@ public class TaskService {
             logger.info("[TaskService][getTask] Task (id:{}) was NOT found in TaskRedisRepository (Redis Cache). It will NOW be cached!", id);
         }
         Optional<TaskEntity> fromDB = repository.findById(id);
-        fromDB.ifPresent(cache::put);   // 2025-11-23-DEBUG: IMPORTANT! If Task is not in the cache but in DB, after retrieving it, save it to the cache...
+        fromDB.ifPresent(this::refillQuietly);   // 2025-11-23-DEBUG: IMPORTANT! If Task is not in the cache but in DB, after retrieving it, save it to the cache...
         return fromDB;
     }
 
@@ -154,11 +357,12 @@ public class TaskService {
     @Transactional
     public boolean deleteTask(String id) {
         // 2025-11-23-DEBUG: Edit method deleteTask(...) to sync the cache:
-        if (repository.existsById(id)) {
-            repository.deleteById(id);
+        Optional<TaskEntity> existing = repository.findById(id);
+        if (existing.isPresent()) {
+            repository.delete(existing.get());
             logger.info("[TaskService][deleteTask] Task (id:{}) has been deleted from TaskRepository.", id);
-            cache.delete(id);   // 2025-11-23-DEBUG: SYNC THE CACHE!
-            logger.info("[TaskService][deleteTask] Task (id:{}) has been deleted from TaskRedisRepository (Redis Cache).", id);
+            // 2025-11-23-DEBUG: SYNC THE CACHE! -- after the commit (TaskDeletedListener), so a concurrent miss can't re-cache the row.
+            publisher.publishEvent(new TaskDeletedEvent(this, id, existing.get().getCreatedBy()));
             return true;
         }
         return false;
@@ -0,0 +1,90 @@
+package com.springqprobackend.springqpro.domain.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/* All that needs to be tested is:
+- IDs are unique across threads hammering one generator, and each thread sees them strictly increasing.
+- The 13-char encoding round-trips, and string order == numeric order (so DB/Redis sort by creation time).
+- More than 4096 IDs in one millisecond, or a clock that steps backwards, still never repeats or goes backwards.
+- Two nodes minting in the same millisecond never collide.
+*/
+class SnowflakeTaskIdGeneratorTests {
+    @Test
+    void isUniqueAndPerThreadMonotonic_underContention() throws Exception {
+        SnowflakeTaskIdGenerator gen = new SnowflakeTaskIdGenerator(7);
+        Set<String> seen = ConcurrentHashMap.newKeySet();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                results.add(pool.submit(() -> {
+                    String prev = "";
+                    for (int i = 0; i < 20_000; i++) {
+                        String id = gen.nextId();
+                        if (id.compareTo(prev) <= 0 || !seen.add(id)) return false;
+                        prev = id;
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> f : results) assertThat(f.get()).isTrue();
+        } finally {
+            pool.shutdownNow();
+        }
+        assertThat(seen).hasSize(8 * 20_000);
+    }
+
+    @Test
+    void encodingRoundTrips_andSortsLikeTheNumber() {
+        SnowflakeTaskIdGenerator gen = new SnowflakeTaskIdGenerator(3);
+        long a = gen.nextLong();
+        long b = gen.nextLong();
+        String ea = SnowflakeTaskIdGenerator.encode(a);
+        String eb = SnowflakeTaskIdGenerator.encode(b);
+
+        assertThat(ea).hasSize(13);
+        assertThat(SnowflakeTaskIdGenerator.decode(ea)).isEqualTo(a);
+        assertThat(SnowflakeTaskIdGenerator.decode(ea.toLowerCase())).isEqualTo(a);
+        assertThat(ea.compareTo(eb)).isNegative();
+        assertThat(SnowflakeTaskIdGenerator.encode(1L).compareTo(SnowflakeTaskIdGenerator.encode(Long.MAX_VALUE))).isNegative();
+        assertThatThrownBy(() -> SnowflakeTaskIdGenerator.decode("Task-123")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void sequenceOverflowAndClockRollback_neverRepeatOrGoBackwards() {
+        AtomicLong clock = new AtomicLong(SnowflakeTaskIdGenerator.EPOCH_MS + 1_000);
+        SnowflakeTaskIdGenerator gen = new SnowflakeTaskIdGenerator(1, clock::get);
+
+        long prev = -1;
+        for (int i = 0; i < 10_000; i++) {      // > 4096 in one frozen millisecond -> borrows the next ones.
+            long id = gen.nextLong();
+            assertThat(id).isGreaterThan(prev);
+            prev = id;
+        }
+        clock.addAndGet(-500);                  // clock steps backwards.
+        assertThat(gen.nextLong()).isGreaterThan(prev);
+    }
+
+    @Test
+    void differentNodes_neverCollideInTheSameMillisecond() {
+        long fixed = SnowflakeTaskIdGenerator.EPOCH_MS + 42;
+        SnowflakeTaskIdGenerator a = new SnowflakeTaskIdGenerator(1, () -> fixed);
+        SnowflakeTaskIdGenerator b = new SnowflakeTaskIdGenerator(2, () -> fixed);
+
+        assertThat(a.nextId()).isNotEqualTo(b.nextId());
+        assertThat(SnowflakeTaskIdGenerator.timestampOf(a.nextId()).toEpochMilli()).isEqualTo(fixed);
+        assertThatThrownBy(() -> new SnowflakeTaskIdGenerator(SnowflakeTaskIdGenerator.MAX_NODE_ID + 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,89 @@
+package com.springqprobackend.springqpro.integration;
+
+import com.springqprobackend.springqpro.config.QueueProperties;
+import com.springqprobackend.springqpro.domain.entity.TaskEntity;
+import com.springqprobackend.springqpro.enums.TaskStatus;
+import com.springqprobackend.springqpro.enums.TaskType;
+import com.springqprobackend.springqpro.redis.OverflowSpillList;
+import com.springqprobackend.springqpro.repository.TaskRepository;
+import com.springqprobackend.springqpro.security.dto.AuthResponse;
+import com.springqprobackend.springqpro.service.OverflowShedder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.shaded.org.awaitility.Awaitility;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/* DESCRIPTION OF THIS TEST CASE:
+- "queue.saturation-threshold=0" makes BackpressureMonitor treat the system as permanently saturated, so createTask must
+  come back as a GraphQL error carrying extensions.retryAfterMs -- and nothing may be persisted.
+- A Task ID sitting on the overflow list (what SPILL leaves behind) must be drained back into the worker pool and processed.
+- A shed hand-off (SHED) turns a QUEUED row FAILED, and leaves a row that has moved on since alone.
+*/
+@TestPropertySource(properties = {
+        "queue.saturation-threshold=0",
+        "queue.overflow-list-key=springqpro:tasks:overflow:test"
+})
+class BackpressureIntegrationTest extends AbstractAuthenticatedIntegrationTest {
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private OverflowSpillList spillList;
+    @Autowired
+    private StringRedisTemplate redis;
+    @Autowired
+    private QueueProperties props;
+    @Autowired
+    private OverflowShedder shedder;
+
+    @BeforeEach
+    void clean() {
+        taskRepository.deleteAll();
+        redis.delete(props.getOverflowListKey());
+    }
+
+    @Test
+    void createTask_whenSaturated_answersWithRetryAfter() {
+        AuthResponse auth = registerAndLogin("saturated@test.com", "pw");
+        String mutation = """
+            mutation {
+              createTask(input: { payload: "too-much", type: EMAIL }) { id }
+            }
+        """;
+        graphQLWithToken(auth.accessToken(), mutation)
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.errors[0].extensions.classification").isEqualTo("SATURATED")
+                .jsonPath("$.errors[0].extensions.retryAfterMs").value(ms -> assertThat(((Number) ms).longValue()).isPositive());
+        assertThat(taskRepository.count()).isZero();
+    }
+
+    @Test
+    void spilledTask_isDrainedAndProcessed() {
+        TaskEntity queued = taskRepository.save(new TaskEntity("Task-spilled", "spill", TaskType.EMAIL, TaskStatus.QUEUED, 0, 3, Instant.now(), "spill@test.com"));
+        spillList.push(queued.getId());
+
+        Awaitility.await()
+                .atMost(Duration.ofSeconds(10))
+                .untilAsserted(() -> assertThat(taskRepository.findById(queued.getId()).orElseThrow().getStatus()).isEqualTo(TaskStatus.COMPLETED));
+        assertThat(spillList.size()).isZero();
+    }
+
+    @Test
+    void shedTask_isMarkedFailed_onlyIfStillQueued() {
+        taskRepository.save(new TaskEntity("Task-shed", "shed", TaskType.EMAIL, TaskStatus.QUEUED, 0, 3, Instant.now(), "shed@test.com"));
+        taskRepository.save(new TaskEntity("Task-shed-done", "shed", TaskType.EMAIL, TaskStatus.COMPLETED, 1, 3, Instant.now(), "shed@test.com"));
+
+        shedder.shed("Task-shed");
+        shedder.shed("Task-shed-done");
+
+        assertThat(taskRepository.findById("Task-shed").orElseThrow().getStatus()).isEqualTo(TaskStatus.FAILED);
+        assertThat(taskRepository.findById("Task-shed-done").orElseThrow().getStatus()).isEqualTo(TaskStatus.COMPLETED);
+    }
+}
@@ -0,0 +1,78 @@
+package com.springqprobackend.springqpro.integration;
+
+import com.springqprobackend.springqpro.domain.entity.TaskEntity;
+import com.springqprobackend.springqpro.enums.TaskStatus;
+import com.springqprobackend.springqpro.enums.TaskType;
+import com.springqprobackend.springqpro.repository.TaskRepository;
+import com.springqprobackend.springqpro.service.ProcessingService;
+import com.springqprobackend.springqpro.testcontainers.IntegrationTestBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/* DESCRIPTION OF THIS TEST CASE:
+- Seeds QUEUED rows directly through TaskRepository (no TaskCreatedEvent, so the event-driven path never touches them).
+- Several threads call ProcessingService.claimBatch at the same time (what multiple BatchClaimPollers would do).
+- FOR UPDATE SKIP LOCKED should hand every row to exactly one caller, flipped to INPROGRESS with attempts bumped once
+  and a claim lease stamped.
+- A claim for one pool's TaskTypes leaves every other type QUEUED.
+*/
+class BatchClaimIntegrationTest extends IntegrationTestBase {
+    private static final int TASK_COUNT = 40;
+
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private ProcessingService processingService;
+
+    @BeforeEach
+    void seed() {
+        taskRepository.deleteAll();
+        for (int i = 0; i < TASK_COUNT; i++) {
+            taskRepository.save(new TaskEntity("Task-batch-" + i, "batch-claim-test", TaskType.EMAIL, TaskStatus.QUEUED, 0, 3, Instant.now(), "batch@test.com"));
+        }
+    }
+
+    @Test
+    void concurrentBatchClaims_neverClaimTheSameRowTwice() throws Exception {
+        ExecutorService pollers = Executors.newFixedThreadPool(4);
+        List<Future<List<TaskEntity>>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(pollers.submit(() -> processingService.claimBatch(5)));
+        }
+        List<String> claimedIds = new ArrayList<>();
+        for (Future<List<TaskEntity>> f : results) {
+            f.get(10, TimeUnit.SECONDS).forEach(t -> claimedIds.add(t.getId()));
+        }
+        pollers.shutdown();
+
+        Set<String> unique = new HashSet<>(claimedIds);
+        assertThat(unique).hasSize(claimedIds.size());   // no double claims
+        assertThat(claimedIds).hasSize(TASK_COUNT);      // 8 x 5 covers every seeded row
+
+        for (TaskEntity t : taskRepository.findAll()) {
+            assertThat(t.getStatus()).isEqualTo(TaskStatus.INPROGRESS);
+            assertThat(t.getAttempts()).isEqualTo(1);
+            assertThat(t.getLeaseUntil()).isAfter(t.getClaimedAt());   // claim lease stamped for LeaseReaper
+        }
+    }
+
+    @Test
+    void batchClaimForOnePool_onlyTakesThatPoolsTypes() {
+        taskRepository.save(new TaskEntity("Task-batch-report", "batch-claim-test", TaskType.REPORT, TaskStatus.QUEUED, 0, 3, Instant.now(), "batch@test.com"));
+
+        List<TaskEntity> claimed = processingService.claimBatch(TASK_COUNT + 1, List.of(TaskType.REPORT));
+
+        assertThat(claimed).extracting(TaskEntity::getId).containsExactly("Task-batch-report");
+        assertThat(taskRepository.findByStatus(TaskStatus.QUEUED)).hasSize(TASK_COUNT);
+    }
+}
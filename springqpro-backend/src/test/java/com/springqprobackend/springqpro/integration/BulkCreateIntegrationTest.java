@@ -0,0 +1,77 @@
+package com.springqprobackend.springqpro.integration;
+
+import com.springqprobackend.springqpro.domain.entity.TaskEntity;
+import com.springqprobackend.springqpro.enums.TaskStatus;
+import com.springqprobackend.springqpro.redis.TaskRedisRepository;
+import com.springqprobackend.springqpro.repository.TaskRepository;
+import com.springqprobackend.springqpro.security.dto.AuthResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.shaded.org.awaitility.Awaitility;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/* DESCRIPTION OF THIS TEST CASE:
+- One createTasks mutation with 25 inputs must persist 25 distinct Tasks owned by the caller, cache every one of them
+  (pipelined putAll), and -- via the single TasksCreatedEvent -- get every one of them processed to COMPLETED.
+- A batch over "queue.max-create-batch-size" is refused as BAD_REQUEST and nothing is persisted.
+*/
+@TestPropertySource(properties = {
+        "queue.max-create-batch-size=30"
+})
+class BulkCreateIntegrationTest extends AbstractAuthenticatedIntegrationTest {
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private TaskRedisRepository cache;
+
+    @BeforeEach
+    void cleanDb() {
+        taskRepository.deleteAll();
+    }
+
+    private static String createTasksMutation(int count) {
+        String inputs = IntStream.range(0, count)
+                .mapToObj(i -> "{ payload: \"bulk-" + i + "\", type: EMAIL, priority: " + (i % 10) + " }")
+                .collect(Collectors.joining(", "));
+        return "mutation { createTasks(inputs: [" + inputs + "]) { id priority } }";
+    }
+
+    @Test
+    void createTasks_persistsCachesAndDispatchesTheWholeBatch() {
+        AuthResponse auth = registerAndLogin("bulk@test.com", "pw");
+        graphQLWithToken(auth.accessToken(), createTasksMutation(25))
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.errors").doesNotExist()
+                .jsonPath("$.data.createTasks.length()").isEqualTo(25)
+                .jsonPath("$.data.createTasks[9].priority").isEqualTo(9);
+
+        List<TaskEntity> saved = taskRepository.findAllByCreatedBy("bulk@test.com");
+        assertThat(saved).hasSize(25);
+        saved.forEach(t -> assertThat(cache.get(t.getId())).isNotNull());
+
+        Awaitility.await()
+                .atMost(Duration.ofSeconds(15))
+                .untilAsserted(() -> assertThat(taskRepository.findAllByCreatedBy("bulk@test.com"))
+                        .allSatisfy(t -> assertThat(t.getStatus()).isEqualTo(TaskStatus.COMPLETED)));
+    }
+
+    @Test
+    void createTasks_overTheBatchLimit_isRejected() {
+        AuthResponse auth = registerAndLogin("bulk-limit@test.com", "pw");
+        graphQLWithToken(auth.accessToken(), createTasksMutation(31))
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.errors[0].extensions.classification").isEqualTo("BAD_REQUEST")
+                .jsonPath("$.errors[0].extensions.maxBatchSize").isEqualTo(30);
+        assertThat(taskRepository.count()).isZero();
+    }
+}
@@ -0,0 +1,90 @@
+package com.springqprobackend.springqpro.integration;
+
+import com.springqprobackend.springqpro.domain.entity.TaskEntity;
+import com.springqprobackend.springqpro.enums.TaskStatus;
+import com.springqprobackend.springqpro.enums.TaskType;
+import com.springqprobackend.springqpro.repository.TaskRepository;
+import com.springqprobackend.springqpro.runtime.TaskTypeBulkheads;
+import com.springqprobackend.springqpro.service.QueueService;
+import com.springqprobackend.springqpro.testcontainers.IntegrationTestBase;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.shaded.org.awaitility.Awaitility;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/* DESCRIPTION OF THIS TEST CASE:
+- "queue.pools.SMS.concurrency=2" gives SMS its own pool; the shared execService is cut down to one worker.
+- With that one shared worker blocked, an EMAIL Task (shared pool) has to wait -- but an SMS Task must still run to
+  COMPLETED on its own pool. That's the whole point of the bulkhead.
+- Per-pool gauges are registered for both the shared pool and the SMS pool.
+*/
+@TestPropertySource(properties = {
+        "queue.main-exec-worker-count=1",
+        "queue.pools.SMS.concurrency=2",
+        "queue.pools.SMS.queue-capacity=10",
+        "queue.recovery-enabled=false"
+})
+class BulkheadIntegrationTest extends IntegrationTestBase {
+    @Autowired
+    private QueueService queueService;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private TaskTypeBulkheads bulkheads;
+    @Autowired
+    @Qualifier("execService")
+    private ExecutorService execService;
+    @Autowired
+    private MeterRegistry registry;
+
+    @BeforeEach
+    void cleanDb() {
+        taskRepository.deleteAll();
+    }
+
+    @Test
+    void smsKeepsRunning_whileTheSharedPoolIsBlocked() throws InterruptedException {
+        assertThat(bulkheads.executorFor(TaskType.SMS)).isNotSameAs(execService);
+        assertThat(bulkheads.executorFor(TaskType.EMAIL)).isSameAs(execService);
+
+        TaskEntity email = taskRepository.save(new TaskEntity("Task-bulkhead-email", "email", TaskType.EMAIL, TaskStatus.QUEUED, 0, 3, Instant.now(), "bulkhead@test.com"));
+        TaskEntity sms = taskRepository.save(new TaskEntity("Task-bulkhead-sms", "sms", TaskType.SMS, TaskStatus.QUEUED, 0, 3, Instant.now(), "bulkhead@test.com"));
+
+        CountDownLatch release = new CountDownLatch(1);
+        execService.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        try {
+            queueService.dispatch(email.getId(), TaskType.EMAIL, 0);
+            queueService.dispatch(sms.getId());     // no type given: QueueService has to look it up to route it.
+
+            Awaitility.await()
+                    .atMost(Duration.ofSeconds(10))
+                    .untilAsserted(() -> assertThat(taskRepository.findById(sms.getId()).orElseThrow().getStatus()).isEqualTo(TaskStatus.COMPLETED));
+            assertThat(taskRepository.findById(email.getId()).orElseThrow().getStatus()).isEqualTo(TaskStatus.QUEUED);
+            assertThat(queueService.getPoolStatus().get("shared").get("queued")).isEqualTo(1);
+        } finally {
+            release.countDown();
+        }
+
+        Awaitility.await()
+                .atMost(Duration.ofSeconds(10))
+                .untilAsserted(() -> assertThat(taskRepository.findById(email.getId()).orElseThrow().getStatus()).isEqualTo(TaskStatus.COMPLETED));
+        assertThat(registry.find("springqpro_pool_queue_depth").tag("pool", "SMS").gauge()).isNotNull();
+        assertThat(registry.find("springqpro_pool_utilization").tag("pool", "shared").gauge()).isNotNull();
+    }
+}
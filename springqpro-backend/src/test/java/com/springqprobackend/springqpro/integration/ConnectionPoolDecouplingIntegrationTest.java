@@ -0,0 +1,76 @@
+package com.springqprobackend.springqpro.integration;
+
+import com.springqprobackend.springqpro.domain.entity.TaskEntity;
+import com.springqprobackend.springqpro.enums.TaskStatus;
+import com.springqprobackend.springqpro.enums.TaskType;
+import com.springqprobackend.springqpro.repository.TaskRepository;
+import com.springqprobackend.springqpro.service.ConnectionPoolMonitor;
+import com.springqprobackend.springqpro.service.QueueService;
+import com.springqprobackend.springqpro.testcontainers.IntegrationTestBase;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.shaded.org.awaitility.Awaitility;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/* DESCRIPTION OF THIS TEST CASE:
+- Hikari is cut down to 2 connections while there are 6 workers and 6 slow (TAKESLONG, 2s) Tasks.
+- Back when claimAndProcess held its transaction open through handler.handle(), only 2 of those Tasks could be
+  INPROGRESS at once (the other workers sat waiting for a connection). With claim / handler / outcome split into short
+  transactions, all 6 must be INPROGRESS together while the pool shows no connection checked out and nobody waiting
+  for one, and all 6 must complete in roughly one handler duration.
+- springqpro_db_pool_utilization is registered.
+*/
+@TestPropertySource(properties = {
+        "spring.datasource.hikari.maximum-pool-size=2",
+        "queue.main-exec-worker-count=6",
+        "t-handler.takes-long-sleep-time=2000",
+        "queue.recovery-enabled=false",
+        "queue.lease-reaper-enabled=false"     // keep background queries from borrowing a connection mid-assert.
+})
+class ConnectionPoolDecouplingIntegrationTest extends IntegrationTestBase {
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private QueueService queueService;
+    @Autowired
+    private ConnectionPoolMonitor connectionPool;
+    @Autowired
+    private MeterRegistry registry;
+
+    @BeforeEach
+    void cleanDb() {
+        taskRepository.deleteAll();
+    }
+
+    @Test
+    void slowHandlers_doNotHoldPooledConnections() {
+        List<TaskEntity> tasks = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            tasks.add(new TaskEntity("Task-pool-" + i, "slow", TaskType.TAKESLONG, TaskStatus.QUEUED, 0, 3, Instant.now(), "pool@test.com"));
+        }
+        taskRepository.saveAll(tasks);
+        tasks.forEach(t -> queueService.dispatch(t.getId(), TaskType.TAKESLONG, 0));
+
+        Awaitility.await()
+                .atMost(Duration.ofMillis(1500))
+                .pollInterval(Duration.ofMillis(50))
+                .untilAsserted(() -> assertThat(taskRepository.findByStatus(TaskStatus.INPROGRESS)).hasSize(6));
+        assertThat(connectionPool.snapshot().get("max")).isEqualTo(2);
+        assertThat(connectionPool.snapshot().get("pending")).isZero();
+        assertThat(connectionPool.snapshot().get("active")).isZero();
+
+        Awaitility.await()
+                .atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(taskRepository.findByStatus(TaskStatus.COMPLETED)).hasSize(6));
+        assertThat(registry.find("springqpro_db_pool_utilization").gauge()).isNotNull();
+    }
+}
@@ -0,0 +1,100 @@
+package com.springqprobackend.springqpro.integration;
+
+import com.springqprobackend.springqpro.domain.entity.TaskEntity;
+import com.springqprobackend.springqpro.enums.TaskStatus;
+import com.springqprobackend.springqpro.enums.TaskType;
+import com.springqprobackend.springqpro.repository.TaskRepository;
+import com.springqprobackend.springqpro.service.LeaseReaper;
+import com.springqprobackend.springqpro.service.QueueService;
+import com.springqprobackend.springqpro.testcontainers.IntegrationTestBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.shaded.org.awaitility.Awaitility;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/* DESCRIPTION OF THIS TEST CASE:
+- Seeds INPROGRESS rows the way a crashed worker would leave them (lease_until already in the past), plus one whose
+  lease is still live. The scheduled sweep is switched off so reapOnce() can be driven directly.
+- Expired + attempts left -> back to QUEUED and re-dispatched (so it ends up COMPLETED).
+- Expired + attempts used up -> FAILED. Live lease -> untouched.
+- A claim that loses the Redis lock hands the row back (QUEUED, no lease, attempt not counted) and re-dispatches it
+  itself, so it completes once the lock frees up -- with the reaper off, nothing else would pick it up.
+*/
+@TestPropertySource(properties = "queue.lease-reaper-enabled=false")
+class LeaseReaperIntegrationTest extends IntegrationTestBase {
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private LeaseReaper leaseReaper;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private QueueService queueService;
+    @Autowired
+    private StringRedisTemplate redis;
+
+    @BeforeEach
+    void cleanDb() {
+        taskRepository.deleteAll();
+    }
+
+    private TaskEntity seedInProgress(String id, int attempts, Instant leaseUntil) {
+        TaskEntity t = new TaskEntity(id, "lease-test", TaskType.EMAIL, TaskStatus.INPROGRESS, attempts, 3, Instant.now(), "lease@test.com");
+        t.setClaimedAt(leaseUntil.minusSeconds(300));
+        t.setLeaseUntil(leaseUntil);
+        return taskRepository.save(t);
+    }
+
+    @Test
+    void expiredLeases_areRequeuedOrFailed_liveLeasesAreLeftAlone() {
+        Instant past = Instant.now().minusSeconds(60);
+        seedInProgress("Task-lease-expired", 1, past);
+        seedInProgress("Task-lease-exhausted", 3, past);
+        seedInProgress("Task-lease-live", 1, Instant.now().plusSeconds(600));
+
+        assertThat(leaseReaper.reapOnce()).isEqualTo(2);
+
+        assertThat(taskRepository.findById("Task-lease-exhausted").orElseThrow().getStatus()).isEqualTo(TaskStatus.FAILED);
+        assertThat(taskRepository.findById("Task-lease-live").orElseThrow().getStatus()).isEqualTo(TaskStatus.INPROGRESS);
+        Awaitility.await()
+                .atMost(Duration.ofSeconds(10))
+                .untilAsserted(() -> {
+                    TaskEntity t = taskRepository.findById("Task-lease-expired").orElseThrow();
+                    assertThat(t.getStatus()).isEqualTo(TaskStatus.COMPLETED);
+                    assertThat(t.getAttempts()).isEqualTo(2);
+                    assertThat(t.getLeaseUntil()).isNull();
+                });
+        assertThat(leaseReaper.reapOnce()).isZero();
+    }
+
+    @Test
+    void lockMiss_handsTheClaimBack_andRedispatches() {
+        taskRepository.save(new TaskEntity("Task-lock-miss", "lease-test", TaskType.EMAIL, TaskStatus.QUEUED, 0, 3, Instant.now(), "lease@test.com"));
+        redis.opsForValue().set("task:lock:Task-lock-miss", "someone-else", Duration.ofMillis(1500));
+
+        queueService.enqueueById("Task-lock-miss", TaskType.EMAIL, 0);
+
+        Awaitility.await()
+                .atMost(Duration.ofSeconds(15))
+                .untilAsserted(() -> {
+                    TaskEntity t = taskRepository.findById("Task-lock-miss").orElseThrow();
+                    assertThat(t.getStatus()).isEqualTo(TaskStatus.COMPLETED);
+                    assertThat(t.getAttempts()).isEqualTo(1);
+                    assertThat(t.getLeaseUntil()).isNull();
+                });
+    }
+
+    @Test
+    void statusLeaseIndex_exists() {
+        Integer n = jdbcTemplate.queryForObject("SELECT count(*) FROM pg_indexes WHERE tablename = 'tasks' AND indexname = 'idx_tasks_status_lease_until'", Integer.class);
+        assertThat(n).isEqualTo(1);
+    }
+}
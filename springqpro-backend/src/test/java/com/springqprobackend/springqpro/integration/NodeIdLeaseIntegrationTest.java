@@ -0,0 +1,92 @@
+package com.springqprobackend.springqpro.integration;
+
+import com.redis.testcontainers.RedisContainer;
+import com.springqprobackend.springqpro.config.RedisTestConfig;
+import com.springqprobackend.springqpro.redis.NodeIdLease;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import static org.assertj.core.api.Assertions.*;
+
+/* DESCRIPTION OF THIS TEST CASE:
+All that needs to be tested is that two live leases never get the same Snowflake node ID, that a
+released node ID can be leased again, and that a lease whose slot was taken by someone else stops
+reporting itself as held.
+*/
+@DataRedisTest
+@Testcontainers
+@SpringJUnitConfig
+@Import(RedisTestConfig.class)
+@TestPropertySource(properties = {
+        "spring.profiles.active=test"
+})
+public class NodeIdLeaseIntegrationTest {
+    @Container
+    @ServiceConnection
+    static final RedisContainer REDIS =
+            new RedisContainer(DockerImageName.parse("redis:7.2"));
+    @Autowired
+    private StringRedisTemplate stringRedis;
+
+    private static final String PREFIX = "test:ids:node";
+
+    @BeforeEach
+    void cleanUp() {
+        stringRedis.getRequiredConnectionFactory()
+                .getConnection()
+                .serverCommands()
+                .flushAll();
+    }
+
+    @Test
+    void liveLeases_neverShareANodeId() {
+        NodeIdLease a = new NodeIdLease(stringRedis, PREFIX, 30000);
+        NodeIdLease b = new NodeIdLease(stringRedis, PREFIX, 30000);
+        try {
+            assertThat(a.acquire()).isNotEqualTo(b.acquire());
+            assertThat(a.isHeld()).isTrue();
+            assertThat(b.isHeld()).isTrue();
+        } finally {
+            a.release();
+            b.release();
+        }
+    }
+
+    @Test
+    void release_freesTheNodeId() {
+        NodeIdLease a = new NodeIdLease(stringRedis, PREFIX, 30000);
+        int id = a.acquire();
+        assertThat(stringRedis.hasKey(PREFIX + ":" + id)).isTrue();
+        a.release();
+        assertThat(stringRedis.hasKey(PREFIX + ":" + id)).isFalse();
+    }
+
+    @Test
+    void allNodeIdsTaken_failsInsteadOfSharing() {
+        for (int n = 0; n < 1024; n++) stringRedis.opsForValue().set(PREFIX + ":" + n, "someone-else");
+        NodeIdLease a = new NodeIdLease(stringRedis, PREFIX, 30000);
+        assertThatThrownBy(a::acquire).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void slotTakenByAnotherOwner_isNoLongerHeld() {
+        NodeIdLease a = new NodeIdLease(stringRedis, PREFIX, 30000);
+        try {
+            int id = a.acquire();
+            stringRedis.opsForValue().set(PREFIX + ":" + id, "someone-else");
+            a.renew();
+            assertThat(a.isHeld()).isFalse();
+        } finally {
+            a.release();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.springqprobackend.springqpro.integration;
+
+import com.springqprobackend.springqpro.domain.entity.TaskEntity;
+import com.springqprobackend.springqpro.enums.TaskStatus;
+import com.springqprobackend.springqpro.enums.TaskType;
+import com.springqprobackend.springqpro.config.QueueProperties;
+import com.springqprobackend.springqpro.redis.TaskRedisRepository;
+import com.springqprobackend.springqpro.repository.TaskRepository;
+import com.springqprobackend.springqpro.service.OutcomeWriteBehind;
+import com.springqprobackend.springqpro.service.ProcessingService;
+import com.springqprobackend.springqpro.testcontainers.IntegrationTestBase;
+import io.micrometer.core.instrument.Counter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.testcontainers.shaded.org.awaitility.Awaitility;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+/* DESCRIPTION OF THIS TEST CASE:
+- With "queue.outcome-write-behind-enabled" and a slow (1s) flush tick, a processed Task's outcome sits in the buffer:
+  the row is still INPROGRESS and the onSettled callback (what STREAM mode XACKs from) hasn't run. After the flush the
+  row and the cache both say COMPLETED, and only then is it settled.
+- 200 Tasks finished from 8 threads are written in a handful of JDBC batches (batch size 50), not 200 UPDATEs.
+- Redis failing after the batch has committed doesn't swallow the callbacks: a committed FAILED outcome still gets its
+  callback (and so its retry), with applied == true -- on the stage's own callback thread, not the flushing one.
+*/
+@TestPropertySource(properties = {
+        "queue.outcome-write-behind-enabled=true",
+        "queue.outcome-flush-interval-ms=1000",
+        "queue.outcome-flush-batch-size=50",
+        "queue.recovery-enabled=false",
+        "queue.lease-reaper-enabled=false"
+})
+class OutcomeWriteBehindIntegrationTest extends IntegrationTestBase {
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private ProcessingService processingService;
+    @Autowired
+    private TaskRedisRepository cache;
+    @Autowired
+    private Counter outcomeFlushCounter;
+    @Autowired
+    private JdbcTemplate jdbc;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private QueueProperties props;
+
+    @BeforeEach
+    void cleanDb() {
+        taskRepository.deleteAll();
+    }
+
+    private List<String> seed(int n) {
+        List<TaskEntity> tasks = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            tasks.add(new TaskEntity("Task-wb-" + i, "write-behind", TaskType.EMAIL, TaskStatus.QUEUED, 0, 3, Instant.now(), "wb@test.com"));
+        }
+        return taskRepository.saveAll(tasks).stream().map(TaskEntity::getId).toList();
+    }
+
+    @Test
+    void outcome_isOnlySettledAfterTheFlush() throws InterruptedException {
+        String id = seed(1).get(0);
+        CountDownLatch settled = new CountDownLatch(1);
+
+        processingService.claimAndProcess(id, settled::countDown);
+        assertThat(taskRepository.findById(id).orElseThrow().getStatus()).isEqualTo(TaskStatus.INPROGRESS);
+        assertThat(settled.getCount()).isEqualTo(1);
+
+        assertThat(settled.await(3, TimeUnit.SECONDS)).isTrue();
+        assertThat(taskRepository.findById(id).orElseThrow().getStatus()).isEqualTo(TaskStatus.COMPLETED);
+        assertThat(cache.get(id).getStatus()).isEqualTo(TaskStatus.COMPLETED);
+    }
+
+    @Test
+    void manyOutcomes_areWrittenInFewBatches() throws InterruptedException {
+        List<String> ids = seed(200);
+        double flushesBefore = outcomeFlushCounter.count();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        ids.forEach(id -> executor.submit(() -> processingService.claimAndProcess(id)));
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        Awaitility.await()
+                .atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(taskRepository.findByStatus(TaskStatus.COMPLETED)).hasSize(200));
+        assertThat(outcomeFlushCounter.count() - flushesBefore).isLessThanOrEqualTo(20);
+    }
+
+    @Test
+    void cacheFailureAfterCommit_stillRunsTheCallbacks() {
+        String id = seed(1).get(0);
+        TaskEntity claimed = taskRepository.claimById(id, props.getLeaseDurationMs()).orElseThrow();
+        TaskRedisRepository brokenCache = mock(TaskRedisRepository.class);
+        doThrow(new RedisConnectionFailureException("redis down")).when(brokenCache).putAll(anyCollection());
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        OutcomeWriteBehind stage = new OutcomeWriteBehind(jdbc, transactionManager, brokenCache, scheduler, props, outcomeFlushCounter);
+        stage.start();
+        try {
+            AtomicReference<Boolean> flushed = new AtomicReference<>();
+            AtomicReference<String> callbackThread = new AtomicReference<>();
+            assertThat(stage.offer(new OutcomeWriteBehind.PendingOutcome(claimed, TaskStatus.FAILED, applied -> {
+                callbackThread.set(Thread.currentThread().getName());
+                flushed.set(applied);
+            }))).isTrue();
+            stage.flush();
+
+            Awaitility.await()
+                    .atMost(Duration.ofSeconds(5))
+                    .untilAsserted(() -> assertThat(flushed.get()).isTrue());
+            assertThat(callbackThread.get()).isEqualTo("QS-OutcomeCallbacks");
+            assertThat(taskRepository.findById(id).orElseThrow().getStatus()).isEqualTo(TaskStatus.FAILED);
+        } finally {
+            stage.stop();
+            scheduler.shutdownNow();
+        }
+    }
+}
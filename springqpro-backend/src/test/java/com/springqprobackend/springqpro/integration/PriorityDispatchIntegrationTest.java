@@ -0,0 +1,87 @@
+package com.springqprobackend.springqpro.integration;
+
+import com.springqprobackend.springqpro.domain.entity.TaskEntity;
+import com.springqprobackend.springqpro.enums.TaskStatus;
+import com.springqprobackend.springqpro.enums.TaskType;
+import com.springqprobackend.springqpro.repository.TaskRepository;
+import com.springqprobackend.springqpro.service.PriorityAger;
+import com.springqprobackend.springqpro.service.ProcessingService;
+import com.springqprobackend.springqpro.service.TaskService;
+import com.springqprobackend.springqpro.testcontainers.IntegrationTestBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/* DESCRIPTION OF THIS TEST CASE:
+- Seeds QUEUED rows (no TaskCreatedEvent) with different priorities and ages, runs one PriorityAger pass, then claims
+  them one at a time through ProcessingService.claimBatch -- the claim order has to be priority-first with aging
+  ("queue.priority-aging-ms=60000"): a priority-0 row that has waited 10 minutes has its effective priority raised to 9
+  (its own priority stays 0) and beats a fresh priority-9 row on age, but a fresh priority-9 row beats a fresh priority-5
+  row, and equal priorities go oldest first.
+- createTask with an out-of-range priority is clamped into [0, 9] and persisted.
+*/
+@TestPropertySource(properties = {
+        "queue.priority-aging-ms=60000",
+        "queue.recovery-enabled=false"
+})
+class PriorityDispatchIntegrationTest extends IntegrationTestBase {
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private ProcessingService processingService;
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private PriorityAger priorityAger;
+
+    @BeforeEach
+    void cleanDb() {
+        taskRepository.deleteAll();
+    }
+
+    private void seed(String id, int priority, Instant createdAt) {
+        TaskEntity t = new TaskEntity(id, "priority-test", TaskType.EMAIL, TaskStatus.QUEUED, 0, 3, createdAt, "priority@test.com");
+        t.setPriority(priority);
+        taskRepository.save(t);
+    }
+
+    @Test
+    void claimOrder_isPriorityFirst_withAging() {
+        Instant now = Instant.now();
+        seed("Task-fresh-p5", 5, now);
+        seed("Task-fresh-p9", 9, now);
+        seed("Task-old-p0", 0, now.minus(10, ChronoUnit.MINUTES));
+        seed("Task-fresh-p0-a", 0, now.minusSeconds(2));
+        seed("Task-fresh-p0-b", 0, now.minusSeconds(1));
+
+        priorityAger.ageOnce();
+        TaskEntity aged = taskRepository.findById("Task-old-p0").orElseThrow();
+        assertThat(aged.getEffectivePriority()).isEqualTo(TaskService.MAX_PRIORITY);
+        assertThat(aged.getPriority()).isZero();     // the client's priority is left alone.
+        assertThat(taskRepository.findById("Task-fresh-p0-a").orElseThrow().getEffectivePriority()).isZero();
+        assertThat(taskRepository.findById("Task-fresh-p5").orElseThrow().getEffectivePriority()).isEqualTo(5);
+
+        List<String> order = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            processingService.claimBatch(1).forEach(t -> order.add(t.getId()));
+        }
+        assertThat(order).containsExactly("Task-old-p0", "Task-fresh-p9", "Task-fresh-p5", "Task-fresh-p0-a", "Task-fresh-p0-b");
+    }
+
+    @Test
+    void createTask_clampsAndPersistsPriority() {
+        TaskEntity high = taskService.createTaskForUser("p", TaskType.EMAIL, 42, "priority@test.com");
+        TaskEntity unset = taskService.createTaskForUser("p", TaskType.EMAIL, "priority@test.com");
+
+        assertThat(taskRepository.findById(high.getId()).orElseThrow().getPriority()).isEqualTo(TaskService.MAX_PRIORITY);
+        assertThat(taskRepository.findById(unset.getId()).orElseThrow().getPriority()).isEqualTo(TaskService.MIN_PRIORITY);
+    }
+}
@@ -9,6 +9,9 @@ import com.springqprobackend.springqpro.service.ProcessingService;
 import com.springqprobackend.springqpro.service.QueueService;
 import com.springqprobackend.springqpro.service.TaskService;
 import com.springqprobackend.springqpro.testcontainers.IntegrationTestBase;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Tag;
@@ -18,9 +21,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
 import org.testcontainers.shaded.org.awaitility.Awaitility;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.*;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
@@ -31,6 +38,11 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 (the transitionStatus pattern should prevent double-claim).
 - Basically checks the atomicity of the DB-level Task claim (transitionStatus(...) mainly)
 and checks the functionality I have in place to make sure that a Task cannot be simultaneously processed.
+- Claim throughput: 200 QUEUED Tasks pushed through ProcessingService.claimAndProcess from 8 threads (each one twice,
+racing) must all complete exactly once, in at most 3 JDBC statements per Task: the winning UPDATE ... RETURNING claim,
+the COMPLETED write, and the losing duplicate's claim. The old existsById/findById/claim/refresh path needed 5+ for the
+winner alone. Statement count comes from Hibernate statistics so the win is asserted deterministically; tasks/sec is
+logged alongside it.
 */
 /* 2025-11-17-NOTE:
 These three Integration test that I have (ProcessingConcurrencyIntegrationTest.java, CreateAndProcessTaskIntegrationTest.java,
@@ -61,6 +73,11 @@ GRAPHQL-RELATED QUERIES:
 //@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
 @SpringBootTest
 @ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "queue.recovery-enabled=false",
+        "queue.lease-reaper-enabled=false"
+})
 class ProcessingConcurrencyIntegrationTest extends IntegrationTestBase {
     @Autowired
     private TaskService taskService;
@@ -71,6 +88,14 @@ class ProcessingConcurrencyIntegrationTest extends IntegrationTestBase {
     @Autowired
     private QueueService queueService;
 
+    @Autowired
+    private ProcessingService processingService;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    private static final Logger logger = LoggerFactory.getLogger(ProcessingConcurrencyIntegrationTest.class);
+
     @BeforeEach
     void cleanDb() {
         taskRepository.deleteAll();
@@ -113,4 +138,43 @@ class ProcessingConcurrencyIntegrationTest extends IntegrationTestBase {
         assertThat(finalState.getStatus()).isNotEqualTo(TaskStatus.QUEUED);
         assertThat(finalState.getStatus()).isNotEqualTo(TaskStatus.INPROGRESS);
     }
+
+    @Test
+    void claimAndProcess_isOneStatementClaim_underConcurrentLoad() throws Exception {
+        int n = 200;
+        List<String> ids = new ArrayList<>();
+        List<TaskEntity> seeded = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            String id = "Task-throughput-" + i;
+            ids.add(id);
+            seeded.add(new TaskEntity(id, "throughput", TaskType.EMAIL, TaskStatus.QUEUED, 0, 3, Instant.now(), "throughput@test.com"));
+        }
+        taskRepository.saveAll(seeded);     // no TaskCreatedEvent -- only the calls below touch these rows.
+
+        Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        long start = System.nanoTime();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (String id : ids) {
+                futures.add(executor.submit(() -> processingService.claimAndProcess(id)));
+                futures.add(executor.submit(() -> processingService.claimAndProcess(id)));   // a racing duplicate claim.
+            }
+            for (Future<?> f : futures) f.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdown();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long statements = stats.getPrepareStatementCount();
+        logger.info("[claim throughput] {} tasks in {}s ({} tasks/s), {} JDBC statements ({} per task)",
+                n, String.format("%.2f", seconds), String.format("%.0f", n / seconds), statements, String.format("%.2f", (double) statements / n));
+
+        for (TaskEntity t : taskRepository.findAllById(ids)) {
+            assertThat(t.getStatus()).isEqualTo(TaskStatus.COMPLETED);
+            assertThat(t.getAttempts()).isEqualTo(1);   // the duplicate claims all lost.
+        }
+        // 2 winning statements per Task + 1 losing claim UPDATE per duplicate = 3 per Task.
+        assertThat(statements).isLessThanOrEqualTo(3L * n);
+    }
 }
@@ -0,0 +1,91 @@
+package com.springqprobackend.springqpro.integration;
+
+import com.springqprobackend.springqpro.security.dto.AuthResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.reactive.server.FluxExchangeResult;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/* DESCRIPTION OF THIS TEST CASE:
+- GET /api/processing/events/stream?taskId=X, opened after Task X already finished, replays X's events from the ring
+  (and only X's): CLAIM_START first, COMPLETED among them, in the same line format as GET /api/processing/events.
+- A stream opened BEFORE a Task is created pushes that Task's COMPLETED event live (type=COMPLETED filter).
+- Reconnecting with Last-Event-ID only sends events after that id.
+*/
+@TestPropertySource(properties = {
+        "queue.event-stream-interval-ms=50"
+})
+class ProcessingEventStreamIntegrationTest extends AbstractAuthenticatedIntegrationTest {
+    private static final ParameterizedTypeReference<ServerSentEvent<String>> SSE = new ParameterizedTypeReference<>() { };
+
+    private String createTask(String token) {
+        AtomicReference<String> id = new AtomicReference<>();
+        graphQLWithToken(token, "mutation { createTask(input: { payload: \"sse\", type: EMAIL }) { id } }")
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data.createTask.id").value(v -> id.set((String) v));
+        return id.get();
+    }
+
+    private Flux<ServerSentEvent<String>> stream(String token, String query, String lastEventId) {
+        FluxExchangeResult<ServerSentEvent<String>> result = webTestClient.get()
+                .uri("/api/processing/events/stream" + query)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .headers(h -> { if (lastEventId != null) h.set("Last-Event-ID", lastEventId); })
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(SSE);
+        return result.getResponseBody().filter(e -> "processing".equals(e.event()));
+    }
+
+    private static List<ServerSentEvent<String>> untilCompleted(Flux<ServerSentEvent<String>> events) {
+        return events.takeUntil(e -> e.data().contains("] COMPLETED ")).collectList().block(Duration.ofSeconds(15));
+    }
+
+    @Test
+    void taskFilter_replaysThatTasksEventsFromTheRing() {
+        AuthResponse auth = registerAndLogin("sse1@test.com", "pw");
+        String id = createTask(auth.accessToken());
+        List<ServerSentEvent<String>> events = untilCompleted(stream(auth.accessToken(), "?taskId=" + id, null));
+
+        assertThat(events).isNotEmpty();
+        assertThat(events).allSatisfy(e -> assertThat(e.data()).contains(" " + id));
+        assertThat(events.get(0).data()).matches("\\[.*] CLAIM_START " + id);
+        assertThat(events.get(events.size() - 1).data()).endsWith("] COMPLETED " + id);
+    }
+
+    @Test
+    void liveEvents_arePushedAsTheyHappen() {
+        AuthResponse auth = registerAndLogin("sse2@test.com", "pw");
+        Flux<ServerSentEvent<String>> completed = stream(auth.accessToken(), "?type=COMPLETED", null);
+        String id = createTask(auth.accessToken());
+
+        ServerSentEvent<String> event = completed.filter(e -> e.data().endsWith(" " + id)).blockFirst(Duration.ofSeconds(15));
+        assertThat(event).isNotNull();
+        assertThat(event.data()).endsWith("] COMPLETED " + id);
+    }
+
+    @Test
+    void lastEventId_resumesAfterThatEvent() {
+        AuthResponse auth = registerAndLogin("sse3@test.com", "pw");
+        String id = createTask(auth.accessToken());
+        List<ServerSentEvent<String>> all = untilCompleted(stream(auth.accessToken(), "?taskId=" + id, null));
+        assertThat(all.size()).isGreaterThan(2);
+
+        String resumeAfter = all.get(1).id();
+        ServerSentEvent<String> next = stream(auth.accessToken(), "?taskId=" + id, resumeAfter).blockFirst(Duration.ofSeconds(15));
+        assertThat(next).isNotNull();
+        assertThat(next.id()).isEqualTo(all.get(2).id());
+    }
+}
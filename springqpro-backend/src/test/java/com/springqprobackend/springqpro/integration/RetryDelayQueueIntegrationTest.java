@@ -0,0 +1,100 @@
+package com.springqprobackend.springqpro.integration;
+
+import com.springqprobackend.springqpro.config.QueueProperties;
+import com.springqprobackend.springqpro.domain.entity.TaskEntity;
+import com.springqprobackend.springqpro.enums.TaskStatus;
+import com.springqprobackend.springqpro.enums.TaskType;
+import com.springqprobackend.springqpro.redis.RetryDelayQueue;
+import com.springqprobackend.springqpro.repository.TaskRepository;
+import com.springqprobackend.springqpro.testcontainers.IntegrationTestBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.shaded.org.awaitility.Awaitility;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/* DESCRIPTION OF THIS TEST CASE:
+- claimDue only hands back members whose due-time has passed. They stay in the ZSET (claimed, not due again until the
+  claim timeout) until ack removes them; an ack for a member that was re-scheduled since is ignored.
+- A claim that is never acked (the release threw, or the JVM died) comes due again once the claim timeout passes.
+- A FAILED Task parked in the ZSET (what ProcessingService does on failure) is released by RetryPoller once due:
+  FAILED -> QUEUED -> dispatched -> processed. Nothing about it lives in the JVM, so this is the restart-safe path.
+*/
+@TestPropertySource(properties = {
+        "queue.retry-scheduler=REDIS",
+        "queue.retry-zset-key=springqpro:tasks:retry:test",
+        "queue.retry-poll-interval-ms=200",
+        "queue.retry-claim-timeout-ms=1000"
+})
+class RetryDelayQueueIntegrationTest extends IntegrationTestBase {
+    @Autowired
+    private RetryDelayQueue retryQueue;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private StringRedisTemplate redis;
+    @Autowired
+    private QueueProperties props;
+
+    @BeforeEach
+    void clean() {
+        taskRepository.deleteAll();
+        redis.delete(props.getRetryZsetKey());
+    }
+
+    @Test
+    void claimDue_returnsOnlyDueMembers_andAckRemovesThem() {
+        long now = System.currentTimeMillis();
+        // Far enough in the past/future that RetryPoller (running against the same key) can't interfere with the assertions:
+        retryQueue.schedule("Task-future", now + 600_000);
+        assertThat(retryQueue.claimDue(now, 10).ids()).isEmpty();
+        assertThat(retryQueue.size()).isEqualTo(1);
+
+        long later = now + 700_000;
+        retryQueue.schedule("Task-later", now + 650_000);
+        RetryDelayQueue.Claim claim = retryQueue.claimDue(later, 10);
+        assertThat(claim.ids()).containsExactlyInAnyOrder("Task-future", "Task-later");
+        assertThat(retryQueue.claimDue(later, 10).ids()).isEmpty();     // claimed: not handed out twice
+        assertThat(retryQueue.size()).isEqualTo(2);
+
+        retryQueue.schedule("Task-later", now + 800_000);               // re-scheduled before the ack
+        assertThat(retryQueue.ack("Task-future", claim.claimedUntil())).isTrue();
+        assertThat(retryQueue.ack("Task-later", claim.claimedUntil())).isFalse();
+        assertThat(retryQueue.size()).isEqualTo(1);
+        redis.delete(props.getRetryZsetKey());
+    }
+
+    @Test
+    void unackedClaim_comesDueAgainAfterTheTimeout() {
+        long now = System.currentTimeMillis() + 600_000;   // clear of RetryPoller, as above
+        retryQueue.schedule("Task-unacked", now);
+        RetryDelayQueue.Claim claim = retryQueue.claimDue(now, 10);
+        assertThat(claim.ids()).containsExactly("Task-unacked");
+        assertThat(claim.claimedUntil()).isEqualTo(now + props.getRetryClaimTimeoutMs());
+
+        assertThat(retryQueue.claimDue(claim.claimedUntil() - 1, 10).ids()).isEmpty();
+        assertThat(retryQueue.claimDue(claim.claimedUntil(), 10).ids()).containsExactly("Task-unacked");
+        redis.delete(props.getRetryZsetKey());
+    }
+
+    @Test
+    void dueRetry_isReleasedAndProcessed() {
+        TaskEntity failed = taskRepository.save(new TaskEntity("Task-retry-zset", "retry", TaskType.EMAIL, TaskStatus.FAILED, 1, 3, Instant.now(), "retry@test.com"));
+        retryQueue.schedule(failed.getId(), System.currentTimeMillis());
+
+        Awaitility.await()
+                .atMost(Duration.ofSeconds(10))
+                .untilAsserted(() -> {
+                    TaskEntity t = taskRepository.findById(failed.getId()).orElseThrow();
+                    assertThat(t.getStatus()).isEqualTo(TaskStatus.COMPLETED);
+                    assertThat(t.getAttempts()).isEqualTo(2);
+                });
+        assertThat(retryQueue.size()).isZero();
+    }
+}
@@ -0,0 +1,61 @@
+package com.springqprobackend.springqpro.integration;
+
+import com.springqprobackend.springqpro.domain.entity.TaskEntity;
+import com.springqprobackend.springqpro.enums.TaskStatus;
+import com.springqprobackend.springqpro.enums.TaskType;
+import com.springqprobackend.springqpro.repository.TaskRepository;
+import com.springqprobackend.springqpro.service.StartupRecovery;
+import com.springqprobackend.springqpro.testcontainers.IntegrationTestBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.shaded.org.awaitility.Awaitility;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/* DESCRIPTION OF THIS TEST CASE:
+- Seeds QUEUED rows straight through TaskRepository (no TaskCreatedEvent) -- what a restart finds left over in the table.
+- A small page size forces several keyset pages; recover() has to visit every row exactly once and get each one processed.
+- The automatic on-boot sweep is switched off so the test drives recover() itself.
+- The executor queue only holds 2 and the overflow policy is SHED, so dispatching faster than the workers drain would mark
+  rows FAILED: recover() has to wait for real queue headroom, and every row still has to end up COMPLETED.
+*/
+@TestPropertySource(properties = {
+        "queue.recovery-enabled=false",
+        "queue.recovery-page-size=7",
+        "queue.recovery-rate-per-second=1000",
+        "queue.recovery-max-backlog=5",
+        "queue.main-exec-queue-capacity=2",
+        "queue.overflow-policy=SHED"
+})
+class StartupRecoveryIntegrationTest extends IntegrationTestBase {
+    private static final int TASK_COUNT = 25;
+
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private StartupRecovery startupRecovery;
+
+    @BeforeEach
+    void seed() {
+        taskRepository.deleteAll();
+        for (int i = 0; i < TASK_COUNT; i++) {
+            taskRepository.save(new TaskEntity("Task-recovery-" + i, "recovery-test", TaskType.EMAIL, TaskStatus.QUEUED, 0, 3, Instant.now(), "recovery@test.com"));
+        }
+        taskRepository.save(new TaskEntity("Task-recovery-done", "recovery-test", TaskType.EMAIL, TaskStatus.COMPLETED, 1, 3, Instant.now(), "recovery@test.com"));
+    }
+
+    @Test
+    void recover_pagesThroughEveryQueuedRow_andDispatchesIt() {
+        assertThat(startupRecovery.recover()).isEqualTo(TASK_COUNT);
+
+        Awaitility.await()
+                .atMost(Duration.ofSeconds(20))
+                .untilAsserted(() -> assertThat(taskRepository.findByStatus(TaskStatus.COMPLETED)).hasSize(TASK_COUNT + 1));
+        assertThat(taskRepository.findAll()).allSatisfy(t -> assertThat(t.getAttempts()).isLessThanOrEqualTo(1));
+    }
+}
@@ -0,0 +1,143 @@
+package com.springqprobackend.springqpro.integration;
+
+import com.springqprobackend.springqpro.config.QueueProperties;
+import com.springqprobackend.springqpro.domain.entity.TaskEntity;
+import com.springqprobackend.springqpro.enums.TaskStatus;
+import com.springqprobackend.springqpro.enums.TaskType;
+import com.springqprobackend.springqpro.redis.TaskDispatchStream;
+import com.springqprobackend.springqpro.repository.TaskRepository;
+import com.springqprobackend.springqpro.service.StreamDispatchConsumer;
+import com.springqprobackend.springqpro.service.StreamRepublisher;
+import com.springqprobackend.springqpro.service.TaskService;
+import com.springqprobackend.springqpro.testcontainers.IntegrationTestBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.shaded.org.awaitility.Awaitility;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/* DESCRIPTION OF THIS TEST CASE:
+- Boots with "queue.dispatch-mode=STREAM", so TaskCreatedListener XADDs instead of submitting locally.
+- A Task created through TaskService must be read by StreamDispatchConsumer, processed, and XACKed (nothing left pending).
+- A "dead node" reads an entry and never acks it -- the live consumer has to XCLAIM it once it goes idle and run the Task.
+- The same for a dead node's PEL far bigger than one XPENDING page or one claim batch: all of it has to drain.
+- A QUEUED row that never got an entry (its XADD was lost) is XADDed again by StreamRepublisher and runs.
+*/
+@TestPropertySource(properties = {
+        "queue.dispatch-mode=STREAM",
+        "queue.stream-key=springqpro:tasks:stream:test",
+        "queue.stream-reclaim-idle-ms=500",
+        "queue.stream-block-ms=200"
+})
+class StreamDispatchIntegrationTest extends IntegrationTestBase {
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private TaskDispatchStream dispatchStream;
+    @Autowired
+    private StreamDispatchConsumer consumer;
+    @Autowired
+    private StreamRepublisher republisher;
+    @Autowired
+    private StringRedisTemplate redis;
+    @Autowired
+    private QueueProperties props;
+
+    @BeforeEach
+    void cleanDb() {
+        taskRepository.deleteAll();
+    }
+
+    @Test
+    void createdTask_isDispatchedThroughTheStream_andAcked() {
+        TaskEntity created = taskService.createTaskForUser("stream-test", TaskType.EMAIL, "stream@test.com");
+
+        Awaitility.await()
+                .atMost(Duration.ofSeconds(10))
+                .untilAsserted(() -> {
+                    assertThat(taskRepository.findById(created.getId()).orElseThrow().getStatus()).isEqualTo(TaskStatus.COMPLETED);
+                    assertThat(dispatchStream.pendingCount()).isZero();
+                });
+    }
+
+    @Test
+    void entryLeftPendingByDeadConsumer_isReclaimedAndProcessed() {
+        TaskEntity seeded = taskRepository.save(new TaskEntity("Task-stream-orphan", "orphan", TaskType.EMAIL, TaskStatus.QUEUED, 0, 3, Instant.now(), "stream@test.com"));
+
+        consumer.stop();    // so the live consumer can't read the entry before the "dead node" does.
+        try {
+            dispatchStream.publish(seeded.getId());
+            var delivered = redis.opsForStream().read(
+                    Consumer.from(props.getStreamGroup(), "dead-node"),
+                    StreamReadOptions.empty().count(1),
+                    StreamOffset.create(props.getStreamKey(), ReadOffset.lastConsumed()));
+            assertThat(delivered).hasSize(1);
+            assertThat(dispatchStream.pendingCount()).isEqualTo(1);
+        } finally {
+            consumer.start();
+        }
+
+        Awaitility.await()
+                .atMost(Duration.ofSeconds(10))
+                .untilAsserted(() -> {
+                    assertThat(taskRepository.findById(seeded.getId()).orElseThrow().getStatus()).isEqualTo(TaskStatus.COMPLETED);
+                    assertThat(dispatchStream.pendingCount()).isZero();
+                });
+    }
+
+    @Test
+    void largePelLeftByDeadConsumer_isReclaimedInFull() {
+        List<TaskEntity> seeded = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            seeded.add(new TaskEntity("Task-stream-orphan-" + i, "orphan", TaskType.EMAIL, TaskStatus.QUEUED, 0, 3, Instant.now(), "stream@test.com"));
+        }
+        taskRepository.saveAll(seeded);
+
+        consumer.stop();
+        try {
+            seeded.forEach(t -> dispatchStream.publish(t.getId()));
+            var delivered = redis.opsForStream().read(
+                    Consumer.from(props.getStreamGroup(), "dead-node"),
+                    StreamReadOptions.empty().count(seeded.size()),
+                    StreamOffset.create(props.getStreamKey(), ReadOffset.lastConsumed()));
+            assertThat(delivered).hasSize(seeded.size());
+        } finally {
+            consumer.start();
+        }
+
+        Awaitility.await()
+                .atMost(Duration.ofSeconds(30))
+                .untilAsserted(() -> {
+                    assertThat(taskRepository.findAll()).allMatch(t -> t.getStatus() == TaskStatus.COMPLETED);
+                    assertThat(dispatchStream.pendingCount()).isZero();
+                });
+    }
+
+    @Test
+    void queuedRowWithNoStreamEntry_isRepublished() {
+        Instant longAgo = Instant.now().minusMillis(props.getStreamRepublishAfterMs() + 60000);
+        TaskEntity lost = taskRepository.save(new TaskEntity("Task-stream-lost", "lost", TaskType.EMAIL, TaskStatus.QUEUED, 0, 3, longAgo, "stream@test.com"));
+
+        Awaitility.await()
+                .atMost(Duration.ofSeconds(5))
+                .until(() -> republisher.republishOnce() >= 1);     // once the consumer has read its streams to the end.
+
+        Awaitility.await()
+                .atMost(Duration.ofSeconds(10))
+                .untilAsserted(() -> assertThat(taskRepository.findById(lost.getId()).orElseThrow().getStatus()).isEqualTo(TaskStatus.COMPLETED));
+    }
+}
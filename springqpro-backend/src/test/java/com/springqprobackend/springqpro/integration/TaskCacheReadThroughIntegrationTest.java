@@ -0,0 +1,87 @@
+package com.springqprobackend.springqpro.integration;
+
+import com.springqprobackend.springqpro.domain.entity.TaskEntity;
+import com.springqprobackend.springqpro.enums.TaskStatus;
+import com.springqprobackend.springqpro.enums.TaskType;
+import com.springqprobackend.springqpro.redis.TaskRedisRepository;
+import com.springqprobackend.springqpro.repository.TaskRepository;
+import com.springqprobackend.springqpro.service.TaskService;
+import com.springqprobackend.springqpro.testcontainers.IntegrationTestBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/* DESCRIPTION OF THIS TEST CASE:
+- TaskRedisRepository multi-key ops: putAll, then getAll over cached + unknown IDs reports the right hits/misses (hits in
+  request order); deleteAll turns them all back into misses.
+- TaskService list reads go through the cache: with only one of three Tasks cached, the list still returns all three
+  (misses loaded from Postgres) and afterwards every one of them is cached.
+- A cached row whose status no longer matches the list's status filter is treated as a miss and refreshed from Postgres.
+*/
+@TestPropertySource(properties = {
+        "queue.recovery-enabled=false"
+})
+class TaskCacheReadThroughIntegrationTest extends IntegrationTestBase {
+    @Autowired
+    private TaskRedisRepository cache;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private StringRedisTemplate redis;
+
+    private static final String OWNER = "readthrough@test.com";
+
+    @BeforeEach
+    void cleanDb() {
+        taskRepository.deleteAll();
+        cache.deleteAll(List.of("Task-rt-0", "Task-rt-1", "Task-rt-2"));
+        redis.delete(redis.keys("tasks:owner:" + OWNER + ":*"));     // the rows were wiped behind TaskStatusBuckets' back.
+    }
+
+    private static TaskEntity task(String id, TaskStatus status) {
+        return new TaskEntity(id, "read-through", TaskType.EMAIL, status, 0, 3, Instant.now(), OWNER);
+    }
+
+    @Test
+    void multiKeyOps_reportHitsAndMisses() {
+        cache.putAll(List.of(task("Task-rt-0", TaskStatus.QUEUED), task("Task-rt-1", TaskStatus.QUEUED)));
+
+        TaskRedisRepository.Lookup lookup = cache.getAll(List.of("Task-rt-1", "Task-rt-missing", "Task-rt-0"));
+        assertThat(lookup.hitCount()).isEqualTo(2);
+        assertThat(lookup.hits().keySet()).containsExactly("Task-rt-1", "Task-rt-0");
+        assertThat(lookup.misses()).containsExactly("Task-rt-missing");
+
+        cache.deleteAll(List.of("Task-rt-0", "Task-rt-1"));
+        assertThat(cache.getAll(List.of("Task-rt-0", "Task-rt-1")).missCount()).isEqualTo(2);
+    }
+
+    @Test
+    void listReads_goThroughTheCache_andFillItIn() {
+        List<TaskEntity> saved = taskRepository.saveAll(List.of(task("Task-rt-0", TaskStatus.QUEUED), task("Task-rt-1", TaskStatus.QUEUED), task("Task-rt-2", TaskStatus.QUEUED)));
+        cache.putAll(List.of(saved.get(0)));
+
+        assertThat(taskService.getAllTasksForUser(null, OWNER)).extracting(TaskEntity::getId)
+                .containsExactlyInAnyOrder("Task-rt-0", "Task-rt-1", "Task-rt-2");
+        assertThat(cache.getAll(List.of("Task-rt-0", "Task-rt-1", "Task-rt-2")).hitCount()).isEqualTo(3);
+    }
+
+    @Test
+    void staleCachedStatus_isReReadFromPostgres() {
+        TaskEntity row = taskRepository.save(task("Task-rt-0", TaskStatus.COMPLETED));
+        TaskEntity stale = task("Task-rt-0", TaskStatus.QUEUED);
+        cache.putAll(List.of(stale));
+
+        List<TaskEntity> completed = taskService.getAllTasksForUser(TaskStatus.COMPLETED, OWNER);
+        assertThat(completed).extracting(TaskEntity::getStatus).containsExactly(TaskStatus.COMPLETED);
+        assertThat(cache.get(row.getId()).getStatus()).isEqualTo(TaskStatus.COMPLETED);
+    }
+}
@@ -0,0 +1,103 @@
+package com.springqprobackend.springqpro.integration;
+
+import com.springqprobackend.springqpro.domain.entity.TaskEntity;
+import com.springqprobackend.springqpro.enums.TaskStatus;
+import com.springqprobackend.springqpro.enums.TaskType;
+import com.springqprobackend.springqpro.repository.TaskRepository;
+import com.springqprobackend.springqpro.security.dto.AuthResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/* DESCRIPTION OF THIS TEST CASE:
+- tasksConnection(first: 10) walks 25 seeded Tasks in three pages (10/10/5), newest first, with no duplicates or gaps --
+  including Tasks that share a createdAt (ties are broken by id) -- and hasNextPage goes false on the last page.
+- status/type/createdAfter filters narrow the pages, and only the caller's own Tasks are ever returned.
+- A malformed cursor is refused as BAD_REQUEST.
+*/
+class TaskConnectionIntegrationTest extends AbstractAuthenticatedIntegrationTest {
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private static final String OWNER = "pages@test.com";
+    private static final Instant BASE = Instant.parse("2026-01-01T00:00:00Z");
+
+    @BeforeEach
+    void cleanDb() {
+        taskRepository.deleteAll();
+    }
+
+    // Task-p-00 .. Task-p-24: every third one COMPLETED / SMS; pairs share a createdAt second.
+    private void seed() {
+        taskRepository.saveAll(IntStream.range(0, 25).mapToObj(i -> new TaskEntity("Task-p-%02d".formatted(i), "page",
+                i % 3 == 0 ? TaskType.SMS : TaskType.EMAIL, i % 3 == 0 ? TaskStatus.COMPLETED : TaskStatus.QUEUED,
+                0, 3, BASE.plusSeconds(i / 2), OWNER)).toList());
+        taskRepository.save(new TaskEntity("Task-other", "page", TaskType.EMAIL, TaskStatus.QUEUED, 0, 3, BASE, "other@test.com"));
+    }
+
+    private record Page(List<String> ids, boolean hasNextPage, String endCursor) { }
+
+    @SuppressWarnings("unchecked")
+    private Page page(String token, String args) {
+        AtomicReference<List<String>> ids = new AtomicReference<>();
+        AtomicReference<Boolean> hasNext = new AtomicReference<>();
+        AtomicReference<String> end = new AtomicReference<>();
+        graphQLWithToken(token, "query { tasksConnection(" + args + ") { edges { cursor node { id } } pageInfo { hasNextPage endCursor } } }")
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.errors").doesNotExist()
+                .jsonPath("$.data.tasksConnection.edges[*].node.id").value(v -> ids.set((List<String>) v))
+                .jsonPath("$.data.tasksConnection.pageInfo.hasNextPage").value(v -> hasNext.set((Boolean) v))
+                .jsonPath("$.data.tasksConnection.pageInfo.endCursor").value(v -> end.set((String) v));
+        return new Page(ids.get(), hasNext.get(), end.get());
+    }
+
+    @Test
+    void firstTen_walksEveryTaskOnceNewestFirst() {
+        AuthResponse auth = registerAndLogin(OWNER, "pw");
+        seed();
+
+        List<String> seen = new ArrayList<>();
+        Page p = page(auth.accessToken(), "first: 10");
+        List<Integer> sizes = new ArrayList<>();
+        while (true) {
+            seen.addAll(p.ids());
+            sizes.add(p.ids().size());
+            if (!p.hasNextPage()) break;
+            p = page(auth.accessToken(), "first: 10, after: \"" + p.endCursor() + "\"");
+        }
+        assertThat(sizes).containsExactly(10, 10, 5);
+        List<String> expected = IntStream.iterate(24, i -> i >= 0, i -> i - 1).mapToObj("Task-p-%02d"::formatted).toList();
+        assertThat(seen).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void filters_narrowThePage() {
+        AuthResponse auth = registerAndLogin(OWNER, "pw");
+        seed();
+
+        assertThat(page(auth.accessToken(), "first: 100, status: COMPLETED").ids())
+                .hasSize(9).allSatisfy(id -> assertThat(Integer.parseInt(id.substring(7)) % 3).isZero());
+        assertThat(page(auth.accessToken(), "type: EMAIL").ids()).hasSize(16);
+        assertThat(page(auth.accessToken(), "createdAfter: \"" + BASE.plusSeconds(10) + "\"").ids())
+                .containsExactly("Task-p-24", "Task-p-23", "Task-p-22");
+        assertThat(page(auth.accessToken(), "status: QUEUED, type: SMS").ids()).isEmpty();
+    }
+
+    @Test
+    void badCursor_isBadRequest() {
+        AuthResponse auth = registerAndLogin(OWNER, "pw");
+        graphQLWithToken(auth.accessToken(), "query { tasksConnection(after: \"not-a-cursor\") { pageInfo { hasNextPage } } }")
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.errors[0].extensions.classification").isEqualTo("BAD_REQUEST");
+    }
+}
@@ -0,0 +1,77 @@
+package com.springqprobackend.springqpro.integration;
+
+import com.springqprobackend.springqpro.domain.entity.TaskEntity;
+import com.springqprobackend.springqpro.enums.TaskStatus;
+import com.springqprobackend.springqpro.enums.TaskType;
+import com.springqprobackend.springqpro.redis.TaskNearCache;
+import com.springqprobackend.springqpro.redis.TaskRedisRepository;
+import com.springqprobackend.springqpro.testcontainers.IntegrationTestBase;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.shaded.org.awaitility.Awaitility;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/* DESCRIPTION OF THIS TEST CASE:
+- After one Redis read, a Task is served from the near cache (L1): it's still returned with its Redis key gone.
+- An invalidation published by another instance drops it from L1.
+- A put() on this instance invalidates a second instance's L1 ("node B": another TaskNearCache subscribed to the same
+  channel) -- the full cross-node path: SET + PUBLISH pipeline -> Redis pub/sub -> listener.
+*/
+@TestPropertySource(properties = {
+        "queue.recovery-enabled=false",
+        "cache.task.near.ttl-ms=60000"
+})
+class TaskNearCacheIntegrationTest extends IntegrationTestBase {
+    @Autowired
+    private TaskRedisRepository cache;
+    @Autowired
+    private StringRedisTemplate redis;
+    @Autowired
+    private RedisMessageListenerContainer taskCacheInvalidationListener;
+
+    private static TaskEntity task(String id, TaskStatus status) {
+        return new TaskEntity(id, "near-cache", TaskType.EMAIL, status, 0, 3, Instant.now());
+    }
+
+    @Test
+    void hotTask_isServedFromL1_untilInvalidatedByAnotherInstance() {
+        cache.put(task("Task-near-1", TaskStatus.QUEUED));
+        assertThat(cache.get("Task-near-1")).isNotNull();     // L2 hit -> fills L1
+
+        redis.delete("task:Task-near-1");
+        assertThat(cache.get("Task-near-1")).isNotNull();     // L1 hit
+
+        redis.convertAndSend(TaskNearCache.INVALIDATION_CHANNEL, "another-instance|Task-near-1");
+        Awaitility.await()
+                .atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(cache.get("Task-near-1")).isNull());
+    }
+
+    @Test
+    void put_invalidatesOtherInstancesL1() {
+        TaskNearCache nodeB = new TaskNearCache(true, 100, 60_000);
+        ChannelTopic topic = new ChannelTopic(TaskNearCache.INVALIDATION_CHANNEL);
+        taskCacheInvalidationListener.addMessageListener(nodeB, topic);
+        try {
+            nodeB.fill(task("Task-near-2", TaskStatus.QUEUED), nodeB.generation("Task-near-2"));
+            assertThat(nodeB.get("Task-near-2")).isNotNull();
+
+            cache.put(task("Task-near-2", TaskStatus.COMPLETED));
+            Awaitility.await()
+                    .atMost(Duration.ofSeconds(5))
+                    .untilAsserted(() -> assertThat(nodeB.get("Task-near-2")).isNull());
+            assertThat(cache.get("Task-near-2").getStatus()).isEqualTo(TaskStatus.COMPLETED);
+        } finally {
+            taskCacheInvalidationListener.removeMessageListener(nodeB, topic);
+            cache.delete("Task-near-2");
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.springqprobackend.springqpro.integration;
+
+import com.springqprobackend.springqpro.domain.entity.TaskEntity;
+import com.springqprobackend.springqpro.enums.TaskPhase;
+import com.springqprobackend.springqpro.enums.TaskStatus;
+import com.springqprobackend.springqpro.enums.TaskType;
+import com.springqprobackend.springqpro.repository.TaskRepository;
+import com.springqprobackend.springqpro.runtime.TaskPhaseTimers;
+import com.springqprobackend.springqpro.service.ProcessingService;
+import com.springqprobackend.springqpro.service.QueueService;
+import com.springqprobackend.springqpro.testcontainers.IntegrationTestBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.shaded.org.awaitility.Awaitility;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/* DESCRIPTION OF THIS TEST CASE:
+- One SMS Task handed to QueueService.enqueueById and run to COMPLETED records exactly one sample in each of its
+  type=SMS phase timers (queue wait, claim, lock, handler, persist, end-to-end). End-to-end starts at createdAt
+  (seeded 5s in the past), not at the hand-off.
+- claimBatch records one CLAIM sample per returned row, under that row's type.
+*/
+@TestPropertySource(properties = {
+        "queue.recovery-enabled=false",
+        "queue.lease-reaper-enabled=false"
+})
+class TaskPhaseTimersIntegrationTest extends IntegrationTestBase {
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private QueueService queueService;
+    @Autowired
+    private ProcessingService processingService;
+    @Autowired
+    private TaskPhaseTimers phaseTimers;
+
+    @BeforeEach
+    void cleanDb() {
+        taskRepository.deleteAll();
+    }
+
+    private Map<TaskPhase, Long> counts(TaskType type) {
+        Map<TaskPhase, Long> counts = new EnumMap<>(TaskPhase.class);
+        for (TaskPhase phase : TaskPhase.values()) counts.put(phase, phaseTimers.timer(phase, type).count());
+        return counts;
+    }
+
+    @Test
+    void completedTask_recordsEveryPhase() {
+        taskRepository.save(new TaskEntity("Task-phase-0", "phases", TaskType.SMS, TaskStatus.QUEUED, 0, 3, Instant.now().minusSeconds(5), "phases@test.com"));
+        Map<TaskPhase, Long> before = counts(TaskType.SMS);
+        double endToEndBefore = phaseTimers.timer(TaskPhase.END_TO_END, TaskType.SMS).totalTime(TimeUnit.SECONDS);
+        double handlerBefore = phaseTimers.timer(TaskPhase.HANDLER, TaskType.SMS).totalTime(TimeUnit.MILLISECONDS);
+
+        queueService.enqueueById("Task-phase-0", TaskType.SMS, 0);
+
+        Awaitility.await().atMost(Duration.ofSeconds(15)).untilAsserted(() ->
+                assertThat(counts(TaskType.SMS).get(TaskPhase.END_TO_END)).isEqualTo(before.get(TaskPhase.END_TO_END) + 1));
+        Map<TaskPhase, Long> after = counts(TaskType.SMS);
+        for (TaskPhase phase : TaskPhase.values()) {
+            assertThat(after.get(phase)).as(phase.tag()).isEqualTo(before.get(phase) + 1);
+        }
+        assertThat(phaseTimers.timer(TaskPhase.HANDLER, TaskType.SMS).totalTime(TimeUnit.MILLISECONDS) - handlerBefore).isPositive();
+        assertThat(phaseTimers.timer(TaskPhase.END_TO_END, TaskType.SMS).totalTime(TimeUnit.SECONDS) - endToEndBefore).isGreaterThanOrEqualTo(5);
+        assertThat(taskRepository.findById("Task-phase-0").orElseThrow().getStatus()).isEqualTo(TaskStatus.COMPLETED);
+    }
+
+    @Test
+    void batchClaim_recordsOneClaimPerRow() {
+        for (int i = 0; i < 3; i++) {
+            taskRepository.save(new TaskEntity("Task-phase-b" + i, "phases", TaskType.NEWSLETTER, TaskStatus.QUEUED, 0, 3, Instant.now(), "phases@test.com"));
+        }
+        long before = phaseTimers.timer(TaskPhase.CLAIM, TaskType.NEWSLETTER).count();
+
+        assertThat(processingService.claimBatch(10)).hasSize(3);
+
+        assertThat(phaseTimers.timer(TaskPhase.CLAIM, TaskType.NEWSLETTER).count()).isEqualTo(before + 3);
+    }
+}
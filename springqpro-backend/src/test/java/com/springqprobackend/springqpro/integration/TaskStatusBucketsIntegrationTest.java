@@ -0,0 +1,125 @@
+package com.springqprobackend.springqpro.integration;
+
+import com.springqprobackend.springqpro.domain.entity.TaskEntity;
+import com.springqprobackend.springqpro.enums.TaskStatus;
+import com.springqprobackend.springqpro.enums.TaskType;
+import com.springqprobackend.springqpro.redis.TaskRedisRepository;
+import com.springqprobackend.springqpro.repository.TaskRepository;
+import com.springqprobackend.springqpro.service.ProcessingService;
+import com.springqprobackend.springqpro.service.TaskService;
+import com.springqprobackend.springqpro.testcontainers.IntegrationTestBase;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/* DESCRIPTION OF THIS TEST CASE:
+- tasks(status) for a user: the first poll builds that user's status buckets from Postgres; once warm, a poll (IDs from
+  the buckets, rows from the cache) runs zero SQL statements (Hibernate statistics).
+- Transitions keep the buckets current without a rebuild: a batch claim moves Tasks QUEUED -> INPROGRESS in the lists,
+  and a deleted Task drops out.
+- task(id) ownership is answered from the cache: the owner gets the Task, anyone else gets "not found", and neither
+  touches Postgres once the Task is cached.
+- A claim rewrites the cached row, so task(id) shows INPROGRESS (with attempts bumped) while the Task runs instead of
+  the QUEUED copy cached before it.
+*/
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "queue.recovery-enabled=false",
+        "queue.lease-reaper-enabled=false"
+})
+class TaskStatusBucketsIntegrationTest extends IntegrationTestBase {
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private TaskRedisRepository cache;
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private ProcessingService processingService;
+    @Autowired
+    private StringRedisTemplate redis;
+    @Autowired
+    private EntityManagerFactory emf;
+
+    private static final String OWNER = "buckets@test.com";
+
+    @BeforeEach
+    void clean() {
+        taskRepository.deleteAll();
+        redis.delete(redis.keys("tasks:owner:" + OWNER + ":*"));
+        cache.deleteAll(List.of("Task-b-0", "Task-b-1", "Task-b-2"));
+    }
+
+    private void seed(String id) {
+        taskRepository.save(new TaskEntity(id, "buckets", TaskType.EMAIL, TaskStatus.QUEUED, 0, 3, Instant.now(), OWNER));
+    }
+
+    private static List<String> ids(List<TaskEntity> rows) {
+        return rows.stream().map(TaskEntity::getId).toList();
+    }
+
+    @Test
+    void warmPoll_runsNoSql() {
+        seed("Task-b-0");
+        seed("Task-b-1");
+        assertThat(ids(taskService.getAllTasksForUser(TaskStatus.QUEUED, OWNER))).containsExactly("Task-b-0", "Task-b-1");
+
+        Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+        assertThat(ids(taskService.getAllTasksForUser(TaskStatus.QUEUED, OWNER))).containsExactly("Task-b-0", "Task-b-1");
+        assertThat(ids(taskService.getAllTasksForUser(null, OWNER))).containsExactly("Task-b-0", "Task-b-1");
+        assertThat(taskService.getAllTasksForUser(TaskStatus.COMPLETED, OWNER)).isEmpty();
+        assertThat(stats.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void transitions_moveTasksBetweenBuckets() {
+        seed("Task-b-0");
+        seed("Task-b-1");
+        seed("Task-b-2");
+        assertThat(taskService.getAllTasksForUser(TaskStatus.QUEUED, OWNER)).hasSize(3);
+
+        List<TaskEntity> claimed = processingService.claimBatch(2);
+        assertThat(ids(taskService.getAllTasksForUser(TaskStatus.INPROGRESS, OWNER))).containsExactlyInAnyOrderElementsOf(ids(claimed));
+        assertThat(taskService.getAllTasksForUser(TaskStatus.QUEUED, OWNER)).hasSize(1);
+
+        String remaining = taskService.getAllTasksForUser(TaskStatus.QUEUED, OWNER).get(0).getId();
+        taskService.deleteTask(remaining);
+        assertThat(taskService.getAllTasksForUser(TaskStatus.QUEUED, OWNER)).isEmpty();
+        assertThat(taskService.getAllTasksForUser(null, OWNER)).hasSize(2);
+    }
+
+    @Test
+    void taskForUser_checksOwnershipOnTheCachedCopy() {
+        seed("Task-b-0");
+        assertThat(taskService.getTaskForUser("Task-b-0", OWNER)).isPresent();     // miss -> DB -> cached
+
+        Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+        assertThat(taskService.getTaskForUser("Task-b-0", OWNER)).isPresent();
+        assertThat(taskService.getTaskForUser("Task-b-0", "someone-else@test.com")).isEmpty();
+        assertThat(stats.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void taskForUser_seesTheClaim() {
+        seed("Task-b-0");
+        assertThat(taskService.getTaskForUser("Task-b-0", OWNER).orElseThrow().getStatus()).isEqualTo(TaskStatus.QUEUED);
+
+        assertThat(processingService.claimBatch(1)).hasSize(1);
+
+        TaskEntity running = taskService.getTaskForUser("Task-b-0", OWNER).orElseThrow();
+        assertThat(running.getStatus()).isEqualTo(TaskStatus.INPROGRESS);
+        assertThat(running.getAttempts()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,152 @@
+package com.springqprobackend.springqpro.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springqprobackend.springqpro.redis.TaskUpdateBus;
+import com.springqprobackend.springqpro.security.dto.AuthResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.shaded.org.awaitility.Awaitility;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/* DESCRIPTION OF THIS TEST CASE:
+- myTasksUpdated, opened before a Task is created, pushes that Task through QUEUED -> INPROGRESS -> COMPLETED (over
+  GraphQL-over-SSE on POST /graphql), with attempts already bumped on the INPROGRESS update.
+- taskUpdated(id) pushes a later transition (updateTask mutation) of an already-finished Task.
+- An update PUBLISHed on the Redis channel by "another instance" reaches this instance's subscribers.
+- taskUpdated on someone else's Task is NOT_FOUND, and myTasksUpdated never shows another user's Tasks.
+*/
+@TestPropertySource(properties = {
+        "queue.recovery-enabled=false",
+        "spring.graphql.http.sse.keep-alive=200ms"     // commits the response headers promptly, before the first update
+})
+class TaskSubscriptionIntegrationTest extends AbstractAuthenticatedIntegrationTest {
+    private static final ParameterizedTypeReference<ServerSentEvent<String>> SSE = new ParameterizedTypeReference<>() { };
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Autowired
+    private StringRedisTemplate redis;
+
+    private String createTask(String token) {
+        AtomicReference<String> id = new AtomicReference<>();
+        graphQLWithToken(token, "mutation { createTask(input: { payload: \"sub\", type: EMAIL }) { id } }")
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data.createTask.id").value(v -> id.set((String) v));
+        return id.get();
+    }
+
+    private String awaitCompleted(String token, String id) {
+        Awaitility.await().atMost(Duration.ofSeconds(15)).untilAsserted(() ->
+                graphQLWithToken(token, "query { task(id: \"" + id + "\") { status } }")
+                        .expectBody().jsonPath("$.data.task.status").isEqualTo("COMPLETED"));
+        return id;
+    }
+
+    // The "next" payloads of one subscription; "complete" (or an error) ends the Flux.
+    private Flux<JsonNode> subscribe(String token, String query) {
+        return webTestClient.post()
+                .uri("/graphql")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .bodyValue(Map.of("query", query))
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(SSE)
+                .getResponseBody()
+                .takeWhile(e -> !"complete".equals(e.event()))
+                .filter(e -> "next".equals(e.event()))
+                .map(e -> {
+                    try {
+                        return mapper.readTree(e.data());
+                    } catch (Exception ex) {
+                        throw new IllegalStateException(ex);
+                    }
+                })
+                .cache();
+    }
+
+    private static String status(JsonNode next, String field) {
+        return next.at("/data/" + field + "/status").asText();
+    }
+
+    @Test
+    void myTasksUpdated_pushesEveryTransitionOfTheCallersTasks() {
+        AuthResponse auth = registerAndLogin("sub1@test.com", "pw");
+        Flux<JsonNode> updates = subscribe(auth.accessToken(), "subscription { myTasksUpdated { id status attempts createdBy } }");
+        updates.subscribe();    // connect now, before the Task exists
+        sleep(500);
+        String id = createTask(auth.accessToken());
+
+        List<JsonNode> mine = updates
+                .filter(n -> id.equals(n.at("/data/myTasksUpdated/id").asText()))
+                .takeUntil(n -> "COMPLETED".equals(status(n, "myTasksUpdated")))
+                .collectList().block(Duration.ofSeconds(15));
+
+        assertThat(mine).extracting(n -> status(n, "myTasksUpdated")).containsExactly("QUEUED", "INPROGRESS", "COMPLETED");
+        assertThat(mine.get(1).at("/data/myTasksUpdated/attempts").asInt()).isEqualTo(1);
+        assertThat(mine).allSatisfy(n -> assertThat(n.at("/data/myTasksUpdated/createdBy").asText()).isEqualTo("sub1@test.com"));
+    }
+
+    @Test
+    void taskUpdated_pushesLaterTransitions_includingOnesPublishedByOtherInstances() {
+        AuthResponse auth = registerAndLogin("sub2@test.com", "pw");
+        String id = awaitCompleted(auth.accessToken(), createTask(auth.accessToken()));
+
+        Flux<JsonNode> updates = subscribe(auth.accessToken(), "subscription { taskUpdated(id: \"" + id + "\") { id status attempts } }");
+        updates.subscribe();
+        sleep(500);
+        graphQLWithToken(auth.accessToken(), "mutation { updateTask(input: { id: \"" + id + "\", status: FAILED, attempts: 2 }) { id } }")
+                .expectStatus().isOk();
+        JsonNode failed = updates.blockFirst(Duration.ofSeconds(15));
+        assertThat(status(failed, "taskUpdated")).isEqualTo("FAILED");
+        assertThat(failed.at("/data/taskUpdated/attempts").asInt()).isEqualTo(2);
+
+        // Another node's transition arrives as a plain pub/sub message:
+        redis.convertAndSend(TaskUpdateBus.CHANNEL, id + "|QUEUED|3|sub2@test.com");
+        JsonNode remote = updates.skip(1).blockFirst(Duration.ofSeconds(15));
+        assertThat(status(remote, "taskUpdated")).isEqualTo("QUEUED");
+        assertThat(remote.at("/data/taskUpdated/attempts").asInt()).isEqualTo(3);
+    }
+
+    @Test
+    void subscriptions_areScopedToTheOwner() {
+        AuthResponse owner = registerAndLogin("sub3@test.com", "pw");
+        AuthResponse other = registerAndLogin("sub4@test.com", "pw");
+        String id = createTask(owner.accessToken());
+
+        List<JsonNode> denied = subscribe(other.accessToken(), "subscription { taskUpdated(id: \"" + id + "\") { id status } }")
+                .collectList().block(Duration.ofSeconds(15));
+        assertThat(denied).hasSize(1);
+        assertThat(denied.get(0).at("/errors/0/extensions/classification").asText()).isEqualTo("NOT_FOUND");
+
+        Flux<JsonNode> othersFeed = subscribe(other.accessToken(), "subscription { myTasksUpdated { id } }");
+        othersFeed.subscribe();
+        sleep(500);
+        String secondId = createTask(owner.accessToken());
+        awaitCompleted(owner.accessToken(), secondId);
+        assertThat(othersFeed.take(Duration.ofSeconds(1)).collectList().block(Duration.ofSeconds(5))).isEmpty();
+    }
+
+    private static void sleep(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
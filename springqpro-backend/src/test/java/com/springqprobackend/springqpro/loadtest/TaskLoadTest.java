@@ -0,0 +1,282 @@
+package com.springqprobackend.springqpro.loadtest;
+
+import com.springqprobackend.springqpro.config.QueueProperties;
+import com.springqprobackend.springqpro.integration.AbstractAuthenticatedIntegrationTest;
+import com.zaxxer.hikari.HikariDataSource;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/* DESCRIPTION OF THIS TEST CASE:
+Not a correctness test -- an end-to-end load generator, excluded from the normal build and run with:
+    mvn test -Pload-test [-Dloadtest.rate=200] [-Dloadtest.tasks=2000] [-Dqueue.main-exec-worker-count=10]
+                         [-Dspring.datasource.hikari.maximum-pool-size=20] ...
+Any application property can be overridden the same way, which is the point: run it before and after a config change.
+- Creates "loadtest.tasks" Tasks through createTask (GraphQL, or POST /api/tasks/create with -Dloadtest.api=rest) at a
+  fixed "loadtest.rate" per second against the same Postgres/Redis containers as every IntegrationTestBase test.
+  Open loop: each request goes out on its own virtual thread at its scheduled time whether or not earlier ones have
+  returned, and latency is measured from that scheduled time, so a stalled server shows up in the numbers instead of
+  just slowing the generator down (coordinated omission).
+- Records per Task, in HdrHistograms: enqueue -> created (createTask response), enqueue -> start (claimed_at) and enqueue -> complete (first poll that sees
+  COMPLETED, every "loadtest.poll-ms"). The completion poller runs on its own thread from t=0, alongside the senders, so
+  enqueue -> complete is off by at most one poll interval rather than by however long the send window still had to run.
+- Report (stdout + target/load-test/report-<time>.txt): throughput, p50/p99/p99.9/max of all three latencies, and JDBC
+  statements executed per Task (create + dispatch + claim + outcome, including the JWT user lookup on each request).
+  These are counted at the DataSource (CountingDataSource below), so JdbcTemplate work that Hibernate statistics never
+  see -- OutcomeWriteBehind's batch UPDATEs, the native claim queries -- is included; one executeBatch counts once. The
+  completion poller reads through the unwrapped pool, so it isn't counted.
+The only assertion is that every Task completes within "loadtest.timeout-seconds".
+*/
+@Tag("loadtest")
+@TestPropertySource(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.com.springqprobackend=WARN",
+        "logging.level.org.hibernate=WARN"
+})
+class TaskLoadTest extends AbstractAuthenticatedIntegrationTest {
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private QueueProperties queueProperties;
+
+    @TestConfiguration
+    static class CountingConfig {
+        @Bean
+        static BeanPostProcessor countingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String name) {
+                    return bean instanceof DataSource ds && !(bean instanceof CountingDataSource) ? new CountingDataSource(ds) : bean;
+                }
+            };
+        }
+    }
+
+    // Counts every execute*/executeBatch on any Statement handed out by the application's DataSource (Hibernate and JdbcTemplate alike).
+    static final class CountingDataSource extends DelegatingDataSource {
+        static final AtomicLong EXECUTED = new AtomicLong();
+
+        CountingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return wrap(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return wrap(super.getConnection(username, password));
+        }
+
+        private static Connection wrap(Connection conn) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+                Object result = invoke(conn, method, args);
+                return result instanceof Statement st ? countExecutions(st) : result;
+            });
+        }
+
+        private static Statement countExecutions(Statement st) {
+            return (Statement) Proxy.newProxyInstance(Statement.class.getClassLoader(), new Class<?>[] { statementInterface(st) }, (proxy, method, args) -> {
+                if (method.getName().startsWith("execute")) EXECUTED.incrementAndGet();
+                return invoke(st, method, args);
+            });
+        }
+
+        private static Class<?> statementInterface(Statement st) {
+            if (st instanceof java.sql.CallableStatement) return java.sql.CallableStatement.class;
+            if (st instanceof java.sql.PreparedStatement) return java.sql.PreparedStatement.class;
+            return Statement.class;
+        }
+
+        private static Object invoke(Object target, java.lang.reflect.Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getCause();
+            }
+        }
+    }
+
+    private static final int TASKS = Integer.getInteger("loadtest.tasks", 2000);
+    private static final int RATE = Integer.getInteger("loadtest.rate", 200);
+    private static final String API = System.getProperty("loadtest.api", "graphql");
+    private static final String TYPE = System.getProperty("loadtest.type", "EMAIL");
+    private static final long POLL_MS = Long.getLong("loadtest.poll-ms", 20);
+    private static final long TIMEOUT_SECONDS = Long.getLong("loadtest.timeout-seconds", 300);
+
+    private String create(WebTestClient client, String token, int i) {
+        if (API.equals("rest")) {
+            Map<?, ?> body = client.post().uri("/api/tasks/create")
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(Map.of("payload", "load-" + i, "type", TYPE))
+                    .exchange().expectStatus().isOk()
+                    .expectBody(Map.class).returnResult().getResponseBody();
+            return (String) body.get("id");
+        }
+        Map<?, ?> body = client.post().uri("/graphql")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("query", "mutation { createTask(input: { payload: \"load-" + i + "\", type: " + TYPE + " }) { id } }"))
+                .exchange().expectStatus().isOk()
+                .expectBody(Map.class).returnResult().getResponseBody();
+        return (String) ((Map<?, ?>) ((Map<?, ?>) body.get("data")).get("createTask")).get("id");
+    }
+
+    @Test
+    void load() throws Exception {
+        String token = registerAndLogin("load@test.com", "pw").accessToken();
+        WebTestClient client = webTestClient.mutate().responseTimeout(Duration.ofSeconds(30)).build();
+        Histogram toCreated = new ConcurrentHistogram(TimeUnit.MINUTES.toMicros(10), 3);
+        Histogram toStart = new Histogram(TimeUnit.MINUTES.toMicros(10), 3);
+        Histogram toComplete = new Histogram(TimeUnit.MINUTES.toMicros(10), 3);
+        Map<String, Instant> pending = new ConcurrentHashMap<>();
+        AtomicInteger createErrors = new AtomicInteger();
+        AtomicInteger created = new AtomicInteger();
+        AtomicBoolean sendingDone = new AtomicBoolean();
+        // The poller reads through the raw pool so its own queries aren't counted as per-Task statements.
+        NamedParameterJdbcTemplate jdbc = new NamedParameterJdbcTemplate(dataSource.unwrap(HikariDataSource.class));
+
+        CountingDataSource.EXECUTED.set(0);
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / RATE;
+        long startNanos = System.nanoTime();
+        Instant startWall = Instant.now();
+        long deadline = startNanos + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        // Poll for completions from t=0 until sending is done and everything created has completed (or the timeout).
+        Thread poller = Thread.ofPlatform().name("load-test-poller").start(() -> {
+            try {
+                while ((!sendingDone.get() || !pending.isEmpty()) && System.nanoTime() < deadline) {
+                    pollCompletions(jdbc, pending, toStart, toComplete);
+                    Thread.sleep(POLL_MS);
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        try (ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < TASKS; i++) {
+                long due = startNanos + i * intervalNanos;
+                long wait = due - System.nanoTime();
+                if (wait > 0) LockSupport.parkNanos(wait);
+                int n = i;
+                Instant enqueuedAt = startWall.plusNanos(due - startNanos);
+                senders.execute(() -> {
+                    try {
+                        String id = create(client, token, n);
+                        toCreated.recordValue(micros(enqueuedAt, Instant.now()));
+                        pending.put(id, enqueuedAt);
+                        created.incrementAndGet();
+                    } catch (Throwable ex) {
+                        createErrors.incrementAndGet();
+                    }
+                });
+            }
+        }   // close() waits for every create request to return.
+        double submitSeconds = (System.nanoTime() - startNanos) / 1e9;
+        sendingDone.set(true);
+        poller.join();
+        double totalSeconds = (System.nanoTime() - startNanos) / 1e9;
+        long statements = CountingDataSource.EXECUTED.get();
+
+        String report = report(created.get(), createErrors.get(), submitSeconds, totalSeconds, toCreated, toStart, toComplete, statements);
+        System.out.println(report);
+        Path out = Path.of("target", "load-test", "report-" + startWall.toString().replace(':', '-') + ".txt");
+        writeReport(out, report);
+
+        assertThat(createErrors.get()).as("failed createTask requests").isZero();
+        assertThat(pending).as("Tasks not COMPLETED after %ds", TIMEOUT_SECONDS).isEmpty();
+    }
+
+    // Only the poller thread touches toStart/toComplete, so they stay plain Histograms.
+    private static void pollCompletions(NamedParameterJdbcTemplate jdbc, Map<String, Instant> pending, Histogram toStart, Histogram toComplete) {
+        List<String> ids = new ArrayList<>(pending.keySet());
+        for (int from = 0; from < ids.size(); from += 1000) {
+            List<String> chunk = ids.subList(from, Math.min(ids.size(), from + 1000));
+            Instant seenAt = Instant.now();
+            jdbc.query("SELECT id, claimed_at FROM tasks WHERE status = 'COMPLETED' AND id IN (:ids)", Map.of("ids", chunk), rs -> {
+                Instant enqueuedAt = pending.remove(rs.getString("id"));
+                if (enqueuedAt == null) return;
+                Timestamp claimedAt = rs.getTimestamp("claimed_at");
+                if (claimedAt != null) toStart.recordValue(micros(enqueuedAt, claimedAt.toInstant()));
+                toComplete.recordValue(micros(enqueuedAt, seenAt));
+            });
+        }
+    }
+
+    private static long micros(Instant from, Instant to) {
+        return Math.max(0, Duration.between(from, to).toNanos() / 1000);
+    }
+
+    private String report(int created, int errors, double submitSeconds, double totalSeconds, Histogram toCreated, Histogram toStart, Histogram toComplete,
+                          long statements) {
+        int completed = (int) toComplete.getTotalCount();
+        int hikariMax;
+        try {
+            hikariMax = dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize() : -1;
+        } catch (SQLException ex) {
+            hikariMax = -1;
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append("=== SpringQueuePro load test ").append(Instant.now()).append(" ===\n");
+        sb.append(String.format("config: api=%s type=%s target-rate=%d/s tasks=%d dispatch-mode=%s executor-mode=%s main-exec-worker-count=%d hikari.maximum-pool-size=%d%n",
+                API, TYPE, RATE, TASKS, queueProperties.getDispatchMode(), queueProperties.getExecutorMode(),
+                queueProperties.getMainExecWorkerCount(), hikariMax));
+        sb.append(String.format("created: %d (%d failed) in %.2fs = %.1f/s offered%n", created, errors, submitSeconds, created / submitSeconds));
+        sb.append(String.format("completed: %d in %.2fs = %.1f/s%n", completed, totalSeconds, completed / totalSeconds));
+        sb.append(line("enqueue->created ", toCreated));
+        sb.append(line("enqueue->start   ", toStart));
+        sb.append(line("enqueue->complete", toComplete));
+        sb.append(String.format("db statements executed: %d total, %.2f per Task%n", statements, completed == 0 ? 0.0 : (double) statements / completed));
+        return sb.toString();
+    }
+
+    private static String line(String label, Histogram h) {
+        return String.format("%s ms: p50=%.1f p99=%.1f p99.9=%.1f max=%.1f (n=%d)%n", label,
+                h.getValueAtPercentile(50) / 1000.0, h.getValueAtPercentile(99) / 1000.0,
+                h.getValueAtPercentile(99.9) / 1000.0, h.getMaxValue() / 1000.0, h.getTotalCount());
+    }
+
+    private static void writeReport(Path out, String report) throws IOException {
+        Files.createDirectories(out.getParent());
+        Files.writeString(out, report);
+    }
+}
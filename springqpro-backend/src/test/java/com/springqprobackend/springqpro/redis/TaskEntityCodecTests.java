@@ -0,0 +1,91 @@
+package com.springqprobackend.springqpro.redis;
+
+import com.springqprobackend.springqpro.config.RedisConfig;
+import com.springqprobackend.springqpro.domain.entity.TaskEntity;
+import com.springqprobackend.springqpro.enums.TaskStatus;
+import com.springqprobackend.springqpro.enums.TaskType;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/* All that needs to be tested is:
+- Every TaskEntity field survives a round trip (Instants at millisecond precision).
+- Null optional fields (payload, createdBy, timestamps, version, enums) come back as null.
+- The encoding is much smaller than the default-typed JSON it replaced.
+- Bytes it doesn't recognise (old JSON entries, an unknown format version, truncated values) decode to null = cache miss.
+*/
+class TaskEntityCodecTests {
+    private final TaskEntityCodec codec = new TaskEntityCodec();
+
+    private static TaskEntity fullTask() {
+        TaskEntity t = new TaskEntity("0DZ5C7Q3T1K8M", "Send an email to ünïcødé@example.com", TaskType.EMAIL, TaskStatus.INPROGRESS,
+                2, 5, Instant.parse("2026-03-01T12:00:00.123456Z"), "owner@test.com");
+        t.setPriority(7);
+        t.setClaimedAt(Instant.parse("2026-03-01T12:00:01.500Z"));
+        t.setLeaseUntil(Instant.parse("2026-03-01T12:00:31.500Z"));
+        t.setVersion(42L);
+        return t;
+    }
+
+    @Test
+    void roundTrip_keepsEveryField() {
+        TaskEntity in = fullTask();
+        TaskEntity out = codec.deserialize(codec.serialize(in));
+
+        assertThat(out).isNotNull();
+        assertThat(out.getId()).isEqualTo(in.getId());
+        assertThat(out.getPayload()).isEqualTo(in.getPayload());
+        assertThat(out.getType()).isEqualTo(TaskType.EMAIL);
+        assertThat(out.getStatus()).isEqualTo(TaskStatus.INPROGRESS);
+        assertThat(out.getAttempts()).isEqualTo(2);
+        assertThat(out.getMaxRetries()).isEqualTo(5);
+        assertThat(out.getPriority()).isEqualTo(7);
+        assertThat(out.getCreatedBy()).isEqualTo("owner@test.com");
+        assertThat(out.getCreatedAt()).isEqualTo(Instant.parse("2026-03-01T12:00:00.123Z"));   // micros dropped
+        assertThat(out.getClaimedAt()).isEqualTo(in.getClaimedAt());
+        assertThat(out.getLeaseUntil()).isEqualTo(in.getLeaseUntil());
+        assertThat(out.getVersion()).isEqualTo(42L);
+    }
+
+    @Test
+    void roundTrip_keepsNulls() {
+        TaskEntity in = new TaskEntity("id-1", null, null, null, 0, 0, null);
+        TaskEntity out = codec.deserialize(codec.serialize(in));
+
+        assertThat(out).isNotNull();
+        assertThat(out.getId()).isEqualTo("id-1");
+        assertThat(out.getPayload()).isNull();
+        assertThat(out.getType()).isNull();
+        assertThat(out.getStatus()).isNull();
+        assertThat(out.getCreatedBy()).isNull();
+        assertThat(out.getCreatedAt()).isNull();
+        assertThat(out.getClaimedAt()).isNull();
+        assertThat(out.getLeaseUntil()).isNull();
+        assertThat(out.getVersion()).isNull();
+    }
+
+    @Test
+    void isMuchSmallerThanTheJsonEncoding() {
+        TaskEntity t = fullTask();
+        byte[] binary = codec.serialize(t);
+        byte[] json = RedisConfig.jsonValueSerializer().serialize(t);
+        assertThat(binary.length * 3).isLessThan(json.length);
+    }
+
+    @Test
+    void unreadableBytes_decodeToNull() {
+        byte[] valid = codec.serialize(fullTask());
+        byte[] json = "{\"@class\":\"com.springqprobackend.springqpro.domain.entity.TaskEntity\"}".getBytes(StandardCharsets.UTF_8);
+        byte[] futureVersion = valid.clone();
+        futureVersion[0] = TaskEntityCodec.FORMAT_VERSION + 1;
+
+        assertThat(codec.deserialize(json)).isNull();
+        assertThat(codec.deserialize(futureVersion)).isNull();
+        assertThat(codec.deserialize(Arrays.copyOf(valid, valid.length / 2))).isNull();
+        assertThat(codec.deserialize(null)).isNull();
+    }
+}
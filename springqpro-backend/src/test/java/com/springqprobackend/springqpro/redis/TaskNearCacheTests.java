@@ -0,0 +1,101 @@
+package com.springqprobackend.springqpro.redis;
+
+import com.springqprobackend.springqpro.domain.entity.TaskEntity;
+import com.springqprobackend.springqpro.enums.TaskStatus;
+import com.springqprobackend.springqpro.enums.TaskType;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/* All that needs to be tested is:
+- A filled entry is served (as a fresh copy) until its TTL runs out, then it's a miss.
+- The size bound evicts the least-recently-READ entry.
+- Invalidation messages from another instance drop the IDs; the instance's own messages are ignored.
+- A fill whose generation was sampled before an invalidation of that ID is dropped (it may hold the pre-write value).
+- The hit ratio counts hits / lookups; a disabled cache never holds anything.
+*/
+class TaskNearCacheTests {
+    private final AtomicLong nanos = new AtomicLong();
+
+    private static TaskEntity task(String id) {
+        return new TaskEntity(id, "p", TaskType.EMAIL, TaskStatus.QUEUED, 0, 3, Instant.now());
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(TaskNearCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void fill(TaskNearCache near, String id) {
+        near.fill(task(id), near.generation(id));
+    }
+
+    @Test
+    void servesFreshCopies_untilTheTtlRunsOut() {
+        TaskNearCache near = new TaskNearCache(true, 10, 1000, nanos::get);
+        fill(near, "a");
+
+        TaskEntity first = near.get("a");
+        first.setStatus(TaskStatus.FAILED);
+        assertThat(near.get("a").getStatus()).isEqualTo(TaskStatus.QUEUED);
+
+        nanos.addAndGet(1_000_000_000L);
+        assertThat(near.get("a")).isNull();
+        assertThat(near.hitRatio()).isEqualTo(2.0 / 3);
+    }
+
+    @Test
+    void sizeBound_evictsTheLeastRecentlyRead() {
+        TaskNearCache near = new TaskNearCache(true, 2, 60_000, nanos::get);
+        fill(near, "a");
+        fill(near, "b");
+        near.get("a");
+        fill(near, "c");
+
+        assertThat(near.size()).isEqualTo(2);
+        assertThat(near.get("b")).isNull();
+        assertThat(near.get("a")).isNotNull();
+        assertThat(near.get("c")).isNotNull();
+    }
+
+    @Test
+    void remoteInvalidation_dropsIds_butOwnMessagesAreIgnored() {
+        TaskNearCache near = new TaskNearCache(true, 10, 60_000, nanos::get);
+        fill(near, "a");
+        fill(near, "b");
+        fill(near, "c");
+
+        near.onMessage(new DefaultMessage(new byte[0], near.invalidationMessage(List.of("a"))), null);
+        assertThat(near.get("a")).isNotNull();
+
+        near.onMessage(message("some-other-instance|a,b"), null);
+        assertThat(near.get("a")).isNull();
+        assertThat(near.get("b")).isNull();
+        assertThat(near.get("c")).isNotNull();
+    }
+
+    @Test
+    void fillRacingAnInvalidation_isDropped() {
+        TaskNearCache near = new TaskNearCache(true, 10, 60_000, nanos::get);
+        long beforeRead = near.generation("a");     // reader samples, then fetches the old L2 value...
+        near.invalidate(List.of("a"));              // ...a write lands and invalidates...
+        near.fill(task("a"), beforeRead);           // ...and the reader's fill arrives late.
+        assertThat(near.get("a")).isNull();
+
+        fill(near, "a");
+        assertThat(near.get("a")).isNotNull();
+    }
+
+    @Test
+    void disabled_holdsNothing() {
+        TaskNearCache near = new TaskNearCache(false, 10, 60_000, nanos::get);
+        fill(near, "a");
+        assertThat(near.get("a")).isNull();
+        assertThat(near.size()).isZero();
+    }
+}
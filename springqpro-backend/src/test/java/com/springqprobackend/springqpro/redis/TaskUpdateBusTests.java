@@ -0,0 +1,60 @@
+package com.springqprobackend.springqpro.redis;
+
+import com.springqprobackend.springqpro.enums.TaskStatus;
+import com.springqprobackend.springqpro.redis.TaskStatusBuckets.Move;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import org.springframework.data.redis.connection.DefaultMessage;
+import reactor.core.Disposable;
+import reactor.core.publisher.BaseSubscriber;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/* All that needs to be tested is:
+- One message carries one Move per line (owner last, so an owner containing '|' survives); malformed lines are skipped.
+- Every current subscriber gets every Move; a subscriber with no outstanding demand misses Moves instead of blocking
+  the others.
+*/
+class TaskUpdateBusTests {
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(TaskUpdateBus.CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void parse_oneMovePerLine_skippingMalformedOnes() {
+        List<Move> moves = TaskUpdateBus.parse("a|INPROGRESS|1|x@test.com\nb|NOPE|1|x@test.com\nbroken\nc|QUEUED|-1|we|ird@test.com");
+        assertThat(moves).containsExactly(
+                new Move("a", "x@test.com", TaskStatus.INPROGRESS, 1),
+                new Move("c", "we|ird@test.com", TaskStatus.QUEUED, -1));
+    }
+
+    @Test
+    void fansOutToEverySubscriber_withoutWaitingForSlowOnes() {
+        TaskUpdateBus bus = new TaskUpdateBus();
+        List<Move> fast = new CopyOnWriteArrayList<>();
+        List<Move> other = new CopyOnWriteArrayList<>();
+        Disposable a = bus.updates().subscribe(fast::add);
+        Disposable b = bus.updates().subscribe(other::add);
+        List<Move> stalledGot = new CopyOnWriteArrayList<>();
+        BaseSubscriber<Move> stalled = new BaseSubscriber<>() {
+            @Override
+            protected void hookOnSubscribe(Subscription subscription) { }     // never requests anything
+            @Override
+            protected void hookOnNext(Move move) { stalledGot.add(move); }
+        };
+        bus.updates().subscribe(stalled);
+
+        bus.onMessage(message("a|COMPLETED|1|x@test.com\nb|FAILED|2|y@test.com"), null);
+
+        assertThat(fast).extracting(Move::id).containsExactly("a", "b");
+        assertThat(other).extracting(Move::id).containsExactly("a", "b");
+        assertThat(stalledGot).isEmpty();
+        a.dispose();
+        b.dispose();
+        stalled.dispose();
+    }
+}
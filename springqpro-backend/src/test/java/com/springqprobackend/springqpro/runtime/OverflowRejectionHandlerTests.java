@@ -0,0 +1,109 @@
+package com.springqprobackend.springqpro.runtime;
+
+import com.springqprobackend.springqpro.enums.OverflowPolicy;
+import com.springqprobackend.springqpro.redis.OverflowSpillList;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+/* All that needs to be tested is what each "queue.overflow-policy" does with a Runnable the executor refused:
+- SPILL pushes the Task ID to its pool's overflow list (and counts it); Runnables without a Task ID are still aborted.
+- CALLER_BLOCKS waits for queue space, and spills if none shows up before the timeout.
+- SHED drops the hand-off, counts it, and hands its Task ID to onShed (which marks the row FAILED); Runnables without
+  a Task ID are aborted there too, so their caller can recover them.
+*/
+@ExtendWith(MockitoExtension.class)
+class OverflowRejectionHandlerTests {
+    @Mock
+    private OverflowSpillList spillList;
+    private Counter spilled;
+    private Counter shed;
+    private BlockingQueue<Runnable> fullQueue;
+    private final List<String> shedIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        spilled = registry.counter("spilled");
+        shed = registry.counter("shed");
+        fullQueue = new ArrayBlockingQueue<>(1);
+        fullQueue.add(() -> {});
+    }
+
+    @Test
+    void spill_pushesTaskIdToOverflowList() {
+        OverflowRejectionHandler handler = new OverflowRejectionHandler(OverflowPolicy.SPILL, 0, spillList, spilled, shed, shedIds::add);
+        handler.reject(new DispatchedTask("Task-1", () -> {}), fullQueue);
+        verify(spillList).push(TaskTypeBulkheads.SHARED, "Task-1");
+        assertThat(spilled.count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void spill_fromABulkhead_goesToThatPoolsList() {
+        OverflowRejectionHandler handler = new OverflowRejectionHandler(OverflowPolicy.SPILL, 0, spillList, "SMS", spilled, shed, shedIds::add);
+        handler.reject(new DispatchedTask("Task-1b", () -> {}), fullQueue);
+        verify(spillList).push("SMS", "Task-1b");
+    }
+
+    @Test
+    void spill_abortsRunnablesWithoutTaskId() {
+        OverflowRejectionHandler handler = new OverflowRejectionHandler(OverflowPolicy.SPILL, 0, spillList, spilled, shed, shedIds::add);
+        assertThrows(RejectedExecutionException.class, () -> handler.reject(() -> {}, fullQueue));
+        verifyNoInteractions(spillList);
+    }
+
+    @Test
+    void callerBlocks_waitsForRoom_thenEnqueues() throws Exception {
+        OverflowRejectionHandler handler = new OverflowRejectionHandler(OverflowPolicy.CALLER_BLOCKS, 2000, spillList, spilled, shed, shedIds::add);
+        DispatchedTask task = new DispatchedTask("Task-2", () -> {});
+        CompletableFuture<Void> caller = CompletableFuture.runAsync(() -> handler.reject(task, fullQueue));
+
+        Thread.sleep(100);
+        assertThat(caller).isNotDone();     // still blocked on the full queue
+        fullQueue.take();                   // a worker frees a slot
+        caller.get(2, TimeUnit.SECONDS);
+
+        assertThat(fullQueue).containsExactly(task);
+        verifyNoInteractions(spillList);
+    }
+
+    @Test
+    void callerBlocks_spillsAfterTimeout() {
+        OverflowRejectionHandler handler = new OverflowRejectionHandler(OverflowPolicy.CALLER_BLOCKS, 50, spillList, spilled, shed, shedIds::add);
+        handler.reject(new DispatchedTask("Task-3", () -> {}), fullQueue);
+        verify(spillList).push(TaskTypeBulkheads.SHARED, "Task-3");
+    }
+
+    @Test
+    void shed_dropsAndCounts() {
+        OverflowRejectionHandler handler = new OverflowRejectionHandler(OverflowPolicy.SHED, 0, spillList, spilled, shed, shedIds::add);
+        handler.reject(new DispatchedTask("Task-4", () -> {}), fullQueue);
+        verifyNoInteractions(spillList);
+        assertThat(shed.count()).isEqualTo(1.0);
+        assertThat(shedIds).containsExactly("Task-4");
+    }
+
+    @Test
+    void shed_abortsRunnablesWithoutTaskId() {
+        OverflowRejectionHandler handler = new OverflowRejectionHandler(OverflowPolicy.SHED, 0, spillList, spilled, shed, shedIds::add);
+        assertThrows(RejectedExecutionException.class, () -> handler.reject(() -> {}, fullQueue));
+        assertThat(shed.count()).isZero();
+        assertThat(shedIds).isEmpty();
+    }
+}
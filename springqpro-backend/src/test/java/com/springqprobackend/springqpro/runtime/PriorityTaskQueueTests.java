@@ -0,0 +1,78 @@
+package com.springqprobackend.springqpro.runtime;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/* All that needs to be tested is:
+- Higher priority is served first; equal priorities stay FIFO; plain Runnables count as priority 0.
+- Aging: something that has waited longer than priority x agingMs beats a newer high-priority entry.
+- The bound: offer() refuses at capacity, and the timed offer() waits for space (what CALLER_BLOCKS relies on).
+*/
+class PriorityTaskQueueTests {
+    private static Runnable task(String id, int priority) {
+        return new DispatchedTask(id, priority, () -> {});
+    }
+
+    private static List<String> drainIds(PriorityTaskQueue queue) {
+        List<String> ids = new ArrayList<>();
+        Runnable r;
+        while ((r = queue.poll()) != null) {
+            ids.add(r instanceof DispatchedTask t ? t.taskId() : "plain");
+        }
+        return ids;
+    }
+
+    @Test
+    void servesHigherPriorityFirst_andFifoWithinAPriority() {
+        PriorityTaskQueue queue = new PriorityTaskQueue(10, 60_000);
+        queue.offer(task("low-1", 0));
+        queue.offer(() -> {});
+        queue.offer(task("high", 9));
+        queue.offer(task("mid", 5));
+        queue.offer(task("low-2", 0));
+
+        assertThat(drainIds(queue)).containsExactly("high", "mid", "low-1", "plain", "low-2");
+    }
+
+    @Test
+    void agedLowPriorityWork_beatsNewerHighPriorityWork() throws InterruptedException {
+        PriorityTaskQueue queue = new PriorityTaskQueue(10, 10);     // one priority level = 10ms of waiting.
+        queue.offer(task("old-low", 0));
+        Thread.sleep(50);                                           // old-low has now waited > 2 x 10ms.
+        queue.offer(task("new-p2", 2));
+        queue.offer(task("new-p9", 9));                             // ...but not > 9 x 10ms.
+
+        assertThat(drainIds(queue)).containsExactly("new-p9", "old-low", "new-p2");
+    }
+
+    @Test
+    void isBounded_andTimedOfferWaitsForSpace() throws InterruptedException {
+        PriorityTaskQueue queue = new PriorityTaskQueue(1, 1000);
+        assertThat(queue.offer(task("a", 0))).isTrue();
+        assertThat(queue.offer(task("b", 9))).isFalse();
+        assertThat(queue.remainingCapacity()).isZero();
+        assertThat(queue.offer(task("b", 9), 10, TimeUnit.MILLISECONDS)).isFalse();
+
+        ScheduledExecutorService consumer = Executors.newSingleThreadScheduledExecutor();
+        CountDownLatch taken = new CountDownLatch(1);
+        consumer.schedule(() -> {
+            queue.poll();
+            taken.countDown();
+        }, 50, TimeUnit.MILLISECONDS);
+        try {
+            assertThat(queue.offer(task("b", 9), 2, TimeUnit.SECONDS)).isTrue();
+            assertThat(taken.await(1, TimeUnit.SECONDS)).isTrue();
+            assertThat(drainIds(queue)).containsExactly("b");
+        } finally {
+            consumer.shutdownNow();
+        }
+    }
+}
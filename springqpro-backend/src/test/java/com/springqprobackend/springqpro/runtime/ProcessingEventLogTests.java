@@ -0,0 +1,99 @@
+package com.springqprobackend.springqpro.runtime;
+
+import com.springqprobackend.springqpro.enums.ProcessingEventType;
+import com.springqprobackend.springqpro.enums.TaskStatus;
+import com.springqprobackend.springqpro.enums.TaskType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/* All that needs to be tested is:
+- Lines render like the old string log ("[time] CODE id <detail>") and come back newest first.
+- Only the newest CAPACITY events are kept once the ring wraps.
+- The taskId and type filters (alone and together).
+- Concurrent writers: nothing lost within the last CAPACITY, and a reader never sees a slot out of sequence.
+- eventsSince: oldest first, from the given sequence, and only what the ring still holds once it has wrapped.
+*/
+class ProcessingEventLogTests {
+    @Test
+    void rendersTheOldFormat_newestFirst() {
+        ProcessingEventLog log = new ProcessingEventLog();
+        log.record(ProcessingEventType.CLAIM_SUCCESS, "Task-1", 2, ProcessingEventLog.BATCH);
+        log.record(ProcessingEventType.PROCESSING, "Task-1", 2, TaskType.EMAIL);
+        log.record(ProcessingEventType.RETRY_SCHEDULED, "Task-1", 2, 2000L);
+        log.record(ProcessingEventType.OUTCOME_DISCARDED, "Task-1", 2, TaskStatus.COMPLETED);
+
+        List<String> lines = log.recent(null, null);
+        assertThat(lines).hasSize(4);
+        assertThat(lines.get(0)).matches("\\[\\d{4}-.*Z] OUTCOME_DISCARDED Task-1 COMPLETED");
+        assertThat(lines.get(1)).endsWith("] RETRY_SCHEDULED Task-1 delayMs=2000");
+        assertThat(lines.get(2)).endsWith("] PROCESSING Task-1 type=EMAIL");
+        assertThat(lines.get(3)).endsWith("] CLAIM_SUCCESS Task-1 attempt=2 (batch)");
+    }
+
+    @Test
+    void keepsOnlyTheNewestCapacityEvents() {
+        ProcessingEventLog log = new ProcessingEventLog();
+        for (int i = 0; i < ProcessingEventLog.CAPACITY + 50; i++) log.record(ProcessingEventType.COMPLETED, "Task-" + i);
+
+        List<ProcessingEventLog.Event> events = log.events(null, null);
+        assertThat(events).hasSize(ProcessingEventLog.CAPACITY);
+        assertThat(events.get(0).taskId()).isEqualTo("Task-" + (ProcessingEventLog.CAPACITY + 49));
+        assertThat(events.get(events.size() - 1).taskId()).isEqualTo("Task-50");
+    }
+
+    @Test
+    void filtersByTaskIdAndType() {
+        ProcessingEventLog log = new ProcessingEventLog();
+        log.record(ProcessingEventType.CLAIM_START, "Task-a");
+        log.record(ProcessingEventType.CLAIM_START, "Task-b");
+        log.record(ProcessingEventType.COMPLETED, "Task-a");
+
+        assertThat(log.recent("Task-a", null)).hasSize(2);
+        assertThat(log.recent(null, ProcessingEventType.CLAIM_START)).hasSize(2);
+        assertThat(log.recent("Task-a", ProcessingEventType.COMPLETED)).singleElement().asString().endsWith("] COMPLETED Task-a");
+        assertThat(log.recent("Task-c", null)).isEmpty();
+    }
+
+    @Test
+    void concurrentWriters_readerSeesAConsistentSequence() throws Exception {
+        ProcessingEventLog log = new ProcessingEventLog();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<Long> readSizes = new ArrayList<>();
+        for (int w = 0; w < 8; w++) {
+            String id = "Task-w" + w;
+            pool.execute(() -> { for (int i = 0; i < 20_000; i++) log.record(ProcessingEventType.LOCK_ACQUIRED, id); });
+        }
+        for (int r = 0; r < 50; r++) {
+            List<ProcessingEventLog.Event> snapshot = log.events(null, null);
+            for (int i = 1; i < snapshot.size(); i++) assertThat(snapshot.get(i).seq()).isLessThan(snapshot.get(i - 1).seq());
+            readSizes.add((long) snapshot.size());
+        }
+        pool.shutdown();
+        assertThat(pool.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        List<ProcessingEventLog.Event> last = log.events(null, null);
+        assertThat(last).hasSize(ProcessingEventLog.CAPACITY);
+        assertThat(last.get(0).seq()).isEqualTo(8 * 20_000 - 1);
+        assertThat(readSizes).allSatisfy(n -> assertThat(n).isLessThanOrEqualTo(ProcessingEventLog.CAPACITY));
+    }
+
+    @Test
+    void eventsSince_isOldestFirst_andSkipsWhatTheRingLapped() {
+        ProcessingEventLog log = new ProcessingEventLog();
+        for (int i = 0; i < 10; i++) log.record(ProcessingEventType.CLAIM_START, "Task-" + i);
+        assertThat(log.eventsSince(7)).extracting(ProcessingEventLog.Event::seq).containsExactly(7L, 8L, 9L);
+
+        for (int i = 10; i < ProcessingEventLog.CAPACITY + 50; i++) log.record(ProcessingEventType.CLAIM_START, "Task-" + i);
+        List<ProcessingEventLog.Event> since = log.eventsSince(0);
+        assertThat(since).hasSize(ProcessingEventLog.CAPACITY);
+        assertThat(since.get(0).seq()).isEqualTo(50L);
+        assertThat(since.get(since.size() - 1).seq()).isEqualTo(ProcessingEventLog.CAPACITY + 49L);
+    }
+}
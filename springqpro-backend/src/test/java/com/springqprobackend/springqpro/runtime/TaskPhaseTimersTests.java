@@ -0,0 +1,41 @@
+package com.springqprobackend.springqpro.runtime;
+
+import com.springqprobackend.springqpro.enums.TaskPhase;
+import com.springqprobackend.springqpro.enums.TaskType;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/* All that needs to be tested is:
+- Every (phase, type) timer exists as soon as TaskPhaseTimers is built, so the series count is fixed: phases x types.
+- record() lands in exactly the timer for that phase and type; a null type records nothing.
+*/
+class TaskPhaseTimersTests {
+    @Test
+    void registersOneTimerPerPhaseAndType_upFront() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        new TaskPhaseTimers(registry);
+        assertThat(registry.find(TaskPhaseTimers.METRIC).timers())
+                .hasSize(TaskPhase.values().length * TaskType.values().length);
+        assertThat(registry.find(TaskPhaseTimers.METRIC).tags("phase", "queue_wait", "type", "SMS").timer()).isNotNull();
+    }
+
+    @Test
+    void record_landsInThatPhaseAndTypeOnly() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        TaskPhaseTimers timers = new TaskPhaseTimers(registry);
+
+        timers.record(TaskPhase.HANDLER, TaskType.EMAIL, TimeUnit.MILLISECONDS.toNanos(40));
+        timers.record(TaskPhase.HANDLER, null, TimeUnit.MILLISECONDS.toNanos(40));
+
+        Timer handlerEmail = timers.timer(TaskPhase.HANDLER, TaskType.EMAIL);
+        assertThat(handlerEmail.count()).isEqualTo(1);
+        assertThat(handlerEmail.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(40.0);
+        long total = registry.find(TaskPhaseTimers.METRIC).timers().stream().mapToLong(Timer::count).sum();
+        assertThat(total).isEqualTo(1);
+    }
+}
@@ -0,0 +1,96 @@
+package com.springqprobackend.springqpro.runtime;
+
+import com.springqprobackend.springqpro.enums.TaskType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/* All that needs to be tested is:
+- Routing: a configured TaskType gets its own pool, anything else (and null) falls back to the shared pool.
+- statusByPool() reports "shared" plus one entry per pool, and utilization() is active / capacity.
+- typesByPool() uses the same keys: a dedicated pool runs only its own type, "shared" runs every other one.
+- shutdown() stops the dedicated pools but leaves the shared one alone (Spring shuts that down itself).
+*/
+class TaskTypeBulkheadsTests {
+    private ThreadPoolExecutor shared;
+    private ThreadPoolExecutor sms;
+
+    @AfterEach
+    void tearDown() {
+        if (shared != null) shared.shutdownNow();
+        if (sms != null) sms.shutdownNow();
+    }
+
+    private static ThreadPoolExecutor pool(int size) {
+        return new ThreadPoolExecutor(size, size, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(10));
+    }
+
+    @Test
+    void routesConfiguredTypesToTheirOwnPool_andEverythingElseToShared() {
+        shared = pool(1);
+        sms = pool(2);
+        TaskTypeBulkheads bulkheads = new TaskTypeBulkheads(shared, Map.of(TaskType.SMS, sms));
+
+        assertThat(bulkheads.hasDedicatedPools()).isTrue();
+        assertThat(bulkheads.executorFor(TaskType.SMS)).isSameAs(sms);
+        assertThat(bulkheads.executorFor(TaskType.REPORT)).isSameAs(shared);
+        assertThat(bulkheads.executorFor(null)).isSameAs(shared);
+        assertThat(new TaskTypeBulkheads(shared, Map.of()).hasDedicatedPools()).isFalse();
+    }
+
+    @Test
+    void reportsPerPoolStatusAndUtilization() throws InterruptedException {
+        shared = pool(1);
+        sms = pool(2);
+        TaskTypeBulkheads bulkheads = new TaskTypeBulkheads(shared, Map.of(TaskType.SMS, sms));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        sms.execute(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertThat(started.await(2, TimeUnit.SECONDS)).isTrue();
+
+        Map<String, Map<String, Integer>> status = bulkheads.statusByPool();
+        assertThat(status).containsOnlyKeys(TaskTypeBulkheads.SHARED, "SMS");
+        assertThat(status.get("SMS").get("active")).isEqualTo(1);
+        assertThat(status.get("SMS").get("capacity")).isEqualTo(2);
+        assertThat(TaskTypeBulkheads.utilization(sms)).isEqualTo(0.5);
+        assertThat(TaskTypeBulkheads.utilization(shared)).isZero();
+        release.countDown();
+    }
+
+    @Test
+    void typesByPool_givesEachTypeToExactlyOnePool() {
+        shared = pool(1);
+        sms = pool(1);
+        Map<String, List<TaskType>> types = new TaskTypeBulkheads(shared, Map.of(TaskType.SMS, sms)).typesByPool();
+
+        assertThat(types).containsOnlyKeys(TaskTypeBulkheads.SHARED, "SMS");
+        assertThat(types.get("SMS")).containsExactly(TaskType.SMS);
+        assertThat(types.get(TaskTypeBulkheads.SHARED)).doesNotContain(TaskType.SMS).hasSize(TaskType.values().length - 1);
+    }
+
+    @Test
+    void shutdown_onlyStopsDedicatedPools() {
+        shared = pool(1);
+        sms = pool(1);
+        new TaskTypeBulkheads(shared, Map.<TaskType, ExecutorService>of(TaskType.SMS, sms)).shutdown();
+
+        assertThat(sms.isShutdown()).isTrue();
+        assertThat(shared.isShutdown()).isFalse();
+    }
+}
@@ -0,0 +1,83 @@
+package com.springqprobackend.springqpro.runtime;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/* All that needs to be tested is:
+- The semaphore cap holds (never more than maxConcurrency Tasks running at once).
+- Work beyond the cap waits in the backlog and still runs; a full backlog rejects like AbortPolicy.
+- The stats getters that /api/processing/workers reports on.
+*/
+class VirtualThreadTaskExecutorTests {
+    private VirtualThreadTaskExecutor executor;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor.awaitTermination(2, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void neverRunsMoreThanMaxConcurrencyAtOnce() throws InterruptedException {
+        executor = new VirtualThreadTaskExecutor(3, 100, "test-vworker-");
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(30);
+
+        for (int i = 0; i < 30; i++) {
+            executor.execute(() -> {
+                int now = running.incrementAndGet();
+                peak.accumulateAndGet(now, Math::max);
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+                done.countDown();
+            });
+        }
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(peak.get()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void reportsActiveAndQueued_andRejectsWhenBacklogIsFull() throws InterruptedException {
+        executor = new VirtualThreadTaskExecutor(1, 1, "test-vworker-");
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        Runnable blocker = () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        executor.execute(blocker);  // takes the only permit
+        assertThat(started.await(2, TimeUnit.SECONDS)).isTrue();
+        executor.execute(() -> {}); // waits in the backlog
+
+        assertThat(executor.getActiveCount()).isEqualTo(1);
+        assertThat(executor.getQueuedCount()).isEqualTo(1);
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> {}));
+
+        release.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(executor.getActiveCount()).isZero();
+        assertThat(executor.getQueuedCount()).isZero();
+    }
+}
@@ -0,0 +1,48 @@
+package com.springqprobackend.springqpro.service;
+
+import com.springqprobackend.springqpro.config.QueueProperties;
+import com.springqprobackend.springqpro.enums.TaskType;
+import com.springqprobackend.springqpro.redis.OverflowSpillList;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/* All that needs to be tested is:
+- Depth and the saturation limit count every pool: a backlog sitting in a bulkhead (with the shared pool idle) is seen,
+  and saturation is measured against main + bulkhead queue capacity together.
+*/
+@ExtendWith(MockitoExtension.class)
+class BackpressureMonitorTests {
+    @Mock
+    private QueueService queueService;
+    @Mock
+    private OverflowSpillList spillList;
+
+    @Test
+    void bulkheadBacklog_countsTowardsSaturation() {
+        QueueProperties props = new QueueProperties();
+        props.setMainExecQueueCapacity(100);
+        props.setSaturationThreshold(0.5);
+        QueueProperties.Pool sms = new QueueProperties.Pool();
+        sms.setQueueCapacity(100);
+        props.getPools().put(TaskType.SMS, sms);
+        Timer timer = new SimpleMeterRegistry().timer("processing");
+        BackpressureMonitor monitor = new BackpressureMonitor(queueService, spillList, props, timer);
+
+        when(queueService.getTotalWorkerStatus()).thenReturn(Map.of("queued", 99, "capacity", 10));
+        assertThat(monitor.executorDepth()).isEqualTo(99);
+        assertThat(monitor.queueCapacity()).isEqualTo(200);
+        assertThat(monitor.retryAfterMs()).isZero();   // 99 < 0.5 x 200
+
+        when(queueService.getTotalWorkerStatus()).thenReturn(Map.of("queued", 100, "capacity", 10));
+        assertThat(monitor.retryAfterMs()).isPositive();
+    }
+}
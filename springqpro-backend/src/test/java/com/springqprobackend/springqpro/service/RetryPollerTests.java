@@ -0,0 +1,40 @@
+package com.springqprobackend.springqpro.service;
+
+import com.springqprobackend.springqpro.config.QueueProperties;
+import com.springqprobackend.springqpro.redis.RetryDelayQueue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/* All that needs to be tested is:
+- A claimed ID whose releaseRetry throws is NOT acked (it stays in the ZSET and comes due again after the claim timeout);
+  the rest of the batch is still released and acked with the claim's claimedUntil.
+*/
+@ExtendWith(MockitoExtension.class)
+class RetryPollerTests {
+    @Mock
+    private RetryDelayQueue retryQueue;
+    @Mock
+    private ProcessingService processingService;
+
+    @Test
+    void failedRelease_isNotAcked() {
+        RetryPoller poller = new RetryPoller(retryQueue, processingService, null, new QueueProperties());
+        when(retryQueue.claimDue(anyLong(), anyInt())).thenReturn(new RetryDelayQueue.Claim(List.of("Task-bad", "Task-ok"), 1234L));
+        doThrow(new IllegalStateException("db down")).when(processingService).releaseRetry("Task-bad");
+
+        assertThat(poller.pollOnce()).isEqualTo(1);
+
+        verify(processingService).releaseRetry("Task-ok");
+        verify(retryQueue).ack("Task-ok", 1234L);
+        verify(retryQueue, never()).ack(eq("Task-bad"), anyLong());
+    }
+}
@@ -0,0 +1,45 @@
+package com.springqprobackend.springqpro.service;
+
+import com.springqprobackend.springqpro.domain.entity.TaskEntity;
+import com.springqprobackend.springqpro.enums.TaskStatus;
+import com.springqprobackend.springqpro.enums.TaskType;
+import com.springqprobackend.springqpro.redis.TaskRedisRepository;
+import com.springqprobackend.springqpro.repository.TaskRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/* All that needs to be tested is:
+- task(id) / the mutation ownership check still answer from Postgres when Redis is down (a failed cache read is a miss,
+  and a failed refill is ignored) -- the owner gets the Task, anyone else gets "not found".
+*/
+@ExtendWith(MockitoExtension.class)
+class TaskServiceTests {
+    @Mock
+    private TaskRepository repository;
+    @Mock
+    private TaskRedisRepository cache;
+
+    @Test
+    void getTaskForUser_fallsBackToPostgres_whenRedisIsDown() {
+        TaskService service = new TaskService(repository, null, cache, null, null, null, null, null, null);
+        TaskEntity row = new TaskEntity("Task-1", "p", TaskType.EMAIL, TaskStatus.INPROGRESS, 1, 3, Instant.now(), "me@test.com");
+        RedisConnectionFailureException down = new RedisConnectionFailureException("redis down");
+        when(cache.get("Task-1")).thenThrow(down);
+        doThrow(down).when(cache).refill(any(TaskEntity.class));
+        when(repository.findByIdAndCreatedBy("Task-1", "me@test.com")).thenReturn(Optional.of(row));
+        when(repository.findByIdAndCreatedBy("Task-1", "other@test.com")).thenReturn(Optional.empty());
+
+        assertThat(service.getTaskForUser("Task-1", "me@test.com")).contains(row);
+        assertThat(service.getTaskForUser("Task-1", "other@test.com")).isEmpty();
+    }
+}
@@ -0,0 +1,70 @@
+package com.springqprobackend.springqpro.benchmarks;
+
+import com.springqprobackend.springqpro.enums.ProcessingEventType;
+import com.springqprobackend.springqpro.service.ProcessingService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/* ProcessingEventLogBenchmark.java
+--------------------------------------------------------------------------------------------------
+[CURRENT ROLE]:
+ProcessingService.logEvent -- called several times per Task (claim, lock, processing, outcome) from
+every worker thread -- alone and under contention:
+  - 1 and 8 writer threads
+  - "dashboard": 7 writers plus 1 thread copying the buffer with getRecentLogEvents, like the
+    /api/processing/events poll. Read the writer and reader lines separately.
+Uses the stand-in ProcessingService (StandIns); the event buffer (ProcessingEventLog) is the real one.
+Run: java -jar target/benchmarks.jar ProcessingEventLogBenchmark
+--------------------------------------------------------------------------------------------------
+*/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProcessingEventLogBenchmark {
+    // Field(s):
+    private static final String TASK_ID = "0DZ5C7Q3T1K8M";
+    private final ProcessingService processingService = StandIns.processingService();
+
+    // Method(s):
+    @Benchmark
+    @Threads(1)
+    public void logEvent_1thread() {
+        processingService.logEvent(ProcessingEventType.COMPLETED, TASK_ID);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void logEvent_8threads() {
+        processingService.logEvent(ProcessingEventType.COMPLETED, TASK_ID);
+    }
+
+    @Benchmark
+    @Group("dashboard")
+    @GroupThreads(7)
+    public void dashboard_logEvent() {
+        processingService.logEvent(ProcessingEventType.COMPLETED, TASK_ID);
+    }
+
+    @Benchmark
+    @Group("dashboard")
+    @GroupThreads(1)
+    public List<String> dashboard_getRecentLogEvents() {
+        return processingService.getRecentLogEvents();
+    }
+}
@@ -0,0 +1,84 @@
+package com.springqprobackend.springqpro.benchmarks;
+
+import com.springqprobackend.springqpro.config.QueueProperties;
+import com.springqprobackend.springqpro.enums.TaskType;
+import com.springqprobackend.springqpro.runtime.PriorityTaskQueue;
+import com.springqprobackend.springqpro.service.QueueService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/* QueueServiceEnqueueBenchmark.java
+--------------------------------------------------------------------------------------------------
+[CURRENT ROLE]:
+Submit throughput of QueueService.enqueueById(id, type, priority) -- the path every created Task
+takes in EVENT dispatch mode (TaskCreatedListener hands it over after commit): the enqueue counter,
+DispatchedTask wrapping, bulkhead routing and the hand-off into the worker pool. The pool is built
+like ExecutorConfig's platform pool (main-exec-worker-count threads over a PriorityTaskQueue); the
+workers run the stand-in ProcessingService, whose claimAndProcess does nothing, so the number is the
+dispatch overhead alone. When producers outrun the workers the submitting thread runs the Task itself
+(caller-runs in place of OverflowRejectionHandler, which needs Redis), which also keeps the queue
+bounded.
+Compare 1 vs 8 producer threads to see contention on the queue lock.
+Run: java -jar target/benchmarks.jar QueueServiceEnqueueBenchmark
+--------------------------------------------------------------------------------------------------
+*/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QueueServiceEnqueueBenchmark {
+    // Field(s):
+    private final AtomicLong ids = new AtomicLong();
+    private QueueService queueService;
+
+    // Method(s):
+    @Setup(Level.Trial)
+    public void setup() {
+        QueueProperties props = StandIns.queueProperties();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(props.getMainExecWorkerCount(), props.getMainExecWorkerCount(), 0L, TimeUnit.MILLISECONDS,
+                new PriorityTaskQueue(props.getMainExecQueueCapacity(), props.getPriorityAgingMs()),
+                r -> {
+                    Thread t = new Thread(r);
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        queueService = new QueueService(pool, StandIns.handlerRegistry(), null, StandIns.processingService(), props,
+                new SimpleMeterRegistry().counter("springqpro_queue_enqueue_by_id_total"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        queueService.shutdown();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void enqueueById_1thread() {
+        queueService.enqueueById("Task-" + ids.incrementAndGet(), TaskType.EMAIL, 0);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void enqueueById_8threads() {
+        queueService.enqueueById("Task-" + ids.incrementAndGet(), TaskType.EMAIL, 0);
+    }
+}
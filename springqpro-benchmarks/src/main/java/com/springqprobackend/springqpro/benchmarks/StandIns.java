@@ -0,0 +1,59 @@
+package com.springqprobackend.springqpro.benchmarks;
+
+import com.springqprobackend.springqpro.config.QueueProperties;
+import com.springqprobackend.springqpro.domain.entity.TaskEntity;
+import com.springqprobackend.springqpro.enums.TaskStatus;
+import com.springqprobackend.springqpro.enums.TaskType;
+import com.springqprobackend.springqpro.handlers.TaskHandler;
+import com.springqprobackend.springqpro.models.TaskHandlerRegistry;
+import com.springqprobackend.springqpro.service.ProcessingService;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/* StandIns.java
+--------------------------------------------------------------------------------------------------
+[CURRENT ROLE]:
+In-memory stand-ins for the beans the hot-path benchmarks touch, so each benchmark measures one
+piece of code and nothing behind it (no Spring context, Postgres, Redis or handler sleeps):
+  - processingService(): a ProcessingService with no collaborators whose claimAndProcess is a no-op.
+    logEvent/getRecentLogEvents only use the object's own buffer, so they run for real
+  - handlerRegistry(): the same Map shape Spring injects (bean name -> handler, one per TaskType
+    plus "DEFAULT"), with no-op handlers
+  - queueProperties() / sampleTask(): the worker counts from application.properties, and a
+    mid-processing row
+--------------------------------------------------------------------------------------------------
+*/
+final class StandIns {
+    private StandIns() { }
+
+    static ProcessingService processingService() {
+        return new ProcessingService(null, null, null, null, null, null, null, null,
+                null, null, null, null, null, null, null, null, null, null) {
+            @Override
+            public void claimAndProcess(String taskId) { }
+        };
+    }
+
+    static TaskHandlerRegistry handlerRegistry() {
+        Map<String, TaskHandler> handlers = new LinkedHashMap<>();
+        for (TaskType type : TaskType.values()) handlers.put(type.name(), task -> { });
+        handlers.put("DEFAULT", task -> { });
+        return new TaskHandlerRegistry(handlers);
+    }
+
+    static QueueProperties queueProperties() {
+        QueueProperties props = new QueueProperties();
+        props.setMainExecWorkerCount(5);
+        props.setSchedExecWorkerCount(1);
+        return props;
+    }
+
+    static TaskEntity sampleTask() {
+        TaskEntity task = new TaskEntity("0DZ5C7Q3T1K8M", "Send a welcome email to new-user-1234@example.com", TaskType.EMAIL,
+                TaskStatus.INPROGRESS, 1, 3, Instant.now(), "owner@example.com");
+        task.setPriority(5);
+        return task;
+    }
+}
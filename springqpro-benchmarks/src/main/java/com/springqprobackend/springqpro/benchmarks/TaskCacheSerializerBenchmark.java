@@ -0,0 +1,82 @@
+package com.springqprobackend.springqpro.benchmarks;
+
+import com.springqprobackend.springqpro.config.RedisConfig;
+import com.springqprobackend.springqpro.domain.entity.TaskEntity;
+import com.springqprobackend.springqpro.enums.TaskStatus;
+import com.springqprobackend.springqpro.enums.TaskType;
+import com.springqprobackend.springqpro.redis.TaskEntityCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/* TaskCacheSerializerBenchmark.java
+--------------------------------------------------------------------------------------------------
+[CURRENT ROLE]:
+Encode/decode cost of one cached Task: the default-typed Jackson serializer the cache used to
+use (RedisConfig.jsonValueSerializer) vs TaskEntityCodec. The Task is a realistic mid-processing
+row: INPROGRESS, leased, versioned, ~60-char payload.
+  - ns/op per encode and per decode come from the benchmark itself
+  - bytes per entry are printed once in setup (it's a constant, not something to time)
+  - allocation rate: run with the GC profiler and read gc.alloc.rate.norm (bytes allocated per op)
+Run: java -jar target/benchmarks.jar TaskCacheSerializerBenchmark -prof gc
+--------------------------------------------------------------------------------------------------
+*/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskCacheSerializerBenchmark {
+    // Field(s):
+    private final GenericJackson2JsonRedisSerializer json = RedisConfig.jsonValueSerializer();
+    private final TaskEntityCodec binary = new TaskEntityCodec();
+    private TaskEntity task;
+    private byte[] jsonBytes;
+    private byte[] binaryBytes;
+
+    // Method(s):
+    @Setup
+    public void setup() {
+        task = new TaskEntity("0DZ5C7Q3T1K8M", "Send a welcome email to new-user-1234@example.com", TaskType.EMAIL,
+                TaskStatus.INPROGRESS, 1, 3, Instant.now(), "owner@example.com");
+        task.setPriority(5);
+        task.setClaimedAt(Instant.now());
+        task.setLeaseUntil(Instant.now().plusSeconds(30));
+        task.setVersion(3L);
+        jsonBytes = json.serialize(task);
+        binaryBytes = binary.serialize(task);
+        System.out.printf("%nbytes/entry: json=%d binary=%d%n", jsonBytes.length, binaryBytes.length);
+    }
+
+    @Benchmark
+    public byte[] json_encode() {
+        return json.serialize(task);
+    }
+
+    @Benchmark
+    public Object json_decode() {
+        return json.deserialize(jsonBytes);
+    }
+
+    @Benchmark
+    public byte[] binary_encode() {
+        return binary.serialize(task);
+    }
+
+    @Benchmark
+    public TaskEntity binary_decode() {
+        return binary.deserialize(binaryBytes);
+    }
+}
@@ -0,0 +1,48 @@
+package com.springqprobackend.springqpro.benchmarks;
+
+import com.springqprobackend.springqpro.handlers.TaskHandler;
+import com.springqprobackend.springqpro.models.TaskHandlerRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/* TaskHandlerRegistryBenchmark.java
+--------------------------------------------------------------------------------------------------
+[CURRENT ROLE]:
+Cost of TaskHandlerRegistry.getHandler, called once per processed Task (ProcessingService.runHandler)
+with the TaskType's name: a registered type, and an unknown one that falls back to "DEFAULT". The
+type name is read from a field rather than a constant so the JIT can't fold the lookup away.
+Run: java -jar target/benchmarks.jar TaskHandlerRegistryBenchmark
+--------------------------------------------------------------------------------------------------
+*/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskHandlerRegistryBenchmark {
+    // Field(s):
+    private final TaskHandlerRegistry registry = StandIns.handlerRegistry();
+    private String knownType = "NEWSLETTER";
+    private String unknownType = "NOT_A_TYPE";
+
+    // Method(s):
+    @Benchmark
+    public TaskHandler getHandler_known() {
+        return registry.getHandler(knownType);
+    }
+
+    @Benchmark
+    public TaskHandler getHandler_fallbackToDefault() {
+        return registry.getHandler(unknownType);
+    }
+}
@@ -0,0 +1,80 @@
+package com.springqprobackend.springqpro.benchmarks;
+
+import com.springqprobackend.springqpro.domain.id.SnowflakeTaskIdGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/* TaskIdGeneratorBenchmark.java
+--------------------------------------------------------------------------------------------------
+[CURRENT ROLE]:
+Generation throughput of Task IDs -- the old "Task-" + System.nanoTime(), a random UUID, and
+SnowflakeTaskIdGenerator -- single-threaded and with 8 threads sharing one generator (the
+contended case: every createTask on an instance mints from the same bean). The Snowflake
+numbers to watch are the 8-thread ones; that's where the CAS retry loop shows up.
+Run: java -jar target/benchmarks.jar TaskIdGeneratorBenchmark
+--------------------------------------------------------------------------------------------------
+*/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskIdGeneratorBenchmark {
+    // Field(s):
+    private final SnowflakeTaskIdGenerator snowflake = new SnowflakeTaskIdGenerator(1);
+
+    // Method(s):
+    @Benchmark
+    @Threads(1)
+    public String nanoTime_1thread() {
+        return "Task-" + System.nanoTime();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String nanoTime_8threads() {
+        return "Task-" + System.nanoTime();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String uuid_1thread() {
+        return UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String uuid_8threads() {
+        return UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String snowflake_1thread() {
+        return snowflake.nextId();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String snowflake_8threads() {
+        return snowflake.nextId();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long snowflakeRaw_8threads() {
+        return snowflake.nextLong();    // without the base32 encoding, to separate CAS cost from String cost.
+    }
+}
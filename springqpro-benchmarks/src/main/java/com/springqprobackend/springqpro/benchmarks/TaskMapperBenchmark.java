@@ -0,0 +1,58 @@
+package com.springqprobackend.springqpro.benchmarks;
+
+import com.springqprobackend.springqpro.domain.entity.TaskEntity;
+import com.springqprobackend.springqpro.mapper.TaskMapper;
+import com.springqprobackend.springqpro.models.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/* TaskMapperBenchmark.java
+--------------------------------------------------------------------------------------------------
+[CURRENT ROLE]:
+The two conversions around every handler run: TaskMapper.toDomain (claimed TaskEntity -> Task the
+handler sees) and TaskMapper.updateEntity (Task -> TaskEntity afterwards). Task keeps createdAt as
+a String, so toDomain formats an Instant and updateEntity parses one back; run with -prof gc and
+read gc.alloc.rate.norm to see what that costs per Task.
+Run: java -jar target/benchmarks.jar TaskMapperBenchmark -prof gc
+--------------------------------------------------------------------------------------------------
+*/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskMapperBenchmark {
+    // Field(s):
+    private final TaskMapper mapper = new TaskMapper();
+    private TaskEntity entity;
+    private Task domain;
+
+    // Method(s):
+    @Setup
+    public void setup() {
+        entity = StandIns.sampleTask();
+        domain = mapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public Task toDomain() {
+        return mapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public TaskEntity updateEntity() {
+        mapper.updateEntity(domain, entity);
+        return entity;
+    }
+}
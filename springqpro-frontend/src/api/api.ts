@@ -99,6 +99,77 @@ export async function getProcessingEvents(accessToken: string) {
   return res.json();
 }
 
+/* Reads a Server-Sent Events response until it ends (or its fetch is aborted), calling onEvent for every event:
+(event name, data lines joined by newlines, id). Comment lines (keep-alives) are skipped. */
+async function readServerSentEvents(
+  res: Response,
+  onEvent: (name: string, data: string, id?: string) => void
+): Promise<void> {
+  if (!res.ok || !res.body) return;
+  const reader = res.body.pipeThrough(new TextDecoderStream()).getReader();
+  let buffered = "";
+  while (true) {
+    const { value, done } = await reader.read();
+    if (done) return;
+    buffered += value;
+    let end;
+    while ((end = buffered.indexOf("\n\n")) >= 0) {
+      const block = buffered.slice(0, end);
+      buffered = buffered.slice(end + 2);
+      let name = "message";
+      let id: string | undefined;
+      const data: string[] = [];
+      for (const line of block.split("\n")) {
+        if (line.startsWith("event:")) name = line.slice(6).trim();
+        else if (line.startsWith("id:")) id = line.slice(3).trim();
+        else if (line.startsWith("data:")) data.push(line.slice(5).replace(/^ /, ""));
+      }
+      if (data.length > 0) onEvent(name, data.join("\n"), id);
+    }
+  }
+}
+
+/* Pushed processing events (GET /api/processing/events/stream, Server-Sent Events). Uses fetch() rather than EventSource so the
+JWT can go in the Authorization header. Calls onEvent with each line (same format as getProcessingEvents) until the stream
+ends or signal aborts. Each line comes with its event id: pass the last one back as lastEventId to resume after a reconnect. */
+export async function streamProcessingEvents(
+  accessToken: string,
+  onEvent: (line: string, id?: string) => void,
+  signal: AbortSignal,
+  lastEventId?: string
+): Promise<void> {
+  const headers: Record<string, string> = { Authorization: `Bearer ${accessToken}`, Accept: "text/event-stream" };
+  if (lastEventId) headers["Last-Event-ID"] = lastEventId;
+  const res = await fetch(`${API_BASE}/api/processing/events/stream`, { headers, signal });
+  await readServerSentEvents(res, (name, data, id) => {
+    if (name === "processing") onEvent(data, id);
+  });
+}
+
+/* GraphQL subscription (taskUpdated / myTasksUpdated) over SSE: POST /graphql with Accept: text/event-stream. Calls onData
+with the "data" of every pushed result until the server completes the subscription or signal aborts; a result carrying
+errors (e.g. NOT_FOUND) is thrown instead. */
+export async function subscribeGraphQL(
+  accessToken: string,
+  query: string,
+  onData: (data: any) => void,
+  signal: AbortSignal,
+  variables?: Record<string, unknown>
+): Promise<void> {
+  const res = await fetch(`${API_BASE}/graphql`, {
+    method: "POST",
+    headers: { "Content-Type": "application/json", Accept: "text/event-stream", Authorization: `Bearer ${accessToken}` },
+    body: JSON.stringify({ query, variables }),
+    signal,
+  });
+  await readServerSentEvents(res, (name, data) => {
+    if (name !== "next") return;
+    const result = JSON.parse(data);
+    if (result.errors?.length) throw new Error(result.errors[0].message);
+    onData(result.data);
+  });
+}
+
 export async function getMetric(name: string, accessToken: string) {
   const res = await fetch(`${API_BASE}/actuator/metrics/${name}`, {
     headers: { Authorization: `Bearer ${accessToken}` }
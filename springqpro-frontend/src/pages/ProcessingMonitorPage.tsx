@@ -17,10 +17,12 @@ import NavBar from "../components/NavBar";
 import { useAuth } from "../utility/auth/AuthContext";
 import {
   getMetric,
-  getProcessingEvents,
-  getWorkerStatus
+  getWorkerStatus,
+  streamProcessingEvents
 } from "../api/api";  // *My* system-specific metrics.
 
+const MAX_EVENTS = 256;  // same as the server-side ring (ProcessingEventLog.CAPACITY).
+
 export default function ProcessingMonitorPage() {
   const { accessToken } = useAuth();
 
@@ -71,10 +73,6 @@ export default function ProcessingMonitorPage() {
     setQueueDepth(qd ?? null);
     setCompleted(comp ?? null);
     setFailed(fail ?? null);
-
-    const ev = await getProcessingEvents(accessToken);
-    setEvents(ev);
-    setLoadingEvents(false);
   };
 
   useEffect(() => {
@@ -83,6 +81,31 @@ export default function ProcessingMonitorPage() {
     return () => clearInterval(interval);
   }, [accessToken]);
 
+  // Processing events are pushed by the server (SSE) instead of polled: the stream starts with the recent backlog, then
+  // sends new events as they happen. If it drops, reconnect after a moment and resume from the last event seen.
+  useEffect(() => {
+    if (!accessToken) return;
+    const controller = new AbortController();
+    const run = async () => {
+      let lastId: string | undefined;
+      while (!controller.signal.aborted) {
+        try {
+          await streamProcessingEvents(accessToken, (line, id) => {
+            lastId = id ?? lastId;
+            setEvents((prev) => [line, ...prev].slice(0, MAX_EVENTS));
+            setLoadingEvents(false);
+          }, controller.signal, lastId);
+        } catch {
+          // aborted, or the connection failed -- the loop condition decides whether to retry.
+        }
+        setLoadingEvents(false);
+        if (!controller.signal.aborted) await new Promise((r) => setTimeout(r, 3000));
+      }
+    };
+    run();
+    return () => controller.abort();
+  }, [accessToken]);
+
   return (
     <div style={containerStyle}>
       <NavBar />
@@ -16,7 +16,7 @@ TasksDashboardPage is heavier, slower, but more powerful than the observability
 import { useEffect, useState } from "react";
 import NavBar from "../components/NavBar";
 import TaskDetailDrawer from "../components/TaskDetailDrawer";
-import { API_BASE, getEnumLists } from "../api/api";
+import { API_BASE, getEnumLists, subscribeGraphQL } from "../api/api";
 import { useAuth } from "../utility/auth/AuthContext";
 
 // Types:
@@ -82,7 +82,7 @@ export default function TasksDashboardPage() {
   const [drawerQuery, setDrawerQuery] = useState("");
   
   // 7. Misc:
-  const [autoRefresh, setAutoRefresh] = useState(true); // Let the user toggle auto-polling on and off.
+  const [autoRefresh, setAutoRefresh] = useState(true); // Let the user toggle live (pushed) updates on and off.
 
   // Function for calling GraphQL (single endpoint /graphql, takes in string representing query and variables):
   const gql = async (query: string, variables?: any) => {
@@ -143,13 +143,47 @@ export default function TasksDashboardPage() {
     loadTasks();
   }, []);
 
-  // When Auto-Refresh is "on", set the polling interval:
+  // When Auto-Refresh is "on", status changes are pushed (myTasksUpdated subscription) instead of polled. Every (re)connect
+  // reloads the list once, since anything that changed while disconnected was never pushed; after that each update is merged in.
   useEffect(() => {
-    if (!autoRefresh) return;
-
-    const interval = setInterval(loadTasks, 3500);
-    return () => clearInterval(interval);
-  }, [autoRefresh]);
+    if (!autoRefresh || !accessToken) return;
+    const controller = new AbortController();
+    const subscription = `
+      subscription {
+        myTasksUpdated {
+          id
+          payload
+          type
+          status
+          attempts
+          maxRetries
+          createdAt
+        }
+      }
+    `;
+    const run = async () => {
+      while (!controller.signal.aborted) {
+        loadTasks();
+        try {
+          await subscribeGraphQL(accessToken, subscription, (data) => {
+            const updated: Task = data.myTasksUpdated;
+            setTasks((prev) => {
+              const i = prev.findIndex((t) => t.id === updated.id);
+              if (i < 0) return [updated, ...prev];
+              const next = [...prev];
+              next[i] = updated;
+              return next;
+            });
+          }, controller.signal);
+        } catch {
+          // aborted, or the connection failed -- the loop condition decides whether to reconnect.
+        }
+        if (!controller.signal.aborted) await new Promise((r) => setTimeout(r, 3000));
+      }
+    };
+    run();
+    return () => controller.abort();
+  }, [autoRefresh, accessToken]);
 
   // Function for retrying tasks:
   const retryTask = async (task: Task) => {
@@ -356,7 +390,7 @@ export default function TasksDashboardPage() {
                   cursor: "pointer",
                 }}
               >
-                {autoRefresh ? "Auto: ON" : "Auto: OFF"}
+                {autoRefresh ? "Live: ON" : "Live: OFF"}
               </button>
             </div>
 
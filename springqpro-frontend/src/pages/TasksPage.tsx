@@ -21,7 +21,7 @@ It submits work, shows immediate effects, and delegates deep inspection elsewher
 
 import { useRef, useEffect, useState } from "react";
 import NavBar from "../components/NavBar";
-import { API_BASE, getEnumLists } from "../api/api";
+import { API_BASE, getEnumLists, subscribeGraphQL } from "../api/api";
 import { useAuth } from "../utility/auth/AuthContext";
 
 // Types - auto-shaped dynamically:
@@ -256,11 +256,43 @@ export default function TasksPage() {
     }
   };
 
-  // UseEffect hook to set polling interval for Recent Tasks panel when accessToken is set:
+  // Recent Tasks panel: loaded once per (re)connect, then kept current by the myTasksUpdated subscription (pushed, not polled):
   useEffect(() => {
-    fetchRecentTasks();
-    const interval = setInterval(fetchRecentTasks, 3000);
-    return () => clearInterval(interval);
+    if (!accessToken) return;
+    const controller = new AbortController();
+    const subscription = `
+      subscription {
+        myTasksUpdated {
+          id
+          payload
+          type
+          status
+          attempts
+          maxRetries
+          createdAt
+        }
+      }
+    `;
+    const run = async () => {
+      while (!controller.signal.aborted) {
+        fetchRecentTasks();
+        try {
+          await subscribeGraphQL(accessToken, subscription, (data) => {
+            const updated: Task = data.myTasksUpdated;
+            setRecentTasks((prev) =>
+              [updated, ...prev.filter((t) => t.id !== updated.id)]
+                .sort((a, b) => new Date(b.createdAt).getTime() - new Date(a.createdAt).getTime())
+                .slice(0, 8)
+            );
+          }, controller.signal);
+        } catch {
+          // aborted, or the connection failed -- the loop condition decides whether to reconnect.
+        }
+        if (!controller.signal.aborted) await new Promise((r) => setTimeout(r, 3000));
+      }
+    };
+    run();
+    return () => controller.abort();
   }, [accessToken]);
 
   // Function for retrying tasks that fail: